@@ -0,0 +1,76 @@
+package org.deco.gachicoding.file;
+
+import org.deco.gachicoding.file.domain.ContentImages;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시물 본문의 이미지 경로 추출과 치환 <br>
+ * 기존 정규식 + String.replace 반복(regexReplace)과 한 번 훑는 ContentImages(scanReplace)를 이미지 수별로 비교한다. <br>
+ * 본문은 문단과 이미지가 번갈아 나오고, 이미지는 모두 TEMP 에서 CONTENT 로 바뀐다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentImagesBenchmark {
+
+    private static final String s3Url = "https://gachicoding.s3/";
+
+    private static final String PARAGRAPH = "<p>" + "가치코딩 게시물 본문입니다. ".repeat(20) + "</p>";
+
+    @Param({"10", "100", "1000"})
+    private int imageCount;
+
+    private String content;
+
+    private Map<String, String> paths;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        paths = new LinkedHashMap<>();
+
+        for (int i = 0; i < imageCount; i++) {
+            builder.append(PARAGRAPH)
+                    .append("<p><img src=\"").append(s3Url).append("TEMP/image").append(i).append("\" alt=\"image\"></p>");
+
+            paths.put("TEMP/image" + i, "CONTENT/" + String.format("%064d", i));
+        }
+
+        content = builder.toString();
+    }
+
+    @Benchmark
+    public void scanReplace(Blackhole blackhole) {
+        ContentImages images = ContentImages.scan(content, s3Url);
+
+        blackhole.consume(images.getPaths());
+        blackhole.consume(images.replacePaths(paths));
+    }
+
+    // 기존 FileService.imgProducer, replacePaths (로그 제외)
+    @Benchmark
+    public void regexReplace(Blackhole blackhole) {
+        Queue<String> imgQueue = new LinkedList<>();
+
+        Pattern nonValidPattern = Pattern
+                .compile("(?i)< *[IMG][^\\>]*[src] *= *[\"\']{0,1}([^\"\'\\ >]*)");
+
+        Matcher matcher = nonValidPattern.matcher(content);
+
+        while (matcher.find())
+            imgQueue.add(matcher.group(1).replace(s3Url, ""));
+
+        String replaced = content;
+        for (Map.Entry<String, String> path : paths.entrySet())
+            replaced = replaced.replace(path.getKey(), path.getValue());
+
+        blackhole.consume(imgQueue);
+        blackhole.consume(replaced);
+    }
+}
@@ -0,0 +1,84 @@
+package org.deco.gachicoding.file;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.deco.gachicoding.file.domain.File;
+import org.deco.gachicoding.file.domain.FileReconciliation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 수정 시 본문 이미지 경로와 DB 파일 목록 비교 <br>
+ * 기존 이중 루프(nestedLoop)와 해시 기반 FileReconciliation 을 이미지 수별로 비교한다. <br>
+ * 본문의 이미지 중 절반은 그대로, 나머지 절반은 새 이미지이고 DB 파일의 절반은 본문에서 빠진 상황이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileReconciliationBenchmark {
+
+    @Param({"100", "500", "1000"})
+    private int imageCount;
+
+    private List<String> pathsInArticle;
+
+    private List<File> filesInDB;
+
+    @Setup
+    public void setUp() {
+        pathsInArticle = new ArrayList<>(imageCount);
+        filesInDB = new ArrayList<>(imageCount);
+
+        for (int i = 0; i < imageCount; i++) {
+            filesInDB.add(file((long) i, "image" + i));
+
+            // 앞쪽 절반은 DB 에 있는 이미지, 뒤쪽 절반은 새로 올린 이미지
+            pathsInArticle.add(i < imageCount / 2 ? "CONTENT/image" + i : "TEMP/new" + i);
+        }
+
+        Collections.shuffle(pathsInArticle, new Random(42));
+    }
+
+    @Benchmark
+    public void reconciliation(Blackhole blackhole) {
+        blackhole.consume(FileReconciliation.of(pathsInArticle, filesInDB));
+    }
+
+    // 기존 FileService.compareFilePath 의 비교 부분 (로그 제외)
+    @Benchmark
+    public void nestedLoop(Blackhole blackhole) {
+        Queue<String> pathInArticle = new LinkedList<>(pathsInArticle);
+        List<File> pathInDB = new ArrayList<>(filesInDB);
+
+        for (Iterator<String> pathIter = pathInArticle.iterator(); pathIter.hasNext();) {
+            String path = pathIter.next();
+
+            for (Iterator<File> fileIter = pathInDB.iterator(); fileIter.hasNext();) {
+                File file = fileIter.next();
+
+                if (file.compareFilePath(path)) {
+                    pathIter.remove();
+                    fileIter.remove();
+                }
+            }
+        }
+
+        blackhole.consume(pathInArticle);
+        blackhole.consume(pathInDB);
+    }
+
+    private static File file(Long fileIdx, String saveFileName) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.addUserMetadata("OriginalFileName", saveFileName + ".png");
+        objectMetadata.addUserMetadata("SaveFileName", saveFileName);
+
+        return File.builder()
+                .fileIdx(fileIdx)
+                .articleIdx(1L)
+                .articleCategory("BOARD")
+                .objectMetadata(objectMetadata)
+                .build();
+    }
+}
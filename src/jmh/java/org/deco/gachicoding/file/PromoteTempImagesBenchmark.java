@@ -0,0 +1,105 @@
+package org.deco.gachicoding.file;
+
+import org.deco.gachicoding.common.factory.file.LocalS3;
+import org.deco.gachicoding.file.application.FileContentService;
+import org.deco.gachicoding.file.application.FileDeletionService;
+import org.deco.gachicoding.file.application.FileService;
+import org.deco.gachicoding.file.application.ImageDerivativeService;
+import org.deco.gachicoding.file.domain.repository.FileDeletionRepository;
+import org.deco.gachicoding.file.domain.repository.FileRepository;
+import org.deco.gachicoding.file.infrastructure.S3FileStorage;
+import org.deco.gachicoding.file.infrastructure.S3MultipartUploader;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 게시물 하나의 TEMP 이미지 이동 <br>
+ * S3 대신 요청마다 latencyMillis 만큼 기다리는 메모리 저장소(LocalS3)로, 순차 실행(serial)과 s3Executor 동시 실행(parallel)을 이미지 수별로 비교한다. <br>
+ * 이미지 하나에 메타데이터 조회와 복사 두 번, 끝에 일괄 삭제 한 번을 보내므로 순차 실행은 이미지 수에 비례해 느려진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PromoteTempImagesBenchmark {
+
+    private static final String s3Url = "https://gachicoding.s3/";
+
+    @Param({"1", "4", "16"})
+    private int imageCount;
+
+    @Param({"20"})
+    private long latencyMillis;
+
+    private ExecutorService s3Executor;
+
+    private LocalS3 s3;
+
+    private String content;
+
+    private FileService serial;
+
+    private FileService parallel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // ExecutorConfig.s3Executor 와 같은 크기
+        s3Executor = Executors.newFixedThreadPool(16);
+        s3 = new LocalS3(latencyMillis);
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < imageCount; i++)
+            builder.append("<p><img src=\"").append(s3Url).append("TEMP/image").append(i).append("\"></p>");
+
+        content = builder.toString();
+        serial = fileService(Runnable::run);
+        parallel = fileService(s3Executor);
+    }
+
+    // 옮기면 TEMP 원본이 지워지므로 호출마다 다시 올린다. 올리는 데는 지연이 없다.
+    @Setup(Level.Invocation)
+    public void upload() {
+        for (int i = 0; i < imageCount; i++)
+            s3.upload("image" + i);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        s3Executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void serial(Blackhole blackhole) {
+        blackhole.consume(serial.promoteTempImages(1L, "BOARD", content));
+    }
+
+    @Benchmark
+    public void parallel(Blackhole blackhole) {
+        blackhole.consume(parallel.promoteTempImages(1L, "BOARD", content));
+    }
+
+    private FileService fileService(Executor executor) {
+        S3Service s3Service = new S3Service(new S3FileStorage(s3, new S3MultipartUploader(s3, executor, 8, 4, 500)));
+        FileDeletionService fileDeletionService = new FileDeletionService(
+                mock(FileDeletionRepository.class), s3Service, mock(PlatformTransactionManager.class), 10, 60);
+
+        return new FileService(
+                mock(FileRepository.class),
+                s3Service,
+                fileDeletionService,
+                mock(FileContentService.class),
+                mock(ImageDerivativeService.class),
+                executor,
+                s3Url,
+                30
+        );
+    }
+}
@@ -6,6 +6,9 @@ import org.deco.gachicoding.comment.domain.repository.CommentRepository;
 import org.deco.gachicoding.exception.comment.CommentNotFoundException;
 import org.deco.gachicoding.exception.user.UserNotFoundException;
 import org.deco.gachicoding.exception.user.UserUnAuthorizedException;
+import org.deco.gachicoding.trending.application.TrendingService;
+import org.deco.gachicoding.trending.domain.TrendingEvent;
+import org.deco.gachicoding.user.application.UserIdCache;
 import org.deco.gachicoding.user.domain.User;
 import org.deco.gachicoding.user.domain.repository.UserRepository;
 import org.deco.gachicoding.comment.dto.response.CommentResponseDto;
@@ -21,12 +24,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final UserIdCache userIdCache;
+    private final TrendingService trendingService;
 
     public Long registerComment(CommentSaveRequestDto dto) {
-        User writer = userRepository.findByUserEmail(dto.getUserEmail())
-                .orElseThrow(UserNotFoundException::new);
+        User writer = userRepository.getById(findUserIdx(dto.getUserEmail()));
 
-        return commentRepository.save(dto.toEntity(writer)).getCommIdx();
+        Long commIdx = commentRepository.save(dto.toEntity(writer)).getCommIdx();
+
+        trendingService.record(dto.getArticleCategory(), dto.getArticleIdx(), TrendingEvent.COMMENT);
+
+        return commIdx;
     }
 
     public Page<CommentResponseDto> getCommentList(String articleCategory, Long articleIdx, Pageable pageable) {
@@ -44,10 +52,9 @@ public class CommentService {
         Comment comment = commentRepository.findById(dto.getCommIdx())
                 .orElseThrow(CommentNotFoundException::new);
 
-        User user = userRepository.findByUserEmail(dto.getUserEmail())
-                .orElseThrow(UserNotFoundException::new);
+        Long userIdx = findUserIdx(dto.getUserEmail());
 
-        if (!isSameWriter(comment, user)) {
+        if (!isSameWriter(comment, userIdx)) {
             throw new UserUnAuthorizedException();
         }
 
@@ -90,10 +97,16 @@ public class CommentService {
 //        return ResponseState.toResponseEntity(REMOVE_SUCCESS);
     }
 
-    private Boolean isSameWriter(Comment comment, User user) {
-        String writerEmail = comment.getWriter().getUserEmail();
-        String userEmail = user.getUserEmail();
+    // 요청자는 캐시된 번호만 알고 있으므로 번호로 비교한다.
+    private Boolean isSameWriter(Comment comment, Long userIdx) {
+        Long writerIdx = comment.getWriter().getUserIdx();
+
+        return writerIdx.equals(userIdx);
+    }
 
-        return (writerEmail.equals(userEmail)) ? true : false;
+    private Long findUserIdx(String userEmail) {
+        return userIdCache.getUserIdx(userEmail, email -> userRepository.findByUserEmail(email)
+                .map(User::getUserIdx)
+                .orElseThrow(UserNotFoundException::new));
     }
 }
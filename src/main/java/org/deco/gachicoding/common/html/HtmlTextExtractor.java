@@ -0,0 +1,193 @@
+package org.deco.gachicoding.common.html;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * HTML 본문에서 미리보기용 평문을 뽑는다. <br>
+ * - 태그(&lt;...&gt;)는 버리고, 블록 태그(p, br, div...)는 공백 하나로 바꾼다. <br>
+ * - script, style 안의 내용은 버린다. <br>
+ * - 자주 쓰는 엔티티(&amp;amp;, &amp;nbsp;, &amp;#39; ...)는 문자로 바꾼다. <br>
+ * - 연속된 공백은 하나로 합친다. <br>
+ * 본문을 한 번만 앞에서부터 읽고, maxLength 글자를 채우면 나머지는 읽지 않는다.
+ */
+public final class HtmlTextExtractor {
+
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    private static final Set<String> BLOCK_TAGS = Set.of(
+            "address", "article", "blockquote", "br", "dd", "div", "dl", "dt", "figcaption", "figure",
+            "footer", "h1", "h2", "h3", "h4", "h5", "h6", "header", "hr", "li", "ol", "p", "pre",
+            "section", "table", "td", "th", "tr", "ul"
+    );
+
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("script", "style");
+
+    private static final Map<String, Character> NAMED_ENTITIES = Map.of(
+            "amp", '&',
+            "lt", '<',
+            "gt", '>',
+            "quot", '"',
+            "apos", '\'',
+            "nbsp", ' '
+    );
+
+    private HtmlTextExtractor() {}
+
+    public static String excerpt(CharSequence html, int maxLength) {
+        if (html == null || maxLength <= 0)
+            return "";
+
+        StringBuilder out = new StringBuilder(Math.min(maxLength, html.length()));
+        int length = html.length();
+        int position = 0;
+        boolean pendingSpace = false;
+
+        while (position < length && out.length() < maxLength) {
+            char c = html.charAt(position);
+
+            if (c == '<') {
+                int tagEnd = isTagStart(html, position + 1) ? indexOf(html, '>', position + 1) : -1;
+
+                // "a < b" 처럼 태그가 아니거나 닫히지 않은 '<'는 글자로 본다.
+                if (tagEnd < 0) {
+                    pendingSpace = append(out, c, pendingSpace);
+                    position++;
+                    continue;
+                }
+
+                String tagName = tagName(html, position + 1, tagEnd);
+
+                if (BLOCK_TAGS.contains(tagName))
+                    pendingSpace = true;
+
+                position = tagEnd + 1;
+
+                if (RAW_TEXT_TAGS.contains(tagName) && html.charAt(position - 2) != '/')
+                    position = skipRawText(html, position, tagName);
+
+                continue;
+            }
+
+            if (c == '&') {
+                int entityEnd = indexOf(html, ';', position + 1);
+
+                if (entityEnd > 0 && entityEnd - position <= MAX_ENTITY_LENGTH) {
+                    int decoded = decodeEntity(html, position + 1, entityEnd);
+
+                    if (decoded >= 0) {
+                        if (Character.isWhitespace(decoded) || decoded == ' ')
+                            pendingSpace = true;
+                        else
+                            pendingSpace = append(out, decoded, pendingSpace);
+
+                        position = entityEnd + 1;
+                        continue;
+                    }
+                }
+            }
+
+            if (Character.isWhitespace(c))
+                pendingSpace = true;
+            else
+                pendingSpace = append(out, c, pendingSpace);
+
+            position++;
+        }
+
+        // 공백과 함께 붙인 마지막 글자가 넘칠 수 있다.
+        if (out.length() > maxLength)
+            out.setLength(maxLength);
+
+        // 잘린 자리에 서로게이트 쌍의 앞쪽만 남으면 버린다.
+        if (out.length() > 0 && Character.isHighSurrogate(out.charAt(out.length() - 1)))
+            out.setLength(out.length() - 1);
+
+        if (out.length() > 0 && out.charAt(out.length() - 1) == ' ')
+            out.setLength(out.length() - 1);
+
+        return out.toString();
+    }
+
+    // 앞에 공백이 밀려 있으면 공백 하나를 먼저 붙인다. 글 맨 앞의 공백은 버린다.
+    private static boolean append(StringBuilder out, int codePoint, boolean pendingSpace) {
+        if (pendingSpace && out.length() > 0)
+            out.append(' ');
+
+        out.appendCodePoint(codePoint);
+        return false;
+    }
+
+    private static boolean isTagStart(CharSequence html, int position) {
+        if (position >= html.length())
+            return false;
+
+        char c = html.charAt(position);
+        return Character.isLetter(c) || c == '/' || c == '!';
+    }
+
+    private static int indexOf(CharSequence text, char target, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (text.charAt(i) == target)
+                return i;
+        }
+        return -1;
+    }
+
+    // "<p class=...>", "</p>", "<br/>" -> "p", "p", "br"
+    private static String tagName(CharSequence html, int from, int to) {
+        int start = from;
+
+        if (start < to && html.charAt(start) == '/')
+            start++;
+
+        int end = start;
+
+        while (end < to && Character.isLetterOrDigit(html.charAt(end)))
+            end++;
+
+        return html.subSequence(start, end).toString().toLowerCase();
+    }
+
+    // </script> 까지 건너뛴다.
+    private static int skipRawText(CharSequence html, int from, String tagName) {
+        int length = html.length();
+
+        for (int i = from; i < length - 1; i++) {
+            if (html.charAt(i) == '<' && html.charAt(i + 1) == '/') {
+                int tagEnd = indexOf(html, '>', i + 2);
+
+                if (tagEnd < 0)
+                    return length;
+
+                if (tagName.equals(tagName(html, i + 1, tagEnd)))
+                    return tagEnd + 1;
+            }
+        }
+        return length;
+    }
+
+    // 모르는 엔티티면 -1, 그대로 글자로 남긴다.
+    private static int decodeEntity(CharSequence html, int from, int to) {
+        if (from >= to)
+            return -1;
+
+        if (html.charAt(from) != '#') {
+            Character named = NAMED_ENTITIES.get(html.subSequence(from, to).toString());
+            return (named == null) ? -1 : named;
+        }
+
+        boolean hex = from + 1 < to && (html.charAt(from + 1) == 'x' || html.charAt(from + 1) == 'X');
+        int start = hex ? from + 2 : from + 1;
+
+        if (start >= to)
+            return -1;
+
+        try {
+            int codePoint = Integer.parseInt(html.subSequence(start, to).toString(), hex ? 16 : 10);
+            return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
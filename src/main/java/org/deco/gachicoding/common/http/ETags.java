@@ -0,0 +1,20 @@
+package org.deco.gachicoding.common.http;
+
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 GET (If-None-Match) 처리 <br>
+ * 컨트롤러는 true 를 받으면 본문을 만들지 않고 null 을 반환한다. 이때 응답은 이미 304 로 설정되어 있다.
+ */
+public final class ETags {
+
+    private ETags() {}
+
+    /**
+     * eTag 가 요청의 If-None-Match 와 같으면 true. 다르면 응답에 ETag 헤더만 붙이고 false. <br>
+     * eTag 가 null 이면 (없는 게시물 등) 비교하지 않는다.
+     */
+    public static boolean notModified(WebRequest request, String eTag) {
+        return eTag != null && request.checkNotModified(eTag);
+    }
+}
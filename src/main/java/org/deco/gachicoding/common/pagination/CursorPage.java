@@ -0,0 +1,47 @@
+package org.deco.gachicoding.common.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> contents;
+
+    // 마지막 페이지면 null
+    private final String nextCursor;
+
+    private CursorPage(List<T> contents, String nextCursor) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1 개를 조회한 결과로 페이지를 만든다. <br>
+     * 하나가 더 조회되었다면 다음 페이지가 있으므로 size 번째 게시물을 다음 커서로 사용한다.
+     */
+    public static <E, T> CursorPage<T> of(
+            List<E> rows,
+            int size,
+            Function<E, PageCursor> cursorOf,
+            Function<E, T> mapper
+    ) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        return new CursorPage<>(
+                page.stream().map(mapper).collect(Collectors.toList()),
+                hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null
+        );
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(
+                contents.stream().map(mapper).collect(Collectors.toList()),
+                nextCursor
+        );
+    }
+}
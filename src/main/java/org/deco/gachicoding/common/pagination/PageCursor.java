@@ -0,0 +1,61 @@
+package org.deco.gachicoding.common.pagination;
+
+import lombok.Getter;
+import org.deco.gachicoding.exception.post.InvalidCursorException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 목록 조회 커서 (created_at, idx) <br>
+ * 마지막으로 받은 게시물의 다음부터 조회하므로 몇 번째 페이지든 같은 비용으로 조회된다. <br>
+ * 클라이언트에는 내용을 알 수 없는 Base64 문자열로 전달한다.
+ */
+@Getter
+public class PageCursor {
+
+    private static final String DELIMITER = "_";
+
+    // 첫 페이지는 모든 게시물보다 뒤에 있는 가상의 위치에서 시작
+    private static final PageCursor FIRST = new PageCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Long idx;
+
+    public PageCursor(LocalDateTime createdAt, Long idx) {
+        this.createdAt = createdAt;
+        this.idx = idx;
+    }
+
+    public static PageCursor first() {
+        return FIRST;
+    }
+
+    public static PageCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor))
+            return FIRST;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.lastIndexOf(DELIMITER);
+
+            return new PageCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + idx;
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,27 @@
+package org.deco.gachicoding.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 색인, 캐시처럼 DB 밖에 있는 상태를 트랜잭션 커밋 이후에 바꾼다. <br>
+ * 롤백되면 실행하지 않고, 트랜잭션 밖에서 부르면 바로 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package org.deco.gachicoding.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 통합 검색에서 게시물 종류별 검색을 동시에 실행하는 스레드 풀 <br>
+     * 큐가 가득 차면 거절한다. 요청 스레드에서 대신 실행하면 게시물 종류별 제한 시간이 걸리지 않으므로, 거절된 검색은 실패로 표시한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("search-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+
+    /**
+     * 게시물 작성 후 TEMP 이미지를 옮기는 워커 스레드 풀 <br>
+     * 큐가 가득 차면 거절한다. 거절된 작업은 DB에 PENDING 으로 남아 폴링이 다시 넘기므로, 요청 스레드가 대신 실행하지 않는다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("file-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+
+    /**
+     * 게시물 하나의 이미지들을 동시에 옮길 때 쓰는 S3 호출 전용 스레드 풀 <br>
+     * 호출 하나하나는 짧고 대부분 네트워크 대기라 스레드를 넉넉히 두고, 넘치면 부른 스레드에서 실행한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor s3Executor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("s3-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+
+    /**
+     * 게시물 이미지의 썸네일, 중간 크기 사본을 만드는 스레드 풀 <br>
+     * 디코딩이 CPU 와 메모리를 많이 쓰므로 스레드를 적게 둔다. 큐가 가득 차면 거절하고, 사본이 없는 크기는 원본으로 대신한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+}
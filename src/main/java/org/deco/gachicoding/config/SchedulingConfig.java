@@ -0,0 +1,13 @@
+package org.deco.gachicoding.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 조회수 반영처럼 주기적으로 도는 작업(@Scheduled) 활성화 <br>
+ * 스케줄러 스레드 수는 spring.task.scheduling.pool.size 로 조정한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
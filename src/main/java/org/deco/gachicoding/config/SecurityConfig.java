@@ -6,6 +6,8 @@ import org.deco.gachicoding.config.security.RestLoginProcessingFilter;
 import org.deco.gachicoding.config.security.handler.RestAccessDeniedHandler;
 import org.deco.gachicoding.config.security.handler.RestAuthenticationFailureHandler;
 import org.deco.gachicoding.config.security.handler.RestAuthenticationSuccessHandler;
+import org.deco.gachicoding.user.application.UserDetailsCache;
+import org.deco.gachicoding.user.application.UserIdCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -45,6 +47,12 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private UserIdCache userIdCache;
+
     @Override
     protected void configure(AuthenticationManagerBuilder auth) {
         auth.authenticationProvider(restAuthenticationProvider());
@@ -52,7 +60,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     @Bean
     public AuthenticationProvider restAuthenticationProvider() {
-        return new RestAuthenticationProvider(passwordEncoder(), userDetailsService);
+        return new RestAuthenticationProvider(passwordEncoder(), userDetailsService, userDetailsCache, userIdCache);
     }
 
     @Bean
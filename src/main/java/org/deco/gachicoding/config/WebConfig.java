@@ -1,6 +1,7 @@
 package org.deco.gachicoding.config;
 
 import org.deco.gachicoding.config.handler.FileValidArgumentResolver;
+import org.deco.gachicoding.config.handler.VisitorKeyArgumentResolver;
 import org.deco.gachicoding.file.presentation.dto.request.ImageFileValidator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -56,6 +57,7 @@ public class WebConfig extends WebMvcConfigurationSupport {
     protected void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
         argumentResolvers.add(new PageableHandlerMethodArgumentResolver());
         argumentResolvers.add(new FileValidArgumentResolver(createFileValidators()));
+        argumentResolvers.add(new VisitorKeyArgumentResolver());
         super.addArgumentResolvers(argumentResolvers);
     }
 
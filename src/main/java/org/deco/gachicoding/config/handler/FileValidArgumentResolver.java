@@ -1,9 +1,12 @@
 package org.deco.gachicoding.config.handler;
 
 import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.exception.file.UploadFailureException;
 import org.deco.gachicoding.file.presentation.dto.request.FileSaveRequest;
+import org.deco.gachicoding.file.presentation.dto.request.FileStreamRequest;
 import org.deco.gachicoding.file.presentation.dto.request.ImageFileValid;
 import org.deco.gachicoding.file.presentation.dto.request.ImageFileValidator;
+import org.deco.gachicoding.file.presentation.dto.request.ValidatedFile;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -13,6 +16,11 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -21,6 +29,8 @@ public class FileValidArgumentResolver implements HandlerMethodArgumentResolver
 
     private static final String FILE_NAME = "files";
 
+    private static final String FILE_NAME_HEADER = "X-File-Name";
+
     private final List<ImageFileValidator> fileValidators;
 
     @Override
@@ -35,16 +45,85 @@ public class FileValidArgumentResolver implements HandlerMethodArgumentResolver
             NativeWebRequest webRequest,
             WebDataBinderFactory binderFactory
     ) {
+        if (parameter.getParameterType() == FileStreamRequest.class)
+            return resolveFileStream(webRequest);
+
         MultipartHttpServletRequest multipartHttpServletRequest = getMultipartHttpServletRequest(webRequest);
 
-        List<MultipartFile> files = multipartHttpServletRequest.getFiles(FILE_NAME);
-        files.forEach(this::imageFileValidationCheck);
+        List<FileStreamRequest> files = new ArrayList<>();
+
+        // 모든 파일을 검사한 뒤에 올린다. 하나라도 실패하면 이미 연 스트림을 닫는다.
+        try {
+            for (MultipartFile multipartFile : multipartHttpServletRequest.getFiles(FILE_NAME)) {
+                ValidatedFile file = validate(multipartFile.getInputStream());
+
+                files.add(new FileStreamRequest(
+                        multipartFile.getOriginalFilename(),
+                        file.getContentType(),
+                        file.getInputStream(),
+                        multipartFile.getSize()
+                ));
+            }
+        } catch (IOException e) {
+            close(files);
+            throw new UploadFailureException();
+        } catch (RuntimeException e) {
+            close(files);
+            throw e;
+        }
 
         return new FileSaveRequest(files);
     }
 
-    private void imageFileValidationCheck(MultipartFile multipartFile) {
-        fileValidators.forEach(fileValidator -> fileValidator.execute(multipartFile));
+    // 본문을 버퍼링하지 않고 스트림 그대로 넘긴다. 검사는 앞부분만 읽고 그 앞부분부터 다시 읽히게 한다.
+    private FileStreamRequest resolveFileStream(NativeWebRequest webRequest) {
+        HttpServletRequest httpServletRequest = webRequest.getNativeRequest(HttpServletRequest.class);
+        Objects.requireNonNull(httpServletRequest);
+
+        String fileName = httpServletRequest.getHeader(FILE_NAME_HEADER);
+
+        if (fileName == null || fileName.isBlank())
+            throw new UploadFailureException();
+
+        try {
+            ValidatedFile file = validate(httpServletRequest.getInputStream());
+
+            return new FileStreamRequest(
+                    URLDecoder.decode(fileName, StandardCharsets.UTF_8),
+                    file.getContentType(),
+                    file.getInputStream()
+            );
+        } catch (IOException e) {
+            throw new UploadFailureException();
+        }
+    }
+
+    // 클라이언트가 보낸 Content-Type 은 믿지 않는다. 마지막 검사가 내용에서 읽은 형식으로 저장한다.
+    private ValidatedFile validate(InputStream inputStream) throws IOException {
+        ValidatedFile file = new ValidatedFile(inputStream, null);
+
+        try {
+            for (ImageFileValidator fileValidator : fileValidators)
+                file = fileValidator.execute(file.getInputStream());
+
+            if (file.getContentType() == null)
+                throw new UploadFailureException();
+
+            return file;
+        } catch (RuntimeException e) {
+            file.getInputStream().close();
+            throw e;
+        }
+    }
+
+    private void close(List<FileStreamRequest> files) {
+        for (FileStreamRequest file : files) {
+            try {
+                file.getInputStream().close();
+            } catch (IOException ignored) {
+                // 닫지 못해도 요청이 끝나면 멀티파트 임시 파일과 함께 정리된다.
+            }
+        }
     }
 
     private MultipartHttpServletRequest getMultipartHttpServletRequest(
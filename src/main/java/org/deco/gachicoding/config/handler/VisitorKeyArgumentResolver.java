@@ -0,0 +1,50 @@
+package org.deco.gachicoding.config.handler;
+
+import org.deco.gachicoding.view.presentation.VisitorKey;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Objects;
+
+public class VisitorKeyArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(VisitorKey.class)
+                && String.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken))
+            return "user:" + authentication.getName();
+
+        HttpServletRequest httpServletRequest = webRequest.getNativeRequest(HttpServletRequest.class);
+        Objects.requireNonNull(httpServletRequest);
+
+        return "ip:" + clientIp(httpServletRequest);
+    }
+
+    /**
+     * 클라이언트가 보낸 X-Forwarded-For 는 마음대로 바꿀 수 있으므로 직접 읽지 않는다. <br>
+     * 프록시 뒤에서는 server.forward-headers-strategy=native 로 두면 Tomcat(RemoteIpValve)이 믿을 수 있는 프록시(internal-proxies)가 붙인 주소만 remoteAddr 로 바꿔 준다.
+     */
+    private String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
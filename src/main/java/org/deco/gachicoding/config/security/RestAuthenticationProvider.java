@@ -2,10 +2,13 @@ package org.deco.gachicoding.config.security;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.user.application.UserIdCache;
+import org.deco.gachicoding.user.dto.request.authentication.UserAuthenticationDto;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,6 +19,8 @@ public class RestAuthenticationProvider implements AuthenticationProvider {
 
     private final PasswordEncoder passwordEncoder;
     private final UserDetailsService userDetailsService;
+    private final UserCache userCache;
+    private final UserIdCache userIdCache;
 
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
@@ -25,12 +30,31 @@ public class RestAuthenticationProvider implements AuthenticationProvider {
 
         log.info("인증 시도 유저 이메일 - {}, 인증 시도 유저 비밀번호 - {}", loginEmail, password);
 
-        UserDetails userDto = userDetailsService.loadUserByUsername(loginEmail);
+        UserDetails userDto = userCache.getUserFromCache(loginEmail);
+        boolean cached = (userDto != null);
+
+        if (!cached)
+            userDto = userDetailsService.loadUserByUsername(loginEmail);
 
         if (!passwordEncoder.matches(password, userDto.getPassword())) {
-            throw new BadCredentialsException("Invalid password");
+            if (!cached)
+                throw new BadCredentialsException("Invalid password");
+
+            // 캐시된 비밀번호가 오래됐을 수 있으므로 DB에서 한 번 더 확인한다.
+            cached = false;
+            userDto = userDetailsService.loadUserByUsername(loginEmail);
+
+            if (!passwordEncoder.matches(password, userDto.getPassword()))
+                throw new BadCredentialsException("Invalid password");
         }
 
+        if (!cached)
+            userCache.putUserInCache(userDto);
+
+        // 로그인한 사용자는 곧 글을 쓰거나 고치므로 작성자 조회용 번호를 미리 넣어둔다.
+        if (userDto instanceof UserAuthenticationDto)
+            userIdCache.put(loginEmail, ((UserAuthenticationDto) userDto).getUserIdx());
+
         return new RestAuthenticationToken(userDto, null, userDto.getAuthorities());
     }
 
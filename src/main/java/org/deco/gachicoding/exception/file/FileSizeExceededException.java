@@ -0,0 +1,15 @@
+package org.deco.gachicoding.exception.file;
+
+import org.deco.gachicoding.exception.ApplicationException;
+import org.springframework.http.HttpStatus;
+
+public class FileSizeExceededException extends ApplicationException {
+
+    private static final String ERROR_CODE = "I0007";
+    private static final HttpStatus HTTP_STATUS = HttpStatus.PAYLOAD_TOO_LARGE;
+    private static final String MESSAGE = "파일 크기 초과";
+
+    public FileSizeExceededException() {
+        super(ERROR_CODE, HTTP_STATUS, MESSAGE);
+    }
+}
@@ -0,0 +1,15 @@
+package org.deco.gachicoding.exception.file;
+
+import org.deco.gachicoding.exception.ApplicationException;
+import org.springframework.http.HttpStatus;
+
+public class PresignedUploadUnsupportedException extends ApplicationException {
+
+    private static final String ERROR_CODE = "I0008";
+    private static final HttpStatus HTTP_STATUS = HttpStatus.NOT_IMPLEMENTED;
+    private static final String MESSAGE = "직접 업로드를 지원하지 않는 저장소입니다.";
+
+    public PresignedUploadUnsupportedException() {
+        super(ERROR_CODE, HTTP_STATUS, MESSAGE);
+    }
+}
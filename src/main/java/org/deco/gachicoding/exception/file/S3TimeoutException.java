@@ -0,0 +1,15 @@
+package org.deco.gachicoding.exception.file;
+
+import org.deco.gachicoding.exception.ApplicationException;
+import org.springframework.http.HttpStatus;
+
+public class S3TimeoutException extends ApplicationException {
+
+    private static final String ERROR_CODE = "I0006";
+    private static final HttpStatus HTTP_STATUS = HttpStatus.INTERNAL_SERVER_ERROR;
+    private static final String MESSAGE = "S3 이미지 이동 시간 초과";
+
+    public S3TimeoutException() {
+        super(ERROR_CODE, HTTP_STATUS, MESSAGE);
+    }
+}
@@ -0,0 +1,22 @@
+package org.deco.gachicoding.exception.post;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends PostException {
+
+    private static final String ERROR_CODE = "L0001";
+    private static final HttpStatus HTTP_STATUS = HttpStatus.BAD_REQUEST;
+    private static final String MESSAGE = "잘못된 페이지 커서입니다.";
+
+    public InvalidCursorException() {
+        this(ERROR_CODE, HTTP_STATUS, MESSAGE);
+    }
+
+    private InvalidCursorException(
+            String errorCode,
+            HttpStatus httpStatus,
+            String message
+    ) {
+        super(errorCode, httpStatus, message);
+    }
+}
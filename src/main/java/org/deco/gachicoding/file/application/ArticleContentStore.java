@@ -0,0 +1,23 @@
+package org.deco.gachicoding.file.application;
+
+import org.deco.gachicoding.post.ArticleCategory;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * 이미지 이동 워커가 게시물 본문을 읽고 고쳐 쓰는 통로 <br>
+ * 게시물 종류마다 하나씩 구현한다.
+ */
+public interface ArticleContentStore {
+
+    ArticleCategory getCategory();
+
+    // 게시물이 그사이 지워졌으면 비어 있다.
+    Optional<String> findContents(Long articleIdx);
+
+    /**
+     * 워커가 이미지를 옮기는 동안 본문이 수정됐을 수 있으므로, 읽어 둔 본문이 아니라 최신 본문에 rewriter 를 적용한다.
+     */
+    void rewriteContents(Long articleIdx, UnaryOperator<String> rewriter);
+}
@@ -0,0 +1,139 @@
+package org.deco.gachicoding.file.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.exception.file.FileNotFoundException;
+import org.deco.gachicoding.file.domain.File;
+import org.deco.gachicoding.file.domain.FileContent;
+import org.deco.gachicoding.file.domain.ImageVariant;
+import org.deco.gachicoding.file.domain.repository.FileContentRepository;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 내용 주소 파일(CONTENT/{SHA-256})의 참조 수 관리 <br>
+ * 게시물에 파일이 기록될 때 retain, 게시물에서 빠질 때 release 한다. <br>
+ * 참조가 0 인 채로 유예 기간이 지난 객체만 지운다. 그 사이 같은 내용을 올리면 기존 객체를 그대로 돌려준다.
+ */
+@Slf4j
+@Service
+public class FileContentService implements MeterBinder {
+
+    private final FileContentRepository fileContentRepository;
+
+    private final FileDeletionService fileDeletionService;
+
+    private final S3Service s3Service;
+
+    private final Duration releaseGrace;
+
+    public FileContentService(
+            FileContentRepository fileContentRepository,
+            FileDeletionService fileDeletionService,
+            S3Service s3Service,
+            @Value("${file.content.release-grace-hours:24}") long releaseGraceHours
+    ) {
+        this.fileContentRepository = fileContentRepository;
+        this.fileDeletionService = fileDeletionService;
+        this.s3Service = s3Service;
+        this.releaseGrace = Duration.ofHours(releaseGraceHours);
+    }
+
+    /**
+     * 이미 저장된 내용이면 그 경로를 돌려준다. <br>
+     * 정리(sweepUnreferenced)와 같은 행 잠금으로 읽고, 참조 없는 내용이면 유예 기간을 지금부터 다시 센다.
+     * 돌려준 경로는 적어도 유예 기간 동안 남아 있으므로 초안 본문에 넣어도 된다. 정리가 먼저 가져간 내용은 찾지 못하므로 새로 올린다.
+     */
+    @Transactional
+    public Optional<String> findContentPath(String contentHash) {
+        return fileContentRepository.findByContentHashForUpdate(contentHash)
+                .map(fileContent -> {
+                    fileContent.extendGrace(LocalDateTime.now());
+
+                    return fileContent.getFilePath();
+                });
+    }
+
+    // 처음 쓰이는 내용이면 색인을 만든다. 같은 내용을 동시에 처음 기록하면 한쪽은 유니크 제약에 걸리고, 이동 작업 재시도 때 색인을 찾는다.
+    // 정리된 객체를 가리키는 색인이 생기지 않도록, 새 색인은 객체가 있을 때만 만든다.
+    @Transactional
+    public void retain(File file) {
+        FileContent fileContent = fileContentRepository.findByContentHashForUpdate(file.getSaveFileName())
+                .orElseGet(() -> {
+                    if (!s3Service.exists(file.getFilePath()))
+                        throw new FileNotFoundException();
+
+                    return fileContentRepository.save(FileContent.builder()
+                            .contentHash(file.getSaveFileName())
+                            .filePath(file.getFilePath())
+                            .build());
+                });
+
+        fileContent.retain();
+    }
+
+    // 예전 경로({category}/{idx}/...)의 파일은 게시물마다 따로 저장했으므로 바로 지운다.
+    @Transactional
+    public void release(Collection<File> files) {
+        Map<Boolean, List<File>> partitioned = files.stream()
+                .collect(Collectors.partitioningBy(File::isContentAddressed));
+
+        fileDeletionService.deleteObjects(partitioned.get(false).stream()
+                .map(File::getFilePath)
+                .collect(Collectors.toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+
+        for (File file : partitioned.get(true))
+            fileContentRepository.findByContentHashForUpdate(file.getSaveFileName())
+                    .ifPresent(fileContent -> fileContent.release(now));
+    }
+
+    @Scheduled(fixedDelayString = "${file.content.sweep-interval-millis:3600000}")
+    @Transactional
+    public void sweepUnreferenced() {
+        List<FileContent> contents = fileContentRepository.findUnreferencedForUpdate(
+                LocalDateTime.now().minus(releaseGrace),
+                PageRequest.of(0, S3Service.MAX_DELETE_KEYS)
+        );
+
+        if (contents.isEmpty())
+            return;
+
+        log.info("참조가 없는 파일 {}개 정리", contents.size());
+
+        fileContentRepository.deleteAllInBatch(contents);
+
+        // 만들지 않은 사본 키도 함께 보낸다. 없는 키를 지우는 것은 실패가 아니다.
+        fileDeletionService.deleteObjects(contents.stream()
+                .flatMap(content -> Stream.concat(
+                        Stream.of(content.getFilePath()),
+                        Arrays.stream(ImageVariant.values()).map(variant -> variant.path(content.getContentHash()))
+                ))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("file.content.objects", fileContentRepository, repository -> repository.countByReferenceCount(0))
+                .tag("status", "unreferenced")
+                .description("참조가 없어 정리를 기다리는 파일 수")
+                .register(registry);
+    }
+}
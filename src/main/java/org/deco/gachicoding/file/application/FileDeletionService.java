@@ -0,0 +1,132 @@
+package org.deco.gachicoding.file.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.transaction.AfterCommit;
+import org.deco.gachicoding.file.domain.FileDeletion;
+import org.deco.gachicoding.file.domain.repository.FileDeletionRepository;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * S3 객체 일괄 삭제 <br>
+ * 커밋된 뒤에 DeleteObjects 로 지우고, 지우지 못한 키는 file_deletion 에 남겨 주기적으로 다시 지운다. <br>
+ * 재시도를 max-attempts 번 모두 실패한 키는 지우지 않고 남겨 두어 직접 확인할 수 있게 한다.
+ */
+@Slf4j
+@Service
+public class FileDeletionService implements MeterBinder {
+
+    private final FileDeletionRepository fileDeletionRepository;
+
+    private final S3Service s3Service;
+
+    // afterCommit 안에서는 끝난 트랜잭션에 참여하게 되므로 실패 기록은 새 트랜잭션에서 한다.
+    private final TransactionTemplate requiresNew;
+
+    private final int maxAttempts;
+
+    private final Duration backoff;
+
+    public FileDeletionService(
+            FileDeletionRepository fileDeletionRepository,
+            S3Service s3Service,
+            PlatformTransactionManager transactionManager,
+            @Value("${file.deletion.max-attempts:10}") int maxAttempts,
+            @Value("${file.deletion.backoff-seconds:60}") long backoffSeconds
+    ) {
+        this.fileDeletionRepository = fileDeletionRepository;
+        this.s3Service = s3Service;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+        this.backoff = Duration.ofSeconds(backoffSeconds);
+    }
+
+    // 롤백되면 아직 쓰이는 객체일 수 있으므로 커밋된 뒤에만 지운다.
+    public void deleteObjects(Collection<String> filePaths) {
+        if (filePaths.isEmpty())
+            return;
+
+        List<String> paths = List.copyOf(filePaths);
+
+        AfterCommit.run(() -> delete(paths));
+    }
+
+    private void delete(List<String> paths) {
+        Map<String, String> failures = s3Service.deleteObjects(paths);
+
+        if (failures.isEmpty())
+            return;
+
+        log.warn("S3 객체 {}개 중 {}개 삭제 실패, 재시도 대기", paths.size(), failures.size());
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff);
+
+        requiresNew.executeWithoutResult(status -> failures.forEach((path, error) -> {
+            if (!fileDeletionRepository.existsByFilePath(path))
+                fileDeletionRepository.save(FileDeletion.builder()
+                        .filePath(path)
+                        .lastError(error)
+                        .nextAttemptAt(nextAttemptAt)
+                        .build());
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${file.deletion.retry-interval-millis:60000}")
+    public void retryFailedDeletions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<FileDeletion> deletions = fileDeletionRepository.findDueDeletions(
+                maxAttempts, now, PageRequest.of(0, S3Service.MAX_DELETE_KEYS)
+        );
+
+        if (deletions.isEmpty())
+            return;
+
+        Map<String, String> failures = s3Service.deleteObjects(deletions.stream()
+                .map(FileDeletion::getFilePath)
+                .collect(Collectors.toList()));
+
+        requiresNew.executeWithoutResult(status -> {
+            for (FileDeletion deletion : deletions) {
+                String error = failures.get(deletion.getFilePath());
+
+                if (error == null) {
+                    fileDeletionRepository.deleteById(deletion.getDeletionIdx());
+                    continue;
+                }
+
+                deletion.fail(error, backoff, now);
+                fileDeletionRepository.save(deletion);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("file.deletion.retries", fileDeletionRepository, repository -> repository.countByAttemptsLessThan(maxAttempts))
+                .tag("status", "pending")
+                .description("다시 지울 S3 객체 수")
+                .register(registry);
+
+        Gauge.builder("file.deletion.retries", fileDeletionRepository, repository -> repository.countByAttemptsGreaterThanEqual(maxAttempts))
+                .tag("status", "abandoned")
+                .description("재시도를 모두 쓰고 남은 S3 객체 수")
+                .register(registry);
+    }
+}
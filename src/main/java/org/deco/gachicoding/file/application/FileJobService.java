@@ -0,0 +1,87 @@
+package org.deco.gachicoding.file.application;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.file.domain.FileJob;
+import org.deco.gachicoding.file.domain.FileJobStatus;
+import org.deco.gachicoding.file.domain.repository.FileJobRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이미지 이동 작업의 상태 전이 <br>
+ * 워커 스레드에서 부르므로 메서드마다 짧은 트랜잭션으로 끝낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FileJobService {
+
+    private static final EnumSet<FileJobStatus> CLAIMABLE = EnumSet.of(FileJobStatus.PENDING, FileJobStatus.RUNNING);
+
+    private final FileJobRepository fileJobRepository;
+
+    // 게시물 트랜잭션에 참여해서 게시물과 함께 커밋된다.
+    @Transactional
+    public Long registerJob(Long articleIdx, String articleCategory) {
+        FileJob job = fileJobRepository.save(FileJob.builder()
+                .articleIdx(articleIdx)
+                .articleCategory(articleCategory)
+                .build());
+
+        return job.getJobIdx();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findDueJobIdxs(LocalDateTime now, int size) {
+        return fileJobRepository.findDueJobIdxs(CLAIMABLE, now, PageRequest.of(0, size));
+    }
+
+    /**
+     * 작업을 leaseUntil 까지 가져온다. 이미 끝났거나 다른 워커가 임대 중이면 비어 있다.
+     */
+    @Transactional
+    public Optional<FileJob> claim(Long jobIdx, LocalDateTime now, LocalDateTime leaseUntil) {
+        return fileJobRepository.findByIdForUpdate(jobIdx)
+                .filter(job -> job.isClaimable(now))
+                .map(job -> {
+                    job.start(leaseUntil);
+                    return job;
+                });
+    }
+
+    @Transactional
+    public void complete(Long jobIdx, int attempt) {
+        fileJobRepository.findByIdForUpdate(jobIdx)
+                .filter(job -> job.isRunningAttempt(attempt))
+                .ifPresent(FileJob::complete);
+    }
+
+    @Transactional
+    public void fail(Long jobIdx, int attempt, String error, int maxAttempts, Duration backoff) {
+        fileJobRepository.findByIdForUpdate(jobIdx)
+                .filter(job -> job.isRunningAttempt(attempt))
+                .ifPresent(job -> job.fail(error, maxAttempts, backoff, LocalDateTime.now()));
+    }
+
+    // createdAfter 이후에 만든 FAILED 작업을 size 개까지 PENDING 으로 되돌리고 그 수를 돌려준다.
+    @Transactional
+    public int redriveFailed(LocalDateTime createdAfter, LocalDateTime now, int size) {
+        List<FileJob> jobs = fileJobRepository.findByStatusCreatedAfterForUpdate(FileJobStatus.FAILED, createdAfter, PageRequest.of(0, size));
+
+        for (FileJob job : jobs)
+            job.redrive(now);
+
+        return jobs.size();
+    }
+
+    @Transactional(readOnly = true)
+    public long countJobs(FileJobStatus status) {
+        return fileJobRepository.countByStatus(status);
+    }
+}
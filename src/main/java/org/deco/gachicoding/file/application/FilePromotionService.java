@@ -0,0 +1,168 @@
+package org.deco.gachicoding.file.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.transaction.AfterCommit;
+import org.deco.gachicoding.file.domain.FileJob;
+import org.deco.gachicoding.file.domain.FileJobStatus;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 게시물 작성 후 TEMP 이미지 이동 <br>
+ * 작성 트랜잭션은 작업 행만 남기고 커밋하고, S3 복사와 본문 경로 치환은 fileExecutor 에서 한다. <br>
+ * 커밋 직후 바로 실행을 시도하고, 실패했거나 서버가 내려가 놓친 작업은 주기적인 폴링이 다시 가져간다.
+ */
+@Slf4j
+@Service
+public class FilePromotionService implements MeterBinder {
+
+    private final FileJobService fileJobService;
+
+    private final FileService fileService;
+
+    private final Map<ArticleCategory, ArticleContentStore> contentStores = new EnumMap<>(ArticleCategory.class);
+
+    private final Executor fileExecutor;
+
+    private final int maxAttempts;
+
+    private final Duration lease;
+
+    private final Duration backoff;
+
+    private final int pollSize;
+
+    // TEMP 원본이 정리되기까지의 시간(file.temp.ttl-hours). 이보다 오래된 작업은 다시 시도해도 옮길 원본이 없다.
+    private final Duration tempTtl;
+
+    public FilePromotionService(
+            FileJobService fileJobService,
+            FileService fileService,
+            List<ArticleContentStore> contentStores,
+            @Qualifier("fileExecutor") Executor fileExecutor,
+            @Value("${file.promotion.max-attempts:5}") int maxAttempts,
+            @Value("${file.promotion.lease-seconds:60}") long leaseSeconds,
+            @Value("${file.promotion.backoff-seconds:10}") long backoffSeconds,
+            @Value("${file.promotion.poll-size:50}") int pollSize,
+            @Value("${file.temp.ttl-hours:72}") long tempTtlHours
+    ) {
+        this.fileJobService = fileJobService;
+        this.fileService = fileService;
+        this.fileExecutor = fileExecutor;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.backoff = Duration.ofSeconds(backoffSeconds);
+        this.pollSize = pollSize;
+        this.tempTtl = Duration.ofHours(tempTtlHours);
+
+        for (ArticleContentStore contentStore : contentStores)
+            this.contentStores.put(contentStore.getCategory(), contentStore);
+    }
+
+    // 게시물 작성 트랜잭션 안에서 부른다. 롤백되면 작업도 함께 사라진다.
+    public void enqueue(Long articleIdx, String articleCategory) {
+        Long jobIdx = fileJobService.registerJob(articleIdx, articleCategory);
+
+        AfterCommit.run(() -> submit(jobIdx));
+    }
+
+    @Scheduled(fixedDelayString = "${file.promotion.poll-interval-millis:10000}")
+    public void pollDueJobs() {
+        for (Long jobIdx : fileJobService.findDueJobIdxs(LocalDateTime.now(), pollSize))
+            submit(jobIdx);
+    }
+
+    /**
+     * 재시도를 모두 쓰고 멈춘 작업을 다시 돌린다. <br>
+     * 멈춘 작업의 본문은 TEMP 이미지를 가리키므로, TEMP 정리(TempFileSweeper)가 원본을 지우기 전에 주기적으로 다시 옮겨 본다.
+     */
+    @Scheduled(fixedDelayString = "${file.promotion.redrive-interval-millis:21600000}")
+    public void redriveFailedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int redriven = 0;
+        int page;
+
+        do {
+            page = fileJobService.redriveFailed(now.minus(tempTtl), now, pollSize);
+            redriven += page;
+        } while (page == pollSize);
+
+        if (redriven > 0)
+            log.info("멈춘 이미지 이동 작업 {}개 다시 시도", redriven);
+    }
+
+    private void submit(Long jobIdx) {
+        try {
+            fileExecutor.execute(() -> process(jobIdx));
+        } catch (RejectedExecutionException e) {
+            // 작업은 PENDING 으로 남아 있으므로 다음 폴링에서 다시 넘긴다.
+            log.warn("이미지 이동 작업 {}번 대기열 초과", jobIdx);
+        }
+    }
+
+    private void process(Long jobIdx) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<FileJob> claimed = fileJobService.claim(jobIdx, now, now.plus(lease));
+
+        if (claimed.isEmpty())
+            return;
+
+        FileJob job = claimed.get();
+
+        try {
+            promote(job);
+            fileJobService.complete(jobIdx, job.getAttempts());
+        } catch (RuntimeException e) {
+            fileJobService.fail(jobIdx, job.getAttempts(), e.toString(), maxAttempts, backoff);
+
+            if (job.isExhausted(maxAttempts))
+                log.error("이미지 이동 작업 {}번 재시도 소진, {} {}번 본문이 TEMP 이미지를 가리킨 채 남는다", jobIdx, job.getArticleCategory(), job.getArticleIdx(), e);
+            else
+                log.warn("이미지 이동 작업 {}번 실패 ({}/{})", jobIdx, job.getAttempts(), maxAttempts, e);
+        }
+    }
+
+    private void promote(FileJob job) {
+        Long articleIdx = job.getArticleIdx();
+        ArticleContentStore contentStore = contentStores.get(ArticleCategory.valueOf(job.getArticleCategory()));
+
+        // 그사이 게시물이 지워졌으면 옮길 이미지도 없다.
+        Optional<String> contents = contentStore.findContents(articleIdx);
+
+        if (contents.isEmpty())
+            return;
+
+        Map<String, String> promotedPaths = fileService.promoteTempImages(articleIdx, job.getArticleCategory(), contents.get());
+
+        if (!promotedPaths.isEmpty())
+            contentStore.rewriteContents(articleIdx, latest -> fileService.replacePaths(latest, promotedPaths));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("file.promotion.jobs", fileJobService, service -> service.countJobs(FileJobStatus.PENDING))
+                .tag("status", "pending")
+                .description("이동을 기다리는 이미지 작업 수")
+                .register(registry);
+
+        Gauge.builder("file.promotion.jobs", fileJobService, service -> service.countJobs(FileJobStatus.FAILED))
+                .tag("status", "failed")
+                .description("재시도를 모두 쓰고 멈춘 이미지 작업 수")
+                .register(registry);
+    }
+}
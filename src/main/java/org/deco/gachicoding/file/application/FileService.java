@@ -1,32 +1,63 @@
 package org.deco.gachicoding.file.application;
 
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.deco.gachicoding.exception.file.FileNotFoundException;
+import org.deco.gachicoding.exception.file.S3CopyException;
+import org.deco.gachicoding.exception.file.S3TimeoutException;
+import org.deco.gachicoding.file.domain.ContentImages;
 import org.deco.gachicoding.file.domain.File;
+import org.deco.gachicoding.file.domain.FileReconciliation;
 import org.deco.gachicoding.file.domain.repository.FileRepository;
 import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileService {
 
         private final FileRepository fileRepository;
 
         private final S3Service s3Service;
 
-        @Value("${cloud.aws.s3.url}")
-        private String s3Url;
+        private final FileDeletionService fileDeletionService;
+
+        private final FileContentService fileContentService;
+
+        private final ImageDerivativeService imageDerivativeService;
+
+        private final Executor s3Executor;
+
+        private final String s3Url;
+
+        // 한 게시물의 이미지를 모두 옮기는 데 기다리는 최대 시간. 요청 하나하나의 기한은 S3Service 가 건다.
+        private final Duration promotionTimeout;
+
+        public FileService(
+                FileRepository fileRepository,
+                S3Service s3Service,
+                FileDeletionService fileDeletionService,
+                FileContentService fileContentService,
+                ImageDerivativeService imageDerivativeService,
+                @Qualifier("s3Executor") Executor s3Executor,
+                @Value("${cloud.aws.s3.url}") String s3Url,
+                @Value("${file.promotion.article-timeout-seconds:30}") long promotionTimeoutSeconds
+        ) {
+                this.fileRepository = fileRepository;
+                this.s3Service = s3Service;
+                this.fileDeletionService = fileDeletionService;
+                this.fileContentService = fileContentService;
+                this.imageDerivativeService = imageDerivativeService;
+                this.s3Executor = s3Executor;
+                this.s3Url = s3Url;
+                this.promotionTimeout = Duration.ofSeconds(promotionTimeoutSeconds);
+        }
 
         @Transactional
         public void registerFile(File file) {
@@ -41,101 +72,167 @@ public class FileService {
                 String content
         ) {
 
-                Queue<String> addedQueue = compareFilePath(
-                        imgProducer(content),
+                ContentImages images = ContentImages.scan(content, s3Url);
+                FileReconciliation reconciliation = FileReconciliation.of(
+                        images.getPaths(),
                         findFilesByCategoryAndIdx(category, idx)
                 );
 
-                return imgConsumer(idx, category, content, addedQueue);
+                // 삭제해야 할 파일 : DB 에만 있는 파일
+                if (!reconciliation.getRemovedFiles().isEmpty())
+                        deleteAll(reconciliation.getRemovedFiles());
+
+                // 추가해야 할 파일 : 본문에만 있는 경로. 모두 옮긴 뒤 본문을 한 번만 고친다.
+                return images.replacePaths(uploadRealImgs(idx, category, reconciliation.getAddedPaths()));
         }
 
-        private Queue<String> compareFilePath(Queue<String> pathInArticle, List<File> pathInDB) {
+        /**
+         * 게시물을 지울 때 그 게시물의 File 기록을 지우고 참조 수를 내린다. <br>
+         * 게시물 삭제와 같은 트랜잭션에서 부르므로 롤백되면 함께 되돌아가고, S3 객체는 커밋 뒤에 지운다.
+         */
+        @Transactional
+        public void deleteArticleFiles(String category, Long idx) {
+                List<File> files = findFilesByCategoryAndIdx(category, idx);
 
-                for (Iterator<String> pathIter = pathInArticle.iterator(); pathIter.hasNext();) {
-                        String path = pathIter.next();
-                        log.info("path : {}", path);
-                        for (Iterator<File> fileIter = pathInDB.iterator(); fileIter.hasNext();) {
-                                File file = fileIter.next();
-                                log.info("file : {}", file.getOriginFileName());
+                if (!files.isEmpty())
+                        deleteAll(files);
+        }
 
-                                if (file.compareFilePath(path)) {
-                                        log.info("같은 파일이 있네요");
-                                        pathIter.remove();
-                                        fileIter.remove();
-                                }
-                        }
-                }
+        // DELETE ... WHERE file_idx IN (...) 한 번으로 지운다. 다른 게시물도 쓰는 객체일 수 있으므로 S3 객체는 참조 수를 보고 지운다.
+        private void deleteAll(List<File> removedFiles) {
+                fileRepository.deleteAllByIdInBatch(removedFiles.stream()
+                        .map(File::getFileIdx)
+                        .collect(Collectors.toList()));
 
-                // 추가해야 할 파일 pathInArticle
-                // 삭제해야 할 파일 pathInDB
-                if (!pathInDB.isEmpty())
-                        deleteAll(pathInDB);
+                fileContentService.release(removedFiles);
+        }
 
-                return pathInArticle;
+        /**
+         * 본문의 TEMP 이미지를 게시물 경로로 옮기고 (TEMP 경로 -> 옮긴 경로)를 돌려준다. <br>
+         * 본문은 고치지 않는다. 작성 후 워커(FilePromotionService)가 최신 본문에 replacePaths 로 반영한다.
+         */
+        public Map<String, String> promoteTempImages(Long idx, String category, String content) {
 
-        }
+                Set<String> tempPaths = ContentImages.scan(content, s3Url).getPaths().stream()
+                        .filter(S3Service::isTempPath)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        // removeAll? disableAll? -> 결정에 따라 달라 짐
-        private void deleteAll(List<File> removedFiles) {
-                fileRepository.deleteAll(removedFiles);
+                return uploadRealImgs(idx, category, tempPaths);
         }
 
-        // async?
-        @Transactional
-        public String extractPathAndS3Upload(Long idx, String category, String content) {
-                return imgConsumer(idx, category, content, imgProducer(content));
+        // 본문의 이미지 주소 중 경로가 paths 에 있는 것만 바꾼다.
+        public String replacePaths(String content, Map<String, String> paths) {
+                return ContentImages.scan(content, s3Url).replacePaths(paths);
         }
 
-        private Queue<String> imgProducer(String content) {
+        /**
+         * 한 게시물의 이미지를 s3Executor 에서 동시에 CONTENT/{해시} 로 옮기고 (이전 경로 -> 옮긴 경로)를 돌려준다. <br>
+         * 메타데이터 조회와 복사만 나눠 실행하고, File 기록과 참조 수는 부른 스레드(트랜잭션)에서 센다. <br>
+         * 같은 내용이 이미 색인에 있으면 복사하지 않고 그 객체를 가리킨다. 찾을 때 유예 기간을 다시 세므로 기록 전에 정리되지 않는다.
+         */
+        private Map<String, String> uploadRealImgs(Long idx, String category, Collection<String> paths) {
 
-                Queue<String> imgQueue = new LinkedList<>();
+                Map<String, String> uploadedPaths = new LinkedHashMap<>();
+                Map<String, CompletableFuture<ObjectMetadata>> copies = new LinkedHashMap<>();
 
-                // 정규 표현식 공부하자
-                Pattern nonValidPattern = Pattern
-                        .compile("(?i)< *[IMG][^\\>]*[src] *= *[\"\']{0,1}([^\"\'\\ >]*)");
+                for (String path : paths) {
+                        // 재시도라면 앞선 시도에서 이미 옮기고 기록까지 끝냈을 수 있다. 남은 TEMP 원본만 지운다.
+                        Optional<File> promoted = findPromotedFile(idx, category, path);
 
-                Matcher matcher = nonValidPattern.matcher(content);
+                        if (promoted.isPresent()) {
+                                uploadedPaths.put(path, promoted.get().getFilePath());
+                                continue;
+                        }
 
-                while (matcher.find()) {
-                        String img = matcher.group(1);
-                        imgQueue.add(img.replace(s3Url, ""));
+                        String source = findContentPath(path).orElse(path);
+                        copies.put(path, CompletableFuture.supplyAsync(() -> copyRealImg(source), s3Executor));
                 }
 
-                return imgQueue;
-        }
+                // 복사 -> 기록 -> 원본 삭제 순서라서, 어디서 실패해도 TEMP 원본이 남아 다시 시도할 수 있다.
+                await(copies.values());
 
-        private String imgConsumer(Long idx, String category, String content, Queue<String> queue) {
+                List<String> registeredHashes = new ArrayList<>();
 
-                while (!queue.isEmpty()) {
-                        String beforeImg = queue.poll();
+                copies.forEach((path, copy) -> {
+                        File file = FileAssembler.file(idx, category, copy.join());
 
-                        String afterImg = uploadRealImg(idx, category, beforeImg);
+                        fileContentService.retain(file);
+                        registerFile(file);
+                        uploadedPaths.put(path, file.getFilePath());
+                        registeredHashes.add(file.getSaveFileName());
+                });
 
-                        log.info("beforeImg = " + beforeImg);
-                        log.info("afterImg = " + afterImg);
-                        content = content.replace(beforeImg, afterImg);
-                        log.info(content);
-                }
+                // 썸네일, 중간 크기 사본은 커밋된 뒤 imageExecutor 에서 만든다. 이미 있는 사본은 목록만 옮겨 적는다.
+                imageDerivativeService.generate(registeredHashes);
 
-                return content;
-        }
+                // TEMP 원본은 DeleteObjects 한 번으로 지운다. 지우지 못한 키는 FileDeletionService 가 다시 지운다.
+                // 다른 게시물의 경로에서 가져온 이미지는 그 게시물도 쓰고 있으므로 지우지 않는다.
+                fileDeletionService.deleteObjects(uploadedPaths.keySet().stream()
+                        .filter(S3Service::isTempPath)
+                        .collect(Collectors.toList()));
 
-        private String uploadRealImg(Long idx, String category, String path) {
+                return uploadedPaths;
+        }
 
-                log.info("oldPath : " + path);
+        // 저장 파일 이름이 내용 해시이므로 CONTENT/{저장 파일 이름} 으로 복사한다. 이미 그 경로면 메타데이터만 읽는다.
+        private ObjectMetadata copyRealImg(String path) {
 
                 ObjectMetadata objectMetadata = s3Service.getObjectMetadata(path);
+                String contentPath = S3Service.contentPath(objectMetadata.getUserMetadata().get("SaveFileName"));
+
+                if (!contentPath.equals(path))
+                        s3Service.copyS3(path, contentPath);
+
+                return objectMetadata;
+        }
+
+        // 하나가 실패해도 나머지가 끝날 때까지 기다린 뒤 실패를 던진다. 게시물 단위 기한이 지나면 더 기다리지 않는다.
+        private void await(Collection<? extends CompletableFuture<?>> tasks) {
 
-                File file = FileAssembler.file(idx, category, objectMetadata);
+                if (tasks.isEmpty())
+                        return;
 
-                registerFile(file);
+                try {
+                        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                                .get(promotionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                        throw new S3TimeoutException();
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new S3TimeoutException();
+                } catch (ExecutionException e) {
+                        Throwable cause = (e.getCause() instanceof CompletionException) ? e.getCause().getCause() : e.getCause();
+
+                        if (cause instanceof RuntimeException)
+                                throw (RuntimeException) cause;
+
+                        throw new S3CopyException();
+                }
+        }
+
+        // TEMP/{해시} 와 CONTENT/{해시} 는 모두 CONTENT/{해시} 로 기록된다.
+        private Optional<File> findPromotedFile(Long idx, String category, String path) {
+                return contentHash(path)
+                        .flatMap(contentHash -> fileRepository.findFileByCategoryAndIdxAndFilePath(
+                                category,
+                                idx,
+                                S3Service.contentPath(contentHash)
+                        ));
+        }
+
+        private Optional<String> findContentPath(String path) {
+                return contentHash(path).flatMap(fileContentService::findContentPath);
+        }
 
-                String newPath = file.getFilePath();
-                log.info("newPath : " + newPath);
+        // 예전 경로({category}/{idx}/...)는 이름만으로 해시를 알 수 없다. 메타데이터의 저장 파일 이름을 따른다.
+        private Optional<String> contentHash(String path) {
+                if (S3Service.isTempPath(path))
+                        return Optional.of(path.substring(S3Service.TEMP_DIRECTORY.length()));
 
-                s3Service.replaceS3(path, newPath);
+                if (S3Service.isContentPath(path))
+                        return Optional.of(path.substring(S3Service.CONTENT_DIRECTORY.length()));
 
-                return newPath;
+                return Optional.empty();
         }
 
         private List<File> findFilesByCategoryAndIdx(String category, Long idx) {
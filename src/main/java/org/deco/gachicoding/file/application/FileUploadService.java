@@ -0,0 +1,69 @@
+package org.deco.gachicoding.file.application;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.exception.file.UploadFailureException;
+import org.deco.gachicoding.file.application.dto.response.FileResponseDto;
+import org.deco.gachicoding.file.infrastructure.FileNameSupport;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.deco.gachicoding.file.presentation.dto.request.FileSaveRequest;
+import org.deco.gachicoding.file.presentation.dto.request.FileStreamRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 파일 임시 저장 <br>
+ * 내용 해시로 file_content 를 찾아, 이미 게시물에 쓰인 내용이면 올린 임시 객체를 지우고 그 객체의 URL 을 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FileUploadService {
+
+    private final S3Service s3Service;
+
+    private final FileContentService fileContentService;
+
+    private final FileDeletionService fileDeletionService;
+
+    public List<FileResponseDto> upload(FileSaveRequest request) {
+        return request.getFiles().stream()
+                .map(this::uploadStream)
+                .collect(toList());
+    }
+
+    /**
+     * 파일을 한 번만 읽으면서 올리므로 다 올린 뒤에야 해시를 안다. <br>
+     * 임시 이름으로 올린 뒤 중복이면 지우고 기존 객체를, 아니면 TEMP/{해시} 로 옮긴 객체를 가리킨다.
+     */
+    public FileResponseDto uploadStream(FileStreamRequest request) {
+        String uploadName = FileNameSupport.uploadName();
+        String contentHash;
+
+        try (InputStream inputStream = request.getInputStream()) {
+            contentHash = s3Service.uploadStream(
+                    inputStream,
+                    uploadName,
+                    request.getOriginalFileName(),
+                    request.getContentType(),
+                    request.getContentLength()
+            );
+        } catch (IOException e) {
+            throw new UploadFailureException();
+        }
+
+        String path = fileContentService.findContentPath(contentHash)
+                .orElseGet(() -> s3Service.renameTemp(uploadName, contentHash));
+
+        fileDeletionService.deleteObjects(List.of(S3Service.TEMP_DIRECTORY + uploadName));
+
+        return response(request.getOriginalFileName(), path);
+    }
+
+    private FileResponseDto response(String originalFileName, String path) {
+        return new FileResponseDto(originalFileName, s3Service.getS3Url(path));
+    }
+}
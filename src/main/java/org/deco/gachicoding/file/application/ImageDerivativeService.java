@@ -0,0 +1,150 @@
+package org.deco.gachicoding.file.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.transaction.AfterCommit;
+import org.deco.gachicoding.file.domain.ImageVariant;
+import org.deco.gachicoding.file.domain.repository.FileRepository;
+import org.deco.gachicoding.file.domain.vo.ImageVariants;
+import org.deco.gachicoding.file.infrastructure.ImageResizer;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 게시물로 옮겨진 이미지의 사본(ImageVariant) 생성 <br>
+ * 커밋된 뒤 imageExecutor 에서 원본을 한 번 읽어 큰 사본부터 차례로 줄인다. 사본은 내용 해시마다 하나라서 이미 있으면 다시 만들지 않는다. <br>
+ * 실패하거나 밀린 사본은 만들지 않고 넘어간다. 그 크기를 요청하면 원본을 내려준다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private final S3Service s3Service;
+
+    private final FileRepository fileRepository;
+
+    private final Executor imageExecutor;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final String s3Url;
+
+    // 이보다 픽셀이 많은 이미지는 디코딩하지 않는다. (기본 약 40MP)
+    private final long maxPixels;
+
+    public ImageDerivativeService(
+            S3Service s3Service,
+            FileRepository fileRepository,
+            @Qualifier("imageExecutor") Executor imageExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${cloud.aws.s3.url}") String s3Url,
+            @Value("${file.image.max-pixels:40000000}") long maxPixels
+    ) {
+        this.s3Service = s3Service;
+        this.fileRepository = fileRepository;
+        this.imageExecutor = imageExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.s3Url = s3Url;
+        this.maxPixels = maxPixels;
+    }
+
+    // File 기록이 커밋되어야 사본 목록을 고칠 수 있으므로 커밋된 뒤에 넘긴다.
+    public void generate(Collection<String> contentHashes) {
+        if (contentHashes.isEmpty())
+            return;
+
+        Set<String> hashes = new LinkedHashSet<>(contentHashes);
+
+        AfterCommit.run(() -> hashes.forEach(this::submit));
+    }
+
+    /**
+     * 본문의 이미지 URL(또는 경로)을 요청한 크기의 사본 URL 로 바꾼다. <br>
+     * variant 가 없거나, 사본이 없거나, 게시물로 옮겨지지 않은 이미지면 원본 URL 을 돌려준다.
+     */
+    public String findImageUrl(String url, ImageVariant variant) {
+        String path = url.replace(s3Url, "");
+
+        if (variant == null || !S3Service.isContentPath(path))
+            return s3Service.getS3Url(path);
+
+        String contentHash = path.substring(S3Service.CONTENT_DIRECTORY.length());
+
+        return s3Service.getS3Url(fileRepository.findFirstBySaveFileName_SaveFilename(contentHash)
+                .map(file -> file.getFilePath(variant))
+                .orElse(path));
+    }
+
+    private void submit(String contentHash) {
+        try {
+            imageExecutor.execute(() -> derive(contentHash));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 사본 생성 대기열 초과 : {}", contentHash);
+        }
+    }
+
+    private void derive(String contentHash) {
+        try {
+            Set<ImageVariant> variants = createVariants(contentHash);
+
+            if (!variants.isEmpty())
+                transactionTemplate.executeWithoutResult(status ->
+                        fileRepository.updateImageVariants(contentHash, new ImageVariants(variants).getVariants()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 사본 생성 실패 : {}", contentHash, e);
+        }
+    }
+
+    private Set<ImageVariant> createVariants(String contentHash) throws IOException {
+        Set<ImageVariant> variants = EnumSet.noneOf(ImageVariant.class);
+        List<ImageVariant> missing = new ArrayList<>();
+
+        // 같은 내용이 다른 게시물에서 이미 옮겨졌다면 사본도 이미 있다.
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (s3Service.exists(variant.path(contentHash)))
+                variants.add(variant);
+            else
+                missing.add(variant);
+        }
+
+        if (missing.isEmpty())
+            return variants;
+
+        Optional<BufferedImage> source = read(contentHash, missing.get(0).getMaxEdge());
+
+        if (source.isEmpty())
+            return variants;
+
+        // ImageVariant 는 큰 크기부터 선언되어 있어, 앞 사본을 다시 줄여 다음 사본을 만든다.
+        BufferedImage image = source.get();
+
+        for (ImageVariant variant : missing) {
+            if (!ImageResizer.isLargerThan(image, variant.getMaxEdge()))
+                continue;
+
+            image = ImageResizer.resize(image, variant.getMaxEdge());
+            s3Service.putObject(variant.path(contentHash), ImageResizer.write(image), ImageResizer.contentType(image));
+            variants.add(variant);
+        }
+
+        return variants;
+    }
+
+    private Optional<BufferedImage> read(String contentHash, int minEdge) throws IOException {
+        try (InputStream inputStream = s3Service.getObjectContent(S3Service.contentPath(contentHash))) {
+            return ImageResizer.read(inputStream, minEdge, maxPixels);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.deco.gachicoding.file.application;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.deco.gachicoding.exception.file.FileExtensionException;
+import org.deco.gachicoding.exception.file.FileNotFoundException;
+import org.deco.gachicoding.exception.file.FileSizeExceededException;
+import org.deco.gachicoding.exception.file.HashFailureException;
+import org.deco.gachicoding.exception.file.UploadFailureException;
+import org.deco.gachicoding.file.application.dto.response.FilePresignResponseDto;
+import org.deco.gachicoding.file.application.dto.response.FileResponseDto;
+import org.deco.gachicoding.file.infrastructure.PresignedUpload;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.deco.gachicoding.file.presentation.dto.request.FileConfirmRequest;
+import org.deco.gachicoding.file.presentation.dto.request.FilePresignRequest;
+import org.deco.gachicoding.file.presentation.dto.request.ImageFileValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 저장소로 바로 올리는 업로드 <br>
+ * 클라이언트가 먼저 SHA-256 을 계산해 보내면 TEMP/{해시} 에 올릴 서명된 PUT 주소를 준다. 파일 내용은 이 서버를 거치지 않는다. <br>
+ * 올린 뒤 confirm 에서 크기와 형식을 확인한다. confirm 하지 않은 객체는 TEMP 정리(TempFileSweeper)가 지운다.
+ */
+@Service
+public class PresignedUploadService {
+
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private static final String MIME_TYPE = "image/";
+
+    private final S3Service s3Service;
+
+    private final FileContentService fileContentService;
+
+    private final FileDeletionService fileDeletionService;
+
+    private final Duration expiration;
+
+    private final long maxSize;
+
+    public PresignedUploadService(
+            S3Service s3Service,
+            FileContentService fileContentService,
+            FileDeletionService fileDeletionService,
+            @Value("${file.upload.presigned-expiration-seconds:300}") long expirationSeconds,
+            @Value("${file.upload.max-size-mb:500}") long maxSizeMb
+    ) {
+        this.s3Service = s3Service;
+        this.fileContentService = fileContentService;
+        this.fileDeletionService = fileDeletionService;
+        this.expiration = Duration.ofSeconds(expirationSeconds);
+        this.maxSize = maxSizeMb * 1024 * 1024;
+    }
+
+    // 이미 저장된 내용이면 올릴 필요 없이 그 객체의 URL 만 돌려준다. 참조 없는 내용이면 찾을 때 유예 기간을 다시 센다.
+    public FilePresignResponseDto presign(FilePresignRequest request) {
+        String contentHash = validHash(request.getContentHash());
+
+        if (!request.getContentType().startsWith(MIME_TYPE))
+            throw new FileExtensionException();
+
+        if (request.getContentLength() > maxSize)
+            throw new FileSizeExceededException();
+
+        Optional<String> contentPath = fileContentService.findContentPath(contentHash);
+
+        if (contentPath.isPresent())
+            return FilePresignResponseDto.builder()
+                    .saveFileName(request.getOriginalFileName())
+                    .filePath(s3Service.getS3Url(contentPath.get()))
+                    .build();
+
+        PresignedUpload upload = s3Service.presignTempUpload(
+                contentHash,
+                request.getOriginalFileName(),
+                request.getContentType(),
+                request.getContentLength(),
+                expiration
+        );
+
+        return FilePresignResponseDto.builder()
+                .saveFileName(request.getOriginalFileName())
+                .uploadUrl(upload.getUrl())
+                .uploadHeaders(upload.getHeaders())
+                .expiresAt(upload.getExpiresAt())
+                .build();
+    }
+
+    /**
+     * 저장소가 체크섬을 확인하므로 TEMP/{해시} 의 내용은 해시와 같다. <br>
+     * 그래서 형식 검사에 실패한 객체는 누가 올렸든 쓸 수 없는 내용이라 바로 지운다. <br>
+     * 주소를 받은 뒤 다른 업로드로 같은 내용이 저장됐으면 그 객체를 가리킨다. 올린 TEMP 객체는 다른 초안이 쓸 수 있어 지우지 않는다.
+     */
+    public FileResponseDto confirm(FileConfirmRequest request) {
+        String contentHash = validHash(request.getContentHash());
+        String path = fileContentService.findContentPath(contentHash)
+                .orElseGet(() -> validTemp(contentHash));
+
+        return new FileResponseDto(request.getOriginalFileName(), s3Service.getS3Url(path));
+    }
+
+    private String validTemp(String contentHash) {
+        String tempPath = S3Service.TEMP_DIRECTORY + contentHash;
+
+        if (!s3Service.exists(tempPath))
+            throw new FileNotFoundException();
+
+        ObjectMetadata objectMetadata = s3Service.getObjectMetadata(tempPath);
+        long size = objectMetadata.getContentLength();
+
+        try {
+            if (size > maxSize)
+                throw new FileSizeExceededException();
+
+            // 저장된 Content-Type 은 클라이언트가 주소를 받을 때 보낸 값이다. 내용과 다르면 그 형식으로 내보내지 않도록 받지 않는다.
+            if (!sniff(tempPath, size).equals(objectMetadata.getContentType()))
+                throw new FileExtensionException();
+        } catch (FileSizeExceededException | FileExtensionException e) {
+            fileDeletionService.deleteObjects(List.of(tempPath));
+            throw e;
+        }
+
+        return tempPath;
+    }
+
+    // 앞부분만 범위 요청으로 읽어 형식을 본다.
+    private String sniff(String tempPath, long size) {
+        if (size == 0)
+            throw new FileExtensionException();
+
+        long end = Math.min(size, ImageFileValidator.PREFIX_SIZE) - 1;
+
+        try (InputStream inputStream = s3Service.getObjectContent(tempPath, 0, end)) {
+            return new ImageFileValidator().execute(inputStream).getContentType();
+        } catch (IOException e) {
+            throw new UploadFailureException();
+        }
+    }
+
+    private String validHash(String contentHash) {
+        if (!CONTENT_HASH.matcher(contentHash).matches())
+            throw new HashFailureException();
+
+        return contentHash;
+    }
+}
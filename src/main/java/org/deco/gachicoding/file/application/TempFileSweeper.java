@@ -0,0 +1,119 @@
+package org.deco.gachicoding.file.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.deco.gachicoding.file.infrastructure.StoredObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물에 쓰이지 않고 남은 TEMP 업로드 정리 <br>
+ * 작성하다 버린 글의 이미지는 옮겨지지 않으므로 TTL 이 지나면 지운다. 이동 작업의 재시도는 몇 분 안에 끝나므로 TTL 은 넉넉히 잡는다. <br>
+ * 한 번 돌 때 목록 한 페이지(batch-size 개)만 보고 그중 오래된 것만 지운다. 스케줄러 스레드에서 잠들지 않고도
+ * 초당 목록, 삭제 요청이 batch-size / sweep-interval 을 넘지 않는다. 끝까지 보면 pass-interval 만큼 쉬었다가 처음부터 다시 본다.
+ */
+@Slf4j
+@Service
+public class TempFileSweeper implements MeterBinder {
+
+    private final S3Service s3Service;
+
+    private final Duration ttl;
+
+    private final Duration passInterval;
+
+    private final int batchSize;
+
+    private final AtomicLong reclaimedObjects = new AtomicLong();
+
+    private final AtomicLong reclaimedBytes = new AtomicLong();
+
+    // 이어서 볼 키. null 이면 다음 바퀴를 기다리는 중이다. 서버마다 따로 돌아도 같은 키를 두 번 지울 뿐이다.
+    private String cursor;
+
+    private LocalDateTime nextPassAt = LocalDateTime.MIN;
+
+    public TempFileSweeper(
+            S3Service s3Service,
+            @Value("${file.temp.ttl-hours:72}") long ttlHours,
+            @Value("${file.temp.sweep-pass-interval-minutes:60}") long passIntervalMinutes,
+            @Value("${file.temp.sweep-batch-size:200}") int batchSize
+    ) {
+        this.s3Service = s3Service;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.passInterval = Duration.ofMinutes(passIntervalMinutes);
+        this.batchSize = Math.min(batchSize, S3Service.MAX_DELETE_KEYS);
+    }
+
+    @Scheduled(fixedDelayString = "${file.temp.sweep-interval-millis:1000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (cursor == null) {
+            if (now.isBefore(nextPassAt))
+                return;
+
+            cursor = S3Service.TEMP_DIRECTORY;
+        }
+
+        List<StoredObject> page = s3Service.listObjects(S3Service.TEMP_DIRECTORY, cursor, batchSize);
+
+        LocalDateTime expiredBefore = now.minus(ttl);
+        List<StoredObject> expired = page.stream()
+                .filter(object -> object.getLastModified().isBefore(expiredBefore))
+                .collect(Collectors.toList());
+
+        if (!expired.isEmpty())
+            delete(expired);
+
+        if (page.size() < batchSize) {
+            cursor = null;
+            nextPassAt = now.plus(passInterval);
+        } else {
+            cursor = page.get(page.size() - 1).getPath();
+        }
+    }
+
+    // 지우지 못한 키는 다음 바퀴에 다시 보이므로 따로 기록하지 않는다.
+    private void delete(List<StoredObject> expired) {
+        Map<String, String> failures = s3Service.deleteObjects(expired.stream()
+                .map(StoredObject::getPath)
+                .collect(Collectors.toList()));
+
+        long bytes = expired.stream()
+                .filter(object -> !failures.containsKey(object.getPath()))
+                .mapToLong(StoredObject::getSize)
+                .sum();
+
+        reclaimedObjects.addAndGet(expired.size() - failures.size());
+        reclaimedBytes.addAndGet(bytes);
+
+        log.info("오래된 TEMP 객체 {}개 정리 ({} bytes)", expired.size() - failures.size(), bytes);
+
+        if (!failures.isEmpty())
+            log.warn("TEMP 객체 {}개 삭제 실패, 다음 바퀴에 다시 지운다", failures.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("file.temp.reclaimed.objects", reclaimedObjects, AtomicLong::get)
+                .description("정리한 TEMP 객체 수")
+                .register(registry);
+
+        FunctionCounter.builder("file.temp.reclaimed.bytes", reclaimedBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("정리한 TEMP 객체 크기")
+                .register(registry);
+    }
+}
@@ -0,0 +1,36 @@
+package org.deco.gachicoding.file.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * filePath 가 있으면 이미 저장된 내용이므로 올리지 않는다. <br>
+ * 없으면 uploadUrl 로 uploadHeaders 를 그대로 붙여 PUT 한 뒤 confirm 한다.
+ */
+@Getter
+public class FilePresignResponseDto {
+
+    private final String saveFileName;
+    private final String filePath;
+    private final String uploadUrl;
+    private final Map<String, String> uploadHeaders;
+    private final LocalDateTime expiresAt;
+
+    @Builder
+    public FilePresignResponseDto(
+            String saveFileName,
+            String filePath,
+            String uploadUrl,
+            Map<String, String> uploadHeaders,
+            LocalDateTime expiresAt
+    ) {
+        this.saveFileName = saveFileName;
+        this.filePath = filePath;
+        this.uploadUrl = uploadUrl;
+        this.uploadHeaders = uploadHeaders;
+        this.expiresAt = expiresAt;
+    }
+}
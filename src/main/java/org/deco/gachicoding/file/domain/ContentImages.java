@@ -0,0 +1,190 @@
+package org.deco.gachicoding.file.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 본문 HTML 의 이미지 경로 <br>
+ * 정규식 없이 본문을 한 번 훑어 &lt;img ... src=...&gt; 의 값과 그 위치를 기록한다. 값이 baseUrl 로 시작하면 baseUrl 을 뺀 부분을 경로로 본다. <br>
+ * 경로 치환은 기록한 위치만 바꾸며, 결과 길이를 미리 계산해 한 번에 만든다.
+ */
+public class ContentImages {
+
+    private final String content;
+
+    private final List<Source> sources;
+
+    private ContentImages(String content, List<Source> sources) {
+        this.content = content;
+        this.sources = sources;
+    }
+
+    public static ContentImages scan(String content, String baseUrl) {
+        List<Source> sources = new ArrayList<>();
+        int length = content.length();
+        int position = content.indexOf('<');
+
+        while (position >= 0) {
+            int next = position + 1;
+
+            if (isImgTag(content, next))
+                next = scanAttributes(content, next + 3, baseUrl, sources);
+
+            position = (next < length) ? content.indexOf('<', next) : -1;
+        }
+
+        return new ContentImages(content, sources);
+    }
+
+    // 본문에 나온 순서대로. 같은 경로가 여러 번 나오면 여러 번 담긴다.
+    public List<String> getPaths() {
+        List<String> paths = new ArrayList<>(sources.size());
+
+        for (Source source : sources)
+            paths.add(content.substring(source.start, source.end));
+
+        return Collections.unmodifiableList(paths);
+    }
+
+    public String replacePaths(Map<String, String> paths) {
+        if (paths.isEmpty() || sources.isEmpty())
+            return content;
+
+        List<Source> replaced = new ArrayList<>();
+        List<String> replacements = new ArrayList<>();
+        int length = content.length();
+
+        for (Source source : sources) {
+            String replacement = paths.get(content.substring(source.start, source.end));
+
+            if (replacement == null)
+                continue;
+
+            replaced.add(source);
+            replacements.add(replacement);
+            length += replacement.length() - (source.end - source.start);
+        }
+
+        if (replaced.isEmpty())
+            return content;
+
+        StringBuilder builder = new StringBuilder(length);
+        int last = 0;
+
+        for (int i = 0; i < replaced.size(); i++) {
+            Source source = replaced.get(i);
+
+            builder.append(content, last, source.start).append(replacements.get(i));
+            last = source.end;
+        }
+
+        return builder.append(content, last, content.length()).toString();
+    }
+
+    // "<" 바로 뒤(공백 허용)가 img 이고 그 뒤가 이름의 끝인지
+    private static boolean isImgTag(String content, int position) {
+        position = skipWhitespace(content, position);
+
+        if (!content.regionMatches(true, position, "img", 0, 3))
+            return false;
+
+        int end = position + 3;
+
+        return end < content.length() && (Character.isWhitespace(content.charAt(end)) || content.charAt(end) == '/' || content.charAt(end) == '>');
+    }
+
+    // 태그 안의 속성을 읽다가 src 를 만나면 기록한다. 따옴표 안의 '>' 는 태그의 끝이 아니다. 태그가 끝난 다음 위치를 돌려준다.
+    private static int scanAttributes(String content, int position, String baseUrl, List<Source> sources) {
+        int length = content.length();
+
+        while (position < length) {
+            position = skipWhitespace(content, position);
+
+            if (position >= length)
+                break;
+
+            char c = content.charAt(position);
+
+            if (c == '>')
+                return position + 1;
+
+            if (c == '/') {
+                position++;
+                continue;
+            }
+
+            int nameStart = position;
+            while (position < length && !isNameEnd(content.charAt(position)))
+                position++;
+
+            int nameEnd = position;
+            position = skipWhitespace(content, position);
+
+            if (position >= length || content.charAt(position) != '=')
+                continue;
+
+            position = skipWhitespace(content, position + 1);
+
+            if (position >= length)
+                break;
+
+            int valueStart;
+            int valueEnd;
+            char quote = content.charAt(position);
+
+            if (quote == '"' || quote == '\'') {
+                valueStart = position + 1;
+                valueEnd = content.indexOf(quote, valueStart);
+
+                if (valueEnd < 0)
+                    valueEnd = length;
+
+                position = valueEnd + 1;
+            } else {
+                valueStart = position;
+                while (position < length && !Character.isWhitespace(content.charAt(position)) && content.charAt(position) != '>')
+                    position++;
+
+                valueEnd = position;
+            }
+
+            if (nameEnd - nameStart == 3 && content.regionMatches(true, nameStart, "src", 0, 3))
+                sources.add(source(content, valueStart, valueEnd, baseUrl));
+        }
+
+        return length;
+    }
+
+    private static Source source(String content, int start, int end, String baseUrl) {
+        if (content.startsWith(baseUrl, start) && end - start >= baseUrl.length())
+            return new Source(start + baseUrl.length(), end);
+
+        return new Source(start, end);
+    }
+
+    private static boolean isNameEnd(char c) {
+        return Character.isWhitespace(c) || c == '=' || c == '>' || c == '/';
+    }
+
+    private static int skipWhitespace(String content, int position) {
+        while (position < content.length() && Character.isWhitespace(content.charAt(position)))
+            position++;
+
+        return position;
+    }
+
+    // 본문 안 경로의 위치 [start, end)
+    private static class Source {
+
+        private final int start;
+
+        private final int end;
+
+        private Source(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
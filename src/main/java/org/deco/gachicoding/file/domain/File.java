@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.deco.gachicoding.common.BaseTimeEntity;
 import org.deco.gachicoding.file.domain.vo.FilePath;
+import org.deco.gachicoding.file.domain.vo.ImageVariants;
 import org.deco.gachicoding.file.domain.vo.OriginFileInfo;
 import org.deco.gachicoding.file.domain.vo.SaveFileName;
 import org.hibernate.annotations.Comment;
@@ -44,10 +45,34 @@ public class File extends BaseTimeEntity {
     @Embedded
     private FilePath filePath;
 
+    @Embedded
+    private ImageVariants imageVariants;
+
+    public Long getFileIdx() {
+        return fileIdx;
+    }
+
     public String getFilePath() {
         return filePath.getFilePath();
     }
 
+    // 내용 해시. 내용 주소 경로(CONTENT/)로 옮겨진 파일만 file_content 의 참조 수에 들어간다.
+    public String getSaveFileName() {
+        return saveFileName.getSaveFilename();
+    }
+
+    public boolean isContentAddressed() {
+        return filePath.isContentAddressed();
+    }
+
+    // 사본을 아직 만들지 못했거나 원본이 작아 만들지 않은 크기는 원본 경로를 돌려준다.
+    public String getFilePath(ImageVariant variant) {
+        if (variant == null || imageVariants == null || !imageVariants.contains(variant))
+            return getFilePath();
+
+        return variant.path(getSaveFileName());
+    }
+
     // User 관계 연결 해야겠지?
 //    @ManyToOne(fetch = FetchType.EAGER)
 //    @JoinColumn(name = "user_idx")
@@ -60,6 +85,7 @@ public class File extends BaseTimeEntity {
             Long articleIdx,
             String articleCategory,
             ObjectMetadata objectMetadata,
+            ImageVariants imageVariants,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
@@ -73,7 +99,8 @@ public class File extends BaseTimeEntity {
         this.saveFileName = new SaveFileName(
                 objectMetadata.getUserMetadata().get("SaveFileName")
         );
-        this.filePath = new FilePath(articleCategory, articleIdx, saveFileName);
+        this.filePath = new FilePath(saveFileName);
+        this.imageVariants = imageVariants;
         setCreatedAt(createdAt);
         setUpdatedAt(updatedAt);
     }
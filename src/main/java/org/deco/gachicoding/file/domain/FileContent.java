@@ -0,0 +1,80 @@
+package org.deco.gachicoding.file.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.deco.gachicoding.common.BaseTimeEntity;
+import org.hibernate.annotations.Comment;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시 -> S3 객체 색인 <br>
+ * 게시물에 쓰인 파일(File) 수를 참조 수로 센다. 참조가 0 이 되어도 바로 지우지 않고, 유예 기간 동안 새 업로드가 다시 쓸 수 있게 남겨 둔다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "file_content",
+        uniqueConstraints = @UniqueConstraint(name = "uk_file_content_hash", columnNames = "content_hash"),
+        indexes = @Index(name = "idx_file_content_released", columnList = "reference_count, released_at")
+)
+public class FileContent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "content_idx", columnDefinition = "bigint", nullable = false)
+    @Comment("PK")
+    private Long contentIdx;
+
+    @Column(name = "content_hash", columnDefinition = "varchar(64)", nullable = false)
+    @Comment("파일 내용의 SHA-256")
+    private String contentHash;
+
+    @Column(name = "file_path", columnDefinition = "varchar(1024)", nullable = false)
+    @Comment("S3 객체 키")
+    private String filePath;
+
+    @Column(name = "reference_count", columnDefinition = "bigint", nullable = false)
+    @Comment("이 객체를 쓰는 File 수")
+    private long referenceCount;
+
+    @Column(name = "released_at", columnDefinition = "DATETIME")
+    @Comment("참조 수가 0 이 된 시각")
+    private LocalDateTime releasedAt;
+
+    // 처음 옮겨진 게시물 파일이 만들므로 참조 0 으로 시작해 바로 retain 한다.
+    @Builder
+    public FileContent(Long contentIdx, String contentHash, String filePath) {
+        this.contentIdx = contentIdx;
+        this.contentHash = contentHash;
+        this.filePath = filePath;
+        this.referenceCount = 0;
+    }
+
+    public void retain() {
+        referenceCount++;
+        releasedAt = null;
+    }
+
+    public void release(LocalDateTime now) {
+        if (referenceCount > 0)
+            referenceCount--;
+
+        if (referenceCount == 0)
+            releasedAt = now;
+    }
+
+    // 정리를 기다리던 내용을 새 업로드가 다시 가리키면 유예 기간을 지금부터 다시 센다.
+    public void extendGrace(LocalDateTime now) {
+        if (referenceCount == 0)
+            releasedAt = now;
+    }
+
+    public boolean isUnreferenced() {
+        return referenceCount == 0;
+    }
+}
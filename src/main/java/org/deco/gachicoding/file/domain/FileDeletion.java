@@ -0,0 +1,67 @@
+package org.deco.gachicoding.file.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.deco.gachicoding.common.BaseTimeEntity;
+import org.hibernate.annotations.Comment;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 지우지 못한 S3 객체 <br>
+ * DeleteObjects 가 일부 키만 지웠을 때 남은 키를 기록해 두고 주기적으로 다시 지운다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_deletion", indexes = @Index(name = "idx_file_deletion_due", columnList = "next_attempt_at"))
+public class FileDeletion extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deletion_idx", columnDefinition = "bigint", nullable = false)
+    @Comment("PK")
+    private Long deletionIdx;
+
+    @Column(name = "file_path", columnDefinition = "varchar(1024)", nullable = false)
+    @Comment("지울 S3 객체 키")
+    private String filePath;
+
+    @Column(name = "attempts", nullable = false)
+    @Comment("시도 횟수")
+    private int attempts;
+
+    @Column(name = "next_attempt_at", columnDefinition = "DATETIME", nullable = false)
+    @Comment("다음 시도 시각")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    @Comment("마지막 실패 사유")
+    private String lastError;
+
+    // 처음 지우다 실패했을 때 만들므로 시도 1회로 시작한다.
+    @Builder
+    public FileDeletion(Long deletionIdx, String filePath, String lastError, LocalDateTime nextAttemptAt) {
+        this.deletionIdx = deletionIdx;
+        this.filePath = filePath;
+        this.attempts = 1;
+        this.lastError = truncate(lastError);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void fail(String error, Duration backoff, LocalDateTime now) {
+        attempts++;
+        lastError = truncate(error);
+        nextAttemptAt = now.plus(backoff.multipliedBy(1L << Math.min(attempts - 1, 20)));
+    }
+
+    private static String truncate(String error) {
+        return (error != null && error.length() > MAX_ERROR_LENGTH) ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
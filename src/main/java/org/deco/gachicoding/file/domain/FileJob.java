@@ -0,0 +1,117 @@
+package org.deco.gachicoding.file.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.deco.gachicoding.common.BaseTimeEntity;
+import org.hibernate.annotations.Comment;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 본문의 TEMP 이미지를 게시물 경로로 옮기는 작업 (outbox) <br>
+ * 게시물과 같은 트랜잭션에서 저장되므로, 게시물이 커밋되면 작업도 반드시 남는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_job", indexes = @Index(name = "idx_file_job_due", columnList = "job_status, next_attempt_at"))
+public class FileJob extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_idx", columnDefinition = "bigint", nullable = false)
+    @Comment("PK")
+    private Long jobIdx;
+
+    @Column(name = "article_idx", columnDefinition = "bigint", nullable = false)
+    @Comment("게시물 번호")
+    private Long articleIdx;
+
+    @Column(name = "article_category", columnDefinition = "varchar(255)", nullable = false)
+    @Comment("게시물 카테고리(Board, Notice, Question, Answer)")
+    private String articleCategory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_status", columnDefinition = "varchar(20)", nullable = false)
+    @Comment("작업 상태")
+    private FileJobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    @Comment("시도 횟수")
+    private int attempts;
+
+    @Column(name = "next_attempt_at", columnDefinition = "DATETIME", nullable = false)
+    @Comment("PENDING 은 다음 시도 시각, RUNNING 은 임대 만료 시각")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    @Comment("마지막 실패 사유")
+    private String lastError;
+
+    @Builder
+    public FileJob(Long jobIdx, Long articleIdx, String articleCategory, LocalDateTime nextAttemptAt) {
+        this.jobIdx = jobIdx;
+        this.articleIdx = articleIdx;
+        this.articleCategory = articleCategory;
+        this.status = FileJobStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = (nextAttemptAt == null) ? LocalDateTime.now() : nextAttemptAt;
+    }
+
+    // 임대가 끝난 RUNNING 은 워커가 죽은 것으로 보고 다시 가져간다.
+    public boolean isClaimable(LocalDateTime now) {
+        return (status == FileJobStatus.PENDING || status == FileJobStatus.RUNNING)
+                && !nextAttemptAt.isAfter(now);
+    }
+
+    public void start(LocalDateTime leaseUntil) {
+        status = FileJobStatus.RUNNING;
+        attempts++;
+        nextAttemptAt = leaseUntil;
+    }
+
+    // 임대가 끝나 다른 워커가 가져간 뒤에 늦게 끝난 워커의 결과는 반영하지 않는다.
+    public boolean isRunningAttempt(int attempt) {
+        return status == FileJobStatus.RUNNING && attempts == attempt;
+    }
+
+    public void complete() {
+        status = FileJobStatus.DONE;
+        lastError = null;
+    }
+
+    // 멈춘 작업을 처음부터 다시 시도한다. TEMP 원본이 정리되기 전이면 옮길 수 있다.
+    public void redrive(LocalDateTime now) {
+        if (status != FileJobStatus.FAILED)
+            return;
+
+        status = FileJobStatus.PENDING;
+        attempts = 0;
+        nextAttemptAt = now;
+    }
+
+    public boolean isExhausted(int maxAttempts) {
+        return attempts >= maxAttempts;
+    }
+
+    /**
+     * 실패를 기록한다. maxAttempts 에 닿으면 FAILED 로 멈추고, 아니면 backoff * 2^(시도-1) 뒤에 다시 시도한다.
+     */
+    public void fail(String error, int maxAttempts, Duration backoff, LocalDateTime now) {
+        lastError = (error != null && error.length() > MAX_ERROR_LENGTH) ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+        if (attempts >= maxAttempts) {
+            status = FileJobStatus.FAILED;
+            return;
+        }
+
+        status = FileJobStatus.PENDING;
+        nextAttemptAt = now.plus(backoff.multipliedBy(1L << Math.min(attempts - 1, 20)));
+    }
+}
@@ -0,0 +1,9 @@
+package org.deco.gachicoding.file.domain;
+
+/**
+ * 이미지 이동 작업 상태 <br>
+ * RUNNING 은 임대 시각(next_attempt_at)까지만 유효하고, 그 뒤에는 다른 워커가 다시 가져갈 수 있다.
+ */
+public enum FileJobStatus {
+    PENDING, RUNNING, DONE, FAILED
+}
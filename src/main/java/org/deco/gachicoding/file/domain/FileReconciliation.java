@@ -0,0 +1,49 @@
+package org.deco.gachicoding.file.domain;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 수정된 본문의 이미지 경로와 DB에 기록된 File 을 맞춰 본 결과 <br>
+ * DB 쪽을 경로로 색인한 뒤 본문 경로를 한 번씩만 조회하므로 O(n + m) 이다. 본문에 같은 이미지가 여러 번 있어도 한 번만 센다.
+ */
+@Getter
+public class FileReconciliation {
+
+    // 본문에만 있는 경로. 새로 옮겨야 한다.
+    private final List<String> addedPaths;
+
+    // 본문과 DB 에 모두 있는 파일
+    private final List<File> keptFiles;
+
+    // DB 에만 있는 파일. 본문에서 빠졌으므로 지운다.
+    private final List<File> removedFiles;
+
+    private FileReconciliation(List<String> addedPaths, List<File> keptFiles, List<File> removedFiles) {
+        this.addedPaths = addedPaths;
+        this.keptFiles = keptFiles;
+        this.removedFiles = removedFiles;
+    }
+
+    public static FileReconciliation of(Collection<String> pathsInArticle, Collection<File> filesInDB) {
+        Map<String, File> filesByPath = new LinkedHashMap<>();
+
+        for (File file : filesInDB)
+            filesByPath.put(file.getFilePath(), file);
+
+        List<String> addedPaths = new ArrayList<>();
+        List<File> keptFiles = new ArrayList<>();
+
+        for (String path : new LinkedHashSet<>(pathsInArticle)) {
+            File file = filesByPath.remove(path);
+
+            if (file == null)
+                addedPaths.add(path);
+            else
+                keptFiles.add(file);
+        }
+
+        return new FileReconciliation(addedPaths, keptFiles, new ArrayList<>(filesByPath.values()));
+    }
+}
@@ -0,0 +1,28 @@
+package org.deco.gachicoding.file.domain;
+
+import org.deco.gachicoding.file.infrastructure.S3Service;
+
+/**
+ * 원본 대신 내려줄 수 있는 이미지 크기 <br>
+ * 긴 변이 maxEdge 를 넘지 않게 줄인 사본이고, 원본이 그보다 작으면 만들지 않는다.
+ */
+public enum ImageVariant {
+
+    MEDIUM(1024),
+    THUMBNAIL(320);
+
+    private final int maxEdge;
+
+    ImageVariant(int maxEdge) {
+        this.maxEdge = maxEdge;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+
+    // VARIANT/{thumbnail|medium}/{내용 해시}
+    public String path(String contentHash) {
+        return S3Service.VARIANT_DIRECTORY + name().toLowerCase() + "/" + contentHash;
+    }
+}
@@ -0,0 +1,30 @@
+package org.deco.gachicoding.file.domain.repository;
+
+import org.deco.gachicoding.file.domain.FileContent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface FileContentRepository extends JpaRepository<FileContent, Long> {
+
+    // 참조 수를 바꾸는 트랜잭션끼리, 그리고 정리 작업과 겹치지 않도록 행 잠금으로 읽는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM FileContent c WHERE c.contentHash = :contentHash")
+    Optional<FileContent> findByContentHashForUpdate(@Param("contentHash") String contentHash);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM FileContent c WHERE c.referenceCount = 0 AND c.releasedAt <= :releasedBefore ORDER BY c.releasedAt")
+    List<FileContent> findUnreferencedForUpdate(
+            @Param("releasedBefore") LocalDateTime releasedBefore,
+            Pageable pageable
+    );
+
+    long countByReferenceCount(long referenceCount);
+}
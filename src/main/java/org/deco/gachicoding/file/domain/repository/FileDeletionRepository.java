@@ -0,0 +1,26 @@
+package org.deco.gachicoding.file.domain.repository;
+
+import org.deco.gachicoding.file.domain.FileDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+    @Query("SELECT d FROM FileDeletion d WHERE d.attempts < :maxAttempts AND d.nextAttemptAt <= :now ORDER BY d.nextAttemptAt")
+    List<FileDeletion> findDueDeletions(
+            @Param("maxAttempts") int maxAttempts,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    boolean existsByFilePath(String filePath);
+
+    long countByAttemptsLessThan(int maxAttempts);
+
+    long countByAttemptsGreaterThanEqual(int maxAttempts);
+}
@@ -0,0 +1,40 @@
+package org.deco.gachicoding.file.domain.repository;
+
+import org.deco.gachicoding.file.domain.FileJob;
+import org.deco.gachicoding.file.domain.FileJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface FileJobRepository extends JpaRepository<FileJob, Long> {
+
+    @Query("SELECT j.jobIdx FROM FileJob j WHERE j.status IN :statuses AND j.nextAttemptAt <= :now ORDER BY j.nextAttemptAt")
+    List<Long> findDueJobIdxs(
+            @Param("statuses") Collection<FileJobStatus> statuses,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 여러 워커가 같은 작업을 동시에 가져가지 않도록 행 잠금으로 읽는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM FileJob j WHERE j.jobIdx = :jobIdx")
+    Optional<FileJob> findByIdForUpdate(@Param("jobIdx") Long jobIdx);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM FileJob j WHERE j.status = :status AND j.createdAt >= :createdAfter ORDER BY j.jobIdx")
+    List<FileJob> findByStatusCreatedAfterForUpdate(
+            @Param("status") FileJobStatus status,
+            @Param("createdAfter") LocalDateTime createdAfter,
+            Pageable pageable
+    );
+
+    long countByStatus(FileJobStatus status);
+}
@@ -2,6 +2,7 @@ package org.deco.gachicoding.file.domain.repository;
 
 import org.deco.gachicoding.file.domain.File;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,6 +14,17 @@ public interface FileRepository extends JpaRepository<File, Long> {
     @Query("SELECT f FROM File f WHERE f.articleCategory = :category AND f.articleIdx = :idx")
     List<File> findFileByCategoryAndIdx(@Param("category") String category, @Param("idx") Long idx);
 
-    @Query("SELECT f FROM File f WHERE f.filePath = :path")
-    Optional<File> findFileByFilePath(@Param("path") String path);
+    @Query("SELECT f FROM File f WHERE f.articleCategory = :category AND f.articleIdx = :idx AND f.filePath.filePath = :path")
+    Optional<File> findFileByCategoryAndIdxAndFilePath(
+            @Param("category") String category,
+            @Param("idx") Long idx,
+            @Param("path") String path
+    );
+
+    Optional<File> findFirstBySaveFileName_SaveFilename(String saveFilename);
+
+    // 사본은 내용 해시마다 하나라서, 같은 내용을 쓰는 게시물의 File 을 한 번에 고친다.
+    @Modifying
+    @Query("UPDATE File f SET f.imageVariants.variants = :variants WHERE f.saveFileName.saveFilename = :saveFileName")
+    int updateImageVariants(@Param("saveFileName") String saveFileName, @Param("variants") String variants);
 }
@@ -1,5 +1,6 @@
 package org.deco.gachicoding.file.domain.vo;
 
+import org.deco.gachicoding.file.infrastructure.S3Service;
 import org.hibernate.annotations.Comment;
 
 import javax.persistence.Column;
@@ -8,28 +9,27 @@ import javax.persistence.Embeddable;
 @Embeddable
 public class FilePath {
 
-    private static final String PATH_FORMAT = "%s/%d/%s";
-
     protected FilePath() {}
 
+    // 내용이 같은 파일은 여러 게시물이 같은 경로를 가리킨다.
     @Comment("저장된 파일 url")
-    @Column(name = "file_path", columnDefinition = "TEXT", unique = true, nullable = false)
+    @Column(name = "file_path", columnDefinition = "TEXT", nullable = false)
     private String filePath;
 
     // 유효성 검증을 어떤 걸 해야 할지 모르겠다...
-    public FilePath(String articleCategory, Long articleIdx, SaveFileName saveFileName) {
-        filePath = String.format(
-                PATH_FORMAT,
-                articleCategory,
-                articleIdx,
-                saveFileName.getSaveFilename()
-        );
+    public FilePath(SaveFileName saveFileName) {
+        filePath = S3Service.contentPath(saveFileName.getSaveFilename());
     }
 
     public String getFilePath() {
         return filePath;
     }
 
+    // 이전에는 {category}/{idx}/{saveFileName} 으로 게시물마다 따로 저장했다.
+    public boolean isContentAddressed() {
+        return S3Service.isContentPath(filePath);
+    }
+
     // 메서드 이름 컨벤션 적용 하자
     public boolean isEquals(String path) {
         return filePath.equals(path);
@@ -0,0 +1,38 @@
+package org.deco.gachicoding.file.domain.vo;
+
+import org.deco.gachicoding.file.domain.ImageVariant;
+import org.hibernate.annotations.Comment;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+@Embeddable
+public class ImageVariants {
+
+    private static final String DELIMITER = ",";
+
+    protected ImageVariants() {}
+
+    // 같은 내용을 쓰는 File 들은 모두 같은 값을 가진다.
+    @Column(name = "image_variants", columnDefinition = "varchar(255)")
+    @Comment("만들어 둔 이미지 사본 크기 (THUMBNAIL, MEDIUM)")
+    private String variants;
+
+    public ImageVariants(Collection<ImageVariant> variants) {
+        this.variants = variants.stream()
+                .map(ImageVariant::name)
+                .sorted()
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    public String getVariants() {
+        return variants;
+    }
+
+    public boolean contains(ImageVariant variant) {
+        return variants != null && Arrays.asList(variants.split(DELIMITER)).contains(variant.name());
+    }
+}
@@ -11,10 +11,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Component
 public class FileNameSupport {
@@ -27,18 +27,39 @@ public class FileNameSupport {
 //        return uuid(multipartFile) + extension(multipartFile);
 //    }
 
-    public static String md5(MultipartFile multipartFile) {
-        String fileName = multipartFile.getOriginalFilename();
-        try {
-            MessageDigest messageDigest = MessageDigest.getInstance("MD5");
-            messageDigest.update((fileName + LocalDateTime.now())
-                    .getBytes(StandardCharsets.UTF_8));
+    /**
+     * 파일 내용의 SHA-256. 같은 내용이면 이름이 달라도 같은 값이 나오므로 저장 파일 이름(객체 키)으로 쓴다. <br>
+     * 업로드는 올리면서 해시를 구하므로 (S3Service.uploadStream) 이 메서드는 파일을 따로 한 번 더 읽는다.
+     */
+    public static String sha256(MultipartFile multipartFile) {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            MessageDigest messageDigest = sha256();
+            byte[] buffer = new byte[8192];
+            int read;
+
+            while ((read = inputStream.read(buffer)) != -1)
+                messageDigest.update(buffer, 0, read);
+
             return Hex.encodeHexString(messageDigest.digest());
+        } catch (IOException e) {
+            throw new HashFailureException();
+        }
+    }
+
+    // 스트리밍 업로드는 DigestInputStream 으로 올리면서 해시를 구한다.
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new HashFailureException();
         }
     }
 
+    // 해시를 구하기 전에 스트리밍 업로드를 받아 둘 임시 이름
+    public static String uploadName() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
     public static String ExtensionExtractor(String filename) {
         return filename.substring(filename.lastIndexOf("."));
     }
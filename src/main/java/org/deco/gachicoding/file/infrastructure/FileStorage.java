@@ -0,0 +1,51 @@
+package org.deco.gachicoding.file.infrastructure;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 객체를 실제로 두는 저장소 <br>
+ * 경로(키) 체계와 예외 변환은 S3Service 가 맡고, 구현체는 키 하나에 대한 읽기, 쓰기, 복사, 삭제만 한다. <br>
+ * file.storage.type 으로 고른다. s3 (기본값) 는 S3FileStorage, local 은 LocalFileStorage
+ */
+public interface FileStorage {
+
+    // 길이를 아는 내용을 올린다. objectMetadata 에 ContentLength 가 있어야 한다.
+    void put(String path, InputStream inputStream, ObjectMetadata objectMetadata);
+
+    // 길이를 모르는 내용을 끝까지 읽으면서 올린다. 최대 크기(file.upload.max-size-mb)를 넘으면 FileSizeExceededException
+    void putStream(String path, InputStream inputStream, ObjectMetadata objectMetadata);
+
+    ObjectMetadata getMetadata(String path);
+
+    // newObjectMetadata 가 null 이면 원래 메타데이터를 그대로 가져간다.
+    void copy(String sourcePath, String targetPath, ObjectMetadata newObjectMetadata);
+
+    // 지우지 못한 키와 사유를 돌려준다. 비어 있으면 모두 지운 것이다.
+    Map<String, String> delete(Collection<String> paths);
+
+    boolean exists(String path);
+
+    // prefix 로 시작하는 키를 startAfter 다음부터 키 순서로 maxKeys 개까지 돌려준다. maxKeys 보다 적으면 마지막 페이지다.
+    List<StoredObject> list(String prefix, String startAfter, int maxKeys);
+
+    // 다 읽은 뒤 닫아야 한다.
+    InputStream read(String path);
+
+    // [start, end] 구간만 읽는다. 파일보다 길면 파일 끝까지
+    InputStream read(String path, long start, long end);
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 path 에 바로 올릴 수 있는 서명된 PUT 주소 <br>
+     * 본문의 SHA-256(contentSha256, 16진수)이나 크기(objectMetadata 의 Content-Length)가 다르면 저장소가 받지 않는다. <br>
+     * 지원하지 않는 저장소는 PresignedUploadUnsupportedException
+     */
+    PresignedUpload presignPut(String path, ObjectMetadata objectMetadata, String contentSha256, Duration expiration);
+
+    String getUrl(String path);
+}
@@ -0,0 +1,102 @@
+package org.deco.gachicoding.file.infrastructure;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * ImageIO 로 이미지 사본을 만든다. 외부 라이브러리나 네트워크 없이 동작한다.
+ */
+public class ImageResizer {
+
+    private ImageResizer() {}
+
+    /**
+     * 긴 변이 minEdge 보다 작아지지 않는 선에서 건너뛰며(subsampling) 디코딩한다. <br>
+     * 4000px 사진에서 1024px 사본을 만들 때 픽셀을 1/9 만 읽으므로 메모리와 시간이 그만큼 준다. <br>
+     * ImageIO 가 읽지 못하는 형식이거나 픽셀 수가 maxPixels 를 넘으면 비어 있다.
+     */
+    public static Optional<BufferedImage> read(InputStream inputStream, int minEdge, long maxPixels) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null)
+                return Optional.empty();
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+
+            if (!readers.hasNext())
+                return Optional.empty();
+
+            ImageReader reader = readers.next();
+
+            try {
+                reader.setInput(imageInputStream, true, true);
+
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                if ((long) width * height > maxPixels)
+                    return Optional.empty();
+
+                // 원본이 minEdge 보다 크면 디코딩한 결과도 minEdge 보다 크게 남긴다.
+                int subsampling = Math.max(1, (Math.max(width, height) - 1) / minEdge);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return Optional.of(reader.read(0, param));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public static boolean isLargerThan(BufferedImage image, int maxEdge) {
+        return Math.max(image.getWidth(), image.getHeight()) > maxEdge;
+    }
+
+    // 비율을 유지하며 긴 변을 maxEdge 로 줄인다.
+    public static BufferedImage resize(BufferedImage image, int maxEdge) {
+        double scale = (double) maxEdge / Math.max(image.getWidth(), image.getHeight());
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, hasAlpha(image) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return resized;
+    }
+
+    // 투명한 부분이 있으면 PNG, 아니면 JPEG 로 쓴다.
+    public static String contentType(BufferedImage image) {
+        return hasAlpha(image) ? "image/png" : "image/jpeg";
+    }
+
+    public static byte[] write(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ImageIO.write(image, hasAlpha(image) ? "png" : "jpg", outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+    private static boolean hasAlpha(BufferedImage image) {
+        return image.getColorModel().hasAlpha();
+    }
+}
@@ -0,0 +1,366 @@
+package org.deco.gachicoding.file.infrastructure;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.deco.gachicoding.exception.file.FileNotFoundException;
+import org.deco.gachicoding.exception.file.FileSizeExceededException;
+import org.deco.gachicoding.exception.file.PresignedUploadUnsupportedException;
+import org.deco.gachicoding.exception.file.UploadFailureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * 로컬 디스크 저장소 <br>
+ * S3 없이 업로드부터 승격, 사본 생성까지 돌려보기 위한 구현이다. 객체는 {root}/objects/{키}, 메타데이터는 {root}/metadata/{키}.properties 에 둔다. <br>
+ * 쓰기는 모두 {root}/tmp 에 쓴 뒤 rename 으로 바꿔 끼우므로, 읽는 쪽은 다 쓴 파일만 본다. <br>
+ * URL 은 cloud.aws.s3.url + 키라서, cloud.aws.s3.url 을 LocalFileController 주소(예: http://localhost:8080/api/file/storage/)로 맞춰야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local")
+public class LocalFileStorage implements FileStorage {
+
+    private static final String CONTENT_TYPE = "Content-Type";
+
+    private static final String USER_METADATA_PREFIX = "meta.";
+
+    private static final long MB = 1024L * 1024L;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path objects;
+
+    private final Path metadata;
+
+    private final Path tmp;
+
+    private final String url;
+
+    private final long maxSize;
+
+    public LocalFileStorage(
+            @Value("${file.storage.local.root:${java.io.tmpdir}/gachicoding-storage}") String root,
+            @Value("${cloud.aws.s3.url}") String url,
+            @Value("${file.upload.max-size-mb:500}") long maxSizeMb
+    ) {
+        Path rootPath = Paths.get(root).toAbsolutePath().normalize();
+
+        this.objects = rootPath.resolve("objects");
+        this.metadata = rootPath.resolve("metadata");
+        this.tmp = rootPath.resolve("tmp");
+        this.url = url;
+        this.maxSize = maxSizeMb * MB;
+
+        try {
+            Files.createDirectories(objects);
+            Files.createDirectories(metadata);
+            Files.createDirectories(tmp);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void put(String path, InputStream inputStream, ObjectMetadata objectMetadata) {
+        write(path, inputStream, objectMetadata, Long.MAX_VALUE);
+    }
+
+    @Override
+    public void putStream(String path, InputStream inputStream, ObjectMetadata objectMetadata) {
+        write(path, inputStream, objectMetadata, maxSize);
+    }
+
+    @Override
+    public ObjectMetadata getMetadata(String path) {
+        Path file = resolve(objects, path);
+
+        try {
+            ObjectMetadata objectMetadata = new ObjectMetadata();
+            Properties properties = readProperties(path);
+
+            objectMetadata.setContentType(properties.getProperty(CONTENT_TYPE));
+            objectMetadata.setContentLength(Files.size(file));
+            objectMetadata.setLastModified(new Date(Files.getLastModifiedTime(file).toMillis()));
+
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(USER_METADATA_PREFIX))
+                    objectMetadata.addUserMetadata(name.substring(USER_METADATA_PREFIX.length()), properties.getProperty(name));
+            }
+
+            return objectMetadata;
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 같은 파일 시스템이면 하드 링크로 만들어 내용을 복사하지 않는다. <br>
+     * 쓰기는 항상 새 파일을 rename 하므로 링크로 이어진 다른 키의 내용이 바뀌는 일은 없다.
+     */
+    @Override
+    public void copy(String sourcePath, String targetPath, ObjectMetadata newObjectMetadata) {
+        Path source = resolve(objects, sourcePath);
+        Path target = resolve(objects, targetPath);
+
+        if (Files.notExists(source))
+            throw new FileNotFoundException();
+
+        ObjectMetadata objectMetadata = (newObjectMetadata == null) ? getMetadata(sourcePath) : newObjectMetadata;
+
+        try {
+            writeProperties(targetPath, objectMetadata);
+
+            Path temp = tempFile();
+            try {
+                Files.delete(temp);
+                link(source, temp);
+                replace(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 없는 키는 지운 것으로 본다. (S3 DeleteObjects 와 같다)
+    @Override
+    public Map<String, String> delete(Collection<String> paths) {
+        Map<String, String> failures = new LinkedHashMap<>();
+
+        for (String path : new LinkedHashSet<>(paths)) {
+            try {
+                Files.deleteIfExists(resolve(objects, path));
+                Files.deleteIfExists(resolve(metadata, path + ".properties"));
+            } catch (IOException | FileNotFoundException e) {
+                failures.put(path, e.getMessage());
+            }
+        }
+
+        return failures;
+    }
+
+    @Override
+    public boolean exists(String path) {
+        return Files.isRegularFile(resolve(objects, path));
+    }
+
+    // prefix 의 마지막 '/' 까지를 디렉터리로 보고 그 아래만 훑는다.
+    @Override
+    public List<StoredObject> list(String prefix, String startAfter, int maxKeys) {
+        int slash = prefix.lastIndexOf('/');
+        Path base = (slash < 0) ? objects : resolve(objects, prefix.substring(0, slash));
+
+        if (!Files.isDirectory(base))
+            return List.of();
+
+        try (Stream<Path> files = Files.walk(base)) {
+            return files.filter(Files::isRegularFile)
+                    .map(this::key)
+                    .filter(key -> key.startsWith(prefix) && (startAfter == null || key.compareTo(startAfter) > 0))
+                    .sorted()
+                    .limit(maxKeys)
+                    .map(this::storedObject)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream read(String path) {
+        try {
+            return Files.newInputStream(resolve(objects, path));
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream read(String path, long start, long end) {
+        try {
+            FileChannel channel = FileChannel.open(resolve(objects, path), StandardOpenOption.READ);
+
+            // 돌려준 스트림을 닫으면 채널도 닫힌다. 스트림을 만들기 전에 실패하면 여기서 닫는다.
+            try {
+                return new BoundedInputStream(Channels.newInputStream(channel.position(start)), end - start + 1);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 로컬 저장소로 오는 요청은 어차피 이 서버가 받으므로 기존 업로드(/api/file/upload)를 쓴다.
+    @Override
+    public PresignedUpload presignPut(String path, ObjectMetadata objectMetadata, String contentSha256, Duration expiration) {
+        throw new PresignedUploadUnsupportedException();
+    }
+
+    @Override
+    public String getUrl(String path) {
+        return url + path;
+    }
+
+    /**
+     * 키가 가리키는 파일. 다운로드 응답이 파일 채널에서 바로 보낼 때 쓴다. <br>
+     * 없거나 저장소 밖을 가리키는 키는 FileNotFoundException
+     */
+    public Path getFile(String path) {
+        Path file = resolve(objects, path);
+
+        if (!Files.isRegularFile(file))
+            throw new FileNotFoundException();
+
+        return file;
+    }
+
+    private String key(Path file) {
+        Path relative = objects.relativize(file);
+
+        return relative.toString().replace(relative.getFileSystem().getSeparator(), "/");
+    }
+
+    private StoredObject storedObject(String key) {
+        Path file = resolve(objects, key);
+
+        try {
+            return new StoredObject(
+                    key,
+                    Files.size(file),
+                    LocalDateTime.ofInstant(Files.getLastModifiedTime(file).toInstant(), ZoneId.systemDefault())
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String path, InputStream inputStream, ObjectMetadata objectMetadata, long limit) {
+        Path target = resolve(objects, path);
+
+        try {
+            Path temp = tempFile();
+            try {
+                long size = copy(inputStream, temp, limit);
+
+                objectMetadata.setContentLength(size);
+                writeProperties(path, objectMetadata);
+                replace(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("로컬 저장 실패 : {}", path, e);
+            throw new UploadFailureException();
+        }
+    }
+
+    private long copy(InputStream inputStream, Path target, long limit) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long size = 0;
+
+        try (OutputStream outputStream = Files.newOutputStream(target)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                size += read;
+                if (size > limit)
+                    throw new FileSizeExceededException();
+
+                outputStream.write(buffer, 0, read);
+            }
+        }
+
+        return size;
+    }
+
+    // 메타데이터를 먼저 쓰고 객체를 바꿔 끼운다. 객체가 보이면 메타데이터도 있다.
+    private void writeProperties(String path, ObjectMetadata objectMetadata) throws IOException {
+        Properties properties = new Properties();
+
+        if (objectMetadata.getContentType() != null)
+            properties.setProperty(CONTENT_TYPE, objectMetadata.getContentType());
+
+        objectMetadata.getUserMetadata()
+                .forEach((name, value) -> properties.setProperty(USER_METADATA_PREFIX + name, value));
+
+        Path temp = tempFile();
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temp)) {
+                properties.store(outputStream, null);
+            }
+            replace(temp, resolve(metadata, path + ".properties"));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Properties readProperties(String path) throws IOException {
+        Properties properties = new Properties();
+
+        try (InputStream inputStream = Files.newInputStream(resolve(metadata, path + ".properties"))) {
+            properties.load(inputStream);
+        } catch (NoSuchFileException e) {
+            // 메타데이터 없이 넣은 파일
+        }
+
+        return properties;
+    }
+
+    private Path tempFile() throws IOException {
+        return Files.createTempFile(tmp, "object", ".tmp");
+    }
+
+    private void replace(Path temp, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+
+        try {
+            Files.move(temp, target, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, REPLACE_EXISTING);
+        }
+    }
+
+    private void link(Path source, Path link) throws IOException {
+        try {
+            Files.createLink(link, source);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(source, link, REPLACE_EXISTING);
+        }
+    }
+
+    private Path resolve(Path directory, String path) {
+        Path resolved = directory.resolve(path).normalize();
+
+        if (!resolved.startsWith(directory) || resolved.equals(directory))
+            throw new FileNotFoundException();
+
+        return resolved;
+    }
+}
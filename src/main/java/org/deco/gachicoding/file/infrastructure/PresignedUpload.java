@@ -0,0 +1,23 @@
+package org.deco.gachicoding.file.infrastructure;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 서명된 PUT 주소와, 서명에 들어가서 클라이언트가 그대로 보내야 하는 헤더
+@Getter
+public class PresignedUpload {
+
+    private final String url;
+
+    private final Map<String, String> headers;
+
+    private final LocalDateTime expiresAt;
+
+    public PresignedUpload(String url, Map<String, String> headers, LocalDateTime expiresAt) {
+        this.url = url;
+        this.headers = headers;
+        this.expiresAt = expiresAt;
+    }
+}
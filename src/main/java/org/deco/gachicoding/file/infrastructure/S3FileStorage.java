@@ -0,0 +1,184 @@
+package org.deco.gachicoding.file.infrastructure;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.deco.gachicoding.file.infrastructure.S3Service.MAX_DELETE_KEYS;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3FileStorage implements FileStorage {
+
+    // S3 가 받은 본문의 SHA-256 과 비교하는 헤더 (Base64)
+    private static final String CHECKSUM_SHA256 = "x-amz-checksum-sha256";
+
+    private final AmazonS3 s3Client;
+
+    private final S3MultipartUploader multipartUploader;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 메타데이터 조회, 복사, 삭제 요청 하나에 주는 기한. 0 이면 SDK 기본값(무제한)을 따른다.
+    @Value("${cloud.aws.s3.request-timeout-millis:5000}")
+    private int requestTimeoutMillis;
+
+    @Override
+    public void put(String path, InputStream inputStream, ObjectMetadata objectMetadata) {
+        s3Client.putObject(bucket, path, inputStream, objectMetadata);
+    }
+
+    @Override
+    public void putStream(String path, InputStream inputStream, ObjectMetadata objectMetadata) {
+        multipartUploader.upload(bucket, path, objectMetadata, inputStream);
+    }
+
+    @Override
+    public ObjectMetadata getMetadata(String path) {
+        return s3Client.getObjectMetadata(
+                new GetObjectMetadataRequest(bucket, path)
+                        .withSdkRequestTimeout(requestTimeoutMillis)
+        );
+    }
+
+    @Override
+    public void copy(String sourcePath, String targetPath, ObjectMetadata newObjectMetadata) {
+        s3Client.copyObject(
+                new CopyObjectRequest(bucket, sourcePath, bucket, targetPath)
+                        .withNewObjectMetadata(newObjectMetadata)
+                        .withSdkRequestTimeout(requestTimeoutMillis)
+        );
+    }
+
+    // DeleteObjects 로 MAX_DELETE_KEYS 개씩 나눠 지운다. 요청 자체가 실패하면 그 묶음의 키를 모두 실패로 돌려준다.
+    @Override
+    public Map<String, String> delete(Collection<String> paths) {
+        List<String> keys = new ArrayList<>(new LinkedHashSet<>(paths));
+        Map<String, String> failures = new LinkedHashMap<>();
+
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size()));
+
+            try {
+                // quiet 모드는 지운 키 목록을 돌려주지 않고 실패한 키만 알려준다.
+                s3Client.deleteObjects(
+                        new DeleteObjectsRequest(bucket)
+                                .withKeys(chunk.toArray(new String[0]))
+                                .withQuiet(true)
+                                .withSdkRequestTimeout(requestTimeoutMillis)
+                );
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failures.put(error.getKey(), error.getCode() + " " + error.getMessage()));
+            } catch (SdkClientException e) {
+                chunk.forEach(key -> failures.put(key, e.getMessage()));
+            }
+        }
+
+        return failures;
+    }
+
+    @Override
+    public boolean exists(String path) {
+        return s3Client.doesObjectExist(bucket, path);
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix, String startAfter, int maxKeys) {
+        ListObjectsV2Result result = s3Client.listObjectsV2(
+                new ListObjectsV2Request()
+                        .withBucketName(bucket)
+                        .withPrefix(prefix)
+                        .withStartAfter(startAfter)
+                        .withMaxKeys(maxKeys)
+                        .withSdkRequestTimeout(requestTimeoutMillis)
+        );
+
+        return result.getObjectSummaries().stream()
+                .map(summary -> new StoredObject(
+                        summary.getKey(),
+                        summary.getSize(),
+                        LocalDateTime.ofInstant(summary.getLastModified().toInstant(), ZoneId.systemDefault())
+                ))
+                .collect(Collectors.toList());
+    }
+
+    // 다 읽은 뒤 닫아야 연결이 풀로 돌아간다.
+    @Override
+    public InputStream read(String path) {
+        return s3Client.getObject(new GetObjectRequest(bucket, path)).getObjectContent();
+    }
+
+    @Override
+    public InputStream read(String path, long start, long end) {
+        return s3Client.getObject(new GetObjectRequest(bucket, path).withRange(start, end)).getObjectContent();
+    }
+
+    /**
+     * 사용자 메타데이터와 체크섬, 크기도 서명에 넣는다. 클라이언트가 빼거나 바꿔 보내면 S3 가 서명 오류로 거절한다. <br>
+     * 크기가 서명에 없으면 확인(confirm) 전까지 최대 5GB 객체가 TEMP 에 남을 수 있다. 브라우저는 Content-Length 를 본문 크기로 직접 채운다.
+     */
+    @Override
+    public PresignedUpload presignPut(String path, ObjectMetadata objectMetadata, String contentSha256, Duration expiration) {
+        Date expiresAt = new Date(System.currentTimeMillis() + expiration.toMillis());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(Headers.CONTENT_TYPE, objectMetadata.getContentType());
+        headers.put(Headers.CONTENT_LENGTH, String.valueOf(objectMetadata.getContentLength()));
+        objectMetadata.getUserMetadata()
+                .forEach((name, value) -> headers.put(Headers.S3_USER_METADATA_PREFIX + name.toLowerCase(), value));
+        headers.put(CHECKSUM_SHA256, base64(contentSha256));
+
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, path, HttpMethod.PUT)
+                .withExpiration(expiresAt)
+                .withContentType(objectMetadata.getContentType());
+
+        headers.forEach((name, value) -> {
+            if (!Headers.CONTENT_TYPE.equals(name))
+                request.putCustomRequestHeader(name, value);
+        });
+
+        return new PresignedUpload(
+                s3Client.generatePresignedUrl(request).toString(),
+                headers,
+                LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault())
+        );
+    }
+
+    private static String base64(String hex) {
+        try {
+            return Base64.getEncoder().encodeToString(Hex.decodeHex(hex));
+        } catch (DecoderException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public String getUrl(String path) {
+        return s3Client.getUrl(bucket, path).toString();
+    }
+}
@@ -0,0 +1,196 @@
+package org.deco.gachicoding.file.infrastructure;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.exception.file.FileSizeExceededException;
+import org.deco.gachicoding.exception.file.UploadFailureException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 본문을 고정 크기 파트로 읽으면서 S3 멀티파트 업로드로 올린다. <br>
+ * 파트 버퍼는 업로드가 끝나야 반납되므로, 파일 크기와 관계없이 메모리는 partSize * concurrency 를 넘지 않는다. <br>
+ * 첫 파트는 작은 버퍼에서 시작해 두 배씩 늘려 읽으므로, 한 파트보다 작은 파일은 파일 크기 정도만 잡는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3MultipartUploader {
+
+    // S3 는 마지막 파트를 빼면 5MB 보다 작은 파트를 받지 않는다.
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private static final long MB = 1024L * 1024L;
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final AmazonS3 s3Client;
+
+    private final Executor s3Executor;
+
+    private final int partSize;
+
+    private final int concurrency;
+
+    private final long maxSize;
+
+    public S3MultipartUploader(
+            AmazonS3 s3Client,
+            @Qualifier("s3Executor") Executor s3Executor,
+            @Value("${file.upload.part-size-mb:8}") int partSizeMb,
+            @Value("${file.upload.part-concurrency:4}") int concurrency,
+            @Value("${file.upload.max-size-mb:500}") long maxSizeMb
+    ) {
+        this.s3Client = s3Client;
+        this.s3Executor = s3Executor;
+        this.partSize = (int) Math.max(MIN_PART_SIZE, partSizeMb * MB);
+        this.concurrency = concurrency;
+        this.maxSize = maxSizeMb * MB;
+    }
+
+    /**
+     * 한 파트보다 작으면 PutObject 한 번으로, 아니면 멀티파트 업로드로 올린다. <br>
+     * 중간에 실패하면 올라간 파트가 남지 않도록 업로드를 취소한다.
+     */
+    public void upload(String bucket, String key, ObjectMetadata objectMetadata, InputStream inputStream) {
+        Semaphore buffers = new Semaphore(concurrency);
+
+        acquire(buffers);
+        byte[] buffer = new byte[Math.min(INITIAL_BUFFER_SIZE, partSize)];
+        int length = read(inputStream, buffer, 0);
+
+        // 버퍼를 다 채웠으면 아직 끝을 모르므로, 한 파트가 될 때까지 늘려 가며 읽는다.
+        while (length == buffer.length && length < partSize) {
+            buffer = Arrays.copyOf(buffer, (int) Math.min(2L * buffer.length, partSize));
+            length += read(inputStream, buffer, length);
+        }
+
+        if (length < partSize) {
+            objectMetadata.setContentLength(length);
+            s3Client.putObject(bucket, key, new ByteArrayInputStream(buffer, 0, length), objectMetadata);
+            buffers.release();
+            return;
+        }
+
+        String uploadId = s3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, objectMetadata)
+        ).getUploadId();
+
+        try {
+            List<PartETag> partETags = uploadParts(bucket, key, uploadId, buffers, buffer, inputStream);
+
+            s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (RuntimeException e) {
+            log.warn("멀티파트 업로드 취소 : {}", key, e);
+            s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            throw e;
+        }
+    }
+
+    // 첫 파트는 이미 읽어 둔 상태로 들어온다.
+    private List<PartETag> uploadParts(
+            String bucket,
+            String key,
+            String uploadId,
+            Semaphore buffers,
+            byte[] firstPart,
+            InputStream inputStream
+    ) {
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+
+        byte[] buffer = firstPart;
+        int length = partSize;
+        long uploaded = 0;
+
+        try {
+            while (length > 0) {
+                uploaded += length;
+
+                if (uploaded > maxSize) {
+                    buffers.release();
+                    throw new FileSizeExceededException();
+                }
+
+                parts.add(uploadPart(bucket, key, uploadId, parts.size() + 1, buffer, length, buffers));
+
+                // 앞 파트가 실패했으면 나머지를 읽지 않는다.
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally))
+                    break;
+
+                acquire(buffers);
+                buffer = new byte[partSize];
+                length = read(inputStream, buffer, 0);
+            }
+        } catch (RuntimeException e) {
+            // 업로드 중인 파트가 취소 뒤에 올라가지 않도록 끝날 때까지 기다린다.
+            CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                    .handle((result, failure) -> null)
+                    .join();
+            throw e;
+        }
+
+        if (length == 0)
+            buffers.release();
+
+        try {
+            return parts.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            throw (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : new UploadFailureException();
+        }
+    }
+
+    private CompletableFuture<PartETag> uploadPart(
+            String bucket,
+            String key,
+            String uploadId,
+            int partNumber,
+            byte[] buffer,
+            int length,
+            Semaphore buffers
+    ) {
+        return CompletableFuture.supplyAsync(() -> s3Client.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                        .withPartSize(length)
+                ).getPartETag(), s3Executor)
+                .whenComplete((partETag, e) -> buffers.release());
+    }
+
+    // buffer 의 offset 부터 끝까지 채운다. 본문이 끝나면 덜 채운다.
+    private int read(InputStream inputStream, byte[] buffer, int offset) {
+        try {
+            return inputStream.readNBytes(buffer, offset, buffer.length - offset);
+        } catch (IOException e) {
+            throw new UploadFailureException();
+        }
+    }
+
+    private void acquire(Semaphore buffers) {
+        try {
+            buffers.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadFailureException();
+        }
+    }
+}
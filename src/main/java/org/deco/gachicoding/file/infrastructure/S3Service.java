@@ -1,122 +1,181 @@
 package org.deco.gachicoding.file.infrastructure;
 
-import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.deco.gachicoding.exception.ApplicationException;
 import org.deco.gachicoding.exception.file.S3CopyException;
 import org.deco.gachicoding.exception.file.UploadFailureException;
 import org.deco.gachicoding.exception.file.UtfDecodingException;
-import org.deco.gachicoding.file.application.dto.response.FileResponseDto;
-import org.deco.gachicoding.file.presentation.dto.request.FileSaveRequest;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.security.DigestInputStream;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
-import static java.util.stream.Collectors.toList;
-
+/**
+ * 파일 경로(TEMP, CONTENT, VARIANT) 규칙과 예외 변환을 맡는다. <br>
+ * 이름과 달리 객체는 FileStorage 구현체에 두므로, file.storage.type=local 이면 S3 없이 로컬 디스크에서 돈다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
-    private final AmazonS3 s3Client;
+    // 업로드 직후 게시물이 정해지기 전까지 머무는 경로
+    public static final String TEMP_DIRECTORY = "TEMP/";
+
+    // 게시물에 쓰인 파일이 머무는 경로. 키가 내용 해시라서 같은 파일은 게시물이 달라도 객체 하나를 함께 쓴다.
+    public static final String CONTENT_DIRECTORY = "CONTENT/";
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    // 이미지 사본(썸네일, 중간 크기)이 머무는 경로. ImageVariant.path 참고
+    public static final String VARIANT_DIRECTORY = "VARIANT/";
 
-    public List<FileResponseDto> uploadStorage(FileSaveRequest request) {
-        List<MultipartFile> multipartFiles = request.getFiles();
+    // DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+    public static final int MAX_DELETE_KEYS = 1000;
 
-        return multipartFiles.stream()
-                .map(multipartFile -> upload(
-                        multipartFile,
-                        FileNameSupport.md5(multipartFile)
-                )).collect(toList());
+    private final FileStorage fileStorage;
+
+    // 길이를 모르는 요청 본문
+    public String uploadStream(InputStream inputStream, String saveFileName, String originalFileName, String contentType) {
+        return uploadStream(inputStream, saveFileName, originalFileName, contentType, -1);
     }
 
-    private FileResponseDto upload(MultipartFile multipartFile, String saveFileName) {
-        try {
-            ObjectMetadata objectMetadata = createObjectMetadata(multipartFile, saveFileName);
+    /**
+     * 내용을 한 번만 읽으면서 바로 TEMP/{saveFileName} 에 올리고, 읽은 내용의 SHA-256 을 함께 구해 돌려준다. <br>
+     * contentLength 를 알면 (서버에 받아 둔 멀티파트 파일) PutObject 한 번으로 올리고, 모르면 (음수) 파트 단위로 나눠 올린다.
+     */
+    public String uploadStream(InputStream inputStream, String saveFileName, String originalFileName, String contentType, long contentLength) {
+        String path = TEMP_DIRECTORY + saveFileName;
 
-            String path = String.format("TEMP/%s", saveFileName);
-            log.info("s3Path : " + path);
-            putS3(multipartFile, path, objectMetadata);
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        objectMetadata.addUserMetadata("OriginalFileName", FileNameSupport.korToUni(originalFileName));
+        objectMetadata.addUserMetadata("SaveFileName", saveFileName);
 
-            return new FileResponseDto(multipartFile.getOriginalFilename(), getS3Url(path));
-        } catch (Exception e) {
-            e.printStackTrace();
+        DigestInputStream digestInputStream = new DigestInputStream(inputStream, FileNameSupport.sha256());
+
+        try {
+            if (contentLength < 0) {
+                fileStorage.putStream(path, digestInputStream, objectMetadata);
+            } else {
+                objectMetadata.setContentLength(contentLength);
+                fileStorage.put(path, digestInputStream, objectMetadata);
+            }
+        } catch (ApplicationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("업로드 실패 : {}", path, e);
             throw new UploadFailureException();
         }
+
+        return Hex.encodeHexString(digestInputStream.getMessageDigest().digest());
     }
 
-    private ObjectMetadata createObjectMetadata(MultipartFile multipartFile, String saveFileName) {
-        ObjectMetadata objectMetadata = new ObjectMetadata();
+    /**
+     * 올린 뒤에야 해시를 아는 스트리밍 업로드를 TEMP/{contentHash} 로 복사하고 그 경로를 돌려준다. 원래 객체는 부른 쪽이 지운다. <br>
+     * 단일 CopyObject 라서 5GB 까지만 옮길 수 있다. (업로드 최대 크기 file.upload.max-size-mb 보다 크다)
+     */
+    public String renameTemp(String saveFileName, String contentHash) {
+        String oldPath = TEMP_DIRECTORY + saveFileName;
+        String newPath = TEMP_DIRECTORY + contentHash;
+
+        ObjectMetadata objectMetadata = getObjectMetadata(oldPath).clone();
+        objectMetadata.addUserMetadata("SaveFileName", contentHash);
 
-        log.info("size = {}", multipartFile.getSize());
-        log.info("contentType = {}", multipartFile.getContentType());
-        log.info("originalFileName = {}", multipartFile.getOriginalFilename());
-        log.info("saveFileName = {}", saveFileName);
-        objectMetadata.setContentLength(multipartFile.getSize());
-        objectMetadata.setContentType(multipartFile.getContentType());
         try {
-            objectMetadata.addUserMetadata("OriginalFileName", FileNameSupport.korToUni(multipartFile.getOriginalFilename()));
+            fileStorage.copy(oldPath, newPath, objectMetadata);
         } catch (Exception e) {
-            e.printStackTrace();
+            throw new S3CopyException();
         }
-        objectMetadata.addUserMetadata("SaveFileName", saveFileName);
 
-        return objectMetadata;
+        return newPath;
     }
 
     public ObjectMetadata getObjectMetadata(String filePath) {
 
         // not found 예외 추가
-        return s3Client.getObjectMetadata(bucket, filePath);
+        return fileStorage.getMetadata(filePath);
+    }
+
+    public List<StoredObject> listObjects(String prefix, String startAfter, int maxKeys) {
+        return fileStorage.list(prefix, startAfter, maxKeys);
     }
 
-    private void putS3(MultipartFile multipartFile, String originFileName, ObjectMetadata objectMetadata) throws IOException {
-        log.info("bucket : {}", bucket);
-        log.info("originFileName : {}", originFileName);
-        log.info("multipartFile.getInputStream() : {}", multipartFile.getInputStream());
-        log.info("objectMetadata : {}", objectMetadata);
+    public boolean exists(String filePath) {
+        return fileStorage.exists(filePath);
+    }
+
+    // 다 읽은 뒤 닫아야 연결이 풀로 돌아간다.
+    public InputStream getObjectContent(String filePath) {
+        return fileStorage.read(filePath);
+    }
+
+    public InputStream getObjectContent(String filePath, long start, long end) {
+        return fileStorage.read(filePath, start, end);
+    }
+
+    /**
+     * 클라이언트가 TEMP/{contentHash} 에 바로 올릴 서명된 PUT 주소 <br>
+     * 메타데이터는 서버를 거쳐 올린 파일과 같게 서명에 넣어 두므로, 확인 뒤에는 다른 TEMP 파일과 똑같이 옮겨진다. <br>
+     * 크기도 서명에 넣으므로 클라이언트가 알린 contentLength 와 다른 크기는 저장소가 받지 않는다.
+     */
+    public PresignedUpload presignTempUpload(String contentHash, String originalFileName, String contentType, long contentLength, Duration expiration) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        objectMetadata.setContentLength(contentLength);
+        objectMetadata.addUserMetadata("OriginalFileName", FileNameSupport.korToUni(originalFileName));
+        objectMetadata.addUserMetadata("SaveFileName", contentHash);
+
+        return fileStorage.presignPut(TEMP_DIRECTORY + contentHash, objectMetadata, contentHash, expiration);
+    }
+
+    public void putObject(String filePath, byte[] content, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(content.length);
+        objectMetadata.setContentType(contentType);
+
+        fileStorage.put(filePath, new ByteArrayInputStream(content), objectMetadata);
+    }
+
+    public static boolean isTempPath(String path) {
+        return path != null && path.startsWith(TEMP_DIRECTORY);
+    }
 
-        s3Client.putObject(
-                bucket,
-                originFileName,
-                multipartFile.getInputStream(),
-                objectMetadata
-        );
+    public static boolean isContentPath(String path) {
+        return path != null && path.startsWith(CONTENT_DIRECTORY);
     }
 
-    public void replaceS3(String oldPath, String newPath) {
-        copyS3(oldPath, newPath);
-        deleteS3(oldPath);
+    public static String contentPath(String contentHash) {
+        return CONTENT_DIRECTORY + contentHash;
     }
 
-    private void copyS3(String oldPath, String newPath) {
+    public void copyS3(String oldPath, String newPath) {
         try {
-            s3Client.copyObject(bucket, oldPath, bucket, newPath);
+            fileStorage.copy(oldPath, newPath, null);
         } catch (Exception/*AmazonS3Exception*/ e) {
             throw new S3CopyException();
         }
     }
 
-    private String getS3Url(String filePath) {
+    public String getS3Url(String filePath) {
         // s3 객체 URL
         try {
-            return URLDecoder.decode(s3Client.getUrl(bucket, filePath).toString(), "UTF-8");
+            return URLDecoder.decode(fileStorage.getUrl(filePath), "UTF-8");
         } catch (UnsupportedEncodingException e) {
             throw new UtfDecodingException();
         }
     }
 
-    private void deleteS3(String filePath) {
-        s3Client.deleteObject(bucket, filePath);
+    // 지우지 못한 키와 사유를 돌려준다. 비어 있으면 모두 지운 것이다.
+    public Map<String, String> deleteObjects(Collection<String> filePaths) {
+        return fileStorage.delete(filePaths);
     }
 }
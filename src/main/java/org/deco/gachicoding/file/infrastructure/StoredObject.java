@@ -0,0 +1,22 @@
+package org.deco.gachicoding.file.infrastructure;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 저장소 목록 조회 결과의 객체 하나
+@Getter
+public class StoredObject {
+
+    private final String path;
+
+    private final long size;
+
+    private final LocalDateTime lastModified;
+
+    public StoredObject(String path, long size, LocalDateTime lastModified) {
+        this.path = path;
+        this.size = size;
+        this.lastModified = lastModified;
+    }
+}
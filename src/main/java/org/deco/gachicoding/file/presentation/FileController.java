@@ -2,14 +2,25 @@ package org.deco.gachicoding.file.presentation;
 
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
-import org.deco.gachicoding.file.application.FileService;
-import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.deco.gachicoding.file.application.FileUploadService;
+import org.deco.gachicoding.file.application.ImageDerivativeService;
+import org.deco.gachicoding.file.application.PresignedUploadService;
+import org.deco.gachicoding.file.application.dto.response.FilePresignResponseDto;
 import org.deco.gachicoding.file.application.dto.response.FileResponseDto;
+import org.deco.gachicoding.file.domain.ImageVariant;
+import org.deco.gachicoding.file.presentation.dto.request.FileConfirmRequest;
+import org.deco.gachicoding.file.presentation.dto.request.FilePresignRequest;
 import org.deco.gachicoding.file.presentation.dto.request.FileSaveRequest;
+import org.deco.gachicoding.file.presentation.dto.request.FileStreamRequest;
 import org.deco.gachicoding.file.presentation.dto.request.ImageFileValid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import springfox.documentation.annotations.ApiIgnore;
 
+import javax.validation.Valid;
 import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 
 @Api(tags = "파일 처리 API")
@@ -18,15 +29,65 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FileController {
 
-    private final S3Service s3Service;
+    private final FileUploadService fileUploadService;
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    private final PresignedUploadService presignedUploadService;
 
     @ApiOperation(value = "파일 임시 저장")
     @ApiResponses(
-            @ApiResponse(code = 200, message = "임시 폴더의 파일 URL 반환")
+            @ApiResponse(code = 200, message = "임시 폴더의 파일 URL 반환, 이미 게시물에 쓰인 파일과 내용이 같으면 그 파일의 URL 반환")
     )
     @PostMapping("/file/upload")
     public List<FileResponseDto> fileUploadImageFile(@ApiParam(value = "멀티파트 파일") @ImageFileValid FileSaveRequest request) throws IOException {
 
-        return s3Service.uploadStorage(request);
+        return fileUploadService.upload(request);
+    }
+
+    @ApiOperation(value = "대용량 파일 임시 저장 (스트리밍)", notes = "요청 본문 전체를 파일로 받는다. 원본 파일 이름은 X-File-Name 헤더에 URL 인코딩해서 보낸다.")
+    @ApiResponses(
+            @ApiResponse(code = 200, message = "임시 폴더의 파일 URL 반환")
+    )
+    @PostMapping("/file/upload/stream")
+    public FileResponseDto fileUploadStream(@ApiIgnore @ImageFileValid FileStreamRequest request) {
+
+        return fileUploadService.uploadStream(request);
+    }
+
+    @ApiOperation(value = "직접 업로드 주소 발급", notes = "파일 내용의 SHA-256 을 받아 저장소의 임시 폴더로 바로 올릴 주소를 준다. 로컬 저장소에서는 501 을 돌려주므로 /file/upload 를 쓴다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "업로드 주소와 함께 보낼 헤더 반환, 이미 게시물에 쓰인 내용이면 그 파일의 URL 반환"),
+            @ApiResponse(code = 501, message = "직접 업로드를 지원하지 않는 저장소")
+    })
+    @PostMapping("/file/upload/presigned")
+    public FilePresignResponseDto filePresign(@Valid @RequestBody FilePresignRequest request) {
+
+        return presignedUploadService.presign(request);
+    }
+
+    @ApiOperation(value = "직접 업로드 확인", notes = "올린 파일의 크기와 형식을 확인한다. 확인하지 않은 파일은 임시 파일 정리 때 지워진다.")
+    @ApiResponses(
+            @ApiResponse(code = 200, message = "임시 폴더의 파일 URL 반환")
+    )
+    @PostMapping("/file/upload/presigned/confirm")
+    public FileResponseDto fileConfirm(@Valid @RequestBody FileConfirmRequest request) {
+
+        return presignedUploadService.confirm(request);
+    }
+
+    @ApiOperation(value = "이미지 크기 선택", notes = "본문의 이미지 URL 을 요청한 크기(THUMBNAIL, MEDIUM)의 사본으로 리다이렉트한다. 사본이 없거나 size 가 없으면 원본으로 보낸다.")
+    @ApiResponses(
+            @ApiResponse(code = 302, message = "이미지 URL 로 리다이렉트")
+    )
+    @GetMapping("/file/image")
+    public ResponseEntity<Void> fileImage(
+            @ApiParam(value = "이미지 URL") @RequestParam String url,
+            @ApiParam(value = "이미지 크기") @RequestParam(required = false) ImageVariant size
+    ) {
+
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(imageDerivativeService.findImageUrl(url, size)))
+                .build();
     }
 }
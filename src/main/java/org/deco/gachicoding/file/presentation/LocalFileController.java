@@ -0,0 +1,116 @@
+package org.deco.gachicoding.file.presentation;
+
+import io.swagger.annotations.*;
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.file.infrastructure.LocalFileStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+import springfox.documentation.annotations.ApiIgnore;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * file.storage.type=local 일 때 저장소의 파일을 내려준다. (S3 객체 URL 역할) <br>
+ * Range 요청은 한 구간만 206 으로 답하고, 여러 구간이면 전체를 보낸다.
+ */
+@Api(tags = "파일 처리 API")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local")
+public class LocalFileController {
+
+    private static final String CONTENT_TYPE_OPTIONS = "X-Content-Type-Options";
+
+    // Tomcat 커넥터가 sendfile 을 쓸 수 있으면 요청에 붙여 주는 속성. 응답 본문을 쓰지 않고 아래 속성만 채우면 커넥터가 보낸다.
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalFileStorage localFileStorage;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @ApiOperation(value = "로컬 저장소 파일 다운로드", notes = "Range 헤더로 일부만 받을 수 있다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "파일 전체"),
+            @ApiResponse(code = 206, message = "요청한 구간"),
+            @ApiResponse(code = 416, message = "파일 크기를 벗어난 구간")
+    })
+    @GetMapping("/file/storage/**")
+    public void fileDownload(@ApiIgnore HttpServletRequest request, @ApiIgnore HttpServletResponse response) throws IOException {
+        String path = pathMatcher.extractPathWithinPattern(
+                (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE)
+        );
+
+        Path file = localFileStorage.getFile(path);
+        long length = Files.size(file);
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 앱과 같은 출처에서 나가는 파일이므로 브라우저가 내용을 보고 형식을 바꾸지 않게 한다.
+        response.setHeader(CONTENT_TYPE_OPTIONS, "nosniff");
+        response.setContentType(localFileStorage.getMetadata(path).getContentType());
+
+        long start = 0;
+        long end = length - 1;
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        } catch (IllegalArgumentException e) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        response.setContentLengthLong(end - start + 1);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        transfer(file, start, end - start + 1, Channels.newChannel(response.getOutputStream()));
+    }
+
+    // sendfile 을 못 쓰는 컨테이너. 힙에 버퍼를 두지 않고 파일 채널에서 응답 채널로 넘긴다.
+    private void transfer(Path file, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (count > 0) {
+                long transferred = channel.transferTo(position, count, target);
+                if (transferred <= 0)
+                    break;
+
+                position += transferred;
+                count -= transferred;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.deco.gachicoding.file.presentation.dto.request;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+
+@Getter
+public class FileConfirmRequest {
+
+    @NotNull(message = "F0001")
+    @ApiModelProperty(value = "원본 파일 이름", required = true, example = "example.png")
+    private String originalFileName;
+
+    @NotNull(message = "F0001")
+    @ApiModelProperty(value = "올린 파일 내용의 SHA-256", required = true)
+    private String contentHash;
+
+    private FileConfirmRequest() {}
+
+    public FileConfirmRequest(String originalFileName, String contentHash) {
+        this.originalFileName = originalFileName;
+        this.contentHash = contentHash;
+    }
+}
@@ -0,0 +1,34 @@
+package org.deco.gachicoding.file.presentation.dto.request;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+
+@Getter
+public class FilePresignRequest {
+
+    @NotNull(message = "F0001")
+    @ApiModelProperty(value = "원본 파일 이름", required = true, example = "example.png")
+    private String originalFileName;
+
+    @NotNull(message = "F0001")
+    @ApiModelProperty(value = "파일 형식", required = true, example = "image/png")
+    private String contentType;
+
+    @NotNull(message = "F0001")
+    @ApiModelProperty(value = "파일 내용의 SHA-256 (소문자 16진수)", required = true)
+    private String contentHash;
+
+    @ApiModelProperty(value = "파일 크기 (bytes)", required = true, example = "1024")
+    private long contentLength;
+
+    private FilePresignRequest() {}
+
+    public FilePresignRequest(String originalFileName, String contentType, String contentHash, long contentLength) {
+        this.originalFileName = originalFileName;
+        this.contentType = contentType;
+        this.contentHash = contentHash;
+        this.contentLength = contentLength;
+    }
+}
@@ -2,7 +2,6 @@ package org.deco.gachicoding.file.presentation.dto.request;
 
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Getter;
-import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.constraints.NotNull;
 import java.util.List;
@@ -12,11 +11,11 @@ public class FileSaveRequest {
 
     @NotNull(message = "F0001")
     @ApiModelProperty(value = "파일 리스트", required = true, example = "example.img")
-    private List<MultipartFile> files;
+    private List<FileStreamRequest> files;
 
     private FileSaveRequest() {}
 
-    public FileSaveRequest(List<MultipartFile> files) {
+    public FileSaveRequest(List<FileStreamRequest> files) {
         this.files = files;
     }
 }
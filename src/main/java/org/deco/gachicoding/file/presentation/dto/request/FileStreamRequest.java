@@ -0,0 +1,35 @@
+package org.deco.gachicoding.file.presentation.dto.request;
+
+import lombok.Getter;
+
+import java.io.InputStream;
+
+/**
+ * 검사를 마친 업로드 파일 하나 <br>
+ * 스트리밍 업로드는 본문 전체가 파일이고, 원본 파일 이름은 X-File-Name 헤더(URL 인코딩)로 받는다. <br>
+ * inputStream 은 형식 검사에 쓴 앞부분부터 다시 읽히며, 다 쓴 쪽이 닫는다.
+ */
+@Getter
+public class FileStreamRequest {
+
+    private final String originalFileName;
+
+    // 클라이언트가 보낸 값이 아니라 검사에서 내용으로 읽은 형식
+    private final String contentType;
+
+    private final InputStream inputStream;
+
+    // 모르면 -1 (요청 본문)
+    private final long contentLength;
+
+    public FileStreamRequest(String originalFileName, String contentType, InputStream inputStream) {
+        this(originalFileName, contentType, inputStream, -1);
+    }
+
+    public FileStreamRequest(String originalFileName, String contentType, InputStream inputStream, long contentLength) {
+        this.originalFileName = originalFileName;
+        this.contentType = contentType;
+        this.inputStream = inputStream;
+        this.contentLength = contentLength;
+    }
+}
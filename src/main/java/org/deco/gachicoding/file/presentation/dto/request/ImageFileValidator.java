@@ -2,20 +2,36 @@ package org.deco.gachicoding.file.presentation.dto.request;
 
 import org.apache.tika.Tika;
 import org.deco.gachicoding.exception.file.FileExtensionException;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 
 public class ImageFileValidator {
     private static final String MIME_TYPE = "image";
     private static final Tika tika = new Tika();
 
-    public void execute(MultipartFile multipartFile) {
-        try{
-            String MIMEType = tika.detect(multipartFile.getInputStream());
-            if (!MIMEType.startsWith(MIME_TYPE)) {
+    // 형식 검사에 읽는 앞부분 크기. TikaInputStream 이 mark 로 잡아 두는 크기와 같다.
+    public static final int PREFIX_SIZE = 64 * 1024;
+
+    // 이미지여도 스크립트를 담을 수 있어 받지 않는 형식
+    private static final String SVG = "image/svg+xml";
+
+    /**
+     * 앞부분만 읽어 형식을 검사하고, 읽은 앞부분부터 다시 읽히는 스트림과 읽은 형식을 돌려준다. <br>
+     * 파일을 두 번 열지 않고 검사한 스트림 그대로 저장소에 올릴 수 있다.
+     */
+    public ValidatedFile execute(InputStream inputStream) {
+        try {
+            byte[] prefix = inputStream.readNBytes(PREFIX_SIZE);
+
+            String MIMEType = tika.detect(prefix);
+            if (!MIMEType.startsWith(MIME_TYPE) || MIMEType.equals(SVG)) {
                 throw new FileExtensionException();
             }
+
+            return new ValidatedFile(new SequenceInputStream(new ByteArrayInputStream(prefix), inputStream), MIMEType);
         } catch (IOException e) {
             throw new FileExtensionException();
         }
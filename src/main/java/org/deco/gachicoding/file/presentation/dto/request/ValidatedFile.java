@@ -0,0 +1,21 @@
+package org.deco.gachicoding.file.presentation.dto.request;
+
+import lombok.Getter;
+
+import java.io.InputStream;
+
+/**
+ * 형식 검사를 마친 파일 <br>
+ * contentType 은 클라이언트가 보낸 값이 아니라 내용에서 읽은 형식이다. 저장소에는 이 형식으로 저장한다.
+ */
+@Getter
+public class ValidatedFile {
+
+    private final InputStream inputStream;
+    private final String contentType;
+
+    public ValidatedFile(InputStream inputStream, String contentType) {
+        this.inputStream = inputStream;
+        this.contentType = contentType;
+    }
+}
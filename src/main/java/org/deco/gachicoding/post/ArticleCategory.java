@@ -0,0 +1,9 @@
+package org.deco.gachicoding.post;
+
+/**
+ * 게시물 종류 <br>
+ * 파일, 댓글 등에서 사용하는 article_category 문자열과 이름을 맞춘다.
+ */
+public enum ArticleCategory {
+    BOARD, NOTICE, QUESTION, ANSWER
+}
@@ -0,0 +1,76 @@
+package org.deco.gachicoding.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.html.HtmlTextExtractor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작 시 미리보기가 없는 게시물의 미리보기를 채운다. <br>
+ * 목록은 미리보기 컬럼만 읽으므로, 컬럼이 생기기 전에 저장된 게시물은 채우기 전까지 빈 미리보기로 보인다. <br>
+ * 게시물 번호 기준으로 끊어 읽고(keyset), 다 채운 뒤에는 빈 조회 한 번으로 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExcerptBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final List<ArticleCategory> CATEGORIES = List.of(
+            ArticleCategory.BOARD,
+            ArticleCategory.NOTICE,
+            ArticleCategory.QUESTION,
+            ArticleCategory.ANSWER
+    );
+
+    private final ExcerptRepository excerptRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (ArticleCategory category : CATEGORIES) {
+            // 실패해도 채운 만큼은 남고, 나머지는 다음 시작 때 다시 채운다.
+            try {
+                int filled = backfill(category);
+
+                if (filled > 0)
+                    log.info("{} 미리보기 {}건 채움", category, filled);
+            } catch (DataAccessException e) {
+                log.error("{} 미리보기 채우기 실패", category, e);
+            }
+        }
+    }
+
+    private int backfill(ArticleCategory category) {
+        int excerptLength = ExcerptRepository.excerptLength(category);
+        long lastIdx = 0L;
+        int filled = 0;
+        Map<Long, String> contents;
+
+        do {
+            contents = excerptRepository.findWithoutExcerpt(category, lastIdx, BATCH_SIZE);
+
+            if (contents.isEmpty())
+                break;
+
+            Map<Long, String> excerpts = new LinkedHashMap<>();
+
+            for (Map.Entry<Long, String> entry : contents.entrySet()) {
+                excerpts.put(entry.getKey(), HtmlTextExtractor.excerpt(entry.getValue(), excerptLength));
+                lastIdx = entry.getKey();
+            }
+
+            excerptRepository.saveExcerpts(category, excerpts);
+            filled += excerpts.size();
+        } while (contents.size() == BATCH_SIZE);
+
+        return filled;
+    }
+}
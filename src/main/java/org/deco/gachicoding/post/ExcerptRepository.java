@@ -0,0 +1,104 @@
+package org.deco.gachicoding.post;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.post.answer.domain.vo.AnswerContents;
+import org.deco.gachicoding.post.board.domain.vo.BoardContents;
+import org.deco.gachicoding.post.notice.domain.vo.NoticeContents;
+import org.deco.gachicoding.post.question.domain.vo.QuestionContents;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리보기(excerpt) 컬럼이 생기기 전에 저장된 게시물의 미리보기 채우기 <br>
+ * 엔티티를 거치면 updated_at 이 바뀌어 목록 ETag 와 정렬에 영향을 주므로 컬럼만 직접 읽고 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExcerptRepository {
+
+    private static final Map<ArticleCategory, ExcerptTable> TABLES = Map.of(
+            ArticleCategory.BOARD, new ExcerptTable("board", "board_idx", "board_contents", "board_excerpt", BoardContents.EXCERPT_LENGTH),
+            ArticleCategory.NOTICE, new ExcerptTable("notice", "not_idx", "not_contents", "not_excerpt", NoticeContents.EXCERPT_LENGTH),
+            ArticleCategory.QUESTION, new ExcerptTable("gachi_q", "qs_idx", "qs_contents", "qs_excerpt", QuestionContents.EXCERPT_LENGTH),
+            ArticleCategory.ANSWER, new ExcerptTable("gachi_a", "as_idx", "as_contents", "as_excerpt", AnswerContents.EXCERPT_LENGTH)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static int excerptLength(ArticleCategory category) {
+        return table(category).excerptLength;
+    }
+
+    /**
+     * 게시물 번호가 afterIdx 보다 크고 미리보기가 없는 게시물의 (번호 -> 본문)을 번호 순서로 최대 limit 개 <br>
+     * SELECT board_idx, board_contents FROM board WHERE board_excerpt IS NULL AND board_idx > ? ORDER BY board_idx LIMIT ?
+     */
+    public Map<Long, String> findWithoutExcerpt(ArticleCategory category, long afterIdx, int limit) {
+        Map<Long, String> contents = new LinkedHashMap<>();
+
+        jdbcTemplate.query(
+                table(category).findWithoutExcerptSql(),
+                (RowCallbackHandler) rs -> contents.put(rs.getLong(1), rs.getString(2)),
+                afterIdx,
+                limit
+        );
+
+        return contents;
+    }
+
+    /**
+     * 게시물별 미리보기를 batch 로 저장한다. <br>
+     * 그사이 수정되어 미리보기가 생긴 게시물은 덮어쓰지 않는다. <br>
+     * UPDATE board SET board_excerpt = ? WHERE board_idx = ? AND board_excerpt IS NULL
+     */
+    public void saveExcerpts(ArticleCategory category, Map<Long, String> excerpts) {
+        List<Object[]> args = new ArrayList<>(excerpts.size());
+
+        excerpts.forEach((articleIdx, excerpt) -> args.add(new Object[]{excerpt, articleIdx}));
+
+        jdbcTemplate.batchUpdate(table(category).saveExcerptSql(), args);
+    }
+
+    private static ExcerptTable table(ArticleCategory category) {
+        ExcerptTable table = TABLES.get(category);
+
+        if (table == null)
+            throw new IllegalArgumentException("미리보기를 저장하지 않는 게시물 종류입니다. " + category);
+
+        return table;
+    }
+
+    private static class ExcerptTable {
+
+        private final String table;
+        private final String idxColumn;
+        private final String contentsColumn;
+        private final String excerptColumn;
+        private final int excerptLength;
+
+        private ExcerptTable(String table, String idxColumn, String contentsColumn, String excerptColumn, int excerptLength) {
+            this.table = table;
+            this.idxColumn = idxColumn;
+            this.contentsColumn = contentsColumn;
+            this.excerptColumn = excerptColumn;
+            this.excerptLength = excerptLength;
+        }
+
+        private String findWithoutExcerptSql() {
+            return "SELECT " + idxColumn + ", " + contentsColumn + " FROM " + table
+                    + " WHERE " + excerptColumn + " IS NULL AND " + idxColumn + " > ?"
+                    + " ORDER BY " + idxColumn + " LIMIT ?";
+        }
+
+        private String saveExcerptSql() {
+            return "UPDATE " + table + " SET " + excerptColumn + " = ?"
+                    + " WHERE " + idxColumn + " = ? AND " + excerptColumn + " IS NULL";
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.deco.gachicoding.post;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.deco.gachicoding.common.transaction.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 게시물 상세 조회 결과 캐시 <br>
+ * (게시물 종류, 번호)로 상세 DTO를 보관하고, 없으면 loader로 DB에서 읽어 채운다. <br>
+ * Caffeine(W-TinyLFU)이 자주 읽히는 게시물을 남기고, 본문 길이로 무게를 매겨 전체 크기를 제한한다. <br>
+ * 게시물을 바꾸는 메서드는 커밋 이후에 evict 해야 한다. 조회수처럼 캐시 밖에서 바뀌는 값은 expireAfterWrite 만큼 늦게 보인다. <br>
+ * 조건부 GET 에 쓰는 상세 버전(ETag)과 종류별 목록 버전도 같은 evict 로 함께 갱신한다. <br>
+ * 다른 서버에서 바뀐 게시물은 evict 가 오지 않으므로, 두 버전 모두 expireAfterWrite 가 지나면 DB 에서 다시 읽는다.
+ */
+@Component
+public class PostDetailCache implements MeterBinder {
+
+    // 본문 외 필드, 객체 헤더 등 대략적인 고정 비용 (byte)
+    private static final int ENTRY_OVERHEAD = 512;
+
+    // 버전 하나는 수십 byte 라 본문보다 훨씬 많이 들고 있어도 된다.
+    private static final int VERSION_CAPACITY = 100_000;
+
+    private final Cache<Key, Entry> cache;
+
+    private final Cache<Key, String> versions;
+
+    private final Cache<ArticleCategory, String> listVersions;
+
+    public PostDetailCache(
+            @Value("${cache.post-detail.maximum-weight-bytes:33554432}") long maximumWeightBytes,
+            @Value("${cache.post-detail.expire-after-write-seconds:60}") long expireAfterWriteSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Key key, Entry entry) -> entry.weight)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(VERSION_CAPACITY)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+
+        this.listVersions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 loader 결과를 넣고 반환한다. <br>
+     * 같은 게시물을 동시에 처음 읽으면 loader는 한 번만 실행된다. loader가 던진 예외는 캐시하지 않는다.
+     * @param lengthOf 무게로 쓸 글자 수 (제목, 본문 등)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ArticleCategory category, Long articleIdx, Supplier<T> loader, ToIntFunction<T> lengthOf) {
+        Entry entry = cache.get(new Key(category, articleIdx), key -> {
+            T value = loader.get();
+            return new Entry(value, ENTRY_OVERHEAD + 2 * lengthOf.applyAsInt(value));
+        });
+
+        return (T) entry.value;
+    }
+
+    /**
+     * 상세 응답의 ETag <br>
+     * 없으면 loader 로 읽어 기억한다. loader 가 null 을 주면 (없는 게시물, 비활성 게시물) 기억하지 않는다.
+     */
+    public String version(ArticleCategory category, Long articleIdx, Supplier<String> loader) {
+        return versions.get(new Key(category, articleIdx), key -> loader.get());
+    }
+
+    // 목록 응답의 ETag. 없으면 loader 로 읽어 기억한다.
+    public String listVersion(ArticleCategory category, Supplier<String> loader) {
+        return listVersions.get(category, key -> loader.get());
+    }
+
+    // 트랜잭션 안에서 부르면 커밋 이후에 지운다. 커밋 전에 지우면 다른 요청이 이전 값을 다시 채울 수 있다.
+    public void evict(ArticleCategory category, Long articleIdx) {
+        Key key = new Key(category, articleIdx);
+
+        AfterCommit.run(() -> {
+            cache.invalidate(key);
+            versions.invalidate(key);
+            listVersions.invalidate(category);
+        });
+    }
+
+    // 새 게시물처럼 상세 캐시에는 없고 목록만 바뀌는 경우
+    public void evictList(ArticleCategory category) {
+        AfterCommit.run(() -> listVersions.invalidate(category));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size ...
+        CaffeineCacheMetrics.monitor(registry, cache, "post.detail");
+    }
+
+    private static class Key {
+
+        private final ArticleCategory category;
+        private final Long articleIdx;
+
+        private Key(ArticleCategory category, Long articleIdx) {
+            this.category = category;
+            this.articleIdx = articleIdx;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key key = (Key) o;
+            return category == key.category && articleIdx.equals(key.articleIdx);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(category, articleIdx);
+        }
+    }
+
+    private static class Entry {
+
+        private final Object value;
+        private final int weight;
+
+        private Entry(Object value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
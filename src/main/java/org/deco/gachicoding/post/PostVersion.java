@@ -0,0 +1,46 @@
+package org.deco.gachicoding.post;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 게시물 상세 응답의 버전 (ETag 재료) <br>
+ * 질문은 답변이 바뀌어도 질문의 updated_at 이 그대로이므로, 답변의 마지막 수정 시각과 답변 수를 함께 본다. <br>
+ * 목록은 종류별 활성 게시물의 마지막 수정 시각과 게시물 수로 만든다. 여러 서버가 같은 DB 를 보므로 서버마다 같은 값이 나온다.
+ */
+@Getter
+public class PostVersion {
+
+    private final LocalDateTime updatedAt;
+
+    private final long children;
+
+    public PostVersion(LocalDateTime updatedAt) {
+        this(updatedAt, null, 0L);
+    }
+
+    // 목록 버전. 게시물이 하나도 없으면 updatedAt 은 null
+    public PostVersion(LocalDateTime updatedAt, Long count) {
+        this(updatedAt, null, count);
+    }
+
+    public PostVersion(LocalDateTime updatedAt, LocalDateTime childUpdatedAt, Long children) {
+        this.updatedAt = (childUpdatedAt != null && (updatedAt == null || childUpdatedAt.isAfter(updatedAt))) ? childUpdatedAt : updatedAt;
+        this.children = (children == null) ? 0L : children;
+    }
+
+    // 응답의 조회수는 버전과 따로 바뀌므로 약한(W/) ETag 로 낸다.
+    public String eTag(ArticleCategory category, Long articleIdx) {
+        return String.format("W/\"%s-%d-%d-%d\"", category.name().toLowerCase(), articleIdx, updatedMillis(), children);
+    }
+
+    public String listETag(ArticleCategory category) {
+        return String.format("W/\"%s-list-%d-%d\"", category.name().toLowerCase(), updatedMillis(), children);
+    }
+
+    private long updatedMillis() {
+        return (updatedAt == null) ? 0L : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,43 @@
+package org.deco.gachicoding.post.answer.application;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.file.application.ArticleContentStore;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostDetailCache;
+import org.deco.gachicoding.post.answer.domain.Answer;
+import org.deco.gachicoding.post.answer.domain.repository.AnswerRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Component
+@RequiredArgsConstructor
+public class AnswerContentStore implements ArticleContentStore {
+
+    private final AnswerRepository answerRepository;
+    private final PostDetailCache postDetailCache;
+
+    @Override
+    public ArticleCategory getCategory() {
+        return ArticleCategory.ANSWER;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findContents(Long articleIdx) {
+        return answerRepository.findById(articleIdx)
+                .map(Answer::getAnsContents);
+    }
+
+    // 답변은 질문 상세에 함께 실리므로 질문 캐시를 지운다.
+    @Override
+    @Transactional
+    public void rewriteContents(Long articleIdx, UnaryOperator<String> rewriter) {
+        answerRepository.findById(articleIdx).ifPresent(answer -> {
+            answer.update(rewriter.apply(answer.getAnsContents()));
+            postDetailCache.evict(ArticleCategory.QUESTION, answer.getQueIdx());
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package org.deco.gachicoding.post.answer.application;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.answer.domain.Answer;
+import org.deco.gachicoding.post.answer.domain.repository.AnswerRepository;
+import org.deco.gachicoding.search.application.SearchBackend;
+import org.deco.gachicoding.search.application.SearchIndexService;
+import org.deco.gachicoding.search.application.dto.response.SearchHitDto;
+import org.deco.gachicoding.search.domain.ScoredArticle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class AnswerSearchBackend implements SearchBackend {
+
+    private final SearchIndexService searchIndexService;
+    private final AnswerRepository answerRepository;
+
+    @Override
+    public ArticleCategory getCategory() {
+        return ArticleCategory.ANSWER;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchHitDto> search(String keyword, int size) {
+        List<ScoredArticle> scoredArticles = searchIndexService.rank(ArticleCategory.ANSWER, keyword, size);
+
+        if (scoredArticles.isEmpty())
+            return List.of();
+
+        Map<Long, Answer> answers = answerRepository.findAllEnableAnswerByIdxIn(
+                scoredArticles.stream()
+                        .map(ScoredArticle::getArticleIdx)
+                        .collect(Collectors.toList())
+        ).stream().collect(Collectors.toMap(Answer::getAnsIdx, Function.identity()));
+
+        return scoredArticles.stream()
+                .filter(scoredArticle -> answers.containsKey(scoredArticle.getArticleIdx()))
+                .map(scoredArticle -> {
+                    Answer answer = answers.get(scoredArticle.getArticleIdx());
+
+                    return SearchHitDto.builder()
+                            .articleCategory(ArticleCategory.ANSWER)
+                            .articleIdx(answer.getAnsIdx())
+                            .parentIdx(answer.getQueIdx())
+                            .title(answer.getQuestion().getQueTitle())
+                            .excerpt(answer.getAnsExcerpt())
+                            .score(scoredArticle.getScore())
+                            .createdAt(answer.getCreatedAt())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+}
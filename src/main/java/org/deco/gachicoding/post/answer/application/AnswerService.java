@@ -7,13 +7,20 @@ import org.deco.gachicoding.exception.post.question.QuestionAlreadySolvedExcepti
 import org.deco.gachicoding.exception.post.question.QuestionInactiveException;
 import org.deco.gachicoding.exception.post.question.QuestionNotFoundException;
 import org.deco.gachicoding.exception.user.UserNotFoundException;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostDetailCache;
 import org.deco.gachicoding.post.answer.application.dto.request.AnswerBasicRequestDto;
 import org.deco.gachicoding.post.answer.application.dto.request.AnswerUpdateRequestDto;
 import org.deco.gachicoding.post.answer.domain.Answer;
 import org.deco.gachicoding.post.answer.domain.repository.AnswerRepository;
 import org.deco.gachicoding.post.question.domain.Question;
 import org.deco.gachicoding.post.question.domain.repository.QuestionRepository;
+import org.deco.gachicoding.file.application.FilePromotionService;
 import org.deco.gachicoding.file.application.FileService;
+import org.deco.gachicoding.search.application.SearchIndexService;
+import org.deco.gachicoding.trending.application.TrendingService;
+import org.deco.gachicoding.trending.domain.TrendingEvent;
+import org.deco.gachicoding.user.application.UserIdCache;
 import org.deco.gachicoding.user.domain.User;
 import org.deco.gachicoding.user.domain.repository.UserRepository;
 import org.deco.gachicoding.post.answer.application.dto.request.AnswerSaveRequestDto;
@@ -28,7 +35,12 @@ public class AnswerService {
     private final AnswerRepository answerRepository;
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
+    private final UserIdCache userIdCache;
     private final FileService fileService;
+    private final FilePromotionService filePromotionService;
+    private final SearchIndexService searchIndexService;
+    private final TrendingService trendingService;
+    private final PostDetailCache postDetailCache;
 
     @Transactional(rollbackFor = Exception.class)
     public Long registerAnswer(AnswerSaveRequestDto dto) {
@@ -36,11 +48,12 @@ public class AnswerService {
         Answer answer = answerRepository.save(createAnswer(dto));
 
         Long ansIdx = answer.getAnsIdx();
-        String ansContent = answer.getAnsContents();
 
-        answer.update(
-                fileService.extractPathAndS3Upload(ansIdx, "ANSWER", ansContent)
-        );
+        filePromotionService.enqueue(ansIdx, "ANSWER");
+
+        searchIndexService.index(ArticleCategory.ANSWER, ansIdx, null, answer.getAnsContents());
+        postDetailCache.evict(ArticleCategory.QUESTION, answer.getQueIdx());
+        trendingService.record(ArticleCategory.QUESTION, answer.getQueIdx(), answer.getQuestion().getQueTitle(), TrendingEvent.ANSWER);
 
         return answer.getQueIdx();
     }
@@ -62,9 +75,9 @@ public class AnswerService {
 
         Answer answer = findAnswer(dto.getAnsIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        answer.hasSameAuthor(user);
+        answer.hasSameAuthor(userIdx);
 
         if (!answer.getAnsLocked())
             throw new AnswerInactiveException();
@@ -75,6 +88,9 @@ public class AnswerService {
 
         answer.update(updateContents);
 
+        searchIndexService.index(ArticleCategory.ANSWER, answer.getAnsIdx(), null, answer.getAnsContents());
+        postDetailCache.evict(ArticleCategory.QUESTION, answer.getQueIdx());
+
         return answer.getQueIdx();
     }
 
@@ -85,12 +101,12 @@ public class AnswerService {
 
         Question question = answer.getQuestion();
 
-        User requester = findAuthor(dto.getUserEmail());
+        Long requesterIdx = findAuthorIdx(dto.getUserEmail());
 
         // 답변을 채택하는 사람은 질문을 작성한 작성자이기 때문에
         // 요청을 보낸 요청자와 질문의 작성자가 같아야 채택 가능
         // hasSameAuthor -> unAuthorizedCheck 같은 걸로 바꾸는게 나은 듯
-        question.hasSameAuthor(requester);
+        question.hasSameAuthor(requesterIdx);
 
         if (!answer.getAnsLocked())
             throw new AnswerInactiveException();
@@ -102,6 +118,8 @@ public class AnswerService {
 
         question.toSolve();
 
+        postDetailCache.evict(ArticleCategory.QUESTION, question.getQueIdx());
+
         return question.getQueIdx();
     }
 
@@ -109,41 +127,51 @@ public class AnswerService {
     public void disableAnswer(AnswerBasicRequestDto dto) {
         Answer answer = findAnswer(dto.getAnsIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        answer.hasSameAuthor(user);
+        answer.hasSameAuthor(userIdx);
 
         // 채택 된 답변 비 활성 불가
         if (answer.getAnsSelected())
             throw new CheckedAnswerDisableFailedException();
 
         answer.disableAnswer();
+
+        searchIndexService.remove(ArticleCategory.ANSWER, answer.getAnsIdx());
+        postDetailCache.evict(ArticleCategory.QUESTION, answer.getQueIdx());
     }
 
     @Transactional
     public void enableAnswer(AnswerBasicRequestDto dto) {
         Answer answer = findAnswer(dto.getAnsIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        answer.hasSameAuthor(user);
+        answer.hasSameAuthor(userIdx);
 
         answer.enableAnswer();
+
+        searchIndexService.index(ArticleCategory.ANSWER, answer.getAnsIdx(), null, answer.getAnsContents());
+        postDetailCache.evict(ArticleCategory.QUESTION, answer.getQueIdx());
     }
 
     @Transactional
     public void removeAnswer(AnswerBasicRequestDto dto) {
         Answer answer = findAnswer(dto.getAnsIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        answer.hasSameAuthor(user);
+        answer.hasSameAuthor(userIdx);
 
         // 답변 채택 시 삭제 불가 -> 이건 생각을 좀 해봐야 할 듯?(2022-11-09)
         if (answer.getAnsSelected())
             throw new CheckedAnswerDeleteFailedException();
 
         answerRepository.delete(answer);
+        fileService.deleteArticleFiles("ANSWER", answer.getAnsIdx());
+
+        searchIndexService.remove(ArticleCategory.ANSWER, answer.getAnsIdx());
+        postDetailCache.evict(ArticleCategory.QUESTION, answer.getQueIdx());
     }
 
     private Question findQuestion(Long queIdx) {
@@ -156,8 +184,14 @@ public class AnswerService {
                 .orElseThrow(AnswerNotFoundException::new);
     }
 
+    // 작성자 연관관계에는 번호만 있으면 되므로 조회 없이 프록시를 쓴다.
     private User findAuthor(String userEmail) {
-        return userRepository.findByUserEmail(userEmail)
-                .orElseThrow(UserNotFoundException::new);
+        return userRepository.getById(findAuthorIdx(userEmail));
+    }
+
+    private Long findAuthorIdx(String userEmail) {
+        return userIdCache.getUserIdx(userEmail, email -> userRepository.findByUserEmail(email)
+                .map(User::getUserIdx)
+                .orElseThrow(UserNotFoundException::new));
     }
 }
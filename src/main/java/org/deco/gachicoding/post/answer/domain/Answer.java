@@ -77,8 +77,8 @@ public class Answer extends BaseTimeEntity {
         return question.getQueIdx();
     }
 
-    public void hasSameAuthor(User user) {
-        if (answerer != user) {
+    public void hasSameAuthor(Long userIdx) {
+        if (userIdx == null || !userIdx.equals(answerer.getUserIdx())) {
             throw new UserUnAuthorizedException();
         }
     }
@@ -99,6 +99,10 @@ public class Answer extends BaseTimeEntity {
         return ansContents.getAnswerContents();
     }
 
+    public String getAnsExcerpt() {
+        return ansContents.getAnswerExcerpt();
+    }
+
     public void toSelect() {
         // 이미 채택 되어있으면
         if (this.ansSelected)
@@ -1,5 +1,6 @@
 package org.deco.gachicoding.post.answer.domain.vo;
 
+import org.deco.gachicoding.common.html.HtmlTextExtractor;
 import org.deco.gachicoding.exception.post.answer.AnswerContentsEmptyException;
 import org.deco.gachicoding.exception.post.answer.AnswerContentsNullException;
 import org.deco.gachicoding.exception.post.answer.AnswerContentsOverMaximumLengthException;
@@ -12,9 +13,16 @@ public class AnswerContents {
 
     public static final int MAXIMUM_CONTENT_LENGTH = 100000;
 
+    // 목록 미리보기 글자 수
+    public static final int EXCERPT_LENGTH = 100;
+
     @Column(name = "as_contents", columnDefinition = "text", nullable = false)
     private String ansContents;
 
+    // 본문이 바뀔 때만 다시 만들어 목록 조회가 본문(TEXT)을 읽지 않게 한다.
+    @Column(name = "as_excerpt", length = EXCERPT_LENGTH)
+    private String ansExcerpt;
+
     protected AnswerContents() {}
 
     public AnswerContents(String queContents) {
@@ -22,12 +30,17 @@ public class AnswerContents {
         validateEmptyContents(queContents);
         validateMaximumLength(queContents);
         this.ansContents = queContents;
+        this.ansExcerpt = HtmlTextExtractor.excerpt(queContents, EXCERPT_LENGTH);
     }
 
     public String getAnswerContents() {
         return ansContents;
     }
 
+    public String getAnswerExcerpt() {
+        return ansExcerpt;
+    }
+
     public AnswerContents update(String updateContents) {
         if (ansContents.equals(updateContents))
             return this;
@@ -0,0 +1,42 @@
+package org.deco.gachicoding.post.board.application;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.file.application.ArticleContentStore;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostDetailCache;
+import org.deco.gachicoding.post.board.domain.Board;
+import org.deco.gachicoding.post.board.domain.repository.BoardRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Component
+@RequiredArgsConstructor
+public class BoardContentStore implements ArticleContentStore {
+
+    private final BoardRepository boardRepository;
+    private final PostDetailCache postDetailCache;
+
+    @Override
+    public ArticleCategory getCategory() {
+        return ArticleCategory.BOARD;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findContents(Long articleIdx) {
+        return boardRepository.findById(articleIdx)
+                .map(Board::getBoardContents);
+    }
+
+    @Override
+    @Transactional
+    public void rewriteContents(Long articleIdx, UnaryOperator<String> rewriter) {
+        boardRepository.findById(articleIdx).ifPresent(board -> {
+            board.updateContent(rewriter.apply(board.getBoardContents()));
+            postDetailCache.evict(ArticleCategory.BOARD, articleIdx);
+        });
+    }
+}
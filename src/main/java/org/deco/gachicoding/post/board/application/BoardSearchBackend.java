@@ -0,0 +1,61 @@
+package org.deco.gachicoding.post.board.application;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.board.domain.BoardSummary;
+import org.deco.gachicoding.post.board.domain.repository.BoardRepository;
+import org.deco.gachicoding.search.application.SearchBackend;
+import org.deco.gachicoding.search.application.SearchIndexService;
+import org.deco.gachicoding.search.application.dto.response.SearchHitDto;
+import org.deco.gachicoding.search.domain.ScoredArticle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class BoardSearchBackend implements SearchBackend {
+
+    private final SearchIndexService searchIndexService;
+    private final BoardRepository boardRepository;
+
+    @Override
+    public ArticleCategory getCategory() {
+        return ArticleCategory.BOARD;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchHitDto> search(String keyword, int size) {
+        List<ScoredArticle> scoredArticles = searchIndexService.rank(ArticleCategory.BOARD, keyword, size);
+
+        if (scoredArticles.isEmpty())
+            return List.of();
+
+        Map<Long, BoardSummary> boards = boardRepository.findAllEnableBoardByIdxIn(
+                scoredArticles.stream()
+                        .map(ScoredArticle::getArticleIdx)
+                        .collect(Collectors.toList())
+        ).stream().collect(Collectors.toMap(BoardSummary::getBoardIdx, Function.identity()));
+
+        return scoredArticles.stream()
+                .filter(scoredArticle -> boards.containsKey(scoredArticle.getArticleIdx()))
+                .map(scoredArticle -> {
+                    BoardSummary board = boards.get(scoredArticle.getArticleIdx());
+
+                    return SearchHitDto.builder()
+                            .articleCategory(ArticleCategory.BOARD)
+                            .articleIdx(board.getBoardIdx())
+                            .title(board.getBoardTitle())
+                            .excerpt(board.getBoardExcerpt())
+                            .score(scoredArticle.getScore())
+                            .createdAt(board.getCreatedAt())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -2,20 +2,36 @@ package org.deco.gachicoding.post.board.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.pagination.CursorPage;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.deco.gachicoding.exception.post.board.BoardInactiveException;
 import org.deco.gachicoding.exception.post.board.BoardNotFoundException;
 import org.deco.gachicoding.exception.user.UserNotFoundException;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostDetailCache;
 import org.deco.gachicoding.post.board.application.dto.BoardDtoAssembler;
 import org.deco.gachicoding.post.board.application.dto.request.*;
+import org.deco.gachicoding.post.board.application.dto.response.BoardListResponseDto;
 import org.deco.gachicoding.post.board.application.dto.response.BoardResponseDto;
 import org.deco.gachicoding.post.board.domain.Board;
+import org.deco.gachicoding.post.board.domain.BoardSummary;
 import org.deco.gachicoding.post.board.domain.repository.BoardRepository;
+import org.deco.gachicoding.file.application.FilePromotionService;
 import org.deco.gachicoding.file.application.FileService;
+import org.deco.gachicoding.search.application.SearchIndexService;
 import org.deco.gachicoding.tag.application.TagService;
+import org.deco.gachicoding.trending.application.TrendingService;
+import org.deco.gachicoding.trending.domain.TrendingEvent;
+import org.deco.gachicoding.user.application.UserIdCache;
 import org.deco.gachicoding.user.domain.User;
 import org.deco.gachicoding.user.domain.repository.UserRepository;
+import org.deco.gachicoding.view.application.UniqueVisitorService;
+import org.deco.gachicoding.view.application.ViewCountService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
 import java.util.Queue;
@@ -27,8 +43,15 @@ public class BoardService {
 
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final UserIdCache userIdCache;
     private final FileService fileService;
+    private final FilePromotionService filePromotionService;
     private final TagService tagService;
+    private final SearchIndexService searchIndexService;
+    private final ViewCountService viewCountService;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final TrendingService trendingService;
+    private final PostDetailCache postDetailCache;
 
     @Transactional(rollbackFor = Exception.class)
     public Long registerBoard(BoardSaveRequestDto dto) {
@@ -37,16 +60,17 @@ public class BoardService {
 
         // 경로에서 idx 빼버릴까
         Long boardIdx = board.getBoardIdx();
-        String boardContent = board.getBoardContents();
 
-        board.updateContent(
-                fileService.extractPathAndS3Upload(boardIdx, "BOARD", boardContent)
-        );
+        // 이미지 이동은 커밋 뒤 워커가 한다. 그 전까지 본문은 TEMP 경로를 그대로 가리킨다.
+        filePromotionService.enqueue(boardIdx, "BOARD");
 
         // tagify 라이브러리
 //        if (dto.getTags() != null)
 //            tagService.registerBoardTag(boardIdx, dto.getTags(), BOARD);
 
+        searchIndexService.index(ArticleCategory.BOARD, boardIdx, board.getBoardTitle(), board.getBoardContents());
+        postDetailCache.evictList(ArticleCategory.BOARD);
+
         return board.getBoardIdx();
     }
 
@@ -57,25 +81,96 @@ public class BoardService {
     }
 
     @Transactional
-    public List<BoardResponseDto> getBoardList(BoardListRequestDto dto) {
+    public List<BoardListResponseDto> getBoardList(BoardListRequestDto dto) {
+
+        if (StringUtils.hasText(dto.getKeyword()) && searchIndexService.isReady(ArticleCategory.BOARD))
+            return BoardDtoAssembler.boardListResponseDtos(
+                    findEnableBoards(searchIndexService.search(ArticleCategory.BOARD, dto.getKeyword(), dto.getPageable()))
+            );
 
-        return BoardDtoAssembler.boardResponseDtos(
+        return BoardDtoAssembler.boardListResponseDtos(
                 boardRepository.findAllBoardByKeyword(
                         dto.getKeyword(), dto.getPageable()
                 )
         );
     }
 
+    // (created_at, board_idx) 커서 기준 목록, 몇 번째 페이지든 같은 비용으로 조회된다.
+    @Transactional(readOnly = true)
+    public CursorPage<BoardListResponseDto> getBoardListByCursor(BoardListRequestDto dto) {
+        int size = dto.getPageable().getPageSize();
+        PageCursor cursor = (dto.getCursor() == null) ? PageCursor.first() : dto.getCursor();
+
+        return BoardDtoAssembler.boardListResponseDtos(
+                findBoardPage(dto.getKeyword(), cursor, size + 1),
+                size
+        );
+    }
+
+    private List<BoardSummary> findBoardPage(String keyword, PageCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+
+        if (!StringUtils.hasText(keyword))
+            return boardRepository.findEnableBoardPage(cursor.getCreatedAt(), cursor.getIdx(), pageable);
+
+        if (!searchIndexService.isReady(ArticleCategory.BOARD))
+            return boardRepository.findEnableBoardPageByKeyword(keyword, cursor.getCreatedAt(), cursor.getIdx(), pageable);
+
+        // 색인은 게시물 번호 순서이므로 커서의 게시물 번호 이후부터 찾는다.
+        return findEnableBoards(searchIndexService.searchAfter(ArticleCategory.BOARD, keyword, cursor.getIdx(), limit));
+    }
+
+    private List<BoardSummary> findEnableBoards(List<Long> boardIdxs) {
+        if (boardIdxs.isEmpty())
+            return List.of();
+
+        return boardRepository.findAllEnableBoardByIdxIn(boardIdxs);
+    }
+
+    // 상세를 읽기 전에 ETag 만 비교할 때 쓴다. 없거나 비활성화된 게시물이면 null
+    public String getBoardVersion(Long boardIdx) {
+        return postDetailCache.version(
+                ArticleCategory.BOARD,
+                boardIdx,
+                () -> boardRepository.findEnableBoardVersion(boardIdx)
+                        .map(version -> version.eTag(ArticleCategory.BOARD, boardIdx))
+                        .orElse(null)
+        );
+    }
+
+    public String getBoardListVersion() {
+        return postDetailCache.listVersion(
+                ArticleCategory.BOARD,
+                () -> boardRepository.findEnableBoardListVersion().listETag(ArticleCategory.BOARD)
+        );
+    }
+
     @Transactional
     public BoardResponseDto getBoardDetail(BoardDetailRequestDto dto) {
+        Long boardIdx = dto.getBoardIdx();
 
-        Board board = findBoard(dto.getBoardIdx());
+        BoardResponseDto board = postDetailCache.get(
+                ArticleCategory.BOARD,
+                boardIdx,
+                () -> loadBoardDetail(boardIdx),
+                detail -> detail.getBoardTitle().length() + detail.getBoardContents().length()
+        );
+
+//        tagService.getTags(boardIdx, BOARD, boardDetail);
+
+        viewCountService.increment(ArticleCategory.BOARD, boardIdx);
+        long uniqueViews = uniqueVisitorService.visit(ArticleCategory.BOARD, boardIdx, dto.getVisitorKey());
+        trendingService.record(ArticleCategory.BOARD, boardIdx, board.getBoardTitle(), TrendingEvent.VIEW);
+
+        return BoardDtoAssembler.boardResponseDto(board, uniqueViews);
+    }
+
+    private BoardResponseDto loadBoardDetail(Long boardIdx) {
+        Board board = findBoard(boardIdx);
 
         if (!board.getBoardLocked())
             throw new BoardInactiveException();
 
-//        tagService.getTags(boardIdx, BOARD, boardDetail);
-
         return BoardDtoAssembler.boardResponseDto(board);
     }
 
@@ -93,15 +188,18 @@ public class BoardService {
         if (!board.getBoardLocked())
             throw new BoardInactiveException();
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        board.hasSameAuthor(user);
+        board.hasSameAuthor(userIdx);
 
         board.updateTitle(dto.getBoardTitle());
 
         // blocking
         board.updateContent(updateContents);
 
+        searchIndexService.index(ArticleCategory.BOARD, board.getBoardIdx(), board.getBoardTitle(), board.getBoardContents());
+        postDetailCache.evict(ArticleCategory.BOARD, board.getBoardIdx());
+
         return BoardDtoAssembler.boardResponseDto(board);
     }
 
@@ -109,33 +207,45 @@ public class BoardService {
     public void disableBoard(BoardBasicRequestDto dto) {
         Board board = findBoard(dto.getBoardIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        board.hasSameAuthor(user);
+        board.hasSameAuthor(userIdx);
 
         board.disableBoard();
+
+        searchIndexService.remove(ArticleCategory.BOARD, board.getBoardIdx());
+        postDetailCache.evict(ArticleCategory.BOARD, board.getBoardIdx());
+        trendingService.remove(ArticleCategory.BOARD, board.getBoardIdx());
     }
 
     @Transactional
     public void enableBoard(BoardBasicRequestDto dto) {
         Board board = findBoard(dto.getBoardIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        board.hasSameAuthor(user);
+        board.hasSameAuthor(userIdx);
 
         board.enableBoard();
+
+        searchIndexService.index(ArticleCategory.BOARD, board.getBoardIdx(), board.getBoardTitle(), board.getBoardContents());
+        postDetailCache.evict(ArticleCategory.BOARD, board.getBoardIdx());
     }
 
     @Transactional
     public void removeBoard(BoardBasicRequestDto dto) {
         Board board = findBoard(dto.getBoardIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        board.hasSameAuthor(user);
+        board.hasSameAuthor(userIdx);
 
         boardRepository.delete(board);
+        fileService.deleteArticleFiles("BOARD", board.getBoardIdx());
+
+        searchIndexService.remove(ArticleCategory.BOARD, board.getBoardIdx());
+        postDetailCache.evict(ArticleCategory.BOARD, board.getBoardIdx());
+        trendingService.remove(ArticleCategory.BOARD, board.getBoardIdx());
     }
 
     private Board findBoard(Long boardIdx) {
@@ -143,8 +253,14 @@ public class BoardService {
                 .orElseThrow(BoardNotFoundException::new);
     }
 
+    // 작성자 연관관계에는 번호만 있으면 되므로 조회 없이 프록시를 쓴다.
     private User findAuthor(String userEmail) {
-        return userRepository.findByUserEmail(userEmail)
-                .orElseThrow(UserNotFoundException::new);
+        return userRepository.getById(findAuthorIdx(userEmail));
+    }
+
+    private Long findAuthorIdx(String userEmail) {
+        return userIdCache.getUserIdx(userEmail, email -> userRepository.findByUserEmail(email)
+                .map(User::getUserIdx)
+                .orElseThrow(UserNotFoundException::new));
     }
 }
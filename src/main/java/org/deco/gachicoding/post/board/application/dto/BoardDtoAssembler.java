@@ -1,8 +1,12 @@
 package org.deco.gachicoding.post.board.application.dto;
 
+import org.deco.gachicoding.common.pagination.CursorPage;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.deco.gachicoding.post.board.application.dto.request.BoardSaveRequestDto;
+import org.deco.gachicoding.post.board.application.dto.response.BoardListResponseDto;
 import org.deco.gachicoding.post.board.application.dto.response.BoardResponseDto;
 import org.deco.gachicoding.post.board.domain.Board;
+import org.deco.gachicoding.post.board.domain.BoardSummary;
 import org.deco.gachicoding.user.domain.User;
 
 import java.util.List;
@@ -36,21 +40,45 @@ public class BoardDtoAssembler {
                 .build();
     }
 
-    public static List<BoardResponseDto> boardResponseDtos(List<Board> boards) {
+    // 캐시에 있던 상세 DTO에 요청마다 달라지는 값을 채운다.
+    public static BoardResponseDto boardResponseDto(BoardResponseDto cached, Long boardUniqueViews) {
+        return BoardResponseDto.builder()
+                .boardIdx(cached.getBoardIdx())
+                .author(cached.getAuthor())
+                .boardTitle(cached.getBoardTitle())
+                .boardContents(cached.getBoardContents())
+                .boardCategory(cached.getBoardCategory())
+                .boardViews(cached.getBoardViews())
+                .boardUniqueViews(boardUniqueViews)
+                .boardLocked(cached.getBoardLocked())
+                .createdAt(cached.getCreatedAt())
+                .updatedAt(cached.getUpdatedAt())
+                .build();
+    }
+
+    public static List<BoardListResponseDto> boardListResponseDtos(List<BoardSummary> boards) {
         return boards.stream()
-                .map(board -> convertForm(board))
+                .map(BoardDtoAssembler::boardListResponseDto)
                 .collect(toList());
     }
 
-    private static BoardResponseDto convertForm(Board board) {
-        return BoardResponseDto.builder()
+    // boards는 size + 1 개까지 조회한 결과
+    public static CursorPage<BoardListResponseDto> boardListResponseDtos(List<BoardSummary> boards, int size) {
+        return CursorPage.of(
+                boards,
+                size,
+                board -> new PageCursor(board.getCreatedAt(), board.getBoardIdx()),
+                BoardDtoAssembler::boardListResponseDto
+        );
+    }
+
+    private static BoardListResponseDto boardListResponseDto(BoardSummary board) {
+        return BoardListResponseDto.builder()
                 .boardIdx(board.getBoardIdx())
-                .author(board.getAuthor())
+                .authorNick(board.getAuthorNick())
                 .boardTitle(board.getBoardTitle())
-                .boardContents(board.getBoardContents())
-                .boardCategory(board.getBoardCategory())
+                .boardExcerpt(board.getBoardExcerpt())
                 .boardViews(board.getBoardViews())
-                .boardLocked(board.getBoardLocked())
                 .createdAt(board.getCreatedAt())
                 .updatedAt(board.getUpdatedAt())
                 .build();
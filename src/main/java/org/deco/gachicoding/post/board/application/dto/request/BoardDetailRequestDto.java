@@ -11,8 +11,11 @@ public class BoardDetailRequestDto {
     @NotNull(message = "F0001")
     private Long boardIdx;
 
+    private String visitorKey;
+
     @Builder
-    public BoardDetailRequestDto(Long boardIdx) {
+    public BoardDetailRequestDto(Long boardIdx, String visitorKey) {
         this.boardIdx = boardIdx;
+        this.visitorKey = visitorKey;
     }
 }
@@ -2,6 +2,7 @@ package org.deco.gachicoding.post.board.application.dto.request;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.springframework.data.domain.Pageable;
 
 import javax.validation.constraints.NotNull;
@@ -15,9 +16,13 @@ public class BoardListRequestDto {
     @NotNull(message = "F0001")
     private Pageable pageable;
 
+    // 커서 페이지 조회에서만 사용
+    private PageCursor cursor;
+
     @Builder
-    public BoardListRequestDto(String keyword, Pageable pageable) {
+    public BoardListRequestDto(String keyword, Pageable pageable, PageCursor cursor) {
         this.keyword = keyword;
         this.pageable = pageable;
+        this.cursor = cursor;
     }
 }
@@ -0,0 +1,40 @@
+package org.deco.gachicoding.post.board.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BoardListResponseDto {
+
+    private Long boardIdx;
+    private String authorNick;
+
+    private String boardTitle;
+    private String boardExcerpt;
+    private Long boardViews;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public BoardListResponseDto(
+            Long boardIdx,
+            String authorNick,
+            String boardTitle,
+            String boardExcerpt,
+            Long boardViews,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        this.boardIdx = boardIdx;
+
+        this.authorNick = authorNick;
+
+        this.boardTitle = boardTitle;
+        this.boardExcerpt = boardExcerpt;
+        this.boardViews = boardViews;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -20,6 +20,7 @@ public class BoardResponseDto implements PostResponseDto {
     private String boardContents;
     private String boardCategory;
     private Long boardViews;
+    private Long boardUniqueViews;
     private Boolean boardLocked;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -34,6 +35,7 @@ public class BoardResponseDto implements PostResponseDto {
             String boardContents,
             String boardCategory,
             Long boardViews,
+            Long boardUniqueViews,
             Boolean boardLocked,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
@@ -46,6 +48,7 @@ public class BoardResponseDto implements PostResponseDto {
         this.boardContents = boardContents;
         this.boardCategory = boardCategory;
         this.boardViews = boardViews;
+        this.boardUniqueViews = boardUniqueViews;
         this.boardLocked = boardLocked;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -25,7 +25,7 @@ import java.util.Queue;
 @DynamicInsert
 @DynamicUpdate
 @NoArgsConstructor
-@Table(name = "board")
+@Table(name = "board", indexes = @Index(name = "idx_board_locked_created_at", columnList = "board_locked, created_at, board_idx"))
 public class Board extends BaseTimeEntity {
 
     @Id
@@ -43,10 +43,15 @@ public class Board extends BaseTimeEntity {
     @Column(name = "board_category", columnDefinition = "varchar(20)")
     private String boardCategory;
 
-    @Column(name = "board_views", nullable = false)
+    // 조회수는 ViewCountService 가 JDBC 로 더한다. 수정할 때 읽어 둔 값으로 덮어쓰지 않도록 UPDATE 에서 뺀다.
+    @Column(name = "board_views", nullable = false, updatable = false)
     @ColumnDefault("0")
     private Long boardViews;
 
+    // 순 방문자 HyperLogLog 스케치, UniqueVisitorService 가 JDBC 로 직접 갱신한다.
+    @Column(name = "board_visitors", columnDefinition = "varbinary(2048)", insertable = false, updatable = false)
+    private byte[] boardVisitors;
+
     @Column(name = "board_locked", nullable = false)
     @ColumnDefault("true")
     private Boolean boardLocked;
@@ -87,8 +92,12 @@ public class Board extends BaseTimeEntity {
         return boardContents.getBoardContents();
     }
 
-    public void hasSameAuthor(User user) {
-        if (author != user) {
+    public String getBoardExcerpt() {
+        return boardContents.getBoardExcerpt();
+    }
+
+    public void hasSameAuthor(Long userIdx) {
+        if (userIdx == null || !userIdx.equals(author.getUserIdx())) {
             throw new UserUnAuthorizedException();
         }
     }
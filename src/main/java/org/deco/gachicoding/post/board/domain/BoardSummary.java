@@ -0,0 +1,40 @@
+package org.deco.gachicoding.post.board.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 목록 조회용 projection <br>
+ * 본문 전체(TEXT) 대신 미리보기만 가져온다.
+ */
+@Getter
+public class BoardSummary {
+
+    private final Long boardIdx;
+    private final String authorNick;
+    private final String boardTitle;
+    private final String boardExcerpt;
+    private final Long boardViews;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    // JPQL 생성자 표현식에서 사용
+    public BoardSummary(
+            Long boardIdx,
+            String authorNick,
+            String boardTitle,
+            String boardExcerpt,
+            Long boardViews,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        this.boardIdx = boardIdx;
+        this.authorNick = authorNick;
+        this.boardTitle = boardTitle;
+        this.boardExcerpt = boardExcerpt;
+        this.boardViews = boardViews;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,11 +1,14 @@
 package org.deco.gachicoding.post.board.domain.repository;
 
+import org.deco.gachicoding.post.PostVersion;
 import org.deco.gachicoding.post.board.domain.Board;
+import org.deco.gachicoding.post.board.domain.BoardSummary;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,28 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     @Query("SELECT b FROM Board b LEFT JOIN FETCH b.author WHERE b.boardLocked = true AND b.boardIdx = :boardIdx")
     Optional<Board> findEnableBoardByIdx(@Param("boardIdx") Long boardIdx);
 
-    @Query("SELECT DISTINCT b FROM Board b LEFT JOIN FETCH b.author WHERE b.boardLocked = true AND (b.boardTitle.boardTitle LIKE %:keyword% OR b.boardContents.boardContents LIKE %:keyword%) ")
-    List<Board> findAllBoardByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    // 조건부 GET 은 본문 없이 수정 시각만 비교한다.
+    @Query("SELECT new org.deco.gachicoding.post.PostVersion(b.updatedAt) FROM Board b WHERE b.boardLocked = true AND b.boardIdx = :boardIdx")
+    Optional<PostVersion> findEnableBoardVersion(@Param("boardIdx") Long boardIdx);
+
+    // 목록의 조건부 GET 은 활성 게시물의 마지막 수정 시각과 수만 비교한다.
+    @Query("SELECT new org.deco.gachicoding.post.PostVersion(MAX(b.updatedAt), COUNT(b)) FROM Board b WHERE b.boardLocked = true")
+    PostVersion findEnableBoardListVersion();
+
+    // 목록 조회는 본문 전체 대신 BoardSummary projection으로 필요한 컬럼만 가져온다.
+    @Query("SELECT new org.deco.gachicoding.post.board.domain.BoardSummary(b.boardIdx, a.userNick, b.boardTitle.boardTitle, b.boardContents.boardExcerpt, b.boardViews, b.createdAt, b.updatedAt) FROM Board b LEFT JOIN b.author a WHERE b.boardLocked = true AND (b.boardTitle.boardTitle LIKE %:keyword% OR b.boardContents.boardContents LIKE %:keyword%) ")
+    List<BoardSummary> findAllBoardByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    // (created_at, board_idx) 커서 이후의 게시물
+    @Query("SELECT new org.deco.gachicoding.post.board.domain.BoardSummary(b.boardIdx, a.userNick, b.boardTitle.boardTitle, b.boardContents.boardExcerpt, b.boardViews, b.createdAt, b.updatedAt) FROM Board b LEFT JOIN b.author a WHERE b.boardLocked = true AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.boardIdx < :boardIdx)) ORDER BY b.createdAt DESC, b.boardIdx DESC")
+    List<BoardSummary> findEnableBoardPage(@Param("createdAt") LocalDateTime createdAt, @Param("boardIdx") Long boardIdx, Pageable pageable);
+
+    @Query("SELECT new org.deco.gachicoding.post.board.domain.BoardSummary(b.boardIdx, a.userNick, b.boardTitle.boardTitle, b.boardContents.boardExcerpt, b.boardViews, b.createdAt, b.updatedAt) FROM Board b LEFT JOIN b.author a WHERE b.boardLocked = true AND (b.boardTitle.boardTitle LIKE %:keyword% OR b.boardContents.boardContents LIKE %:keyword%) AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.boardIdx < :boardIdx)) ORDER BY b.createdAt DESC, b.boardIdx DESC")
+    List<BoardSummary> findEnableBoardPageByKeyword(@Param("keyword") String keyword, @Param("createdAt") LocalDateTime createdAt, @Param("boardIdx") Long boardIdx, Pageable pageable);
+
+    @Query("SELECT new org.deco.gachicoding.post.board.domain.BoardSummary(b.boardIdx, a.userNick, b.boardTitle.boardTitle, b.boardContents.boardExcerpt, b.boardViews, b.createdAt, b.updatedAt) FROM Board b LEFT JOIN b.author a WHERE b.boardLocked = true AND b.boardIdx IN :boardIdxs ORDER BY b.boardIdx DESC")
+    List<BoardSummary> findAllEnableBoardByIdxIn(@Param("boardIdxs") List<Long> boardIdxs);
+
+    @Query("SELECT b FROM Board b WHERE b.boardLocked = true AND b.boardIdx > :lastIdx ORDER BY b.boardIdx")
+    List<Board> findEnableBoardAfter(@Param("lastIdx") Long lastIdx, Pageable pageable);
 }
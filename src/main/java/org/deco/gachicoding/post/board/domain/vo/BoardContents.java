@@ -1,5 +1,6 @@
 package org.deco.gachicoding.post.board.domain.vo;
 
+import org.deco.gachicoding.common.html.HtmlTextExtractor;
 import org.deco.gachicoding.exception.post.board.BoardContentsEmptyException;
 import org.deco.gachicoding.exception.post.board.BoardContentsOverMaximumLengthException;
 import org.deco.gachicoding.exception.post.board.BoardContentsNullException;
@@ -13,9 +14,16 @@ public class BoardContents {
 
     public static final int MAXIMUM_CONTENT_LENGTH = 10000;
 
+    // 목록 미리보기 글자 수
+    public static final int EXCERPT_LENGTH = 100;
+
     @Column(name = "board_contents", columnDefinition = "text", nullable = false)
     private String boardContents;
 
+    // 본문이 바뀔 때만 다시 만들어 목록 조회가 본문(TEXT)을 읽지 않게 한다.
+    @Column(name = "board_excerpt", length = EXCERPT_LENGTH)
+    private String boardExcerpt;
+
     protected BoardContents() {}
 
     public BoardContents(String boardContents) {
@@ -23,6 +31,7 @@ public class BoardContents {
         validateEmptyContents(boardContents);
         validateMaximumLength(boardContents);
         this.boardContents = boardContents;
+        this.boardExcerpt = HtmlTextExtractor.excerpt(boardContents, EXCERPT_LENGTH);
     }
 
     public BoardContents update(String updateContents) {
@@ -35,6 +44,10 @@ public class BoardContents {
         return boardContents;
     }
 
+    public String getBoardExcerpt() {
+        return boardExcerpt;
+    }
+
     private void validateNullContents(String boardContents) {
         if (boardContents == null)
             throw new BoardContentsNullException();
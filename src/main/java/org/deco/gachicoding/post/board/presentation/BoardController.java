@@ -3,17 +3,22 @@ package org.deco.gachicoding.post.board.presentation;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.http.ETags;
+import org.deco.gachicoding.common.pagination.CursorPage;
 import org.deco.gachicoding.post.board.application.dto.request.*;
-import org.deco.gachicoding.post.board.application.dto.response.BoardResponseDto;
+import org.deco.gachicoding.post.board.application.dto.response.BoardListResponseDto;
 import org.deco.gachicoding.post.board.application.BoardService;
 import org.deco.gachicoding.post.board.presentation.dto.BoardAssembler;
 import org.deco.gachicoding.post.board.presentation.dto.request.BoardSaveRequest;
 import org.deco.gachicoding.post.board.presentation.dto.request.BoardUpdateRequest;
+import org.deco.gachicoding.post.board.presentation.dto.response.BoardListResponse;
 import org.deco.gachicoding.post.board.presentation.dto.response.BoardResponse;
+import org.deco.gachicoding.view.presentation.VisitorKey;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
@@ -49,22 +54,47 @@ public class BoardController {
         return ResponseEntity.created(URI.create(redirectUrl)).build();
     }
 
-    @ApiOperation(value = "게시물 목록")
+    @ApiOperation(value = "게시물 목록", notes = "offset 페이지 (관리자 화면용)")
     @ApiResponses(
             @ApiResponse(code = 200, message = "게시글 목록 반환")
     )
     @GetMapping("/board/list")
-    public ResponseEntity<List<BoardResponse>> getBoardList(
+    public ResponseEntity<List<BoardListResponse>> getBoardList(
             @ApiParam(value = "검색어") @RequestParam(value = "keyword", defaultValue = "") String keyword,
-            @ApiIgnore @PageableDefault(size = 10) Pageable pageable
+            @ApiIgnore @PageableDefault(size = 10) Pageable pageable,
+            @ApiIgnore WebRequest webRequest
     ) {
+        if (ETags.notModified(webRequest, boardService.getBoardListVersion()))
+            return null;
+
         BoardListRequestDto dto = BoardAssembler.boardListRequestDto(keyword, pageable);
 
-        List<BoardResponseDto> boardResponseDtos = boardService.getBoardList(dto);
+        List<BoardListResponseDto> boardListResponseDtos = boardService.getBoardList(dto);
 
-        List<BoardResponse> boardResponses = BoardAssembler.boardResponses(boardResponseDtos);
+        List<BoardListResponse> boardListResponses = BoardAssembler.boardListResponses(boardListResponseDtos);
 
-        return ResponseEntity.ok(boardResponses);
+        return ResponseEntity.ok(boardListResponses);
+    }
+
+    @ApiOperation(value = "게시물 목록 (커서)", notes = "응답의 nextCursor를 cursor로 넘기면 다음 페이지, 마지막 페이지면 nextCursor가 null")
+    @ApiResponses(
+            @ApiResponse(code = 200, message = "게시글 목록과 다음 페이지 커서 반환")
+    )
+    @GetMapping("/board/list/cursor")
+    public ResponseEntity<CursorPage<BoardListResponse>> getBoardListByCursor(
+            @ApiParam(value = "검색어") @RequestParam(value = "keyword", defaultValue = "") String keyword,
+            @ApiParam(value = "다음 페이지 커서") @RequestParam(value = "cursor", required = false) String cursor,
+            @ApiIgnore @PageableDefault(size = 10) Pageable pageable,
+            @ApiIgnore WebRequest webRequest
+    ) {
+        if (ETags.notModified(webRequest, boardService.getBoardListVersion()))
+            return null;
+
+        BoardListRequestDto dto = BoardAssembler.boardListRequestDto(keyword, cursor, pageable);
+
+        CursorPage<BoardListResponseDto> boardListResponseDtos = boardService.getBoardListByCursor(dto);
+
+        return ResponseEntity.ok(BoardAssembler.boardListResponses(boardListResponseDtos));
     }
 
     @ApiOperation(value = "게시물 상세 보기")
@@ -73,10 +103,15 @@ public class BoardController {
     )
     @GetMapping("/board/{boardIdx}")
     public ResponseEntity<BoardResponse> getBoardDetail(
-            @ApiParam(value = "게시판 번호", example = "1") @PathVariable Long boardIdx
+            @ApiParam(value = "게시판 번호", example = "1") @PathVariable Long boardIdx,
+            @ApiIgnore @VisitorKey String visitorKey,
+            @ApiIgnore WebRequest webRequest
     ) {
+        // 바뀌지 않은 게시물은 본문을 읽지 않고 304 로 끝낸다. 이 경우 조회수도 올리지 않는다.
+        if (ETags.notModified(webRequest, boardService.getBoardVersion(boardIdx)))
+            return null;
 
-        BoardDetailRequestDto dto = BoardAssembler.boardDetailRequestDto(boardIdx);
+        BoardDetailRequestDto dto = BoardAssembler.boardDetailRequestDto(boardIdx, visitorKey);
 
         BoardResponse boardResponse = BoardAssembler.boardResponse(boardService.getBoardDetail(dto));
 
@@ -1,9 +1,13 @@
 package org.deco.gachicoding.post.board.presentation.dto;
 
+import org.deco.gachicoding.common.pagination.CursorPage;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.deco.gachicoding.post.board.application.dto.request.*;
+import org.deco.gachicoding.post.board.application.dto.response.BoardListResponseDto;
 import org.deco.gachicoding.post.board.application.dto.response.BoardResponseDto;
 import org.deco.gachicoding.post.board.presentation.dto.request.BoardSaveRequest;
 import org.deco.gachicoding.post.board.presentation.dto.request.BoardUpdateRequest;
+import org.deco.gachicoding.post.board.presentation.dto.response.BoardListResponse;
 import org.deco.gachicoding.post.board.presentation.dto.response.BoardResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -38,9 +42,18 @@ public class BoardAssembler {
                 .build();
     }
 
-    public static BoardDetailRequestDto boardDetailRequestDto(Long boardIdx) {
+    public static BoardListRequestDto boardListRequestDto(String keyword, String cursor, Pageable pageable) {
+        return BoardListRequestDto.builder()
+                .keyword(keyword)
+                .pageable(pageable)
+                .cursor(PageCursor.decode(cursor))
+                .build();
+    }
+
+    public static BoardDetailRequestDto boardDetailRequestDto(Long boardIdx, String visitorKey) {
         return BoardDetailRequestDto.builder()
                 .boardIdx(boardIdx)
+                .visitorKey(visitorKey)
                 .build();
     }
 
@@ -52,6 +65,7 @@ public class BoardAssembler {
                 .boardTitle(dto.getBoardTitle())
                 .boardContents(dto.getBoardContents())
                 .boardViews(dto.getBoardViews())
+                .boardUniqueViews(dto.getBoardUniqueViews())
                 .createdAt(dto.getCreatedAt())
                 .updatedAt(dto.getUpdatedAt())
                 .build();
@@ -75,22 +89,25 @@ public class BoardAssembler {
 //                .build();
 //    }
 
-    public static List<BoardResponse> boardResponses(List<BoardResponseDto> boardResponseDtos) {
-        return boardResponseDtos.stream()
-                .map(boardResponse())
+    public static List<BoardListResponse> boardListResponses(List<BoardListResponseDto> boardListResponseDtos) {
+        return boardListResponseDtos.stream()
+                .map(boardListResponse())
                 .collect(Collectors.toList());
     }
 
-    private static Function<BoardResponseDto, BoardResponse> boardResponse() {
-        return boardResponseDto -> BoardResponse.builder()
-                .boardIdx(boardResponseDto.getBoardIdx())
-                .authorEmail(boardResponseDto.getAuthor().getUserEmail())
-                .authorNick(boardResponseDto.getAuthor().getUserNick())
-                .boardTitle(boardResponseDto.getBoardTitle())
-                .boardContents(boardResponseDto.getBoardContents())
-                .boardViews(boardResponseDto.getBoardViews())
-                .createdAt(boardResponseDto.getCreatedAt())
-                .updatedAt(boardResponseDto.getUpdatedAt())
+    public static CursorPage<BoardListResponse> boardListResponses(CursorPage<BoardListResponseDto> boardListResponseDtos) {
+        return boardListResponseDtos.map(boardListResponse());
+    }
+
+    private static Function<BoardListResponseDto, BoardListResponse> boardListResponse() {
+        return boardListResponseDto -> BoardListResponse.builder()
+                .boardIdx(boardListResponseDto.getBoardIdx())
+                .authorNick(boardListResponseDto.getAuthorNick())
+                .boardTitle(boardListResponseDto.getBoardTitle())
+                .boardExcerpt(boardListResponseDto.getBoardExcerpt())
+                .boardViews(boardListResponseDto.getBoardViews())
+                .createdAt(boardListResponseDto.getCreatedAt())
+                .updatedAt(boardListResponseDto.getUpdatedAt())
                 .build();
     }
 
@@ -19,13 +19,14 @@ public class BoardResponse {
     private String boardContents;
     private String boardCategory;
     private Long boardViews;
+    private Long boardUniqueViews;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
 //    private List<TagResponseDto> tags;
 
     @Builder
-    public BoardResponse(Long boardIdx, String authorEmail, String authorNick, String boardTitle, String boardContents, String boardCategory, Long boardViews, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public BoardResponse(Long boardIdx, String authorEmail, String authorNick, String boardTitle, String boardContents, String boardCategory, Long boardViews, Long boardUniqueViews, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.boardIdx = boardIdx;
 
         this.authorEmail = authorEmail;
@@ -35,6 +36,7 @@ public class BoardResponse {
         this.boardContents = boardContents;
         this.boardCategory = boardCategory;
         this.boardViews = boardViews;
+        this.boardUniqueViews = boardUniqueViews;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -0,0 +1,42 @@
+package org.deco.gachicoding.post.notice.application;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.file.application.ArticleContentStore;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostDetailCache;
+import org.deco.gachicoding.post.notice.domain.Notice;
+import org.deco.gachicoding.post.notice.domain.repository.NoticeRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Component
+@RequiredArgsConstructor
+public class NoticeContentStore implements ArticleContentStore {
+
+    private final NoticeRepository noticeRepository;
+    private final PostDetailCache postDetailCache;
+
+    @Override
+    public ArticleCategory getCategory() {
+        return ArticleCategory.NOTICE;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findContents(Long articleIdx) {
+        return noticeRepository.findById(articleIdx)
+                .map(Notice::getNotContents);
+    }
+
+    @Override
+    @Transactional
+    public void rewriteContents(Long articleIdx, UnaryOperator<String> rewriter) {
+        noticeRepository.findById(articleIdx).ifPresent(notice -> {
+            notice.updateContent(rewriter.apply(notice.getNotContents()));
+            postDetailCache.evict(ArticleCategory.NOTICE, articleIdx);
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package org.deco.gachicoding.post.notice.application;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.notice.domain.NoticeSummary;
+import org.deco.gachicoding.post.notice.domain.repository.NoticeRepository;
+import org.deco.gachicoding.search.application.SearchBackend;
+import org.deco.gachicoding.search.application.SearchIndexService;
+import org.deco.gachicoding.search.application.dto.response.SearchHitDto;
+import org.deco.gachicoding.search.domain.ScoredArticle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class NoticeSearchBackend implements SearchBackend {
+
+    private final SearchIndexService searchIndexService;
+    private final NoticeRepository noticeRepository;
+
+    @Override
+    public ArticleCategory getCategory() {
+        return ArticleCategory.NOTICE;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchHitDto> search(String keyword, int size) {
+        List<ScoredArticle> scoredArticles = searchIndexService.rank(ArticleCategory.NOTICE, keyword, size);
+
+        if (scoredArticles.isEmpty())
+            return List.of();
+
+        Map<Long, NoticeSummary> notices = noticeRepository.findAllEnableNoticeByIdxIn(
+                scoredArticles.stream()
+                        .map(ScoredArticle::getArticleIdx)
+                        .collect(Collectors.toList())
+        ).stream().collect(Collectors.toMap(NoticeSummary::getNotIdx, Function.identity()));
+
+        return scoredArticles.stream()
+                .filter(scoredArticle -> notices.containsKey(scoredArticle.getArticleIdx()))
+                .map(scoredArticle -> {
+                    NoticeSummary notice = notices.get(scoredArticle.getArticleIdx());
+
+                    return SearchHitDto.builder()
+                            .articleCategory(ArticleCategory.NOTICE)
+                            .articleIdx(notice.getNotIdx())
+                            .title(notice.getNotTitle())
+                            .excerpt(notice.getNotExcerpt())
+                            .score(scoredArticle.getScore())
+                            .createdAt(notice.getCreatedAt())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+}
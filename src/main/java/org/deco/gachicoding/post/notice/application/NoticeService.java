@@ -2,20 +2,36 @@ package org.deco.gachicoding.post.notice.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.pagination.CursorPage;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.deco.gachicoding.exception.post.notice.NoticeInactiveException;
 import org.deco.gachicoding.exception.post.notice.NoticeNotFoundException;
 import org.deco.gachicoding.exception.user.UserNotFoundException;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostDetailCache;
 import org.deco.gachicoding.post.notice.application.dto.request.*;
 import org.deco.gachicoding.post.notice.domain.Notice;
+import org.deco.gachicoding.post.notice.domain.NoticeSummary;
 import org.deco.gachicoding.post.notice.domain.repository.NoticeRepository;
+import org.deco.gachicoding.file.application.FilePromotionService;
 import org.deco.gachicoding.file.application.FileService;
 import org.deco.gachicoding.post.notice.application.dto.NoticeDtoAssembler;
+import org.deco.gachicoding.post.notice.application.dto.response.NoticeListResponseDto;
 import org.deco.gachicoding.post.notice.application.dto.response.NoticeResponseDto;
+import org.deco.gachicoding.search.application.SearchIndexService;
 import org.deco.gachicoding.tag.application.TagService;
+import org.deco.gachicoding.trending.application.TrendingService;
+import org.deco.gachicoding.trending.domain.TrendingEvent;
+import org.deco.gachicoding.user.application.UserIdCache;
 import org.deco.gachicoding.user.domain.User;
 import org.deco.gachicoding.user.domain.repository.UserRepository;
+import org.deco.gachicoding.view.application.UniqueVisitorService;
+import org.deco.gachicoding.view.application.ViewCountService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
 
@@ -26,8 +42,15 @@ public class NoticeService {
 
     private final NoticeRepository noticeRepository;
     private final UserRepository userRepository;
+    private final UserIdCache userIdCache;
     private final FileService fileService;
+    private final FilePromotionService filePromotionService;
     private final TagService tagService;
+    private final SearchIndexService searchIndexService;
+    private final ViewCountService viewCountService;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final TrendingService trendingService;
+    private final PostDetailCache postDetailCache;
 
     @Transactional(rollbackFor = Exception.class)
     public Long registerNotice(
@@ -37,14 +60,14 @@ public class NoticeService {
         Notice notice = noticeRepository.save(createNotice(dto));
 
         Long notIdx = notice.getNotIdx();
-        String notContent = notice.getNotContents();
 
 //        if (!dto.isNullTags())
 //            tagService.registerBoardTag(notIdx, dto.getTags(), NOTICE);
 
-        notice.updateContent(
-                fileService.extractPathAndS3Upload(notIdx, "NOTICE", notContent)
-        );
+        filePromotionService.enqueue(notIdx, "NOTICE");
+
+        searchIndexService.index(ArticleCategory.NOTICE, notIdx, notice.getNotTitle(), notice.getNotContents());
+        postDetailCache.evictList(ArticleCategory.NOTICE);
 
         return notIdx;
     }
@@ -56,9 +79,14 @@ public class NoticeService {
     }
 
     @Transactional(readOnly = true)
-    public List<NoticeResponseDto> getNoticeList(NoticeListRequestDto dto) {
+    public List<NoticeListResponseDto> getNoticeList(NoticeListRequestDto dto) {
+
+        if (StringUtils.hasText(dto.getKeyword()) && searchIndexService.isReady(ArticleCategory.NOTICE))
+            return NoticeDtoAssembler.noticeListResponseDtos(
+                    findEnableNotices(searchIndexService.search(ArticleCategory.NOTICE, dto.getKeyword(), dto.getPageable()))
+            );
 
-        return NoticeDtoAssembler.noticeResponseDtos(
+        return NoticeDtoAssembler.noticeListResponseDtos(
                 noticeRepository.findAllNoticeByKeyword(
                         dto.getKeyword(),
                         dto.getPageable()
@@ -66,16 +94,81 @@ public class NoticeService {
         );
     }
 
+    // (created_at, not_idx) 커서 기준 목록, 몇 번째 페이지든 같은 비용으로 조회된다.
+    @Transactional(readOnly = true)
+    public CursorPage<NoticeListResponseDto> getNoticeListByCursor(NoticeListRequestDto dto) {
+        int size = dto.getPageable().getPageSize();
+        PageCursor cursor = (dto.getCursor() == null) ? PageCursor.first() : dto.getCursor();
+
+        return NoticeDtoAssembler.noticeListResponseDtos(
+                findNoticePage(dto.getKeyword(), cursor, size + 1),
+                size
+        );
+    }
+
+    private List<NoticeSummary> findNoticePage(String keyword, PageCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+
+        if (!StringUtils.hasText(keyword))
+            return noticeRepository.findEnableNoticePage(cursor.getCreatedAt(), cursor.getIdx(), pageable);
+
+        if (!searchIndexService.isReady(ArticleCategory.NOTICE))
+            return noticeRepository.findEnableNoticePageByKeyword(keyword, cursor.getCreatedAt(), cursor.getIdx(), pageable);
+
+        // 색인은 공지사항 번호 순서이므로 커서의 공지사항 번호 이후부터 찾는다.
+        return findEnableNotices(searchIndexService.searchAfter(ArticleCategory.NOTICE, keyword, cursor.getIdx(), limit));
+    }
+
+    private List<NoticeSummary> findEnableNotices(List<Long> notIdxs) {
+        if (notIdxs.isEmpty())
+            return List.of();
+
+        return noticeRepository.findAllEnableNoticeByIdxIn(notIdxs);
+    }
+
+    public String getNoticeVersion(Long notIdx) {
+        return postDetailCache.version(
+                ArticleCategory.NOTICE,
+                notIdx,
+                () -> noticeRepository.findEnableNoticeVersion(notIdx)
+                        .map(version -> version.eTag(ArticleCategory.NOTICE, notIdx))
+                        .orElse(null)
+        );
+    }
+
+    public String getNoticeListVersion() {
+        return postDetailCache.listVersion(
+                ArticleCategory.NOTICE,
+                () -> noticeRepository.findEnableNoticeListVersion().listETag(ArticleCategory.NOTICE)
+        );
+    }
+
     @Transactional
     public NoticeResponseDto getNoticeDetail(NoticeDetailRequestDto dto) {
+        Long notIdx = dto.getNotIdx();
 
-        Notice notice = findNotice(dto.getNotIdx());
+        NoticeResponseDto notice = postDetailCache.get(
+                ArticleCategory.NOTICE,
+                notIdx,
+                () -> loadNoticeDetail(notIdx),
+                detail -> detail.getNotTitle().length() + detail.getNotContents().length()
+        );
+
+//        tagService.getTags(notIdx, NOTICE, noticeDetail);
+
+        viewCountService.increment(ArticleCategory.NOTICE, notIdx);
+        long uniqueViews = uniqueVisitorService.visit(ArticleCategory.NOTICE, notIdx, dto.getVisitorKey());
+        trendingService.record(ArticleCategory.NOTICE, notIdx, notice.getNotTitle(), TrendingEvent.VIEW);
+
+        return NoticeDtoAssembler.noticeResponseDto(notice, uniqueViews);
+    }
+
+    private NoticeResponseDto loadNoticeDetail(Long notIdx) {
+        Notice notice = findNotice(notIdx);
 
         if (!notice.getNotLocked())
             throw new NoticeInactiveException();
 
-//        tagService.getTags(notIdx, NOTICE, noticeDetail);
-
         return NoticeDtoAssembler.noticeResponseDto(notice);
     }
 
@@ -93,14 +186,17 @@ public class NoticeService {
         if (!notice.getNotLocked())
             throw new NoticeInactiveException();
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        notice.hasSameAuthor(user);
+        notice.hasSameAuthor(userIdx);
 
         notice.updateTitle(dto.getNotTitle());
 
         notice.updateContent(updateContents);
 
+        searchIndexService.index(ArticleCategory.NOTICE, notice.getNotIdx(), notice.getNotTitle(), notice.getNotContents());
+        postDetailCache.evict(ArticleCategory.NOTICE, notice.getNotIdx());
+
         return NoticeDtoAssembler.noticeResponseDto(notice);
     }
 
@@ -109,11 +205,15 @@ public class NoticeService {
     public void disableNotice(NoticeBasicRequestDto dto) {
         Notice notice = findNotice(dto.getNotIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        notice.hasSameAuthor(user);
+        notice.hasSameAuthor(userIdx);
 
         notice.disableNotice();
+
+        searchIndexService.remove(ArticleCategory.NOTICE, notice.getNotIdx());
+        postDetailCache.evict(ArticleCategory.NOTICE, notice.getNotIdx());
+        trendingService.remove(ArticleCategory.NOTICE, notice.getNotIdx());
     }
 
     // 비활성 -> 활성
@@ -121,22 +221,30 @@ public class NoticeService {
     public void enableNotice(NoticeBasicRequestDto dto) {
         Notice notice = findNotice(dto.getNotIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        notice.hasSameAuthor(user);
+        notice.hasSameAuthor(userIdx);
 
         notice.enableNotice();
+
+        searchIndexService.index(ArticleCategory.NOTICE, notice.getNotIdx(), notice.getNotTitle(), notice.getNotContents());
+        postDetailCache.evict(ArticleCategory.NOTICE, notice.getNotIdx());
     }
 
     @Transactional
     public void removeNotice(NoticeBasicRequestDto dto) {
         Notice notice = findNotice(dto.getNotIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        notice.hasSameAuthor(user);
+        notice.hasSameAuthor(userIdx);
 
         noticeRepository.delete(notice);
+        fileService.deleteArticleFiles("NOTICE", notice.getNotIdx());
+
+        searchIndexService.remove(ArticleCategory.NOTICE, notice.getNotIdx());
+        postDetailCache.evict(ArticleCategory.NOTICE, notice.getNotIdx());
+        trendingService.remove(ArticleCategory.NOTICE, notice.getNotIdx());
     }
 
     private Notice findNotice(Long notIdx) {
@@ -144,8 +252,14 @@ public class NoticeService {
                 .orElseThrow(NoticeNotFoundException::new);
     }
 
+    // 작성자 연관관계에는 번호만 있으면 되므로 조회 없이 프록시를 쓴다.
     private User findAuthor(String userEmail) {
-        return userRepository.findByUserEmail(userEmail)
-                .orElseThrow(UserNotFoundException::new);
+        return userRepository.getById(findAuthorIdx(userEmail));
+    }
+
+    private Long findAuthorIdx(String userEmail) {
+        return userIdCache.getUserIdx(userEmail, email -> userRepository.findByUserEmail(email)
+                .map(User::getUserIdx)
+                .orElseThrow(UserNotFoundException::new));
     }
 }
@@ -1,8 +1,12 @@
 package org.deco.gachicoding.post.notice.application.dto;
 
+import org.deco.gachicoding.common.pagination.CursorPage;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.deco.gachicoding.post.notice.application.dto.request.NoticeSaveRequestDto;
+import org.deco.gachicoding.post.notice.application.dto.response.NoticeListResponseDto;
 import org.deco.gachicoding.post.notice.application.dto.response.NoticeResponseDto;
 import org.deco.gachicoding.post.notice.domain.Notice;
+import org.deco.gachicoding.post.notice.domain.NoticeSummary;
 import org.deco.gachicoding.user.domain.User;
 
 import java.util.List;
@@ -22,16 +26,42 @@ public class NoticeDtoAssembler {
                 .build();
     }
 
-    public static List<NoticeResponseDto> noticeResponseDtos(List<Notice> notices) {
+    public static List<NoticeListResponseDto> noticeListResponseDtos(List<NoticeSummary> notices) {
         return notices.stream()
-                .map(NoticeDtoAssembler::convertForm)
+                .map(NoticeDtoAssembler::noticeListResponseDto)
                 .collect(toList());
     }
 
+    // notices는 size + 1 개까지 조회한 결과
+    public static CursorPage<NoticeListResponseDto> noticeListResponseDtos(List<NoticeSummary> notices, int size) {
+        return CursorPage.of(
+                notices,
+                size,
+                notice -> new PageCursor(notice.getCreatedAt(), notice.getNotIdx()),
+                NoticeDtoAssembler::noticeListResponseDto
+        );
+    }
+
     public static NoticeResponseDto noticeResponseDto(Notice notice) {
         return convertForm(notice);
     }
 
+    // 캐시에 있던 상세 DTO에 요청마다 달라지는 값을 채운다.
+    public static NoticeResponseDto noticeResponseDto(NoticeResponseDto cached, Long notUniqueViews) {
+        return NoticeResponseDto.builder()
+                .notIdx(cached.getNotIdx())
+                .author(cached.getAuthor())
+                .notTitle(cached.getNotTitle())
+                .notContents(cached.getNotContents())
+                .notViews(cached.getNotViews())
+                .notUniqueViews(notUniqueViews)
+                .notPin(cached.getNotPin())
+                .notLocked(cached.getNotLocked())
+                .createdAt(cached.getCreatedAt())
+                .updatedAt(cached.getUpdatedAt())
+                .build();
+    }
+
     private static NoticeResponseDto convertForm(Notice notice) {
         return NoticeResponseDto.builder()
                 .notIdx(notice.getNotIdx())
@@ -45,4 +75,17 @@ public class NoticeDtoAssembler {
                 .updatedAt(notice.getUpdatedAt())
                 .build();
     }
+
+    private static NoticeListResponseDto noticeListResponseDto(NoticeSummary notice) {
+        return NoticeListResponseDto.builder()
+                .notIdx(notice.getNotIdx())
+                .authorNick(notice.getAuthorNick())
+                .notTitle(notice.getNotTitle())
+                .notExcerpt(notice.getNotExcerpt())
+                .notViews(notice.getNotViews())
+                .notPin(notice.getNotPin())
+                .createdAt(notice.getCreatedAt())
+                .updatedAt(notice.getUpdatedAt())
+                .build();
+    }
 }
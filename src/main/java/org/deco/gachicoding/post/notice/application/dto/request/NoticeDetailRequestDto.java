@@ -13,8 +13,11 @@ public class NoticeDetailRequestDto {
 //    @ApiModelProperty(value = "공지사항 번호", required = true, example = "1")
     private Long notIdx;
 
+    private String visitorKey;
+
     @Builder
-    public NoticeDetailRequestDto(Long notIdx) {
+    public NoticeDetailRequestDto(Long notIdx, String visitorKey) {
         this.notIdx = notIdx;
+        this.visitorKey = visitorKey;
     }
 }
@@ -2,6 +2,7 @@ package org.deco.gachicoding.post.notice.application.dto.request;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import io.swagger.annotations.ApiModelProperty;
 import org.springframework.data.domain.Pageable;
 
@@ -16,9 +17,13 @@ public class NoticeListRequestDto {
     @NotNull
     private Pageable pageable;
 
+    // 커서 페이지 조회에서만 사용
+    private PageCursor cursor;
+
     @Builder
-    public NoticeListRequestDto(String keyword, Pageable pageable) {
+    public NoticeListRequestDto(String keyword, Pageable pageable, PageCursor cursor) {
         this.keyword = keyword;
         this.pageable = pageable;
+        this.cursor = cursor;
     }
 }
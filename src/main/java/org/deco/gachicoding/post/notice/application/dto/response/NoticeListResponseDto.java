@@ -0,0 +1,43 @@
+package org.deco.gachicoding.post.notice.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class NoticeListResponseDto {
+
+    private Long notIdx;
+    private String authorNick;
+
+    private String notTitle;
+    private String notExcerpt;
+    private Long notViews;
+    private Boolean notPin;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public NoticeListResponseDto(
+            Long notIdx,
+            String authorNick,
+            String notTitle,
+            String notExcerpt,
+            Long notViews,
+            Boolean notPin,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        this.notIdx = notIdx;
+
+        this.authorNick = authorNick;
+
+        this.notTitle = notTitle;
+        this.notExcerpt = notExcerpt;
+        this.notViews = notViews;
+        this.notPin = notPin;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -15,6 +15,7 @@ public class NoticeResponseDto {
     private String notTitle;
     private String notContents;
     private Long notViews;
+    private Long notUniqueViews;
     private Boolean notPin;
     private Boolean notLocked;
     private LocalDateTime createdAt;
@@ -29,6 +30,7 @@ public class NoticeResponseDto {
             String notTitle,
             String notContents,
             Long notViews,
+            Long notUniqueViews,
             Boolean notPin,
             Boolean notLocked,
             LocalDateTime createdAt, 
@@ -41,6 +43,7 @@ public class NoticeResponseDto {
         this.notTitle = notTitle;
         this.notContents = notContents;
         this.notViews = notViews;
+        this.notUniqueViews = notUniqueViews;
         this.notPin = notPin;
         this.notLocked = notLocked;
         this.createdAt = createdAt;
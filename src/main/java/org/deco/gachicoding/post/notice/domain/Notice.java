@@ -22,7 +22,7 @@ import java.time.LocalDateTime;
 @DynamicUpdate
 @Getter
 @Entity
-@Table(name = "notice")
+@Table(name = "notice", indexes = @Index(name = "idx_notice_locked_created_at", columnList = "not_locked, created_at, not_idx"))
 public class Notice extends BaseTimeEntity {
 
     @Id
@@ -37,10 +37,15 @@ public class Notice extends BaseTimeEntity {
     @Embedded
     private NoticeContents notContents;
 
-    @Column(name = "not_views", nullable = false)
+    // 조회수는 ViewCountService 가 JDBC 로 더한다. 수정할 때 읽어 둔 값으로 덮어쓰지 않도록 UPDATE 에서 뺀다.
+    @Column(name = "not_views", nullable = false, updatable = false)
     @ColumnDefault("0") // ddl 수행시 적용되는 default 값, @Column의 columnDefinition 속성보다는 이걸 쓰는게 나을 듯
     private Long notViews;
 
+    // 순 방문자 스케치
+    @Column(name = "not_visitors", columnDefinition = "varbinary(2048)", insertable = false, updatable = false)
+    private byte[] notVisitors;
+
     @Column(name = "not_pin", nullable = false)
     @ColumnDefault("false")
     private Boolean notPin;
@@ -99,12 +104,16 @@ public class Notice extends BaseTimeEntity {
         return notContents.getNoticeContents();
     }
 
+    public String getNotExcerpt() {
+        return notContents.getNoticeExcerpt();
+    }
+
     public String getNotTitle() {
         return notTitle.getNoticeTitle();
     }
 
-    public void hasSameAuthor(User user) {
-        if (author != user) {
+    public void hasSameAuthor(Long userIdx) {
+        if (userIdx == null || !userIdx.equals(author.getUserIdx())) {
             throw new UserUnAuthorizedException();
         }
     }
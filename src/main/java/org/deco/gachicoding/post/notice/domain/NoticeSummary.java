@@ -0,0 +1,43 @@
+package org.deco.gachicoding.post.notice.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 목록 조회용 projection <br>
+ * 본문 전체(TEXT) 대신 미리보기만 가져온다.
+ */
+@Getter
+public class NoticeSummary {
+
+    private final Long notIdx;
+    private final String authorNick;
+    private final String notTitle;
+    private final String notExcerpt;
+    private final Long notViews;
+    private final Boolean notPin;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    // JPQL 생성자 표현식에서 사용
+    public NoticeSummary(
+            Long notIdx,
+            String authorNick,
+            String notTitle,
+            String notExcerpt,
+            Long notViews,
+            Boolean notPin,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        this.notIdx = notIdx;
+        this.authorNick = authorNick;
+        this.notTitle = notTitle;
+        this.notExcerpt = notExcerpt;
+        this.notViews = notViews;
+        this.notPin = notPin;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
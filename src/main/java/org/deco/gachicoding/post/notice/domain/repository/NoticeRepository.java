@@ -1,11 +1,14 @@
 package org.deco.gachicoding.post.notice.domain.repository;
 
+import org.deco.gachicoding.post.PostVersion;
 import org.deco.gachicoding.post.notice.domain.Notice;
+import org.deco.gachicoding.post.notice.domain.NoticeSummary;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,10 +25,73 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
             "AND n.notIdx = :notIdx")
     Optional<Notice> findEnableNoticeByIdx(@Param("notIdx") Long notIdx);
 
-    @Query("SELECT DISTINCT n " +
-            "FROM Notice n LEFT JOIN FETCH n.author " +
+    @Query("SELECT new org.deco.gachicoding.post.PostVersion(n.updatedAt) " +
+            "FROM Notice n " +
+            "WHERE n.notLocked = true " +
+            "AND n.notIdx = :notIdx")
+    Optional<PostVersion> findEnableNoticeVersion(@Param("notIdx") Long notIdx);
+
+    // 목록의 조건부 GET 은 활성 공지사항의 마지막 수정 시각과 수만 비교한다.
+    @Query("SELECT new org.deco.gachicoding.post.PostVersion(MAX(n.updatedAt), COUNT(n)) " +
+            "FROM Notice n " +
+            "WHERE n.notLocked = true")
+    PostVersion findEnableNoticeListVersion();
+
+    // 목록 조회는 본문 전체 대신 NoticeSummary projection으로 필요한 컬럼만 가져온다.
+    @Query("SELECT new org.deco.gachicoding.post.notice.domain.NoticeSummary(" +
+            "n.notIdx, a.userNick, n.notTitle.notTitle, n.notContents.notExcerpt, " +
+            "n.notViews, n.notPin, n.createdAt, n.updatedAt) " +
+            "FROM Notice n LEFT JOIN n.author a " +
             "WHERE n.notLocked = true " +
             "AND (n.notTitle.notTitle LIKE %:keyword% " +
             "OR n.notContents.notContents LIKE %:keyword%) ")
-    List<Notice> findAllNoticeByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    List<NoticeSummary> findAllNoticeByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    // (created_at, not_idx) 커서 이후의 공지사항
+    @Query("SELECT new org.deco.gachicoding.post.notice.domain.NoticeSummary(" +
+            "n.notIdx, a.userNick, n.notTitle.notTitle, n.notContents.notExcerpt, " +
+            "n.notViews, n.notPin, n.createdAt, n.updatedAt) " +
+            "FROM Notice n LEFT JOIN n.author a " +
+            "WHERE n.notLocked = true " +
+            "AND (n.createdAt < :createdAt " +
+            "OR (n.createdAt = :createdAt AND n.notIdx < :notIdx)) " +
+            "ORDER BY n.createdAt DESC, n.notIdx DESC")
+    List<NoticeSummary> findEnableNoticePage(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("notIdx") Long notIdx,
+            Pageable pageable
+    );
+
+    @Query("SELECT new org.deco.gachicoding.post.notice.domain.NoticeSummary(" +
+            "n.notIdx, a.userNick, n.notTitle.notTitle, n.notContents.notExcerpt, " +
+            "n.notViews, n.notPin, n.createdAt, n.updatedAt) " +
+            "FROM Notice n LEFT JOIN n.author a " +
+            "WHERE n.notLocked = true " +
+            "AND (n.notTitle.notTitle LIKE %:keyword% " +
+            "OR n.notContents.notContents LIKE %:keyword%) " +
+            "AND (n.createdAt < :createdAt " +
+            "OR (n.createdAt = :createdAt AND n.notIdx < :notIdx)) " +
+            "ORDER BY n.createdAt DESC, n.notIdx DESC")
+    List<NoticeSummary> findEnableNoticePageByKeyword(
+            @Param("keyword") String keyword,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("notIdx") Long notIdx,
+            Pageable pageable
+    );
+
+    @Query("SELECT new org.deco.gachicoding.post.notice.domain.NoticeSummary(" +
+            "n.notIdx, a.userNick, n.notTitle.notTitle, n.notContents.notExcerpt, " +
+            "n.notViews, n.notPin, n.createdAt, n.updatedAt) " +
+            "FROM Notice n LEFT JOIN n.author a " +
+            "WHERE n.notLocked = true " +
+            "AND n.notIdx IN :notIdxs " +
+            "ORDER BY n.notIdx DESC")
+    List<NoticeSummary> findAllEnableNoticeByIdxIn(@Param("notIdxs") List<Long> notIdxs);
+
+    @Query("SELECT n " +
+            "FROM Notice n " +
+            "WHERE n.notLocked = true " +
+            "AND n.notIdx > :lastIdx " +
+            "ORDER BY n.notIdx")
+    List<Notice> findEnableNoticeAfter(@Param("lastIdx") Long lastIdx, Pageable pageable);
 }
\ No newline at end of file
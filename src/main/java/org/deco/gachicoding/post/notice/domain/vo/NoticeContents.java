@@ -1,5 +1,6 @@
 package org.deco.gachicoding.post.notice.domain.vo;
 
+import org.deco.gachicoding.common.html.HtmlTextExtractor;
 import org.deco.gachicoding.exception.post.notice.NoticeContentsEmptyException;
 import org.deco.gachicoding.exception.post.notice.NoticeContentsOverMaximumLengthException;
 import org.deco.gachicoding.exception.post.notice.NoticeContentsNullException;
@@ -12,9 +13,16 @@ public class NoticeContents {
 
     public static final int MAXIMUM_CONTENT_LENGTH = 10000;
 
+    // 목록 미리보기 글자 수
+    public static final int EXCERPT_LENGTH = 100;
+
     @Column(name = "not_contents", columnDefinition = "text", nullable = false)
     private String notContents;
 
+    // 본문이 바뀔 때만 다시 만들어 목록 조회가 본문(TEXT)을 읽지 않게 한다.
+    @Column(name = "not_excerpt", length = EXCERPT_LENGTH)
+    private String notExcerpt;
+
     protected NoticeContents() {}
 
     public NoticeContents(String notContents) {
@@ -22,6 +30,7 @@ public class NoticeContents {
         validateEmptyContents(notContents);
         validateMaximumLength(notContents);
         this.notContents = notContents;
+        this.notExcerpt = HtmlTextExtractor.excerpt(notContents, EXCERPT_LENGTH);
     }
 
     public NoticeContents update(String updateContents) {
@@ -34,6 +43,10 @@ public class NoticeContents {
         return notContents;
     }
 
+    public String getNoticeExcerpt() {
+        return notExcerpt;
+    }
+
     private void validateNullContents(String notContents) {
         if (notContents == null)
             throw new NoticeContentsNullException();
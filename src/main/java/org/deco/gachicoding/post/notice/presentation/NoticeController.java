@@ -3,19 +3,24 @@ package org.deco.gachicoding.post.notice.presentation;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.http.ETags;
+import org.deco.gachicoding.common.pagination.CursorPage;
 import org.deco.gachicoding.post.notice.application.dto.request.*;
 import org.deco.gachicoding.post.notice.application.NoticeService;
-import org.deco.gachicoding.post.notice.application.dto.response.NoticeResponseDto;
+import org.deco.gachicoding.post.notice.application.dto.response.NoticeListResponseDto;
 import org.deco.gachicoding.post.notice.presentation.dto.NoticeAssembler;
 import org.deco.gachicoding.post.notice.presentation.dto.request.NoticeSaveRequest;
 import org.deco.gachicoding.post.notice.presentation.dto.request.NoticeUpdateRequest;
+import org.deco.gachicoding.post.notice.presentation.dto.response.NoticeListResponse;
 import org.deco.gachicoding.post.notice.presentation.dto.response.NoticeResponse;
+import org.deco.gachicoding.view.presentation.VisitorKey;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
@@ -56,20 +61,43 @@ public class NoticeController {
         return ResponseEntity.created(URI.create(redirectUrl)).build();
     }
 
-    @ApiOperation(value = "공지사항 리스트 보기", notes = "공지사항 목록을 응답")
+    @ApiOperation(value = "공지사항 리스트 보기", notes = "공지사항 목록을 응답 (offset 페이지, 관리자 화면용)")
     @ApiResponse(code = 200, message = "공지사항 목록 반환")
     @GetMapping("/notice/list")
-    public ResponseEntity<List<NoticeResponse>> getNoticeList(
+    public ResponseEntity<List<NoticeListResponse>> getNoticeList(
             @ApiParam(value = "keyword") @RequestParam(value = "keyword", defaultValue = "") String keyword,
-            @ApiIgnore @PageableDefault(size = 10) Pageable pageable
+            @ApiIgnore @PageableDefault(size = 10) Pageable pageable,
+            @ApiIgnore WebRequest webRequest
     ) {
+        if (ETags.notModified(webRequest, noticeService.getNoticeListVersion()))
+            return null;
+
         NoticeListRequestDto dto = NoticeAssembler.noticeListRequestDto(keyword, pageable);
 
-        List<NoticeResponseDto> noticeResponseDtos = noticeService.getNoticeList(dto);
+        List<NoticeListResponseDto> noticeListResponseDtos = noticeService.getNoticeList(dto);
+
+        List<NoticeListResponse> noticeListResponses = NoticeAssembler.noticeListResponses(noticeListResponseDtos);
+
+        return ResponseEntity.ok(noticeListResponses);
+    }
+
+    @ApiOperation(value = "공지사항 리스트 보기 (커서)", notes = "응답의 nextCursor를 cursor로 넘기면 다음 페이지, 마지막 페이지면 nextCursor가 null")
+    @ApiResponse(code = 200, message = "공지사항 목록과 다음 페이지 커서 반환")
+    @GetMapping("/notice/list/cursor")
+    public ResponseEntity<CursorPage<NoticeListResponse>> getNoticeListByCursor(
+            @ApiParam(value = "keyword") @RequestParam(value = "keyword", defaultValue = "") String keyword,
+            @ApiParam(value = "다음 페이지 커서") @RequestParam(value = "cursor", required = false) String cursor,
+            @ApiIgnore @PageableDefault(size = 10) Pageable pageable,
+            @ApiIgnore WebRequest webRequest
+    ) {
+        if (ETags.notModified(webRequest, noticeService.getNoticeListVersion()))
+            return null;
+
+        NoticeListRequestDto dto = NoticeAssembler.noticeListRequestDto(keyword, cursor, pageable);
 
-        List<NoticeResponse> noticeResponses = NoticeAssembler.noticeResponses(noticeResponseDtos);
+        CursorPage<NoticeListResponseDto> noticeListResponseDtos = noticeService.getNoticeListByCursor(dto);
 
-        return ResponseEntity.ok(noticeResponses);
+        return ResponseEntity.ok(NoticeAssembler.noticeListResponses(noticeListResponseDtos));
     }
 
     @ApiOperation(value = "공지사항 상세 보기", notes = "상세한 공지사항 데이터 응답")
@@ -77,10 +105,14 @@ public class NoticeController {
     @GetMapping("/notice/{notIdx}")
     public ResponseEntity<NoticeResponse> getNoticeDetail(
             @ApiParam(value = "공지사항 번호", example = "1")
-            @PathVariable Long notIdx
+            @PathVariable Long notIdx,
+            @ApiIgnore @VisitorKey String visitorKey,
+            @ApiIgnore WebRequest webRequest
     ) {
+        if (ETags.notModified(webRequest, noticeService.getNoticeVersion(notIdx)))
+            return null;
 
-        NoticeDetailRequestDto dto = NoticeAssembler.noticeDetailDto(notIdx);
+        NoticeDetailRequestDto dto = NoticeAssembler.noticeDetailDto(notIdx, visitorKey);
 
         NoticeResponse noticeResponse = NoticeAssembler.noticeResponse(noticeService.getNoticeDetail(dto));
 
@@ -1,9 +1,13 @@
 package org.deco.gachicoding.post.notice.presentation.dto;
 
+import org.deco.gachicoding.common.pagination.CursorPage;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.deco.gachicoding.post.notice.application.dto.request.*;
+import org.deco.gachicoding.post.notice.application.dto.response.NoticeListResponseDto;
 import org.deco.gachicoding.post.notice.application.dto.response.NoticeResponseDto;
 import org.deco.gachicoding.post.notice.presentation.dto.request.NoticeSaveRequest;
 import org.deco.gachicoding.post.notice.presentation.dto.request.NoticeUpdateRequest;
+import org.deco.gachicoding.post.notice.presentation.dto.response.NoticeListResponse;
 import org.deco.gachicoding.post.notice.presentation.dto.response.NoticeResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -25,9 +29,10 @@ public class NoticeAssembler {
                 .build();
     }
 
-    public static NoticeDetailRequestDto noticeDetailDto(Long notIdx) {
+    public static NoticeDetailRequestDto noticeDetailDto(Long notIdx, String visitorKey) {
         return NoticeDetailRequestDto.builder()
                 .notIdx(notIdx)
+                .visitorKey(visitorKey)
                 .build();
     }
 
@@ -38,9 +43,21 @@ public class NoticeAssembler {
                 .build();
     }
 
-    public static List<NoticeResponse> noticeResponses(List<NoticeResponseDto> noticeResponseDtos) {
-        return noticeResponseDtos.stream()
-                .map(noticeResponse())
+    public static NoticeListRequestDto noticeListRequestDto(String keyword, String cursor, Pageable pageable) {
+        return NoticeListRequestDto.builder()
+                .keyword(keyword)
+                .pageable(pageable)
+                .cursor(PageCursor.decode(cursor))
+                .build();
+    }
+
+    public static CursorPage<NoticeListResponse> noticeListResponses(CursorPage<NoticeListResponseDto> noticeListResponseDtos) {
+        return noticeListResponseDtos.map(noticeListResponse());
+    }
+
+    public static List<NoticeListResponse> noticeListResponses(List<NoticeListResponseDto> noticeListResponseDtos) {
+        return noticeListResponseDtos.stream()
+                .map(noticeListResponse())
                 .collect(Collectors.toList());
     }
 
@@ -77,23 +94,23 @@ public class NoticeAssembler {
                 .notTitle(dto.getNotTitle())
                 .notContents(dto.getNotContents())
                 .notViews(dto.getNotViews())
+                .notUniqueViews(dto.getNotUniqueViews())
                 .notPin(dto.getNotPin())
                 .createdAt(dto.getCreatedAt())
                 .updatedAt(dto.getUpdatedAt())
                 .build();
     }
 
-    private static Function<NoticeResponseDto, NoticeResponse> noticeResponse() {
-        return noticeResponseDto -> NoticeResponse.builder()
-                .notIdx(noticeResponseDto.getNotIdx())
-                .authorEmail(noticeResponseDto.getAuthor().getUserEmail())
-                .authorNick(noticeResponseDto.getAuthor().getUserNick())
-                .notTitle(noticeResponseDto.getNotTitle())
-                .notContents(noticeResponseDto.getNotContents())
-                .notViews(noticeResponseDto.getNotViews())
-                .notPin(noticeResponseDto.getNotPin())
-                .createdAt(noticeResponseDto.getCreatedAt())
-                .updatedAt(noticeResponseDto.getUpdatedAt())
+    private static Function<NoticeListResponseDto, NoticeListResponse> noticeListResponse() {
+        return noticeListResponseDto -> NoticeListResponse.builder()
+                .notIdx(noticeListResponseDto.getNotIdx())
+                .authorNick(noticeListResponseDto.getAuthorNick())
+                .notTitle(noticeListResponseDto.getNotTitle())
+                .notExcerpt(noticeListResponseDto.getNotExcerpt())
+                .notViews(noticeListResponseDto.getNotViews())
+                .notPin(noticeListResponseDto.getNotPin())
+                .createdAt(noticeListResponseDto.getCreatedAt())
+                .updatedAt(noticeListResponseDto.getUpdatedAt())
                 .build();
     }
 }
@@ -21,12 +21,13 @@ public class NoticeResponse {
     private String notContent;
     private Boolean notPin;
     private Long notViews;
+    private Long notUniqueViews;
     private LocalDateTime notRegdate;
 //    private LocalDateTime createdAt;
 //    private LocalDateTime updatedAt;
 
     @Builder
-    public NoticeResponse(Long notIdx, String authorEmail, String authorNick, String notTitle, String notContents, Long notViews, Boolean notPin, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public NoticeResponse(Long notIdx, String authorEmail, String authorNick, String notTitle, String notContents, Long notViews, Long notUniqueViews, Boolean notPin, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.notIdx = notIdx;
 
         this.userEmail = authorEmail;
@@ -38,6 +39,7 @@ public class NoticeResponse {
         this.notTitle = notTitle;
         this.notContent = notContents;
         this.notViews = notViews;
+        this.notUniqueViews = notUniqueViews;
         this.notPin = notPin;
         this.notRegdate = createdAt;
 //        this.createdAt = createdAt;
@@ -0,0 +1,42 @@
+package org.deco.gachicoding.post.question.application;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.file.application.ArticleContentStore;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostDetailCache;
+import org.deco.gachicoding.post.question.domain.Question;
+import org.deco.gachicoding.post.question.domain.repository.QuestionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Component
+@RequiredArgsConstructor
+public class QuestionContentStore implements ArticleContentStore {
+
+    private final QuestionRepository questionRepository;
+    private final PostDetailCache postDetailCache;
+
+    @Override
+    public ArticleCategory getCategory() {
+        return ArticleCategory.QUESTION;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findContents(Long articleIdx) {
+        return questionRepository.findById(articleIdx)
+                .map(Question::getQueContents);
+    }
+
+    @Override
+    @Transactional
+    public void rewriteContents(Long articleIdx, UnaryOperator<String> rewriter) {
+        questionRepository.findById(articleIdx).ifPresent(question -> {
+            question.updateContent(rewriter.apply(question.getQueContents()));
+            postDetailCache.evict(ArticleCategory.QUESTION, articleIdx);
+        });
+    }
+}
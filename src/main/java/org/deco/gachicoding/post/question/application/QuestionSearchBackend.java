@@ -0,0 +1,61 @@
+package org.deco.gachicoding.post.question.application;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.question.domain.QuestionSummary;
+import org.deco.gachicoding.post.question.domain.repository.QuestionRepository;
+import org.deco.gachicoding.search.application.SearchBackend;
+import org.deco.gachicoding.search.application.SearchIndexService;
+import org.deco.gachicoding.search.application.dto.response.SearchHitDto;
+import org.deco.gachicoding.search.domain.ScoredArticle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class QuestionSearchBackend implements SearchBackend {
+
+    private final SearchIndexService searchIndexService;
+    private final QuestionRepository questionRepository;
+
+    @Override
+    public ArticleCategory getCategory() {
+        return ArticleCategory.QUESTION;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchHitDto> search(String keyword, int size) {
+        List<ScoredArticle> scoredArticles = searchIndexService.rank(ArticleCategory.QUESTION, keyword, size);
+
+        if (scoredArticles.isEmpty())
+            return List.of();
+
+        Map<Long, QuestionSummary> questions = questionRepository.findAllEnableQuestionByIdxIn(
+                scoredArticles.stream()
+                        .map(ScoredArticle::getArticleIdx)
+                        .collect(Collectors.toList())
+        ).stream().collect(Collectors.toMap(QuestionSummary::getQueIdx, Function.identity()));
+
+        return scoredArticles.stream()
+                .filter(scoredArticle -> questions.containsKey(scoredArticle.getArticleIdx()))
+                .map(scoredArticle -> {
+                    QuestionSummary question = questions.get(scoredArticle.getArticleIdx());
+
+                    return SearchHitDto.builder()
+                            .articleCategory(ArticleCategory.QUESTION)
+                            .articleIdx(question.getQueIdx())
+                            .title(question.getQueTitle())
+                            .excerpt(question.getQueExcerpt())
+                            .score(scoredArticle.getScore())
+                            .createdAt(question.getCreatedAt())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -2,23 +2,37 @@ package org.deco.gachicoding.post.question.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.pagination.CursorPage;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.deco.gachicoding.exception.post.question.*;
 import org.deco.gachicoding.exception.user.UserNotFoundException;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.answer.presentation.dto.response.AnswerResponse;
+import org.deco.gachicoding.post.PostDetailCache;
 import org.deco.gachicoding.post.question.application.dto.QuestionDtoAssembler;
 import org.deco.gachicoding.post.question.application.dto.request.QuestionBasicRequestDto;
 import org.deco.gachicoding.post.question.application.dto.request.QuestionUpdateRequestDto;
 import org.deco.gachicoding.post.question.domain.Question;
+import org.deco.gachicoding.post.question.domain.QuestionSummary;
 import org.deco.gachicoding.post.question.domain.repository.QuestionRepository;
+import org.deco.gachicoding.file.application.FilePromotionService;
 import org.deco.gachicoding.file.application.FileService;
+import org.deco.gachicoding.search.application.SearchIndexService;
 import org.deco.gachicoding.tag.application.TagService;
+import org.deco.gachicoding.trending.application.TrendingService;
+import org.deco.gachicoding.trending.domain.TrendingEvent;
+import org.deco.gachicoding.user.application.UserIdCache;
 import org.deco.gachicoding.user.domain.User;
 import org.deco.gachicoding.user.domain.repository.UserRepository;
+import org.deco.gachicoding.view.application.UniqueVisitorService;
 import org.deco.gachicoding.post.question.application.dto.response.QuestionDetailResponseDto;
 import org.deco.gachicoding.post.question.application.dto.response.QuestionListResponseDto;
 import org.deco.gachicoding.post.question.application.dto.request.QuestionSaveRequestDto;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
 
@@ -29,8 +43,14 @@ public class QuestionService {
 
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
+    private final UserIdCache userIdCache;
     private final FileService fileService;
+    private final FilePromotionService filePromotionService;
     private final TagService tagService;
+    private final SearchIndexService searchIndexService;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final TrendingService trendingService;
+    private final PostDetailCache postDetailCache;
 
     @Transactional(rollbackFor = Exception.class)
     public Long registerQuestion(
@@ -40,11 +60,11 @@ public class QuestionService {
         Question question = questionRepository.save(createQuestion(dto));
 
         Long queIdx = question.getQueIdx();
-        String queContent = question.getQueContents();
 
-        question.updateContent(
-                fileService.extractPathAndS3Upload(queIdx, "QUESTION", queContent)
-        );
+        filePromotionService.enqueue(queIdx, "QUESTION");
+
+        searchIndexService.index(ArticleCategory.QUESTION, queIdx, question.getQueTitle(), question.getQueContents());
+        postDetailCache.evictList(ArticleCategory.QUESTION);
 
         return queIdx;
     }
@@ -61,7 +81,12 @@ public class QuestionService {
             Pageable pageable
     ) {
 
-        return QuestionDtoAssembler.questionResponseDtos(
+        if (StringUtils.hasText(keyword) && searchIndexService.isReady(ArticleCategory.QUESTION))
+            return QuestionDtoAssembler.questionListResponseDtos(
+                    findEnableQuestions(searchIndexService.search(ArticleCategory.QUESTION, keyword, pageable))
+            );
+
+        return QuestionDtoAssembler.questionListResponseDtos(
                 questionRepository.findAllQuestionByKeyword(
                         keyword,
                         pageable
@@ -69,9 +94,74 @@ public class QuestionService {
         );
     }
 
+    // (created_at, qs_idx) 커서 기준 목록, 몇 번째 페이지든 같은 비용으로 조회된다.
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionListResponseDto> getQuestionListByCursor(
+            String keyword,
+            PageCursor cursor,
+            int size
+    ) {
+
+        return QuestionDtoAssembler.questionListResponseDtos(
+                findQuestionPage(keyword, cursor, size + 1),
+                size
+        );
+    }
+
+    private List<QuestionSummary> findQuestionPage(String keyword, PageCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+
+        if (!StringUtils.hasText(keyword))
+            return questionRepository.findEnableQuestionPage(cursor.getCreatedAt(), cursor.getIdx(), pageable);
+
+        if (!searchIndexService.isReady(ArticleCategory.QUESTION))
+            return questionRepository.findEnableQuestionPageByKeyword(keyword, cursor.getCreatedAt(), cursor.getIdx(), pageable);
+
+        // 색인은 질문 번호 순서이므로 커서의 질문 번호 이후부터 찾는다.
+        return findEnableQuestions(searchIndexService.searchAfter(ArticleCategory.QUESTION, keyword, cursor.getIdx(), limit));
+    }
+
+    private List<QuestionSummary> findEnableQuestions(List<Long> queIdxs) {
+        if (queIdxs.isEmpty())
+            return List.of();
+
+        return questionRepository.findAllEnableQuestionByIdxIn(queIdxs);
+    }
+
+    public String getQuestionVersion(Long queIdx) {
+        return postDetailCache.version(
+                ArticleCategory.QUESTION,
+                queIdx,
+                () -> questionRepository.findEnableQuestionVersion(queIdx)
+                        .map(version -> version.eTag(ArticleCategory.QUESTION, queIdx))
+                        .orElse(null)
+        );
+    }
+
+    public String getQuestionListVersion() {
+        return postDetailCache.listVersion(
+                ArticleCategory.QUESTION,
+                () -> questionRepository.findEnableQuestionListVersion().listETag(ArticleCategory.QUESTION)
+        );
+    }
 
     @Transactional(readOnly = true)
-    public QuestionDetailResponseDto getQuestionDetail(Long queIdx) {
+    public QuestionDetailResponseDto getQuestionDetail(Long queIdx, String visitorKey) {
+        // 답변 내용도 함께 캐시하므로 답변이 바뀌면 AnswerService 에서 질문을 evict 한다.
+        QuestionDetailResponseDto question = postDetailCache.get(
+                ArticleCategory.QUESTION,
+                queIdx,
+                () -> loadQuestionDetail(queIdx),
+                QuestionService::detailLength
+        );
+
+        long uniqueViews = uniqueVisitorService.visit(ArticleCategory.QUESTION, queIdx, visitorKey);
+        trendingService.record(ArticleCategory.QUESTION, queIdx, question.getQueTitle(), TrendingEvent.VIEW);
+
+        return QuestionDtoAssembler.questionResponseDto(question, uniqueViews);
+    }
+
+    private QuestionDetailResponseDto loadQuestionDetail(Long queIdx) {
         Question question = findQuestion(queIdx);
 
         if (!question.getQueLocked())
@@ -80,6 +170,15 @@ public class QuestionService {
         return QuestionDtoAssembler.questionResponseDto(question);
     }
 
+    private static int detailLength(QuestionDetailResponseDto detail) {
+        int length = detail.getQueTitle().length() + detail.getQueContents().length();
+
+        for (AnswerResponse answer : detail.getAnswers())
+            length += answer.getAnsContents().length();
+
+        return length;
+    }
+
     @Transactional
     public Long modifyQuestion(QuestionUpdateRequestDto dto) {
         String updateContents = fileService.compareFilePathAndOptimization(
@@ -90,9 +189,9 @@ public class QuestionService {
 
         Question question = findQuestion(dto.getQueIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        question.hasSameAuthor(user);
+        question.hasSameAuthor(userIdx);
 
         if (!question.getQueLocked())
             throw new QuestionInactiveException();
@@ -106,6 +205,9 @@ public class QuestionService {
                 updateContents
         );
 
+        searchIndexService.index(ArticleCategory.QUESTION, question.getQueIdx(), question.getQueTitle(), question.getQueContents());
+        postDetailCache.evict(ArticleCategory.QUESTION, question.getQueIdx());
+
         return question.getQueIdx();
     }
 
@@ -114,39 +216,51 @@ public class QuestionService {
     public void disableQuestion(QuestionBasicRequestDto dto) {
         Question question = findQuestion(dto.getQueIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        question.hasSameAuthor(user);
+        question.hasSameAuthor(userIdx);
 
         if (question.getQueSolved())
             throw new SolvedQuestionDisableFailedException();
 
         question.disableQuestion();
+
+        searchIndexService.remove(ArticleCategory.QUESTION, question.getQueIdx());
+        postDetailCache.evict(ArticleCategory.QUESTION, question.getQueIdx());
+        trendingService.remove(ArticleCategory.QUESTION, question.getQueIdx());
     }
 
     @Transactional
     public void enableQuestion(QuestionBasicRequestDto dto) {
         Question question = findQuestion(dto.getQueIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        question.hasSameAuthor(user);
+        question.hasSameAuthor(userIdx);
 
         question.enableQuestion();
+
+        searchIndexService.index(ArticleCategory.QUESTION, question.getQueIdx(), question.getQueTitle(), question.getQueContents());
+        postDetailCache.evict(ArticleCategory.QUESTION, question.getQueIdx());
     }
 
     @Transactional
     public void removeQuestion(QuestionBasicRequestDto dto) {
         Question question = findQuestion(dto.getQueIdx());
 
-        User user = findAuthor(dto.getUserEmail());
+        Long userIdx = findAuthorIdx(dto.getUserEmail());
 
-        question.hasSameAuthor(user);
+        question.hasSameAuthor(userIdx);
 
         if (question.getQueSolved())
             throw new SolvedQuestionDeleteFailedException();
 
         questionRepository.delete(question);
+        fileService.deleteArticleFiles("QUESTION", question.getQueIdx());
+
+        searchIndexService.remove(ArticleCategory.QUESTION, question.getQueIdx());
+        postDetailCache.evict(ArticleCategory.QUESTION, question.getQueIdx());
+        trendingService.remove(ArticleCategory.QUESTION, question.getQueIdx());
     }
 
     private Question findQuestion(Long queIdx) {
@@ -154,8 +268,14 @@ public class QuestionService {
                 .orElseThrow(QuestionNotFoundException::new);
     }
 
+    // 작성자 연관관계에는 번호만 있으면 되므로 조회 없이 프록시를 쓴다.
     private User findAuthor(String userEmail) {
-        return userRepository.findByUserEmail(userEmail)
-                .orElseThrow(UserNotFoundException::new);
+        return userRepository.getById(findAuthorIdx(userEmail));
+    }
+
+    private Long findAuthorIdx(String userEmail) {
+        return userIdCache.getUserIdx(userEmail, email -> userRepository.findByUserEmail(email)
+                .map(User::getUserIdx)
+                .orElseThrow(UserNotFoundException::new));
     }
 }
@@ -1,5 +1,7 @@
 package org.deco.gachicoding.post.question.application.dto;
 
+import org.deco.gachicoding.common.pagination.CursorPage;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.deco.gachicoding.post.answer.domain.Answer;
 import org.deco.gachicoding.post.answer.presentation.dto.AnswerAssembler;
 import org.deco.gachicoding.post.answer.presentation.dto.response.AnswerResponse;
@@ -7,6 +9,7 @@ import org.deco.gachicoding.post.question.application.dto.request.QuestionSaveRe
 import org.deco.gachicoding.post.question.application.dto.response.QuestionDetailResponseDto;
 import org.deco.gachicoding.post.question.application.dto.response.QuestionListResponseDto;
 import org.deco.gachicoding.post.question.domain.Question;
+import org.deco.gachicoding.post.question.domain.QuestionSummary;
 import org.deco.gachicoding.user.domain.User;
 
 import java.util.List;
@@ -25,20 +28,29 @@ public class QuestionDtoAssembler {
                 .build();
     }
 
-    public static List<QuestionListResponseDto> questionResponseDtos(List<Question> questions) {
+    public static List<QuestionListResponseDto> questionListResponseDtos(List<QuestionSummary> questions) {
         return questions.stream()
-                .map(QuestionDtoAssembler::convertForm)
+                .map(QuestionDtoAssembler::questionListResponseDto)
                 .collect(toList());
     }
 
-    private static QuestionListResponseDto convertForm(Question question) {
+    // questions는 size + 1 개까지 조회한 결과
+    public static CursorPage<QuestionListResponseDto> questionListResponseDtos(List<QuestionSummary> questions, int size) {
+        return CursorPage.of(
+                questions,
+                size,
+                question -> new PageCursor(question.getCreatedAt(), question.getQueIdx()),
+                QuestionDtoAssembler::questionListResponseDto
+        );
+    }
+
+    private static QuestionListResponseDto questionListResponseDto(QuestionSummary question) {
         return QuestionListResponseDto.builder()
                 .queIdx(question.getQueIdx())
-                .questioner(question.getQuestioner())
+                .questionerNick(question.getQuestionerNick())
                 .queTitle(question.getQueTitle())
-                .queContents(question.getQueContents())
+                .queExcerpt(question.getQueExcerpt())
                 .queSolved(question.getQueSolved())
-                .queLocked(question.getQueLocked())
                 .createdAt(question.getCreatedAt())
                 .updatedAt(question.getUpdatedAt())
                 .build();
@@ -58,6 +70,22 @@ public class QuestionDtoAssembler {
                 .build();
     }
 
+    // 캐시에 있던 상세 DTO에 요청마다 달라지는 값을 채운다.
+    public static QuestionDetailResponseDto questionResponseDto(QuestionDetailResponseDto cached, Long queUniqueViews) {
+        return QuestionDetailResponseDto.builder()
+                .queIdx(cached.getQueIdx())
+                .questioner(cached.getQuestioner())
+                .answers(cached.getAnswers())
+                .queTitle(cached.getQueTitle())
+                .queContents(cached.getQueContents())
+                .queSolved(cached.isQueSolved())
+                .queLocked(cached.isQueLocked())
+                .queUniqueViews(queUniqueViews)
+                .createdAt(cached.getCreatedAt())
+                .updatedAt(cached.getUpdatedAt())
+                .build();
+    }
+
     private static List<AnswerResponse> answerResponses(Question question) {
         List<Answer> answers = question.getAnswers();
 
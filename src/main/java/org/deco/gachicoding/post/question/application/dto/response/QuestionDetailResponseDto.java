@@ -19,6 +19,7 @@ public class QuestionDetailResponseDto {
     private String queContents;
     private boolean queSolved;
     private boolean queLocked;
+    private Long queUniqueViews;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -31,6 +32,7 @@ public class QuestionDetailResponseDto {
             String queContents,
             boolean queSolved,
             boolean queLocked,
+            Long queUniqueViews,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
@@ -43,6 +45,7 @@ public class QuestionDetailResponseDto {
         this.queContents = queContents;
         this.queSolved = queSolved;
         this.queLocked = queLocked;
+        this.queUniqueViews = queUniqueViews;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
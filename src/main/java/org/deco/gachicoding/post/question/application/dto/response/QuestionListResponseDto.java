@@ -2,10 +2,6 @@ package org.deco.gachicoding.post.question.application.dto.response;
 
 import lombok.Builder;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import org.deco.gachicoding.post.question.domain.Question;
-import org.deco.gachicoding.user.domain.User;
 
 import java.time.LocalDateTime;
 
@@ -13,31 +9,28 @@ import java.time.LocalDateTime;
 public class QuestionListResponseDto {
 
     private Long queIdx;
-    private User questioner;
+    private String questionerNick;
     private String queTitle;
-    private String queContents;
-    private boolean queSolved;
-    private boolean queLocked;
+    private String queExcerpt;
+    private Boolean queSolved;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     @Builder
     public QuestionListResponseDto(
             Long queIdx,
-            User questioner,
+            String questionerNick,
             String queTitle,
-            String queContents,
-            boolean queSolved,
-            boolean queLocked,
+            String queExcerpt,
+            Boolean queSolved,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
         this.queIdx = queIdx;
-        this.questioner = questioner;
+        this.questionerNick = questionerNick;
         this.queTitle = queTitle;
-        this.queContents = queContents;
+        this.queExcerpt = queExcerpt;
         this.queSolved = queSolved;
-        this.queLocked = queLocked;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
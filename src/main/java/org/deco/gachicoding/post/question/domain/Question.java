@@ -29,7 +29,7 @@ import java.util.List;
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "gachi_q")
+@Table(name = "gachi_q", indexes = @Index(name = "idx_gachi_q_locked_created_at", columnList = "qs_locked, created_at, qs_idx"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Question extends BaseTimeEntity {
 
@@ -63,6 +63,9 @@ public class Question extends BaseTimeEntity {
     @Column(name = "qs_locked", nullable = false)
     private Boolean queLocked;
 
+    @Column(name = "qs_visitors", columnDefinition = "varbinary(2048)", insertable = false, updatable = false)
+    private byte[] queVisitors;
+
     @Builder
     public Question(
             User questioner,
@@ -104,8 +107,9 @@ public class Question extends BaseTimeEntity {
         this.queSolved = true;
     }
 
-    public void hasSameAuthor(User user) {
-        if (questioner != user)
+    // 연관된 User 를 초기화하지 않도록 번호로 비교한다.
+    public void hasSameAuthor(Long userIdx) {
+        if (userIdx == null || !userIdx.equals(questioner.getUserIdx()))
             throw new UserUnAuthorizedException();
     }
 
@@ -129,6 +133,10 @@ public class Question extends BaseTimeEntity {
         return queContents.getQuestionContents();
     }
 
+    public String getQueExcerpt() {
+        return queContents.getQuestionExcerpt();
+    }
+
     public void updateTitle(String updateTitle) {
         queTitle = queTitle.update(updateTitle);
     }
@@ -0,0 +1,40 @@
+package org.deco.gachicoding.post.question.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 질문 목록 조회용 projection <br>
+ * 본문 전체(TEXT) 대신 미리보기만 가져온다.
+ */
+@Getter
+public class QuestionSummary {
+
+    private final Long queIdx;
+    private final String questionerNick;
+    private final String queTitle;
+    private final String queExcerpt;
+    private final Boolean queSolved;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    // JPQL 생성자 표현식에서 사용
+    public QuestionSummary(
+            Long queIdx,
+            String questionerNick,
+            String queTitle,
+            String queExcerpt,
+            Boolean queSolved,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        this.queIdx = queIdx;
+        this.questionerNick = questionerNick;
+        this.queTitle = queTitle;
+        this.queExcerpt = queExcerpt;
+        this.queSolved = queSolved;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,11 +1,14 @@
 package org.deco.gachicoding.post.question.domain.repository;
 
+import org.deco.gachicoding.post.PostVersion;
 import org.deco.gachicoding.post.question.domain.Question;
+import org.deco.gachicoding.post.question.domain.QuestionSummary;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,10 +20,74 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
             "WHERE q.queIdx = :queIdx ")
     Optional<Question> findQuestionByIdx(@Param("queIdx") Long queIdx);
 
-    @Query("SELECT DISTINCT q " +
-            "FROM Question q JOIN FETCH q.questioner " +
+    // 답변이 바뀌면 상세 응답도 바뀌므로 답변의 수정 시각과 수를 함께 가져온다.
+    @Query("SELECT new org.deco.gachicoding.post.PostVersion(q.updatedAt, MAX(a.updatedAt), COUNT(a)) " +
+            "FROM Question q LEFT JOIN q.answers a " +
+            "WHERE q.queLocked = true AND q.queIdx = :queIdx " +
+            "GROUP BY q.queIdx, q.updatedAt")
+    Optional<PostVersion> findEnableQuestionVersion(@Param("queIdx") Long queIdx);
+
+    // 목록의 조건부 GET 은 활성 질문의 마지막 수정 시각과 수만 비교한다. 해결 여부가 바뀌어도 updated_at 이 바뀐다.
+    @Query("SELECT new org.deco.gachicoding.post.PostVersion(MAX(q.updatedAt), COUNT(q)) " +
+            "FROM Question q " +
+            "WHERE q.queLocked = true")
+    PostVersion findEnableQuestionListVersion();
+
+    // 목록 조회는 본문 전체 대신 QuestionSummary projection으로 필요한 컬럼만 가져온다.
+    @Query("SELECT new org.deco.gachicoding.post.question.domain.QuestionSummary(" +
+            "q.queIdx, u.userNick, q.queTitle.queTitle, q.queContents.queExcerpt, " +
+            "q.queSolved, q.createdAt, q.updatedAt) " +
+            "FROM Question q JOIN q.questioner u " +
             "WHERE q.queLocked = true " +
             "AND (q.queTitle.queTitle LIKE %:keyword% " +
             "OR q.queContents.queContents LIKE %:keyword%) ")
-    List<Question> findAllQuestionByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    List<QuestionSummary> findAllQuestionByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    // (created_at, qs_idx) 커서 이후의 질문
+    @Query("SELECT new org.deco.gachicoding.post.question.domain.QuestionSummary(" +
+            "q.queIdx, u.userNick, q.queTitle.queTitle, q.queContents.queExcerpt, " +
+            "q.queSolved, q.createdAt, q.updatedAt) " +
+            "FROM Question q JOIN q.questioner u " +
+            "WHERE q.queLocked = true " +
+            "AND (q.createdAt < :createdAt " +
+            "OR (q.createdAt = :createdAt AND q.queIdx < :queIdx)) " +
+            "ORDER BY q.createdAt DESC, q.queIdx DESC")
+    List<QuestionSummary> findEnableQuestionPage(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("queIdx") Long queIdx,
+            Pageable pageable
+    );
+
+    @Query("SELECT new org.deco.gachicoding.post.question.domain.QuestionSummary(" +
+            "q.queIdx, u.userNick, q.queTitle.queTitle, q.queContents.queExcerpt, " +
+            "q.queSolved, q.createdAt, q.updatedAt) " +
+            "FROM Question q JOIN q.questioner u " +
+            "WHERE q.queLocked = true " +
+            "AND (q.queTitle.queTitle LIKE %:keyword% " +
+            "OR q.queContents.queContents LIKE %:keyword%) " +
+            "AND (q.createdAt < :createdAt " +
+            "OR (q.createdAt = :createdAt AND q.queIdx < :queIdx)) " +
+            "ORDER BY q.createdAt DESC, q.queIdx DESC")
+    List<QuestionSummary> findEnableQuestionPageByKeyword(
+            @Param("keyword") String keyword,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("queIdx") Long queIdx,
+            Pageable pageable
+    );
+
+    @Query("SELECT new org.deco.gachicoding.post.question.domain.QuestionSummary(" +
+            "q.queIdx, u.userNick, q.queTitle.queTitle, q.queContents.queExcerpt, " +
+            "q.queSolved, q.createdAt, q.updatedAt) " +
+            "FROM Question q JOIN q.questioner u " +
+            "WHERE q.queLocked = true " +
+            "AND q.queIdx IN :queIdxs " +
+            "ORDER BY q.queIdx DESC")
+    List<QuestionSummary> findAllEnableQuestionByIdxIn(@Param("queIdxs") List<Long> queIdxs);
+
+    @Query("SELECT q " +
+            "FROM Question q " +
+            "WHERE q.queLocked = true " +
+            "AND q.queIdx > :lastIdx " +
+            "ORDER BY q.queIdx")
+    List<Question> findEnableQuestionAfter(@Param("lastIdx") Long lastIdx, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package org.deco.gachicoding.post.question.domain.vo;
 
+import org.deco.gachicoding.common.html.HtmlTextExtractor;
 import org.deco.gachicoding.exception.post.question.QuestionContentsEmptyException;
 import org.deco.gachicoding.exception.post.question.QuestionContentsOverMaximumLengthException;
 import org.deco.gachicoding.exception.post.question.QuestionContentsNullException;
@@ -12,9 +13,16 @@ public class QuestionContents {
 
     public static final int MAXIMUM_CONTENT_LENGTH = 100000;
 
+    // 목록 미리보기 글자 수
+    public static final int EXCERPT_LENGTH = 100;
+
     @Column(name = "qs_contents", columnDefinition = "text", nullable = false)
     private String queContents;
 
+    // 본문이 바뀔 때만 다시 만들어 목록 조회가 본문(TEXT)을 읽지 않게 한다.
+    @Column(name = "qs_excerpt", length = EXCERPT_LENGTH)
+    private String queExcerpt;
+
     protected QuestionContents() {}
 
     public QuestionContents(String queContents) {
@@ -22,12 +30,17 @@ public class QuestionContents {
         validateEmptyContents(queContents);
         validateMaximumLength(queContents);
         this.queContents = queContents;
+        this.queExcerpt = HtmlTextExtractor.excerpt(queContents, EXCERPT_LENGTH);
     }
 
     public String getQuestionContents() {
         return queContents;
     }
 
+    public String getQuestionExcerpt() {
+        return queExcerpt;
+    }
+
     public QuestionContents update(String updateContents) {
         if (queContents.equals(updateContents))
             return this;
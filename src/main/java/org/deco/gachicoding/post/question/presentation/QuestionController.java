@@ -3,6 +3,9 @@ package org.deco.gachicoding.post.question.presentation;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.http.ETags;
+import org.deco.gachicoding.common.pagination.CursorPage;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.deco.gachicoding.post.question.application.QuestionService;
 import org.deco.gachicoding.post.question.application.dto.request.QuestionBasicRequestDto;
 import org.deco.gachicoding.post.question.application.dto.request.QuestionUpdateRequestDto;
@@ -11,10 +14,12 @@ import org.deco.gachicoding.post.question.presentation.dto.request.QuestionSaveR
 import org.deco.gachicoding.post.question.presentation.dto.request.QuestionUpdateRequest;
 import org.deco.gachicoding.post.question.presentation.dto.response.QuestionDetailResponse;
 import org.deco.gachicoding.post.question.presentation.dto.response.QuestionListResponse;
+import org.deco.gachicoding.view.presentation.VisitorKey;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
@@ -52,15 +57,18 @@ public class QuestionController {
         return ResponseEntity.created(URI.create(redirectUrl)).build();
     }
 
-    @ApiOperation(value = "질문 리스트", notes = "여러 개의 질문 데이터 응답. 이 때, 질문별 답변 데이터는 포함하지 않음.")
+    @ApiOperation(value = "질문 리스트", notes = "여러 개의 질문 데이터 응답. 이 때, 질문별 답변 데이터는 포함하지 않음. (offset 페이지, 관리자 화면용)")
     @ApiResponses(
             @ApiResponse(code = 200, message = "질문 목록 반환")
     )
     @GetMapping("/question/list")
     public ResponseEntity<List<QuestionListResponse>> getQuestionList(
             @ApiParam(value = "검색어") @RequestParam(value = "keyword", defaultValue = "") String keyword,
-            @ApiIgnore @PageableDefault(size = 10) Pageable pageable
+            @ApiIgnore @PageableDefault(size = 10) Pageable pageable,
+            @ApiIgnore WebRequest webRequest
     ) {
+        if (ETags.notModified(webRequest, questionService.getQuestionListVersion()))
+            return null;
 
         return ResponseEntity.ok(
                 QuestionAssembler.questionListResponse(
@@ -69,6 +77,27 @@ public class QuestionController {
         );
     }
 
+    @ApiOperation(value = "질문 리스트 (커서)", notes = "응답의 nextCursor를 cursor로 넘기면 다음 페이지, 마지막 페이지면 nextCursor가 null")
+    @ApiResponses(
+            @ApiResponse(code = 200, message = "질문 목록과 다음 페이지 커서 반환")
+    )
+    @GetMapping("/question/list/cursor")
+    public ResponseEntity<CursorPage<QuestionListResponse>> getQuestionListByCursor(
+            @ApiParam(value = "검색어") @RequestParam(value = "keyword", defaultValue = "") String keyword,
+            @ApiParam(value = "다음 페이지 커서") @RequestParam(value = "cursor", required = false) String cursor,
+            @ApiIgnore @PageableDefault(size = 10) Pageable pageable,
+            @ApiIgnore WebRequest webRequest
+    ) {
+        if (ETags.notModified(webRequest, questionService.getQuestionListVersion()))
+            return null;
+
+        return ResponseEntity.ok(
+                QuestionAssembler.questionListResponse(
+                        questionService.getQuestionListByCursor(keyword, PageCursor.decode(cursor), pageable.getPageSize())
+                )
+        );
+    }
+
     @ApiOperation(value = "질문 디테일", notes = "하나의 질문 데이터와 해당 질문의 답변들을 응답")
     @ApiResponses(
             @ApiResponse(code = 200, message = "질문 상세 정보 반환")
@@ -76,12 +105,17 @@ public class QuestionController {
     @GetMapping("/question/{queIdx}")
     public ResponseEntity<QuestionDetailResponse> getQuestionDetail(
             @ApiParam(value = "질문 번호", example = "1")
-            @PathVariable Long queIdx
+            @PathVariable Long queIdx,
+            @ApiIgnore @VisitorKey String visitorKey,
+            @ApiIgnore WebRequest webRequest
     ) {
+        // 답변이 달리거나 바뀌면 버전이 바뀐다.
+        if (ETags.notModified(webRequest, questionService.getQuestionVersion(queIdx)))
+            return null;
 
         return ResponseEntity.ok(
                 QuestionAssembler.questionDetailResponse(
-                        questionService.getQuestionDetail(queIdx)
+                        questionService.getQuestionDetail(queIdx, visitorKey)
                 )
         );
     }
@@ -1,5 +1,6 @@
 package org.deco.gachicoding.post.question.presentation.dto;
 
+import org.deco.gachicoding.common.pagination.CursorPage;
 import org.deco.gachicoding.post.question.application.dto.request.QuestionBasicRequestDto;
 import org.deco.gachicoding.post.question.application.dto.request.QuestionSaveRequestDto;
 import org.deco.gachicoding.post.question.application.dto.request.QuestionUpdateRequestDto;
@@ -39,6 +40,7 @@ public class QuestionAssembler {
                 .queTitle(dto.getQueTitle())
                 .queContents(dto.getQueContents())
                 .queSolved(dto.isQueSolved())
+                .queUniqueViews(dto.getQueUniqueViews())
                 .createdAt(dto.getCreatedAt())
                 .updatedAt(dto.getUpdatedAt())
                 .build();
@@ -50,14 +52,17 @@ public class QuestionAssembler {
                 .collect(toList());
     }
 
+    public static CursorPage<QuestionListResponse> questionListResponse(CursorPage<QuestionListResponseDto> dtos) {
+        return dtos.map(QuestionAssembler::questionListResponse);
+    }
+
     private static QuestionListResponse questionListResponse(QuestionListResponseDto dto) {
         return QuestionListResponse.builder()
                 .queIdx(dto.getQueIdx())
-                .userEmail(dto.getQuestioner().getUserEmail())
-                .userNick(dto.getQuestioner().getUserNick())
+                .userNick(dto.getQuestionerNick())
                 .queTitle(dto.getQueTitle())
-                .queContents(dto.getQueContents())
-                .queSolved(dto.isQueSolved())
+                .queExcerpt(dto.getQueExcerpt())
+                .queSolved(dto.getQueSolved())
                 .createdAt(dto.getCreatedAt())
                 .updatedAt(dto.getUpdatedAt())
                 .build();
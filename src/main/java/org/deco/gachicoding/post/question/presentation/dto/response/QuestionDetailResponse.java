@@ -21,6 +21,7 @@ public class QuestionDetailResponse {
     private String queTitle;
     private String queContents;
     private boolean queSolved;
+    private Long queUniqueViews;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -33,6 +34,7 @@ public class QuestionDetailResponse {
             String queTitle,
             String queContents,
             boolean queSolved,
+            Long queUniqueViews,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
@@ -46,6 +48,7 @@ public class QuestionDetailResponse {
         this.queTitle = queTitle;
         this.queContents = queContents;
         this.queSolved = queSolved;
+        this.queUniqueViews = queUniqueViews;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
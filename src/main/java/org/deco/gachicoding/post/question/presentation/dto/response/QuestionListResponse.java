@@ -16,33 +16,30 @@ public class QuestionListResponse {
     
     private Long queIdx;
 
-    private String userEmail;
     private String userNick;
 
     private String queTitle;
-    private String queContents;
-    private boolean queSolved;
+    private String queExcerpt;
+    private Boolean queSolved;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     @Builder
     public QuestionListResponse(
             Long queIdx,
-            String userEmail,
             String userNick,
             String queTitle,
-            String queContents,
-            boolean queSolved,
+            String queExcerpt,
+            Boolean queSolved,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
         this.queIdx = queIdx;
 
-        this.userEmail = userEmail;
         this.userNick = userNick;
 
         this.queTitle = queTitle;
-        this.queContents = queContents;
+        this.queExcerpt = queExcerpt;
         this.queSolved = queSolved;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
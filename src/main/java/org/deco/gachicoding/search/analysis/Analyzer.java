@@ -0,0 +1,42 @@
+package org.deco.gachicoding.search.analysis;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 색인과 검색어에 같은 규칙을 적용하기 위한 분석기 <br>
+ * 스레드마다 TokenStream을 하나씩 재사용한다.
+ */
+public class Analyzer {
+
+    private static final ThreadLocal<TokenStream> TOKEN_STREAM = ThreadLocal.withInitial(TokenStream::new);
+
+    private Analyzer() {}
+
+    public static TokenStream tokenStream(CharSequence text) {
+        return TOKEN_STREAM.get().reset(text);
+    }
+
+    // 중복을 제거한 단어 목록
+    public static Set<String> terms(CharSequence... texts) {
+        Set<String> terms = new HashSet<>();
+
+        for (CharSequence text : texts) {
+            TokenStream stream = tokenStream(text);
+
+            while (stream.incrementToken())
+                terms.add(stream.term());
+        }
+
+        return terms;
+    }
+
+    // 단어별 출현 횟수에 weight 만큼 더한다. (제목 가중치 등)
+    public static void addTermFrequencies(Map<String, Integer> termFrequencies, CharSequence text, int weight) {
+        TokenStream stream = tokenStream(text);
+
+        while (stream.incrementToken())
+            termFrequencies.merge(stream.term(), weight, Integer::sum);
+    }
+}
@@ -0,0 +1,257 @@
+package org.deco.gachicoding.search.analysis;
+
+/**
+ * 게시물 본문을 검색 단어(term)로 나누는 스트림 <br>
+ * - 한글 : 2글자 단위(bigram), 한 글자만 있으면 그대로 <br>
+ * - 영문, 숫자 : 소문자로 바꾼 식별자 전체 + camelCase, snake_case로 나눈 조각 <br>
+ * - HTML 태그(&lt;...&gt;), 엔티티(&amp;nbsp;)는 건너뛴다. <br>
+ * 단어는 재사용되는 char 버퍼에 담기므로 호출하는 쪽에서 필요할 때만 String으로 만든다. <br>
+ * 상태를 가지므로 스레드 간에 공유하면 안 된다.
+ */
+public final class TokenStream {
+
+    public static final int MAX_TOKEN_LENGTH = 64;
+
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    private enum Mode { NONE, HANGUL, IDENTIFIER_PARTS }
+
+    private CharSequence text = "";
+    private int textLength;
+    private int position;
+
+    private Mode mode = Mode.NONE;
+    private int runEnd;
+    private int cursor;
+
+    private final char[] buffer = new char[MAX_TOKEN_LENGTH];
+    private int length;
+
+    public TokenStream reset(CharSequence text) {
+        this.text = (text == null) ? "" : text;
+        this.textLength = this.text.length();
+        this.position = 0;
+        this.mode = Mode.NONE;
+        this.length = 0;
+        return this;
+    }
+
+    public char[] buffer() {
+        return buffer;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public String term() {
+        return new String(buffer, 0, length);
+    }
+
+    public boolean incrementToken() {
+        while (true) {
+            switch (mode) {
+                case HANGUL:
+                    if (nextHangulToken())
+                        return true;
+                    break;
+                case IDENTIFIER_PARTS:
+                    if (nextIdentifierPart())
+                        return true;
+                    break;
+                default:
+                    break;
+            }
+
+            mode = Mode.NONE;
+
+            if (!nextRun())
+                return false;
+
+            if (mode == Mode.NONE || length > 0)
+                return true;
+        }
+    }
+
+    private boolean nextHangulToken() {
+        if (cursor + 1 >= runEnd)
+            return false;
+
+        buffer[0] = text.charAt(cursor);
+        buffer[1] = text.charAt(cursor + 1);
+        length = 2;
+        cursor++;
+        return true;
+    }
+
+    private boolean nextIdentifierPart() {
+        while (cursor < runEnd && text.charAt(cursor) == '_')
+            cursor++;
+
+        if (cursor >= runEnd)
+            return false;
+
+        int end = cursor + 1;
+        while (end < runEnd && !isPartBoundary(end, runEnd))
+            end++;
+
+        length = 0;
+        for (int i = cursor; i < end && length < MAX_TOKEN_LENGTH; i++)
+            buffer[length++] = Character.toLowerCase(text.charAt(i));
+
+        cursor = end;
+        return true;
+    }
+
+    /**
+     * 다음 한글 또는 식별자 구간을 찾는다. <br>
+     * 식별자는 전체 단어를 바로 버퍼에 담고, 한글은 구간만 잡아두고 bigram은 다음 호출에서 만든다.
+     */
+    private boolean nextRun() {
+        length = 0;
+
+        while (position < textLength) {
+            char c = text.charAt(position);
+
+            if (c == '<') {
+                skipTag();
+                continue;
+            }
+
+            if (c == '&') {
+                skipEntity();
+                continue;
+            }
+
+            if (isHangul(c)) {
+                int start = position;
+
+                while (position < textLength && isHangul(text.charAt(position)))
+                    position++;
+
+                if (position - start == 1) {
+                    buffer[0] = c;
+                    length = 1;
+                    return true;
+                }
+
+                mode = Mode.HANGUL;
+                cursor = start;
+                runEnd = position;
+                return true;
+            }
+
+            if (Character.isLetterOrDigit(c)) {
+                readIdentifier();
+
+                if (length == 0)
+                    continue;
+
+                return true;
+            }
+
+            position++;
+        }
+
+        return false;
+    }
+
+    private void readIdentifier() {
+        int start = position;
+
+        while (position < textLength && isIdentifierChar(text.charAt(position)))
+            position++;
+
+        // 끝에 붙은 _ 는 단어에 포함하지 않는다.
+        int end = position;
+        while (end > start && text.charAt(end - 1) == '_')
+            end--;
+
+        int parts = 1;
+        for (int i = start + 1; i < end; i++) {
+            if (isPartBoundary(i, end))
+                parts++;
+        }
+
+        // 전체 단어는 _ 를 빼고 담아서 user_email, userEmail 이 같은 단어가 되게 한다.
+        length = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+
+            if (c == '_')
+                continue;
+
+            if (length == MAX_TOKEN_LENGTH) {
+                length = 0;
+                return;
+            }
+
+            buffer[length++] = Character.toLowerCase(c);
+        }
+
+        if (parts > 1) {
+            mode = Mode.IDENTIFIER_PARTS;
+            cursor = start;
+            runEnd = end;
+        }
+    }
+
+    private boolean isPartBoundary(int index, int end) {
+        char c = text.charAt(index);
+        char prev = text.charAt(index - 1);
+
+        if (c == '_')
+            return prev != '_';
+
+        if (prev == '_')
+            return false;
+
+        if (!Character.isUpperCase(c))
+            return false;
+
+        if (Character.isLowerCase(prev) || Character.isDigit(prev))
+            return true;
+
+        // HTTPServer -> http, server
+        return Character.isUpperCase(prev)
+                && index + 1 < end
+                && Character.isLowerCase(text.charAt(index + 1));
+    }
+
+    private void skipTag() {
+        for (int i = position + 1; i < textLength; i++) {
+            if (text.charAt(i) == '>') {
+                position = i + 1;
+                return;
+            }
+        }
+        // 닫히지 않은 < 는 태그가 아니라 문자로 본다.
+        position++;
+    }
+
+    private void skipEntity() {
+        int limit = Math.min(textLength, position + MAX_ENTITY_LENGTH);
+
+        for (int i = position + 1; i < limit; i++) {
+            char c = text.charAt(i);
+
+            if (c == ';') {
+                position = i + 1;
+                return;
+            }
+
+            if (!Character.isLetterOrDigit(c) && c != '#')
+                break;
+        }
+        position++;
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return c == '_' || (Character.isLetterOrDigit(c) && !isHangul(c));
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣')    // 완성형 음절
+                || (c >= 'ㄱ' && c <= 'ㆎ'); // 호환 자모 (ㅋㅋ, ㅠㅠ)
+    }
+}
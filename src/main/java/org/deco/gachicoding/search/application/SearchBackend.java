@@ -0,0 +1,18 @@
+package org.deco.gachicoding.search.application;
+
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.search.application.dto.response.SearchHitDto;
+
+import java.util.List;
+
+/**
+ * 게시물 종류별 검색 <br>
+ * 통합 검색(SearchService)은 등록된 모든 SearchBackend에 동시에 요청하고 결과를 점수순으로 합친다.
+ */
+public interface SearchBackend {
+
+    ArticleCategory getCategory();
+
+    // 점수가 높은 순서로 최대 size개
+    List<SearchHitDto> search(String keyword, int size);
+}
@@ -0,0 +1,114 @@
+package org.deco.gachicoding.search.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.answer.domain.Answer;
+import org.deco.gachicoding.post.answer.domain.repository.AnswerRepository;
+import org.deco.gachicoding.post.board.domain.Board;
+import org.deco.gachicoding.post.board.domain.repository.BoardRepository;
+import org.deco.gachicoding.post.notice.domain.Notice;
+import org.deco.gachicoding.post.notice.domain.repository.NoticeRepository;
+import org.deco.gachicoding.post.question.domain.Question;
+import org.deco.gachicoding.post.question.domain.repository.QuestionRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 활성 게시물 전체를 색인한다. <br>
+ * 게시물 번호 기준으로 끊어 읽어서(keyset) 게시물이 많아도 offset 비용이 커지지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final SearchIndexService searchIndexService;
+    private final BoardRepository boardRepository;
+    private final NoticeRepository noticeRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        indexBoards();
+        indexNotices();
+        indexQuestions();
+        indexAnswers();
+    }
+
+    private void indexBoards() {
+        Pageable pageable = PageRequest.of(0, BATCH_SIZE);
+        Long lastIdx = 0L;
+        List<Board> boards;
+
+        do {
+            boards = boardRepository.findEnableBoardAfter(lastIdx, pageable);
+
+            for (Board board : boards) {
+                searchIndexService.index(ArticleCategory.BOARD, board.getBoardIdx(), board.getBoardTitle(), board.getBoardContents());
+                lastIdx = board.getBoardIdx();
+            }
+        } while (boards.size() == BATCH_SIZE);
+
+        searchIndexService.markReady(ArticleCategory.BOARD);
+    }
+
+    private void indexNotices() {
+        Pageable pageable = PageRequest.of(0, BATCH_SIZE);
+        Long lastIdx = 0L;
+        List<Notice> notices;
+
+        do {
+            notices = noticeRepository.findEnableNoticeAfter(lastIdx, pageable);
+
+            for (Notice notice : notices) {
+                searchIndexService.index(ArticleCategory.NOTICE, notice.getNotIdx(), notice.getNotTitle(), notice.getNotContents());
+                lastIdx = notice.getNotIdx();
+            }
+        } while (notices.size() == BATCH_SIZE);
+
+        searchIndexService.markReady(ArticleCategory.NOTICE);
+    }
+
+    private void indexQuestions() {
+        Pageable pageable = PageRequest.of(0, BATCH_SIZE);
+        Long lastIdx = 0L;
+        List<Question> questions;
+
+        do {
+            questions = questionRepository.findEnableQuestionAfter(lastIdx, pageable);
+
+            for (Question question : questions) {
+                searchIndexService.index(ArticleCategory.QUESTION, question.getQueIdx(), question.getQueTitle(), question.getQueContents());
+                lastIdx = question.getQueIdx();
+            }
+        } while (questions.size() == BATCH_SIZE);
+
+        searchIndexService.markReady(ArticleCategory.QUESTION);
+    }
+
+    private void indexAnswers() {
+        Pageable pageable = PageRequest.of(0, BATCH_SIZE);
+        Long lastIdx = 0L;
+        List<Answer> answers;
+
+        do {
+            answers = answerRepository.findEnableAnswerAfter(lastIdx, pageable);
+
+            for (Answer answer : answers) {
+                searchIndexService.index(ArticleCategory.ANSWER, answer.getAnsIdx(), null, answer.getAnsContents());
+                lastIdx = answer.getAnsIdx();
+            }
+        } while (answers.size() == BATCH_SIZE);
+
+        searchIndexService.markReady(ArticleCategory.ANSWER);
+    }
+}
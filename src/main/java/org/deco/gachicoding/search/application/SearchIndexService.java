@@ -0,0 +1,77 @@
+package org.deco.gachicoding.search.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.transaction.AfterCommit;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.search.analysis.Analyzer;
+import org.deco.gachicoding.search.domain.InvertedIndex;
+import org.deco.gachicoding.search.domain.ScoredArticle;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시물 종류별 메모리 역색인 <br>
+ * 키워드 검색 시 LIKE %keyword% 전체 스캔 대신 색인에서 게시물 번호를 찾는다. <br>
+ * 색인 변경은 트랜잭션 커밋 이후에 반영되므로 롤백된 변경은 색인에 남지 않는다.
+ */
+@Slf4j
+@Service
+public class SearchIndexService {
+
+    // 제목에 나온 단어는 본문보다 점수를 높게 준다.
+    private static final int TITLE_WEIGHT = 3;
+
+    private final Map<ArticleCategory, InvertedIndex> indexes = new EnumMap<>(ArticleCategory.class);
+
+    private final Set<ArticleCategory> readyCategories = ConcurrentHashMap.newKeySet();
+
+    public SearchIndexService() {
+        for (ArticleCategory category : ArticleCategory.values())
+            indexes.put(category, new InvertedIndex());
+    }
+
+    public void index(ArticleCategory category, Long articleIdx, String title, String contents) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+
+        Analyzer.addTermFrequencies(termFrequencies, title, TITLE_WEIGHT);
+        Analyzer.addTermFrequencies(termFrequencies, contents, 1);
+
+        AfterCommit.run(() -> indexes.get(category).add(articleIdx, termFrequencies));
+    }
+
+    public void remove(ArticleCategory category, Long articleIdx) {
+        AfterCommit.run(() -> indexes.get(category).remove(articleIdx));
+    }
+
+    // 키워드의 모든 단어를 포함하는 게시물 번호 (최신순)
+    public List<Long> search(ArticleCategory category, String keyword, Pageable pageable) {
+        return indexes.get(category).search(
+                Analyzer.terms(keyword),
+                (int) pageable.getOffset(),
+                pageable.getPageSize()
+        );
+    }
+
+    // afterIdx 보다 오래된 게시물 번호 (최신순)
+    public List<Long> searchAfter(ArticleCategory category, String keyword, Long afterIdx, int size) {
+        return indexes.get(category).searchAfter(Analyzer.terms(keyword), afterIdx, size);
+    }
+
+    // 검색어와 관련도가 높은 게시물 (BM25 점수순)
+    public List<ScoredArticle> rank(ArticleCategory category, String keyword, int size) {
+        return indexes.get(category).topK(Analyzer.terms(keyword), size);
+    }
+
+    // 초기 색인이 끝나기 전에는 DB 검색을 사용해야 한다.
+    public boolean isReady(ArticleCategory category) {
+        return readyCategories.contains(category);
+    }
+
+    public void markReady(ArticleCategory category) {
+        readyCategories.add(category);
+        log.info("{} 검색 색인 완료 - {}건", category, indexes.get(category).size());
+    }
+}
@@ -0,0 +1,161 @@
+package org.deco.gachicoding.search.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.search.application.dto.request.SearchRequestDto;
+import org.deco.gachicoding.search.application.dto.response.SearchHitDto;
+import org.deco.gachicoding.search.application.dto.response.SearchResponseDto;
+import org.deco.gachicoding.search.application.dto.response.SearchSourceDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 자유게시판, 공지사항, 질문, 답변 통합 검색 <br>
+ * 모든 SearchBackend에 동시에 요청하고, 각 결과를 BM25 점수 기준 top-K 힙으로 합쳐 한 페이지를 만든다. <br>
+ * 제한 시간 안에 응답하지 못한 backend는 결과 없이 TIMEOUT으로 표시된다. <br>
+ * 스레드 풀이 가득 차 실행하지 못한 backend는 요청 스레드에서 대신 실행하지 않고 FAILURE로 표시한다.
+ */
+@Slf4j
+@Service
+public class SearchService {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String TIMEOUT = "TIMEOUT";
+    private static final String FAILURE = "FAILURE";
+
+    private final List<SearchBackend> searchBackends;
+    private final Executor searchExecutor;
+    private final long timeoutMillis;
+
+    public SearchService(
+            List<SearchBackend> searchBackends,
+            @Qualifier("searchExecutor") Executor searchExecutor,
+            @Value("${search.timeout-millis:1000}") long timeoutMillis
+    ) {
+        this.searchBackends = searchBackends;
+        this.searchExecutor = searchExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SearchResponseDto search(SearchRequestDto dto) {
+        if (!StringUtils.hasText(dto.getKeyword()))
+            return SearchResponseDto.builder()
+                    .hits(Collections.emptyList())
+                    .sources(Collections.emptyList())
+                    .build();
+
+        Pageable pageable = dto.getPageable();
+        int offset = (int) pageable.getOffset();
+        int size = pageable.getPageSize();
+
+        // 페이지를 만들려면 각 backend에서 offset + size 개씩 필요하다.
+        List<CompletableFuture<SourceResult>> futures = searchBackends.stream()
+                .map(backend -> searchAsync(backend, dto.getKeyword(), offset + size))
+                .collect(Collectors.toList());
+
+        // 각 future는 timeoutMillis 안에 완료되므로 join이 그 이상 기다리지 않는다.
+        List<SourceResult> results = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+
+        return SearchResponseDto.builder()
+                .hits(merge(results, offset, size))
+                .sources(results.stream()
+                        .map(SourceResult::getSource)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private CompletableFuture<SourceResult> searchAsync(SearchBackend backend, String keyword, int size) {
+        ArticleCategory category = backend.getCategory();
+        long start = System.nanoTime();
+
+        CompletableFuture<List<SearchHitDto>> future;
+
+        try {
+            future = CompletableFuture.supplyAsync(() -> backend.search(keyword, size), searchExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("{} 검색 거절 - 검색 스레드 풀이 가득 찼습니다.", category);
+            return CompletableFuture.completedFuture(
+                    new SourceResult(source(category, FAILURE, elapsedMillis(start), 0), Collections.emptyList())
+            );
+        }
+
+        return future
+                .thenApply(hits -> new SourceResult(source(category, SUCCESS, elapsedMillis(start), hits.size()), hits))
+                .exceptionally(e -> {
+                    log.error("{} 검색 실패", category, e);
+                    return new SourceResult(source(category, FAILURE, elapsedMillis(start), 0), Collections.emptyList());
+                })
+                .completeOnTimeout(
+                        new SourceResult(source(category, TIMEOUT, timeoutMillis, 0), Collections.emptyList()),
+                        timeoutMillis,
+                        TimeUnit.MILLISECONDS
+                );
+    }
+
+    private List<SearchHitDto> merge(List<SourceResult> results, int offset, int size) {
+        int k = offset + size;
+        Comparator<SearchHitDto> order = Comparator.comparingDouble(SearchHitDto::getScore);
+        PriorityQueue<SearchHitDto> heap = new PriorityQueue<>(k + 1, order);
+
+        for (SourceResult result : results) {
+            for (SearchHitDto hit : result.getHits()) {
+                heap.offer(hit);
+
+                if (heap.size() > k)
+                    heap.poll();
+            }
+        }
+
+        List<SearchHitDto> hits = new ArrayList<>(heap);
+        hits.sort(order.reversed());
+
+        if (offset >= hits.size())
+            return Collections.emptyList();
+
+        return hits.subList(offset, Math.min(hits.size(), k));
+    }
+
+    private long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private SearchSourceDto source(ArticleCategory category, String status, long tookMillis, int hitCount) {
+        return SearchSourceDto.builder()
+                .articleCategory(category)
+                .status(status)
+                .tookMillis(tookMillis)
+                .hitCount(hitCount)
+                .build();
+    }
+
+    private static class SourceResult {
+
+        private final SearchSourceDto source;
+        private final List<SearchHitDto> hits;
+
+        private SourceResult(SearchSourceDto source, List<SearchHitDto> hits) {
+            this.source = source;
+            this.hits = hits;
+        }
+
+        private SearchSourceDto getSource() {
+            return source;
+        }
+
+        private List<SearchHitDto> getHits() {
+            return hits;
+        }
+    }
+}
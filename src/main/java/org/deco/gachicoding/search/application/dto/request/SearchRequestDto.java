@@ -0,0 +1,18 @@
+package org.deco.gachicoding.search.application.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+
+@Getter
+public class SearchRequestDto {
+
+    private String keyword;
+    private Pageable pageable;
+
+    @Builder
+    public SearchRequestDto(String keyword, Pageable pageable) {
+        this.keyword = keyword;
+        this.pageable = pageable;
+    }
+}
@@ -0,0 +1,41 @@
+package org.deco.gachicoding.search.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.deco.gachicoding.post.ArticleCategory;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class SearchHitDto {
+
+    private ArticleCategory articleCategory;
+    private Long articleIdx;
+
+    // 답변인 경우 질문 번호
+    private Long parentIdx;
+
+    private String title;
+    private String excerpt;
+    private double score;
+    private LocalDateTime createdAt;
+
+    @Builder
+    public SearchHitDto(
+            ArticleCategory articleCategory,
+            Long articleIdx,
+            Long parentIdx,
+            String title,
+            String excerpt,
+            double score,
+            LocalDateTime createdAt
+    ) {
+        this.articleCategory = articleCategory;
+        this.articleIdx = articleIdx;
+        this.parentIdx = parentIdx;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.score = score;
+        this.createdAt = createdAt;
+    }
+}
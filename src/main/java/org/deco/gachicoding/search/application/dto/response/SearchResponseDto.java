@@ -0,0 +1,19 @@
+package org.deco.gachicoding.search.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SearchResponseDto {
+
+    private List<SearchHitDto> hits;
+    private List<SearchSourceDto> sources;
+
+    @Builder
+    public SearchResponseDto(List<SearchHitDto> hits, List<SearchSourceDto> sources) {
+        this.hits = hits;
+        this.sources = sources;
+    }
+}
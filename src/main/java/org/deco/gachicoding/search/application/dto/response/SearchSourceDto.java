@@ -0,0 +1,24 @@
+package org.deco.gachicoding.search.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.deco.gachicoding.post.ArticleCategory;
+
+@Getter
+public class SearchSourceDto {
+
+    private ArticleCategory articleCategory;
+
+    // SUCCESS, TIMEOUT, FAILURE
+    private String status;
+    private long tookMillis;
+    private int hitCount;
+
+    @Builder
+    public SearchSourceDto(ArticleCategory articleCategory, String status, long tookMillis, int hitCount) {
+        this.articleCategory = articleCategory;
+        this.status = status;
+        this.tookMillis = tookMillis;
+        this.hitCount = hitCount;
+    }
+}
@@ -0,0 +1,201 @@
+package org.deco.gachicoding.search.domain;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단어(term) -> 게시물 번호 목록(posting list) 역색인 <br>
+ * 게시물 수정, 삭제 시 이전 단어를 지우기 위해 게시물 -> 단어 목록(forward index)도 함께 가진다. <br>
+ * BM25 점수 계산을 위해 게시물 길이(단어 수)와 전체 길이 합계를 관리한다.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, PostingList> postings = new ConcurrentHashMap<>();
+
+    private final Map<Long, IndexedArticle> articles = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalLength = new AtomicLong();
+
+    public void add(Long articleIdx, Map<String, Integer> termFrequencies) {
+        // 같은 게시물에 대한 색인 요청은 compute 안에서 순서대로 처리된다.
+        articles.compute(articleIdx, (idx, old) -> {
+            if (old != null) {
+                old.terms.stream()
+                        .filter(term -> !termFrequencies.containsKey(term))
+                        .forEach(term -> removePosting(term, idx));
+                totalLength.addAndGet(-old.length);
+            }
+
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                putPosting(entry.getKey(), idx, entry.getValue());
+                length += entry.getValue();
+            }
+            totalLength.addAndGet(length);
+
+            return new IndexedArticle(Set.copyOf(termFrequencies.keySet()), length);
+        });
+    }
+
+    public void remove(Long articleIdx) {
+        articles.computeIfPresent(articleIdx, (idx, old) -> {
+            old.terms.forEach(term -> removePosting(term, idx));
+            totalLength.addAndGet(-old.length);
+            return null;
+        });
+    }
+
+    /**
+     * 검색어 단어 중 하나라도 포함하는 게시물을 BM25 점수 순으로 k개 반환한다. <br>
+     * 점수가 같으면 최신 글이 먼저 온다.
+     */
+    public List<ScoredArticle> topK(Set<String> terms, int k) {
+        int articleCount = articles.size();
+
+        if (terms.isEmpty() || k <= 0 || articleCount == 0)
+            return Collections.emptyList();
+
+        double averageLength = Math.max(1.0, (double) totalLength.get() / articleCount);
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (String term : terms) {
+            PostingList postingList = postings.get(term);
+
+            if (postingList == null)
+                continue;
+
+            int df = postingList.size();
+            double idf = Math.log(1 + (articleCount - df + 0.5) / (df + 0.5));
+
+            for (Map.Entry<Long, Integer> posting : postingList.entries()) {
+                IndexedArticle article = articles.get(posting.getKey());
+
+                // 순회 중에 삭제된 게시물
+                if (article == null)
+                    continue;
+
+                int tf = posting.getValue();
+                double norm = K1 * (1 - B + B * article.length / averageLength);
+
+                scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+            }
+        }
+
+        Comparator<ScoredArticle> order = Comparator.comparingDouble(ScoredArticle::getScore)
+                .thenComparing(ScoredArticle::getArticleIdx);
+        PriorityQueue<ScoredArticle> heap = new PriorityQueue<>(k + 1, order);
+
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(new ScoredArticle(entry.getKey(), entry.getValue()));
+
+            if (heap.size() > k)
+                heap.poll();
+        }
+
+        List<ScoredArticle> result = new ArrayList<>(heap);
+        result.sort(order.reversed());
+        return result;
+    }
+
+    /**
+     * 모든 단어를 포함하는 게시물 번호를 최신순으로 반환한다. <br>
+     * 가장 짧은 posting list만 순회하므로 비용은 전체 게시물 수가 아닌 결과 크기에 비례한다.
+     */
+    public List<Long> search(Set<String> terms, int offset, int limit) {
+        return intersect(terms, null, offset, limit);
+    }
+
+    // afterIdx 보다 오래된 게시물부터 찾는다. (커서 페이지)
+    public List<Long> searchAfter(Set<String> terms, Long afterIdx, int limit) {
+        return intersect(terms, afterIdx, 0, limit);
+    }
+
+    private List<Long> intersect(Set<String> terms, Long afterIdx, int offset, int limit) {
+        if (terms.isEmpty() || limit <= 0)
+            return Collections.emptyList();
+
+        List<PostingList> lists = new ArrayList<>(terms.size());
+
+        for (String term : terms) {
+            PostingList postingList = postings.get(term);
+
+            if (postingList == null)
+                return Collections.emptyList();
+
+            lists.add(postingList);
+        }
+
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList shortest = lists.get(0);
+        List<PostingList> others = lists.subList(1, lists.size());
+
+        Iterator<Long> iter = (afterIdx == null) ? shortest.iterator() : shortest.iteratorAfter(afterIdx);
+        List<Long> result = new ArrayList<>(limit);
+        int skipped = 0;
+
+        while (iter.hasNext() && result.size() < limit) {
+            Long articleIdx = iter.next();
+
+            if (!containsAll(others, articleIdx))
+                continue;
+
+            if (skipped++ < offset)
+                continue;
+
+            result.add(articleIdx);
+        }
+
+        return result;
+    }
+
+    public int size() {
+        return articles.size();
+    }
+
+    public void clear() {
+        postings.clear();
+        articles.clear();
+        totalLength.set(0);
+    }
+
+    private boolean containsAll(List<PostingList> lists, Long articleIdx) {
+        for (PostingList postingList : lists) {
+            if (!postingList.contains(articleIdx))
+                return false;
+        }
+        return true;
+    }
+
+    private void putPosting(String term, Long articleIdx, int termFrequency) {
+        postings.compute(term, (t, postingList) -> {
+            if (postingList == null)
+                postingList = new PostingList();
+
+            postingList.put(articleIdx, termFrequency);
+            return postingList;
+        });
+    }
+
+    private void removePosting(String term, Long articleIdx) {
+        postings.computeIfPresent(term, (t, postingList) -> {
+            postingList.remove(articleIdx);
+            return postingList.isEmpty() ? null : postingList;
+        });
+    }
+
+    private static class IndexedArticle {
+
+        private final Set<String> terms;
+        private final int length;
+
+        private IndexedArticle(Set<String> terms, int length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+}
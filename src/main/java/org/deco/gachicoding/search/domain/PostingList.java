@@ -0,0 +1,54 @@
+package org.deco.gachicoding.search.domain;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 하나의 단어(term)를 포함하는 게시물 번호와 출현 빈도(tf) 목록 <br>
+ * 최신 글이 먼저 나오도록 게시물 번호 내림차순으로 유지한다.
+ */
+public class PostingList {
+
+    private final ConcurrentSkipListMap<Long, Integer> termFrequencies = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+    // ConcurrentSkipListMap.size()는 O(n)이라 크기를 따로 관리
+    private final AtomicInteger size = new AtomicInteger();
+
+    public void put(Long articleIdx, int termFrequency) {
+        if (termFrequencies.put(articleIdx, termFrequency) == null)
+            size.incrementAndGet();
+    }
+
+    public void remove(Long articleIdx) {
+        if (termFrequencies.remove(articleIdx) != null)
+            size.decrementAndGet();
+    }
+
+    public boolean contains(Long articleIdx) {
+        return termFrequencies.containsKey(articleIdx);
+    }
+
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public Iterator<Long> iterator() {
+        return termFrequencies.keySet().iterator();
+    }
+
+    // articleIdx 보다 작은(오래된) 게시물 번호부터
+    public Iterator<Long> iteratorAfter(Long articleIdx) {
+        return termFrequencies.tailMap(articleIdx, false).keySet().iterator();
+    }
+
+    public Iterable<Map.Entry<Long, Integer>> entries() {
+        return termFrequencies.entrySet();
+    }
+}
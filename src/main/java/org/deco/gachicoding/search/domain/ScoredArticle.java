@@ -0,0 +1,15 @@
+package org.deco.gachicoding.search.domain;
+
+import lombok.Getter;
+
+@Getter
+public class ScoredArticle {
+
+    private final Long articleIdx;
+    private final double score;
+
+    public ScoredArticle(Long articleIdx, double score) {
+        this.articleIdx = articleIdx;
+        this.score = score;
+    }
+}
@@ -0,0 +1,41 @@
+package org.deco.gachicoding.search.presentation;
+
+import io.swagger.annotations.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.search.application.SearchService;
+import org.deco.gachicoding.search.application.dto.response.SearchResponseDto;
+import org.deco.gachicoding.search.presentation.dto.SearchAssembler;
+import org.deco.gachicoding.search.presentation.dto.response.SearchResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import springfox.documentation.annotations.ApiIgnore;
+
+@Api(tags = "통합 검색 API")
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @ApiOperation(value = "통합 검색", notes = "자유게시판, 공지사항, 질문, 답변을 한 번에 검색")
+    @ApiResponses(
+            @ApiResponse(code = 200, message = "관련도 순 검색 결과와 게시물 종류별 검색 소요 시간 반환")
+    )
+    @GetMapping("/search")
+    public ResponseEntity<SearchResponse> search(
+            @ApiParam(value = "검색어") @RequestParam(value = "keyword", defaultValue = "") String keyword,
+            @ApiIgnore @PageableDefault(size = 10) Pageable pageable
+    ) {
+        SearchResponseDto dto = searchService.search(SearchAssembler.searchRequestDto(keyword, pageable));
+
+        return ResponseEntity.ok(SearchAssembler.searchResponse(dto));
+    }
+}
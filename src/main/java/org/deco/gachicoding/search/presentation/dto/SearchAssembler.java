@@ -0,0 +1,56 @@
+package org.deco.gachicoding.search.presentation.dto;
+
+import org.deco.gachicoding.search.application.dto.request.SearchRequestDto;
+import org.deco.gachicoding.search.application.dto.response.SearchHitDto;
+import org.deco.gachicoding.search.application.dto.response.SearchResponseDto;
+import org.deco.gachicoding.search.application.dto.response.SearchSourceDto;
+import org.deco.gachicoding.search.presentation.dto.response.SearchHitResponse;
+import org.deco.gachicoding.search.presentation.dto.response.SearchResponse;
+import org.deco.gachicoding.search.presentation.dto.response.SearchSourceResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.util.stream.Collectors;
+
+public class SearchAssembler {
+
+    private SearchAssembler() {}
+
+    public static SearchRequestDto searchRequestDto(String keyword, Pageable pageable) {
+        return SearchRequestDto.builder()
+                .keyword(keyword)
+                .pageable(pageable)
+                .build();
+    }
+
+    public static SearchResponse searchResponse(SearchResponseDto dto) {
+        return SearchResponse.builder()
+                .hits(dto.getHits().stream()
+                        .map(SearchAssembler::searchHitResponse)
+                        .collect(Collectors.toList()))
+                .sources(dto.getSources().stream()
+                        .map(SearchAssembler::searchSourceResponse)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static SearchHitResponse searchHitResponse(SearchHitDto dto) {
+        return SearchHitResponse.builder()
+                .articleCategory(dto.getArticleCategory().name())
+                .articleIdx(dto.getArticleIdx())
+                .parentIdx(dto.getParentIdx())
+                .title(dto.getTitle())
+                .excerpt(dto.getExcerpt())
+                .score(dto.getScore())
+                .createdAt(dto.getCreatedAt())
+                .build();
+    }
+
+    private static SearchSourceResponse searchSourceResponse(SearchSourceDto dto) {
+        return SearchSourceResponse.builder()
+                .articleCategory(dto.getArticleCategory().name())
+                .status(dto.getStatus())
+                .tookMillis(dto.getTookMillis())
+                .hitCount(dto.getHitCount())
+                .build();
+    }
+}
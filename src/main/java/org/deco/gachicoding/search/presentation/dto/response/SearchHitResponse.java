@@ -0,0 +1,29 @@
+package org.deco.gachicoding.search.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class SearchHitResponse {
+
+    private String articleCategory;
+    private Long articleIdx;
+    private Long parentIdx;
+    private String title;
+    private String excerpt;
+    private double score;
+    private LocalDateTime createdAt;
+
+    @Builder
+    public SearchHitResponse(String articleCategory, Long articleIdx, Long parentIdx, String title, String excerpt, double score, LocalDateTime createdAt) {
+        this.articleCategory = articleCategory;
+        this.articleIdx = articleIdx;
+        this.parentIdx = parentIdx;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.score = score;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,21 @@
+package org.deco.gachicoding.search.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SearchResponse {
+
+    private List<SearchHitResponse> hits;
+
+    // 게시물 종류별 검색 상태와 소요 시간
+    private List<SearchSourceResponse> sources;
+
+    @Builder
+    public SearchResponse(List<SearchHitResponse> hits, List<SearchSourceResponse> sources) {
+        this.hits = hits;
+        this.sources = sources;
+    }
+}
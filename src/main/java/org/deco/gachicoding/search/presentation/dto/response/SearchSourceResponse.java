@@ -0,0 +1,21 @@
+package org.deco.gachicoding.search.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class SearchSourceResponse {
+
+    private String articleCategory;
+    private String status;
+    private long tookMillis;
+    private int hitCount;
+
+    @Builder
+    public SearchSourceResponse(String articleCategory, String status, long tookMillis, int hitCount) {
+        this.articleCategory = articleCategory;
+        this.status = status;
+        this.tookMillis = tookMillis;
+        this.hitCount = hitCount;
+    }
+}
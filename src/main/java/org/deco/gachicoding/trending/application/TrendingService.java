@@ -0,0 +1,108 @@
+package org.deco.gachicoding.trending.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.common.transaction.AfterCommit;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.trending.application.dto.response.TrendingArticleDto;
+import org.deco.gachicoding.trending.domain.TrendingArticle;
+import org.deco.gachicoding.trending.domain.TrendingEvent;
+import org.deco.gachicoding.trending.domain.TrendingRanking;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시물 (hot 탭) <br>
+ * 조회, 답변, 댓글이 들어올 때마다 메모리의 감쇠 점수를 올리고, 상위 K개만 정렬해 둔다. <br>
+ * 조회는 정렬된 상위 K개를 그대로 돌려주므로 DB에 접근하지 않는다. <br>
+ * 기억하는 게시물 수는 trending.max-entries 로 제한한다. <br>
+ * 서버를 다시 시작하면 점수는 0부터 다시 쌓인다.
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    // 이 점수 아래로 떨어진 게시물은 메모리에서 지운다. (조회 1번이 반감기 약 7번 지난 값)
+    private static final double MIN_SCORE = 0.01;
+
+    private static final Set<ArticleCategory> CATEGORIES = EnumSet.of(
+            ArticleCategory.BOARD,
+            ArticleCategory.NOTICE,
+            ArticleCategory.QUESTION
+    );
+
+    private final TrendingRanking ranking;
+
+    private final int capacity;
+
+    public TrendingService(
+            @Value("${trending.half-life-hours:6}") long halfLifeHours,
+            @Value("${trending.capacity:100}") int capacity,
+            @Value("${trending.max-entries:10000}") int maxEntries
+    ) {
+        this.ranking = new TrendingRanking(TimeUnit.HOURS.toMillis(halfLifeHours), capacity, maxEntries, System.currentTimeMillis());
+        this.capacity = capacity;
+    }
+
+    /**
+     * 사건을 반영한다. 답변(ANSWER) 게시물 등 순위에 올리지 않는 종류는 무시한다. <br>
+     * 트랜잭션 안에서 부르면 커밋 이후에 반영되므로 롤백된 답변, 댓글은 점수에 남지 않는다.
+     */
+    public void record(ArticleCategory category, Long articleIdx, String title, TrendingEvent event) {
+        if (!CATEGORIES.contains(category))
+            return;
+
+        AfterCommit.run(() -> ranking.record(category, articleIdx, title, event.getWeight(), System.currentTimeMillis()));
+    }
+
+    // 댓글의 article_category 문자열("BOARD", "question" ...)로 들어오는 사건
+    public void record(String articleCategory, Long articleIdx, TrendingEvent event) {
+        ArticleCategory category;
+
+        try {
+            category = ArticleCategory.valueOf(articleCategory.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.debug("인기 점수를 매기지 않는 게시물 종류 - {}", articleCategory);
+            return;
+        }
+
+        record(category, articleIdx, null, event);
+    }
+
+    public void remove(ArticleCategory category, Long articleIdx) {
+        if (!CATEGORIES.contains(category))
+            return;
+
+        AfterCommit.run(() -> ranking.remove(category, articleIdx));
+    }
+
+    public List<TrendingArticleDto> getTrending(int size) {
+        if (size <= 0)
+            return List.of();
+
+        List<TrendingArticle> articles = ranking.top(Math.min(size, capacity), System.currentTimeMillis());
+
+        return articles.stream()
+                .map(article -> TrendingArticleDto.builder()
+                        .articleCategory(article.getArticleCategory())
+                        .articleIdx(article.getArticleIdx())
+                        .title(article.getTitle())
+                        .score(article.getScore())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(fixedDelayString = "${trending.prune-interval-millis:600000}")
+    public void prune() {
+        int pruned = ranking.prune(MIN_SCORE, System.currentTimeMillis());
+
+        if (pruned > 0)
+            log.debug("인기 점수 정리 - {}건 삭제, {}건 남음", pruned, ranking.size());
+    }
+}
@@ -0,0 +1,22 @@
+package org.deco.gachicoding.trending.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.deco.gachicoding.post.ArticleCategory;
+
+@Getter
+public class TrendingArticleDto {
+
+    private ArticleCategory articleCategory;
+    private Long articleIdx;
+    private String title;
+    private double score;
+
+    @Builder
+    public TrendingArticleDto(ArticleCategory articleCategory, Long articleIdx, String title, double score) {
+        this.articleCategory = articleCategory;
+        this.articleIdx = articleIdx;
+        this.title = title;
+        this.score = score;
+    }
+}
@@ -0,0 +1,20 @@
+package org.deco.gachicoding.trending.domain;
+
+import lombok.Getter;
+import org.deco.gachicoding.post.ArticleCategory;
+
+@Getter
+public class TrendingArticle {
+
+    private final ArticleCategory articleCategory;
+    private final Long articleIdx;
+    private final String title;
+    private final double score;
+
+    public TrendingArticle(ArticleCategory articleCategory, Long articleIdx, String title, double score) {
+        this.articleCategory = articleCategory;
+        this.articleIdx = articleIdx;
+        this.title = title;
+        this.score = score;
+    }
+}
@@ -0,0 +1,19 @@
+package org.deco.gachicoding.trending.domain;
+
+/**
+ * 인기 점수를 올리는 사건과 가중치 <br>
+ * 조회보다 댓글, 댓글보다 답변이 글에 대한 관심을 더 크게 나타낸다고 본다.
+ */
+public enum TrendingEvent {
+    VIEW(1), COMMENT(3), ANSWER(5);
+
+    private final double weight;
+
+    TrendingEvent(double weight) {
+        this.weight = weight;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,284 @@
+package org.deco.gachicoding.trending.domain;
+
+import org.deco.gachicoding.post.ArticleCategory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시간에 따라 감쇠하는 인기 점수와 상위 K개 게시물 <br>
+ * 점수는 반감기마다 절반이 되며, 사건이 들어올 때만 갱신한다. <br>
+ * <br>
+ * 모든 게시물의 점수가 같은 비율로 줄어들기 때문에, 사건이 없는 동안에는 순위가 바뀌지 않는다. <br>
+ * 그래서 점수를 기준 시각(landmark)으로 환산해 저장한다. 가중치 w 인 사건이 t 에 들어오면 w * e^(λ(t - landmark)) 를 더한다. <br>
+ * 환산한 점수는 늘어나기만 하므로, 상위 K개 밖으로 밀려난 게시물은 새 사건 없이 다시 들어올 수 없다. <br>
+ * 시간이 지날수록 e^(λt) 가 커지므로 로그 값으로 저장해 overflow 를 막는다. <br>
+ * <br>
+ * 사건 반영은 게시물 단위로만 잠근다. 상위 K개의 최저 점수(admission)를 넘은 게시물만 전체 잠금을 잡고 자리를 바꾼다. <br>
+ * 상위 K개는 구성원만 기억하고 조회할 때 정렬한다(O(K log K)). 순위 안의 점수가 올라도 전체 잠금이 필요 없다. <br>
+ * 기억하는 게시물은 maxEntries 개까지이고, 넘으면 상위 K개 밖에서 점수가 낮은 것부터 한 번에 1/10 을 지운다.
+ */
+public class TrendingRanking {
+
+    private static final Comparator<Entry> ORDER = Comparator.<Entry>comparingDouble(entry -> -entry.logScore)
+            .thenComparing(entry -> entry.key.category)
+            .thenComparing(entry -> entry.key.articleIdx);
+
+    // 밀리초당 감쇠율
+    private final double lambda;
+
+    private final int capacity;
+
+    private final int maxEntries;
+
+    private final long landmark;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    // 이 객체의 잠금으로 지킨다.
+    private final Set<Entry> top = new HashSet<>();
+
+    // 상위 K개에 들어가려면 넘어야 하는 점수. 순위 안의 점수는 오르기만 하므로 실제보다 낮게 보일 수는 있어도 높게 보이지는 않는다.
+    private volatile double admission = Double.NEGATIVE_INFINITY;
+
+    public TrendingRanking(long halfLifeMillis, int capacity, long landmark) {
+        this(halfLifeMillis, capacity, capacity * 100, landmark);
+    }
+
+    public TrendingRanking(long halfLifeMillis, int capacity, int maxEntries, long landmark) {
+        if (halfLifeMillis <= 0 || capacity <= 0 || maxEntries < capacity)
+            throw new IllegalArgumentException("반감기와 순위 크기는 0보다 커야 하고, 기억할 게시물 수는 순위 크기 이상이어야 합니다.");
+
+        this.lambda = Math.log(2) / halfLifeMillis;
+        this.capacity = capacity;
+        this.maxEntries = maxEntries;
+        this.landmark = landmark;
+    }
+
+    /**
+     * 사건을 반영한다.
+     * @param title 모르면 null, 이전에 받은 제목을 그대로 쓴다.
+     */
+    public void record(ArticleCategory category, Long articleIdx, String title, double weight, long now) {
+        Key key = new Key(category, articleIdx);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            if (entries.size() >= maxEntries)
+                evict();
+
+            entry = entries.computeIfAbsent(key, Entry::new);
+        }
+
+        double logScore = entry.add(Math.log(weight) + lambda * (now - landmark));
+
+        if (title != null)
+            entry.title = title;
+
+        if (!entry.inTop && logScore >= admission)
+            admit(entry);
+    }
+
+    // 삭제, 비활성화된 게시물. 빈 자리는 상위 K개 밖에서 가장 높은 게시물로 채운다.
+    public void remove(ArticleCategory category, Long articleIdx) {
+        Entry entry = entries.remove(new Key(category, articleIdx));
+
+        if (entry == null)
+            return;
+
+        // admit 과 겹치면 inTop 이 잠금 안에서 바뀔 수 있으므로 잠근 뒤에 확인한다.
+        synchronized (this) {
+            if (!entry.inTop)
+                return;
+
+            top.remove(entry);
+            entry.inTop = false;
+
+            entries.values().stream()
+                    .filter(candidate -> !candidate.inTop)
+                    .min(ORDER)
+                    .ifPresent(candidate -> {
+                        candidate.inTop = true;
+                        top.add(candidate);
+                    });
+
+            updateAdmission();
+        }
+    }
+
+    // 점수가 높은 순서로 최대 size개, 점수는 now 시점으로 감쇠한 값
+    public List<TrendingArticle> top(int size, long now) {
+        List<Entry> sorted;
+
+        synchronized (this) {
+            sorted = new ArrayList<>(top);
+        }
+
+        // 정렬 중에 점수가 바뀌지 않도록 점수를 먼저 읽어 둔다.
+        List<Snapshot> snapshots = new ArrayList<>(sorted.size());
+        for (Entry entry : sorted)
+            snapshots.add(new Snapshot(entry, entry.logScore));
+
+        snapshots.sort(Comparator.<Snapshot>comparingDouble(snapshot -> -snapshot.logScore)
+                .thenComparing(snapshot -> snapshot.entry.key.category)
+                .thenComparing(snapshot -> snapshot.entry.key.articleIdx));
+
+        List<TrendingArticle> result = new ArrayList<>(Math.min(size, snapshots.size()));
+        double decay = lambda * (now - landmark);
+
+        for (Snapshot snapshot : snapshots) {
+            if (result.size() >= size)
+                break;
+
+            result.add(new TrendingArticle(
+                    snapshot.entry.key.category,
+                    snapshot.entry.key.articleIdx,
+                    snapshot.entry.title,
+                    Math.exp(snapshot.logScore - decay)
+            ));
+        }
+
+        return result;
+    }
+
+    /**
+     * 상위 K개 밖에서 점수가 minScore 아래로 떨어진 게시물을 지운다. <br>
+     * 상위 K개에 다시 들어오려면 새 사건이 필요하므로, 지워도 순위는 달라지지 않는다.
+     * @return 지운 게시물 수
+     */
+    public synchronized int prune(double minScore, long now) {
+        double minLogScore = Math.log(minScore) + lambda * (now - landmark);
+        int before = entries.size();
+
+        entries.values().removeIf(entry -> !entry.inTop && entry.logScore < minLogScore);
+
+        return before - entries.size();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 상위 K개의 최저 점수를 넘은 게시물을 넣고, 가득 찼으면 최저 점수 게시물을 뺀다. O(K)
+    private synchronized void admit(Entry entry) {
+        if (entry.inTop || !entries.containsKey(entry.key))
+            return;
+
+        if (top.size() < capacity) {
+            entry.inTop = true;
+            top.add(entry);
+            updateAdmission();
+            return;
+        }
+
+        Entry last = Collections.max(top, ORDER);
+
+        if (ORDER.compare(entry, last) < 0) {
+            top.remove(last);
+            last.inTop = false;
+            entry.inTop = true;
+            top.add(entry);
+        }
+
+        updateAdmission();
+    }
+
+    private void updateAdmission() {
+        admission = (top.size() < capacity)
+                ? Double.NEGATIVE_INFINITY
+                : Collections.max(top, ORDER).logScore;
+    }
+
+    // 가득 차면 상위 K개 밖에서 점수가 낮은 게시물 1/10 을 한 번에 지운다. 정렬 비용은 새 게시물 여럿에 나뉜다.
+    private synchronized void evict() {
+        if (entries.size() < maxEntries)
+            return;
+
+        List<Entry> candidates = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (!entry.inTop)
+                candidates.add(new Entry(entry.key, entry.logScore));
+        }
+
+        candidates.sort(ORDER.reversed());
+
+        int count = Math.min(candidates.size(), Math.max(1, maxEntries / 10));
+        for (int i = 0; i < count; i++)
+            entries.computeIfPresent(candidates.get(i).key, (key, entry) -> entry.inTop ? entry : null);
+    }
+
+    // log(e^a + e^b)
+    private static double logSum(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY)
+            return b;
+
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private static class Key {
+
+        private final ArticleCategory category;
+        private final Long articleIdx;
+
+        private Key(ArticleCategory category, Long articleIdx) {
+            this.category = category;
+            this.articleIdx = articleIdx;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key key = (Key) o;
+            return category == key.category && articleIdx.equals(key.articleIdx);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(category, articleIdx);
+        }
+    }
+
+    private static class Entry {
+
+        private final Key key;
+
+        private volatile String title;
+
+        private volatile double logScore = Double.NEGATIVE_INFINITY;
+
+        // 이 TrendingRanking 의 잠금 안에서만 바꾼다.
+        private volatile boolean inTop;
+
+        private Entry(Key key) {
+            this.key = key;
+        }
+
+        // 정렬용 복사본
+        private Entry(Key key, double logScore) {
+            this.key = key;
+            this.logScore = logScore;
+        }
+
+        private synchronized double add(double logIncrement) {
+            logScore = logSum(logScore, logIncrement);
+            return logScore;
+        }
+    }
+
+    private static class Snapshot {
+
+        private final Entry entry;
+        private final double logScore;
+
+        private Snapshot(Entry entry, double logScore) {
+            this.entry = entry;
+            this.logScore = logScore;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.deco.gachicoding.trending.presentation;
+
+import io.swagger.annotations.*;
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.trending.application.TrendingService;
+import org.deco.gachicoding.trending.presentation.dto.TrendingAssembler;
+import org.deco.gachicoding.trending.presentation.dto.response.TrendingArticleResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Api(tags = "인기 게시물 API")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api")
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    @ApiOperation(value = "인기 게시물", notes = "조회, 답변, 댓글 수를 시간에 따라 감쇠한 점수 순으로 자유게시판, 공지사항, 질문을 반환")
+    @ApiResponses(
+            @ApiResponse(code = 200, message = "인기 게시물 목록 반환")
+    )
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingArticleResponse>> getTrending(
+            @ApiParam(value = "가져올 게시물 수", example = "10") @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(TrendingAssembler.trendingArticleResponses(trendingService.getTrending(size)));
+    }
+}
@@ -0,0 +1,27 @@
+package org.deco.gachicoding.trending.presentation.dto;
+
+import org.deco.gachicoding.trending.application.dto.response.TrendingArticleDto;
+import org.deco.gachicoding.trending.presentation.dto.response.TrendingArticleResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TrendingAssembler {
+
+    private TrendingAssembler() {}
+
+    public static List<TrendingArticleResponse> trendingArticleResponses(List<TrendingArticleDto> dtos) {
+        return dtos.stream()
+                .map(TrendingAssembler::trendingArticleResponse)
+                .collect(Collectors.toList());
+    }
+
+    private static TrendingArticleResponse trendingArticleResponse(TrendingArticleDto dto) {
+        return TrendingArticleResponse.builder()
+                .articleCategory(dto.getArticleCategory().name())
+                .articleIdx(dto.getArticleIdx())
+                .title(dto.getTitle())
+                .score(dto.getScore())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package org.deco.gachicoding.trending.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class TrendingArticleResponse {
+
+    private String articleCategory;
+    private Long articleIdx;
+
+    // 서버 시작 이후 조회된 적 없는 게시물은 제목을 모른다.
+    private String title;
+    private double score;
+
+    @Builder
+    public TrendingArticleResponse(String articleCategory, Long articleIdx, String title, double score) {
+        this.articleCategory = articleCategory;
+        this.articleIdx = articleIdx;
+        this.title = title;
+        this.score = score;
+    }
+}
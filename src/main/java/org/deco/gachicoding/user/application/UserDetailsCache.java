@@ -0,0 +1,57 @@
+package org.deco.gachicoding.user.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.deco.gachicoding.common.transaction.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인용 UserDetails 캐시 <br>
+ * 같은 사용자가 짧은 시간에 여러 번 로그인해도 사용자 조회와 권한 목록 생성은 한 번만 한다. <br>
+ * 사용자 정보가 바뀌면 UserService 에서 지우고, 그 밖의 경우도 expireAfterWrite 가 지나면 다시 읽는다.
+ */
+@Component
+public class UserDetailsCache implements UserCache, MeterBinder {
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(
+            @Value("${cache.user-details.maximum-size:10000}") long maximumSize,
+            @Value("${cache.user-details.expire-after-write-seconds:300}") long expireAfterWriteSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), user);
+    }
+
+    // 비밀번호 변경 트랜잭션이 커밋되기 전에 지우면, 그 사이 로그인이 이전 비밀번호를 다시 넣을 수 있다.
+    @Override
+    public void removeUserFromCache(String username) {
+        AfterCommit.run(() -> cache.invalidate(username));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user.details");
+    }
+}
@@ -0,0 +1,60 @@
+package org.deco.gachicoding.user.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.deco.gachicoding.common.transaction.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 이메일 -> 사용자 번호 캐시 <br>
+ * 글쓰기, 수정, 삭제 요청마다 요청자를 찾으려고 사용자 테이블을 읽지 않도록, 로그인할 때 번호를 넣어둔다. <br>
+ * 작성자 확인은 번호 비교로 끝나고, 연관관계가 필요하면 번호로 프록시만 만든다.
+ */
+@Component
+public class UserIdCache implements MeterBinder {
+
+    private final Cache<String, Long> cache;
+
+    public UserIdCache(
+            @Value("${cache.user-id.maximum-size:10000}") long maximumSize,
+            @Value("${cache.user-id.expire-after-access-minutes:60}") long expireAfterAccessMinutes
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 찾아 넣는다. loader 가 던진 예외(UserNotFoundException 등)는 그대로 전파된다.
+     */
+    public Long getUserIdx(String userEmail, Function<String, Long> loader) {
+        // 비로그인 요청은 캐시하지 않고 loader 에서 실패하게 둔다.
+        if (userEmail == null)
+            return loader.apply(null);
+
+        return cache.get(userEmail, loader);
+    }
+
+    public void put(String userEmail, Long userIdx) {
+        cache.put(userEmail, userIdx);
+    }
+
+    // 탈퇴 후 같은 이메일로 다시 가입하면 번호가 바뀌므로, 커밋된 뒤에 지운다.
+    public void evict(String userEmail) {
+        AfterCommit.run(() -> cache.invalidate(userEmail));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user.id");
+    }
+}
@@ -20,6 +20,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserIdCache userIdCache;
+    private final UserDetailsCache userDetailsCache;
 
     public Long createUser(UserSaveRequestDto dto) {
 
@@ -48,6 +50,9 @@ public class UserService {
 
         user.updateNick(newNickname);
 
+        userIdCache.evict(userEmail);
+        userDetailsCache.removeUserFromCache(userEmail);
+
         return user.getUserNick();
     }
 
@@ -78,11 +83,17 @@ public class UserService {
         String encryptedPassword = passwordEncoder.encode(dto.getConfirmPassword());
         user.changePassword(encryptedPassword);
 
+        userIdCache.evict(userEmail);
+        userDetailsCache.removeUserFromCache(userEmail);
+
         return user.getUserIdx();
     }
 
     @Transactional
     public void deleteUser(String userEmail) {
         userRepository.deleteByUserEmail(userEmail);
+
+        userIdCache.evict(userEmail);
+        userDetailsCache.removeUserFromCache(userEmail);
     }
 }
\ No newline at end of file
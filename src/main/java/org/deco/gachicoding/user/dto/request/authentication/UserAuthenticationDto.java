@@ -14,12 +14,14 @@ public class UserAuthenticationDto implements UserDetails {
 
     private static final long serialVersionUID = SpringSecurityCoreVersion.SERIAL_VERSION_UID;
 
+    private Long userIdx;
     private String userEmail;
     private String password;
     private String userNick;
     private List<GrantedAuthority> roles;
 
     public UserAuthenticationDto(User user, List<GrantedAuthority> roles) {
+        this.userIdx = user.getUserIdx();
         this.userEmail = user.getUserEmail();
         this.password = user.getUserPassword();
         this.userNick = user.getUserNick();
@@ -41,6 +43,10 @@ public class UserAuthenticationDto implements UserDetails {
         return this.userEmail;
     }
 
+    public Long getUserIdx() {
+        return userIdx;
+    }
+
     public String getUserNick() {
         return userNick;
     }
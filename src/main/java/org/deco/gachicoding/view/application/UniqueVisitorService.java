@@ -0,0 +1,107 @@
+package org.deco.gachicoding.view.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.view.domain.VisitorSketches;
+import org.deco.gachicoding.view.domain.repository.ViewCountRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 게시물 순 방문자 수 (HyperLogLog) <br>
+ * (사용자, 게시물) 쌍을 모두 저장하지 않고 게시물마다 2KB 스케치로 근사한다. <br>
+ * 스케치는 메모리에서 갱신하고, 바뀐 스케치만 주기마다 DB 에 저장된 스케치와 합쳐 저장한다. <br>
+ * 합친 스케치를 메모리에도 반영하므로 다른 서버가 센 방문자도 다음 추정값에 들어간다.
+ */
+@Slf4j
+@Service
+public class UniqueVisitorService implements MeterBinder {
+
+    private final Map<ArticleCategory, VisitorSketches> sketches = new EnumMap<>(ArticleCategory.class);
+
+    private final ViewCountRepository viewCountRepository;
+
+    public UniqueVisitorService(ViewCountRepository viewCountRepository) {
+        this.viewCountRepository = viewCountRepository;
+
+        for (ArticleCategory category : ArticleCategory.values()) {
+            if (ViewCountRepository.supportsVisitors(category))
+                sketches.put(category, new VisitorSketches());
+        }
+    }
+
+    /**
+     * 방문을 기록하고 순 방문자 추정값을 반환한다. <br>
+     * 메모리에 스케치가 없을 때만 DB에 저장된 스케치를 읽는다. 상세 조회가 캐시에서 끝나도 이어서 셀 수 있다.
+     * @param visitorKey 로그인 사용자는 이메일, 비로그인 사용자는 IP
+     */
+    public long visit(ArticleCategory category, Long articleIdx, String visitorKey) {
+        return sketches(category).visit(
+                articleIdx,
+                () -> viewCountRepository.findVisitors(category, articleIdx),
+                visitorKey
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${view.visitors-flush-interval-millis:60000}")
+    public synchronized void flush() {
+        sketches.forEach((category, categorySketches) -> {
+            Map<Long, byte[]> dirty = categorySketches.dirty();
+
+            if (dirty.isEmpty())
+                return;
+
+            try {
+                categorySketches.absorb(viewCountRepository.mergeVisitors(category, dirty));
+            } catch (DataAccessException e) {
+                categorySketches.rollback(dirty);
+                log.warn("{} 순 방문자 반영 실패 ({}건)", category, dirty.size(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public int dirtyArticles() {
+        return sketches.values().stream()
+                .mapToInt(VisitorSketches::dirtyArticles)
+                .sum();
+    }
+
+    public int cachedArticles() {
+        return sketches.values().stream()
+                .mapToInt(VisitorSketches::size)
+                .sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("view.visitors.dirty.articles", this, UniqueVisitorService::dirtyArticles)
+                .description("DB에 반영할 순 방문자 스케치가 남은 게시물 수")
+                .register(registry);
+
+        Gauge.builder("view.visitors.cached.articles", this, UniqueVisitorService::cachedArticles)
+                .description("메모리에 올라와 있는 순 방문자 스케치 수")
+                .register(registry);
+    }
+
+    private VisitorSketches sketches(ArticleCategory category) {
+        VisitorSketches categorySketches = sketches.get(category);
+
+        if (categorySketches == null)
+            throw new IllegalArgumentException("순 방문자를 저장하지 않는 게시물 종류입니다. " + category);
+
+        return categorySketches;
+    }
+}
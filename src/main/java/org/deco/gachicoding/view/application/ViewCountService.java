@@ -0,0 +1,99 @@
+package org.deco.gachicoding.view.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.view.domain.ViewCounter;
+import org.deco.gachicoding.view.domain.repository.ViewCountRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 게시물 조회수 쓰기 지연(write-behind) <br>
+ * 상세 조회는 메모리 누적기만 올리고, 누적된 조회수는 주기마다 종류별로 UPDATE 한 번에 반영한다. <br>
+ * 서버가 비정상 종료되면 마지막 반영 이후 한 주기만큼의 조회수만 잃는다.
+ */
+@Slf4j
+@Service
+public class ViewCountService implements MeterBinder {
+
+    private final Map<ArticleCategory, ViewCounter> counters = new EnumMap<>(ArticleCategory.class);
+
+    private final ViewCountRepository viewCountRepository;
+
+    public ViewCountService(ViewCountRepository viewCountRepository) {
+        this.viewCountRepository = viewCountRepository;
+
+        for (ArticleCategory category : ArticleCategory.values()) {
+            if (ViewCountRepository.supportsViews(category))
+                counters.put(category, new ViewCounter());
+        }
+    }
+
+    public void increment(ArticleCategory category, Long articleIdx) {
+        counter(category).increment(articleIdx);
+    }
+
+    @Scheduled(fixedDelayString = "${view.flush-interval-millis:5000}")
+    public synchronized void flush() {
+        counters.forEach((category, counter) -> {
+            Map<Long, Long> deltas = counter.pending();
+
+            if (deltas.isEmpty())
+                return;
+
+            try {
+                viewCountRepository.addViews(category, deltas);
+                counter.commit(deltas);
+            } catch (DataAccessException e) {
+                // 반영하지 못한 조회수는 누적기에 남아 다음 주기에 다시 반영된다.
+                log.warn("{} 조회수 반영 실패 ({}건)", category, deltas.size(), e);
+            }
+        });
+    }
+
+    // 정상 종료 시에는 남은 조회수를 모두 반영한다.
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public long pendingViews() {
+        return counters.values().stream()
+                .mapToLong(ViewCounter::pendingViews)
+                .sum();
+    }
+
+    public int pendingArticles() {
+        return counters.values().stream()
+                .mapToInt(ViewCounter::pendingArticles)
+                .sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("view.pending.views", this, ViewCountService::pendingViews)
+                .description("DB에 반영되지 않은 조회수")
+                .register(registry);
+
+        Gauge.builder("view.pending.articles", this, ViewCountService::pendingArticles)
+                .description("DB에 반영할 조회수가 남은 게시물 수")
+                .register(registry);
+    }
+
+    private ViewCounter counter(ArticleCategory category) {
+        ViewCounter counter = counters.get(category);
+
+        if (counter == null)
+            throw new IllegalArgumentException("조회수를 저장하지 않는 게시물 종류입니다. " + category);
+
+        return counter;
+    }
+}
@@ -0,0 +1,105 @@
+package org.deco.gachicoding.view.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 게시물별 순 방문자 수 추정용 HyperLogLog 스케치 <br>
+ * 방문자 키의 64비트 해시 앞 P비트로 레지스터를 고르고, 나머지 비트의 선행 0 개수 + 1 중 최댓값만 기억한다. <br>
+ * 레지스터 2^11 = 2048개(2KB)로 방문자 수와 관계없이 표준 오차 약 2.3%(1.04 / sqrt(2048))를 낸다. <br>
+ * 레지스터 배열을 그대로 DB 컬럼에 저장하고 다시 읽어 이어서 센다.
+ */
+public class HyperLogLog {
+
+    public static final int P = 11;
+    public static final int REGISTER_COUNT = 1 << P;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(new byte[REGISTER_COUNT]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    // 저장된 값이 없거나 크기가 다르면(P 변경 등) 빈 스케치로 다시 센다.
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != REGISTER_COUNT)
+            return new HyperLogLog();
+
+        return new HyperLogLog(Arrays.copyOf(bytes, REGISTER_COUNT));
+    }
+
+    public static long hash(String key) {
+        // FNV-1a 로 섞은 뒤 MurmurHash3 finalizer 로 비트를 고르게 퍼뜨린다.
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    public boolean offer(String key) {
+        return offer(hash(key));
+    }
+
+    // 레지스터 값이 바뀌었으면 true, 이미 본 방문자 등으로 바뀌지 않았으면 false
+    public synchronized boolean offer(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - P));
+        // 남은 비트가 모두 0이어도 최댓값(64 - P + 1)을 넘지 않도록 마지막 비트를 세운다.
+        long rest = (hash << P) | (1L << (P - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+
+        if (registers[index] >= rank)
+            return false;
+
+        registers[index] = rank;
+        return true;
+    }
+
+    public synchronized long estimate() {
+        double sum = 0;
+        int zeros = 0;
+
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+
+            if (register == 0)
+                zeros++;
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+
+        // 방문자가 적을 때는 빈 레지스터 비율로 세는 편(linear counting)이 더 정확하다.
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0)
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+
+        return Math.round(estimate);
+    }
+
+    // 서버 여러 대의 스케치를 합친다. 레지스터별 최댓값이 곧 합집합이다.
+    public synchronized void merge(HyperLogLog other) {
+        byte[] otherRegisters = other.toBytes();
+
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (otherRegisters[i] > registers[i])
+                registers[i] = otherRegisters[i];
+        }
+    }
+
+    public synchronized byte[] toBytes() {
+        return Arrays.copyOf(registers, REGISTER_COUNT);
+    }
+}
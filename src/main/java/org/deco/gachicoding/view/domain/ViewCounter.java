@@ -0,0 +1,85 @@
+package org.deco.gachicoding.view.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물별 조회수 누적기 <br>
+ * 조회할 때마다 UPDATE를 보내지 않고 메모리에 모았다가 주기적으로 한 번에 DB에 반영한다. <br>
+ * 게시물마다 LongAdder를 두어 인기 게시물에 조회가 몰려도 스레드끼리 경합하지 않는다. <br>
+ * 누적값은 지우지 않고 반영한 값(flushed)만 올려서, DB 반영 중에 들어온 조회수도 잃지 않는다.
+ */
+public class ViewCounter {
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long articleIdx) {
+        counters.computeIfAbsent(articleIdx, idx -> new Counter())
+                .views
+                .increment();
+    }
+
+    /**
+     * 아직 DB에 반영하지 않은 게시물별 조회수 <br>
+     * 한 주기 동안 조회가 없었던 게시물은 누적기에서 지운다. <br>
+     * 지우는 순간 들어온 조회는 잃을 수 있지만, 조회가 없던 게시물이라 몇 건에 그친다.
+     */
+    public Map<Long, Long> pending() {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        counters.forEach((articleIdx, counter) -> {
+            long delta = counter.pending();
+
+            if (delta > 0)
+                deltas.put(articleIdx, delta);
+            else
+                counters.remove(articleIdx, counter);
+        });
+
+        return deltas;
+    }
+
+    // DB에 반영이 끝난 조회수만큼 반영한 값을 올린다.
+    public void commit(Map<Long, Long> deltas) {
+        deltas.forEach((articleIdx, delta) -> {
+            Counter counter = counters.get(articleIdx);
+
+            if (counter != null)
+                counter.flushed += delta;
+        });
+    }
+
+    public long pendingViews() {
+        long total = 0;
+
+        for (Counter counter : counters.values())
+            total += counter.pending();
+
+        return total;
+    }
+
+    public int pendingArticles() {
+        int total = 0;
+
+        for (Counter counter : counters.values()) {
+            if (counter.pending() > 0)
+                total++;
+        }
+
+        return total;
+    }
+
+    private static class Counter {
+
+        private final LongAdder views = new LongAdder();
+
+        // flush 하는 스레드만 쓰고, 지표 수집 스레드가 읽는다.
+        private volatile long flushed;
+
+        private long pending() {
+            return views.sum() - flushed;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.deco.gachicoding.view.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 게시물별 순 방문자 스케치 모음 <br>
+ * 처음 방문할 때 DB에 저장된 스케치로 시작하고, 레지스터가 바뀐 스케치만 주기적으로 DB의 스케치와 합쳐 저장한다. <br>
+ * 이미 본 방문자는 레지스터를 바꾸지 않으므로, 새로고침이 많아도 저장할 양은 늘지 않는다.
+ */
+public class VisitorSketches {
+
+    private final Map<Long, Sketch> sketches = new ConcurrentHashMap<>();
+
+    /**
+     * 방문을 기록하고 순 방문자 추정값을 반환한다.
+     * @param persisted 게시물에 저장된 스케치, 메모리에 스케치가 없을 때만 읽는다.
+     */
+    public long visit(Long articleIdx, Supplier<byte[]> persisted, String visitorKey) {
+        Sketch cached = sketches.get(articleIdx);
+
+        // DB 조회를 map 잠금 안에서 하지 않는다. 동시에 읽었으면 먼저 넣은 쪽을 쓴다.
+        if (cached == null) {
+            Sketch loaded = new Sketch(HyperLogLog.fromBytes(persisted.get()));
+            Sketch previous = sketches.putIfAbsent(articleIdx, loaded);
+
+            cached = (previous == null) ? loaded : previous;
+        }
+
+        Sketch fetched = cached;
+
+        // 기록은 map 잠금 안에서 한다. 그사이 dirty() 가 지웠으면 읽어 둔 스케치를 다시 넣어 방문을 잃지 않는다.
+        Sketch sketch = sketches.compute(articleIdx, (idx, current) -> {
+            Sketch target = (current == null) ? fetched : current;
+
+            target.touched = true;
+
+            if (target.hyperLogLog.offer(visitorKey))
+                target.dirty = true;
+
+            return target;
+        });
+
+        return sketch.hyperLogLog.estimate();
+    }
+
+    /**
+     * DB에 저장할 스케치 <br>
+     * 꺼내는 순간 dirty 를 내리므로, 저장 중에 들어온 방문은 다음 주기에 다시 저장된다. <br>
+     * 한 주기 동안 방문이 없었던 게시물은 메모리에서 지운다. 다음 방문 때 DB에서 다시 읽는다. <br>
+     * 방문 기록과 같은 map 잠금 안에서 touched/dirty 를 다시 보므로, 방금 들어온 방문이 있는 스케치는 지우지 않는다.
+     */
+    public Map<Long, byte[]> dirty() {
+        Map<Long, byte[]> snapshots = new HashMap<>();
+
+        for (Long articleIdx : sketches.keySet()) {
+            sketches.computeIfPresent(articleIdx, (idx, sketch) -> {
+                if (sketch.dirty) {
+                    sketch.dirty = false;
+                    sketch.touched = false;
+                    snapshots.put(idx, sketch.hyperLogLog.toBytes());
+                    return sketch;
+                }
+
+                if (!sketch.touched)
+                    return null;
+
+                sketch.touched = false;
+                return sketch;
+            });
+        }
+
+        return snapshots;
+    }
+
+    // 저장에 실패한 스케치는 다시 dirty 로 돌려 다음 주기에 저장한다. dirty() 가 그사이 지우지 않도록 잠금 안에서 표시한다.
+    public void rollback(Map<Long, byte[]> snapshots) {
+        snapshots.forEach((articleIdx, bytes) -> sketches.compute(articleIdx, (idx, current) -> {
+            Sketch sketch = (current == null) ? new Sketch(HyperLogLog.fromBytes(bytes)) : current;
+
+            sketch.dirty = true;
+            return sketch;
+        }));
+    }
+
+    // DB 에서 다른 서버의 방문자까지 합친 스케치를 메모리 스케치에 더한다. 이미 저장된 내용이라 dirty 로 만들지 않는다.
+    public void absorb(Map<Long, byte[]> merged) {
+        merged.forEach((articleIdx, bytes) -> {
+            Sketch sketch = sketches.get(articleIdx);
+
+            if (sketch != null)
+                sketch.hyperLogLog.merge(HyperLogLog.fromBytes(bytes));
+        });
+    }
+
+    public int dirtyArticles() {
+        int total = 0;
+
+        for (Sketch sketch : sketches.values()) {
+            if (sketch.dirty)
+                total++;
+        }
+
+        return total;
+    }
+
+    public int size() {
+        return sketches.size();
+    }
+
+    private static class Sketch {
+
+        private final HyperLogLog hyperLogLog;
+
+        private volatile boolean dirty;
+
+        private volatile boolean touched;
+
+        private Sketch(HyperLogLog hyperLogLog) {
+            this.hyperLogLog = hyperLogLog;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.deco.gachicoding.view.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.view.domain.HyperLogLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class ViewCountRepository {
+
+    // IN 절, CASE 절이 너무 길어지지 않게 나눠서 보낸다.
+    private static final int CHUNK_SIZE = 500;
+
+    private static final Map<ArticleCategory, ViewTable> TABLES = Map.of(
+            ArticleCategory.BOARD, new ViewTable("board", "board_idx", "board_views", "board_visitors"),
+            ArticleCategory.NOTICE, new ViewTable("notice", "not_idx", "not_views", "not_visitors"),
+            // 질문에는 조회수 컬럼이 없어 순 방문자만 저장한다.
+            ArticleCategory.QUESTION, new ViewTable("gachi_q", "qs_idx", null, "qs_visitors")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static boolean supportsViews(ArticleCategory category) {
+        ViewTable table = TABLES.get(category);
+        return table != null && table.viewsColumn != null;
+    }
+
+    public static boolean supportsVisitors(ArticleCategory category) {
+        return TABLES.containsKey(category);
+    }
+
+    /**
+     * 게시물별 조회수를 UPDATE ... CASE 한 문장으로 더한다. <br>
+     * UPDATE board SET board_views = board_views + CASE board_idx WHEN ? THEN ? ... ELSE 0 END WHERE board_idx IN (?, ...) <br>
+     * 나눠 보낸 문장은 한 트랜잭션에서 실행한다. 중간에 실패하면 앞 조각도 되돌려, 누적기에 남은 조회수를 다음 주기에 다시 더해도 두 번 세지 않는다.
+     */
+    @Transactional
+    public void addViews(ArticleCategory category, Map<Long, Long> deltas) {
+        if (!supportsViews(category))
+            throw new IllegalArgumentException("조회수를 저장하지 않는 게시물 종류입니다. " + category);
+
+        ViewTable table = TABLES.get(category);
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size()));
+
+            jdbcTemplate.update(table.addViewsSql(chunk.size()), addViewsArgs(chunk));
+        }
+    }
+
+    /**
+     * 게시물별 순 방문자 스케치를 저장된 스케치와 합쳐 저장하고, 합친 스케치를 돌려준다. <br>
+     * 서버마다 따로 센 스케치를 덮어쓰면 마지막에 쓴 서버의 방문자만 남으므로, 행 잠금으로 읽어 레지스터별 최댓값으로 합친다. <br>
+     * 서버끼리 교착되지 않도록 게시물 번호 순서로 잠근다. 게시물마다 2KB 라 CASE 로 묶지 않고 batch 로 보낸다. <br>
+     * SELECT board_idx, board_visitors FROM board WHERE board_idx IN (?, ...) ORDER BY board_idx FOR UPDATE <br>
+     * UPDATE board SET board_visitors = ? WHERE board_idx = ?
+     */
+    @Transactional
+    public Map<Long, byte[]> mergeVisitors(ArticleCategory category, Map<Long, byte[]> sketches) {
+        if (!supportsVisitors(category))
+            throw new IllegalArgumentException("순 방문자를 저장하지 않는 게시물 종류입니다. " + category);
+
+        ViewTable table = TABLES.get(category);
+        List<Long> articleIdxs = new ArrayList<>(new TreeMap<>(sketches).keySet());
+        Map<Long, byte[]> merged = new HashMap<>();
+
+        for (int from = 0; from < articleIdxs.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = articleIdxs.subList(from, Math.min(from + CHUNK_SIZE, articleIdxs.size()));
+            List<Object[]> args = new ArrayList<>(chunk.size());
+
+            jdbcTemplate.query(table.lockVisitorsSql(chunk.size()), (RowCallbackHandler) rs -> {
+                long articleIdx = rs.getLong(1);
+                HyperLogLog sketch = HyperLogLog.fromBytes(sketches.get(articleIdx));
+
+                sketch.merge(HyperLogLog.fromBytes(rs.getBytes(2)));
+
+                byte[] bytes = sketch.toBytes();
+                merged.put(articleIdx, bytes);
+                args.add(new Object[]{bytes, articleIdx});
+            }, chunk.toArray());
+
+            jdbcTemplate.batchUpdate(table.saveVisitorsSql(), args);
+        }
+
+        return merged;
+    }
+
+    // 저장된 순 방문자 스케치, 없으면 null
+    public byte[] findVisitors(ArticleCategory category, Long articleIdx) {
+        if (!supportsVisitors(category))
+            throw new IllegalArgumentException("순 방문자를 저장하지 않는 게시물 종류입니다. " + category);
+
+        return jdbcTemplate.query(
+                TABLES.get(category).findVisitorsSql(),
+                rs -> rs.next() ? rs.getBytes(1) : null,
+                articleIdx
+        );
+    }
+
+    private Object[] addViewsArgs(List<Map.Entry<Long, Long>> chunk) {
+        Object[] args = new Object[chunk.size() * 3];
+        int index = 0;
+
+        for (Map.Entry<Long, Long> entry : chunk) {
+            args[index++] = entry.getKey();
+            args[index++] = entry.getValue();
+        }
+
+        for (Map.Entry<Long, Long> entry : chunk)
+            args[index++] = entry.getKey();
+
+        return args;
+    }
+
+    private static class ViewTable {
+
+        private final String table;
+        private final String idxColumn;
+        private final String viewsColumn;
+        private final String visitorsColumn;
+
+        private ViewTable(String table, String idxColumn, String viewsColumn, String visitorsColumn) {
+            this.table = table;
+            this.idxColumn = idxColumn;
+            this.viewsColumn = viewsColumn;
+            this.visitorsColumn = visitorsColumn;
+        }
+
+        private String findVisitorsSql() {
+            return "SELECT " + visitorsColumn + " FROM " + table + " WHERE " + idxColumn + " = ?";
+        }
+
+        private String lockVisitorsSql(int size) {
+            StringBuilder sql = new StringBuilder()
+                    .append("SELECT ").append(idxColumn).append(", ").append(visitorsColumn)
+                    .append(" FROM ").append(table)
+                    .append(" WHERE ").append(idxColumn).append(" IN (");
+
+            for (int i = 0; i < size; i++)
+                sql.append(i == 0 ? "?" : ", ?");
+
+            return sql.append(") ORDER BY ").append(idxColumn).append(" FOR UPDATE").toString();
+        }
+
+        private String saveVisitorsSql() {
+            return "UPDATE " + table + " SET " + visitorsColumn + " = ? WHERE " + idxColumn + " = ?";
+        }
+
+        private String addViewsSql(int size) {
+            StringBuilder sql = new StringBuilder()
+                    .append("UPDATE ").append(table)
+                    .append(" SET ").append(viewsColumn).append(" = ").append(viewsColumn)
+                    .append(" + CASE ").append(idxColumn);
+
+            for (int i = 0; i < size; i++)
+                sql.append(" WHEN ? THEN ?");
+
+            sql.append(" ELSE 0 END WHERE ").append(idxColumn).append(" IN (");
+
+            for (int i = 0; i < size; i++)
+                sql.append(i == 0 ? "?" : ", ?");
+
+            return sql.append(")").toString();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.deco.gachicoding.view.presentation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 순 방문자 수를 셀 때 쓰는 방문자 식별값(String)을 받는다. <br>
+ * 로그인 사용자는 이메일, 비로그인 사용자는 IP
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VisitorKey {
+}
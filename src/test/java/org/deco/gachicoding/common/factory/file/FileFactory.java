@@ -1,6 +1,9 @@
 package org.deco.gachicoding.common.factory.file;
 
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import org.deco.gachicoding.file.application.dto.response.FileResponseDto;
+import org.deco.gachicoding.file.domain.ImageVariant;
+import org.deco.gachicoding.file.domain.vo.ImageVariants;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mock.web.MockMultipartFile;
 
@@ -8,6 +11,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.util.List;
 import java.util.Objects;
 
 public class FileFactory {
@@ -37,6 +41,35 @@ public class FileFactory {
         return createMockMultipartFile("testSuccessImage2.png");
     }
 
+    // DB 에 기록된 (이미 CONTENT/{saveFileName} 으로 옮겨진) 파일
+    public static org.deco.gachicoding.file.domain.File storedFile(Long fileIdx, Long articleIdx, String articleCategory, String saveFileName) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.addUserMetadata("OriginalFileName", saveFileName + ".png");
+        objectMetadata.addUserMetadata("SaveFileName", saveFileName);
+
+        return org.deco.gachicoding.file.domain.File.builder()
+                .fileIdx(fileIdx)
+                .articleIdx(articleIdx)
+                .articleCategory(articleCategory)
+                .objectMetadata(objectMetadata)
+                .build();
+    }
+
+    // 썸네일, 중간 크기 사본까지 만들어 둔 파일
+    public static org.deco.gachicoding.file.domain.File storedImage(Long fileIdx, Long articleIdx, String articleCategory, String saveFileName, ImageVariant... variants) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.addUserMetadata("OriginalFileName", saveFileName + ".png");
+        objectMetadata.addUserMetadata("SaveFileName", saveFileName);
+
+        return org.deco.gachicoding.file.domain.File.builder()
+                .fileIdx(fileIdx)
+                .articleIdx(articleIdx)
+                .articleCategory(articleCategory)
+                .objectMetadata(objectMetadata)
+                .imageVariants(new ImageVariants(List.of(variants)))
+                .build();
+    }
+
     private static File createFile(String testImage) {
         URL resource = classLoader.getResource(testImage);
         Objects.requireNonNull(resource);
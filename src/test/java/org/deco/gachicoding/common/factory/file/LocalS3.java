@@ -0,0 +1,168 @@
+package org.deco.gachicoding.common.factory.file;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 대신 쓰는 메모리 저장소. 네트워크 없이 S3Service 를 그대로 돌린다. <br>
+ * 메타데이터 조회, 읽기, 쓰기, 복사, 일괄 삭제만 지원하고, 요청마다 latencyMillis 만큼 기다린다.
+ */
+public class LocalS3 extends AbstractAmazonS3 {
+
+    private final Map<String, ObjectMetadata> objects = new ConcurrentHashMap<>();
+
+    private final Map<String, byte[]> contents = new ConcurrentHashMap<>();
+
+    private final Map<String, Boolean> failingCopies = new ConcurrentHashMap<>();
+
+    private final AtomicInteger copies = new AtomicInteger();
+
+    private final long latencyMillis;
+
+    public LocalS3(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void upload(String saveFileName) {
+        storeObject(S3Service.TEMP_DIRECTORY + saveFileName, saveFileName);
+    }
+
+    public void storeObject(String key, String saveFileName) {
+        storeObject(key, saveFileName, new byte[0]);
+    }
+
+    public void storeObject(String key, String saveFileName, byte[] content) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+
+        objectMetadata.addUserMetadata("OriginalFileName", saveFileName + ".png");
+        objectMetadata.addUserMetadata("SaveFileName", saveFileName);
+        objectMetadata.setContentLength(content.length);
+
+        objects.put(key, objectMetadata);
+        contents.put(key, content);
+    }
+
+    public void failCopy(String key) {
+        failingCopies.put(key, true);
+    }
+
+    public Set<String> keys() {
+        return objects.keySet();
+    }
+
+    public byte[] content(String key) {
+        find(key);
+        return contents.get(key);
+    }
+
+    public int copies() {
+        return copies.get();
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(GetObjectMetadataRequest request) {
+        delay();
+        return find(request.getKey());
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL("https://local.s3/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String objectName) {
+        delay();
+        return objects.containsKey(objectName);
+    }
+
+    @Override
+    public S3Object getObject(GetObjectRequest request) {
+        delay();
+
+        S3Object s3Object = new S3Object();
+        s3Object.setKey(request.getKey());
+        s3Object.setObjectMetadata(find(request.getKey()));
+        s3Object.setObjectContent(new ByteArrayInputStream(contents.get(request.getKey())));
+
+        return s3Object;
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        delay();
+
+        try {
+            objects.put(request.getKey(), request.getMetadata());
+            contents.put(request.getKey(), request.getInputStream().readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new PutObjectResult();
+    }
+
+    @Override
+    public CopyObjectResult copyObject(CopyObjectRequest request) {
+        delay();
+
+        if (failingCopies.containsKey(request.getSourceKey()))
+            throw new AmazonS3Exception("copy failed");
+
+        objects.put(request.getDestinationKey(), find(request.getSourceKey()));
+        contents.put(request.getDestinationKey(), contents.get(request.getSourceKey()));
+        copies.incrementAndGet();
+
+        return new CopyObjectResult();
+    }
+
+    @Override
+    public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
+        delay();
+        request.getKeys().forEach(key -> {
+            objects.remove(key.getKey());
+            contents.remove(key.getKey());
+        });
+
+        return new DeleteObjectsResult(List.of());
+    }
+
+    private ObjectMetadata find(String key) {
+        ObjectMetadata objectMetadata = objects.get(key);
+
+        if (objectMetadata == null) {
+            AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+            notFound.setStatusCode(404);
+            throw notFound;
+        }
+
+        return objectMetadata;
+    }
+
+    private void delay() {
+        if (latencyMillis == 0)
+            return;
+
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package org.deco.gachicoding.common.factory.post.board;
 
 import org.deco.gachicoding.post.board.application.dto.request.*;
+import org.deco.gachicoding.post.board.application.dto.response.BoardListResponseDto;
 import org.deco.gachicoding.post.board.application.dto.response.BoardResponseDto;
 import org.deco.gachicoding.post.board.domain.Board;
+import org.deco.gachicoding.post.board.domain.BoardSummary;
 import org.deco.gachicoding.post.board.presentation.dto.request.BoardSaveRequest;
 import org.deco.gachicoding.post.board.presentation.dto.request.BoardUpdateRequest;
+import org.deco.gachicoding.post.board.presentation.dto.response.BoardListResponse;
 import org.deco.gachicoding.post.board.presentation.dto.response.BoardResponse;
 import org.deco.gachicoding.user.domain.User;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+
 public class BoardFactory {
     private BoardFactory() {}
 
@@ -42,6 +47,21 @@ public class BoardFactory {
                 .boardLocked(boardLocked)
                 .build();
     }
+
+    public static BoardSummary mockBoardSummary(
+            Long boardIdx,
+            User author
+    ) {
+        return new BoardSummary(
+                boardIdx,
+                author.getUserNick(),
+                "테스트 게시물 제목",
+                "테스트 게시물 내용",
+                0L,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
     /* Board Object End */
 
     /* Board Dto Start */
@@ -74,6 +94,7 @@ public class BoardFactory {
     ){
         return BoardDetailRequestDto.builder()
                 .boardIdx(boardIdx)
+                .visitorKey("ip:127.0.0.1")
                 .build();
     }
 
@@ -112,6 +133,19 @@ public class BoardFactory {
                 .boardLocked(boardLocked)
                 .build();
     }
+
+    public static BoardListResponseDto mockBoardListResponseDto(
+            Long boardIdx,
+            User author
+    ) {
+        return BoardListResponseDto.builder()
+                .boardIdx(boardIdx)
+                .authorNick(author.getUserNick())
+                .boardTitle("테스트 게시물 제목")
+                .boardExcerpt("테스트 게시물 내용")
+                .boardViews(0L)
+                .build();
+    }
     /* Board Dto End */
 
     /* Board Request Start */
@@ -145,6 +179,20 @@ public class BoardFactory {
                 .build();
     }
 
+    public static BoardListResponse mockBoardListResponse(
+            BoardListResponseDto dto
+    ) {
+        return BoardListResponse.builder()
+                .boardIdx(dto.getBoardIdx())
+                .authorNick(dto.getAuthorNick())
+                .boardTitle(dto.getBoardTitle())
+                .boardExcerpt(dto.getBoardExcerpt())
+                .boardViews(dto.getBoardViews())
+                .createdAt(dto.getCreatedAt())
+                .updatedAt(dto.getUpdatedAt())
+                .build();
+    }
+
     public static BoardUpdateRequest mockBoardUpdateRequest(
             String userEmail,
             Long boardIdx,
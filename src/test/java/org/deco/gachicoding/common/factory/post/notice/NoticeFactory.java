@@ -1,14 +1,19 @@
 package org.deco.gachicoding.common.factory.post.notice;
 
 import org.deco.gachicoding.post.notice.application.dto.request.*;
+import org.deco.gachicoding.post.notice.application.dto.response.NoticeListResponseDto;
 import org.deco.gachicoding.post.notice.application.dto.response.NoticeResponseDto;
 import org.deco.gachicoding.post.notice.domain.Notice;
+import org.deco.gachicoding.post.notice.domain.NoticeSummary;
 import org.deco.gachicoding.post.notice.presentation.dto.request.NoticeSaveRequest;
 import org.deco.gachicoding.post.notice.presentation.dto.request.NoticeUpdateRequest;
+import org.deco.gachicoding.post.notice.presentation.dto.response.NoticeListResponse;
 import org.deco.gachicoding.post.notice.presentation.dto.response.NoticeResponse;
 import org.deco.gachicoding.user.domain.User;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+
 public class NoticeFactory {
     private NoticeFactory() {}
 
@@ -45,6 +50,22 @@ public class NoticeFactory {
                 .notLocked(notLocked)
                 .build();
     }
+
+    public static NoticeSummary mockNoticeSummary(
+            Long notIdx,
+            User author
+    ) {
+        return new NoticeSummary(
+                notIdx,
+                author.getUserNick(),
+                "테스트 공지사항 제목",
+                "테스트 공지사항 내용",
+                0L,
+                false,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
     /* Notice Object end */
 
     /* Notice Dto start */
@@ -76,6 +97,7 @@ public class NoticeFactory {
     ) {
         return NoticeDetailRequestDto.builder()
                 .notIdx(notIdx)
+                .visitorKey("ip:127.0.0.1")
                 .build();
     }
 
@@ -118,6 +140,21 @@ public class NoticeFactory {
                 .updatedAt(notice.getUpdatedAt())
                 .build();
     }
+
+    public static NoticeListResponseDto mockNoticeListResponseDto(
+            NoticeSummary notice
+    ) {
+        return NoticeListResponseDto.builder()
+                .notIdx(notice.getNotIdx())
+                .authorNick(notice.getAuthorNick())
+                .notTitle(notice.getNotTitle())
+                .notExcerpt(notice.getNotExcerpt())
+                .notViews(notice.getNotViews())
+                .notPin(notice.getNotPin())
+                .createdAt(notice.getCreatedAt())
+                .updatedAt(notice.getUpdatedAt())
+                .build();
+    }
     /* Notice Dto end */
 
     /* Notice Request start */
@@ -171,5 +208,20 @@ public class NoticeFactory {
                 .updatedAt(dto.getUpdatedAt())
                 .build();
     }
+
+    public static NoticeListResponse mockNoticeListResponse(
+            NoticeListResponseDto dto
+    ) {
+        return NoticeListResponse.builder()
+                .notIdx(dto.getNotIdx())
+                .authorNick(dto.getAuthorNick())
+                .notTitle(dto.getNotTitle())
+                .notExcerpt(dto.getNotExcerpt())
+                .notViews(dto.getNotViews())
+                .notPin(dto.getNotPin())
+                .createdAt(dto.getCreatedAt())
+                .updatedAt(dto.getUpdatedAt())
+                .build();
+    }
     /* Notice Request end */
 }
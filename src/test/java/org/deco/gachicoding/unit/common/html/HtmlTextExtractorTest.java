@@ -0,0 +1,53 @@
+package org.deco.gachicoding.unit.common.html;
+
+import org.deco.gachicoding.common.html.HtmlTextExtractor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HtmlTextExtractorTest {
+
+    @Test
+    @DisplayName("태그는 버리고 블록 태그 사이는 공백 하나로 합친다.")
+    public void excerpt_stripTags_Success() {
+        String html = "<p>안녕하세요 <b>가치</b>코딩</p><p>  둘째   문단 </p>";
+
+        assertThat(HtmlTextExtractor.excerpt(html, 100)).isEqualTo("안녕하세요 가치코딩 둘째 문단");
+    }
+
+    @Test
+    @DisplayName("이미지 태그와 script, style 내용은 미리보기에 넣지 않는다.")
+    public void excerpt_skipImageAndScript_Success() {
+        String html = "<img src=\"https://s3/board/1/a.png\"><script>alert('x')</script>본문<style>p { color: red; }</style>";
+
+        assertThat(HtmlTextExtractor.excerpt(html, 100)).isEqualTo("본문");
+    }
+
+    @Test
+    @DisplayName("엔티티는 문자로 바꾸고 모르는 엔티티는 그대로 둔다.")
+    public void excerpt_decodeEntities_Success() {
+        String html = "a&nbsp;&lt;&nbsp;b &amp;&amp; &#54620;&#xAE00; &unknown;";
+
+        assertThat(HtmlTextExtractor.excerpt(html, 100)).isEqualTo("a < b && 한글 &unknown;");
+    }
+
+    @Test
+    @DisplayName("태그가 아닌 '<'는 글자로 남긴다.")
+    public void excerpt_keepLessThan_Success() {
+        assertThat(HtmlTextExtractor.excerpt("a < b, c <= d", 100)).isEqualTo("a < b, c <= d");
+    }
+
+    @Test
+    @DisplayName("최대 글자 수까지만 잘라 가져온다.")
+    public void excerpt_truncate_Success() {
+        assertThat(HtmlTextExtractor.excerpt("<p>가나다라마바사</p>", 3)).isEqualTo("가나다");
+        assertThat(HtmlTextExtractor.excerpt("가 나다라", 2)).isEqualTo("가");
+    }
+
+    @Test
+    @DisplayName("잘린 자리에서 서로게이트 쌍을 나누지 않는다.")
+    public void excerpt_keepSurrogatePair_Success() {
+        assertThat(HtmlTextExtractor.excerpt("ab😀cd", 3)).isEqualTo("ab");
+    }
+}
@@ -0,0 +1,75 @@
+package org.deco.gachicoding.unit.common.pagination;
+
+import org.deco.gachicoding.common.pagination.CursorPage;
+import org.deco.gachicoding.common.pagination.PageCursor;
+import org.deco.gachicoding.exception.post.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PageCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치가 된다.")
+    public void decode_encodedCursor_Success() {
+        // given
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2022, 11, 9, 12, 30, 15), 42L);
+
+        // when
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded)
+                .usingRecursiveComparison()
+                .isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 커서를 가져온다.")
+    public void decode_emptyCursor_Success() {
+        assertThat(PageCursor.decode(null)).isSameAs(PageCursor.first());
+        assertThat(PageCursor.decode("")).isSameAs(PageCursor.first());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외가 발생한다.")
+    public void decode_invalidCursor_Exception() {
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("size 보다 많이 조회되면 마지막 게시물을 다음 커서로 가져온다.")
+    public void of_hasNextPage_Success() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2022, 11, 9, 12, 0);
+        List<Long> rows = List.of(5L, 4L, 3L);
+
+        // when
+        CursorPage<Long> page = CursorPage.of(rows, 2, idx -> new PageCursor(createdAt, idx), Function.identity());
+
+        // then
+        assertThat(page.getContents()).containsExactly(5L, 4L);
+        assertThat(PageCursor.decode(page.getNextCursor()).getIdx()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서가 없다.")
+    public void of_lastPage_Success() {
+        // given
+        List<Long> rows = List.of(2L, 1L);
+
+        // when
+        CursorPage<Long> page = CursorPage.of(rows, 2, idx -> PageCursor.first(), Function.identity());
+
+        // then
+        assertThat(page.getContents()).containsExactly(2L, 1L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
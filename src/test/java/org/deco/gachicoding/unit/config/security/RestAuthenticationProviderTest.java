@@ -0,0 +1,139 @@
+package org.deco.gachicoding.unit.config.security;
+
+import org.deco.gachicoding.common.factory.user.UserFactory;
+import org.deco.gachicoding.config.security.RestAuthenticationProvider;
+import org.deco.gachicoding.config.security.RestAuthenticationToken;
+import org.deco.gachicoding.user.application.UserAuthenticationService;
+import org.deco.gachicoding.user.application.UserDetailsCache;
+import org.deco.gachicoding.user.application.UserIdCache;
+import org.deco.gachicoding.user.domain.User;
+import org.deco.gachicoding.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.cache.NullUserCache;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로그인 한 번에 사용자 테이블을 몇 번 읽는지 비교한다. <br>
+ * 캐시가 없으면 시도마다 한 번, UserDetailsCache 가 있으면 TTL 동안 한 번만 읽는다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class RestAuthenticationProviderTest {
+
+    private static final int LOGIN_ATTEMPTS = 1000;
+
+    private static final String userEmail = "gachicoding@test.com";
+
+    private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+
+    @Mock
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = UserFactory.user(1L, userEmail, "{noop}1234");
+    }
+
+    @Test
+    @DisplayName("UserCache 가 없으면 로그인을 시도할 때마다 사용자를 조회한다.")
+    public void authenticate_withoutUserCache_QueryPerAttempt() {
+        // given
+        given(userRepository.findByUserEmail(userEmail))
+                .willReturn(Optional.of(user));
+
+        RestAuthenticationProvider provider = provider(new NullUserCache());
+
+        // when
+        login(provider, LOGIN_ATTEMPTS);
+
+        // then
+        verify(userRepository, times(LOGIN_ATTEMPTS))
+                .findByUserEmail(userEmail);
+    }
+
+    @Test
+    @DisplayName("UserDetailsCache 가 있으면 반복된 로그인에서 사용자를 한 번만 조회한다.")
+    public void authenticate_withUserDetailsCache_SingleQuery() {
+        // given
+        given(userRepository.findByUserEmail(userEmail))
+                .willReturn(Optional.of(user));
+
+        RestAuthenticationProvider provider = provider(new UserDetailsCache(1024, 60));
+
+        // when
+        login(provider, LOGIN_ATTEMPTS);
+
+        // then
+        verify(userRepository, times(1))
+                .findByUserEmail(userEmail);
+    }
+
+    @Test
+    @DisplayName("캐시된 비밀번호와 다르면 DB에서 다시 읽어 확인한다.")
+    public void authenticate_staleCachedPassword_Reload() {
+        // given
+        User changed = UserFactory.user(1L, userEmail, "{noop}5678");
+
+        given(userRepository.findByUserEmail(userEmail))
+                .willReturn(Optional.of(user), Optional.of(changed));
+
+        RestAuthenticationProvider provider = provider(new UserDetailsCache(1024, 60));
+
+        login(provider, 1);
+
+        // when
+        provider.authenticate(new RestAuthenticationToken(userEmail, "5678"));
+
+        // then
+        verify(userRepository, times(2))
+                .findByUserEmail(userEmail);
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 캐시에 넣지 않는다.")
+    public void authenticate_invalidPassword_Exception() {
+        // given
+        given(userRepository.findByUserEmail(userEmail))
+                .willReturn(Optional.of(user));
+
+        UserDetailsCache userDetailsCache = new UserDetailsCache(1024, 60);
+        RestAuthenticationProvider provider = provider(userDetailsCache);
+
+        // when, then
+        assertThatThrownBy(() -> provider.authenticate(new RestAuthenticationToken(userEmail, "wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+
+        assertThat(userDetailsCache.getUserFromCache(userEmail)).isNull();
+    }
+
+    private RestAuthenticationProvider provider(UserCache userCache) {
+        return new RestAuthenticationProvider(
+                passwordEncoder,
+                new UserAuthenticationService(userRepository),
+                userCache,
+                new UserIdCache(1024, 60)
+        );
+    }
+
+    private void login(RestAuthenticationProvider provider, int attempts) {
+        for (int i = 0; i < attempts; i++)
+            assertThat(provider.authenticate(new RestAuthenticationToken(userEmail, "1234")).isAuthenticated()).isTrue();
+    }
+}
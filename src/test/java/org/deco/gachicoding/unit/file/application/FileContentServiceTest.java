@@ -0,0 +1,188 @@
+package org.deco.gachicoding.unit.file.application;
+
+import org.deco.gachicoding.common.factory.file.FileFactory;
+import org.deco.gachicoding.exception.file.FileNotFoundException;
+import org.deco.gachicoding.file.application.FileContentService;
+import org.deco.gachicoding.file.application.FileDeletionService;
+import org.deco.gachicoding.file.domain.File;
+import org.deco.gachicoding.file.domain.FileContent;
+import org.deco.gachicoding.file.domain.repository.FileContentRepository;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class FileContentServiceTest {
+
+    @Mock
+    private FileContentRepository fileContentRepository;
+
+    @Mock
+    private FileDeletionService fileDeletionService;
+
+    @Mock
+    private S3Service s3Service;
+
+    private FileContentService fileContentService;
+
+    @BeforeEach
+    void setUp() {
+        fileContentService = new FileContentService(fileContentRepository, fileDeletionService, s3Service, 24);
+    }
+
+    @Test
+    @DisplayName("처음 쓰이는 내용이면 색인을 만들고 참조 1로 시작한다.")
+    public void retain_newContent_CreateIndex() {
+        // given
+        File file = FileFactory.storedFile(1L, 1L, "BOARD", "hash");
+        FileContent created = FileContent.builder()
+                .contentHash("hash")
+                .filePath("CONTENT/hash")
+                .build();
+
+        given(fileContentRepository.findByContentHashForUpdate("hash"))
+                .willReturn(Optional.empty());
+        given(s3Service.exists("CONTENT/hash"))
+                .willReturn(true);
+        given(fileContentRepository.save(any(FileContent.class)))
+                .willReturn(created);
+
+        // when
+        fileContentService.retain(file);
+
+        // then
+        assertThat(created.getReferenceCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("색인이 없는데 객체도 없으면 색인을 만들지 않고 예외가 발생한다.")
+    public void retain_objectGone_Exception() {
+        // given
+        File file = FileFactory.storedFile(1L, 1L, "BOARD", "hash");
+
+        given(fileContentRepository.findByContentHashForUpdate("hash"))
+                .willReturn(Optional.empty());
+        given(s3Service.exists("CONTENT/hash"))
+                .willReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> fileContentService.retain(file))
+                .isInstanceOf(FileNotFoundException.class);
+
+        verify(fileContentRepository, never())
+                .save(any(FileContent.class));
+    }
+
+    @Test
+    @DisplayName("정리를 기다리는 내용을 다시 찾으면 유예 기간을 지금부터 다시 센다.")
+    public void findContentPath_unreferenced_ExtendGrace() {
+        // given
+        LocalDateTime releasedAt = LocalDateTime.now().minusHours(23);
+        FileContent unreferenced = FileContent.builder()
+                .contentHash("hash")
+                .filePath("CONTENT/hash")
+                .build();
+
+        unreferenced.retain();
+        unreferenced.release(releasedAt);
+
+        given(fileContentRepository.findByContentHashForUpdate("hash"))
+                .willReturn(Optional.of(unreferenced));
+
+        // when
+        Optional<String> path = fileContentService.findContentPath("hash");
+
+        // then
+        assertThat(path).contains("CONTENT/hash");
+        assertThat(unreferenced.getReleasedAt()).isAfter(releasedAt);
+    }
+
+    @Test
+    @DisplayName("다른 게시물이 쓰는 내용이면 참조 수만 늘린다.")
+    public void retain_existingContent_Increment() {
+        // given
+        File file = FileFactory.storedFile(1L, 2L, "BOARD", "hash");
+        FileContent existing = FileContent.builder()
+                .contentHash("hash")
+                .filePath("CONTENT/hash")
+                .build();
+
+        existing.retain();
+
+        given(fileContentRepository.findByContentHashForUpdate("hash"))
+                .willReturn(Optional.of(existing));
+
+        // when
+        fileContentService.retain(file);
+
+        // then
+        assertThat(existing.getReferenceCount()).isEqualTo(2);
+
+        verify(fileContentRepository, never())
+                .save(any(FileContent.class));
+    }
+
+    @Test
+    @DisplayName("참조를 놓아도 다른 게시물이 쓰고 있으면 객체를 지우지 않는다.")
+    public void release_sharedContent_KeepObject() {
+        // given
+        File file = FileFactory.storedFile(1L, 1L, "BOARD", "hash");
+        FileContent existing = FileContent.builder()
+                .contentHash("hash")
+                .filePath("CONTENT/hash")
+                .build();
+
+        existing.retain();
+        existing.retain();
+
+        given(fileContentRepository.findByContentHashForUpdate("hash"))
+                .willReturn(Optional.of(existing));
+
+        // when
+        fileContentService.release(List.of(file));
+
+        // then
+        assertThat(existing.getReferenceCount()).isEqualTo(1);
+
+        verify(fileDeletionService, never())
+                .deleteObjects(List.of("CONTENT/hash"));
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지난 참조 없는 객체는 사본, 색인과 함께 지운다.")
+    public void sweepUnreferenced_expired_Delete() {
+        // given
+        FileContent unreferenced = FileContent.builder()
+                .contentHash("hash")
+                .filePath("CONTENT/hash")
+                .build();
+
+        given(fileContentRepository.findUnreferencedForUpdate(any(), any()))
+                .willReturn(List.of(unreferenced));
+
+        // when
+        fileContentService.sweepUnreferenced();
+
+        // then
+        verify(fileContentRepository, times(1))
+                .deleteAllInBatch(List.of(unreferenced));
+        verify(fileDeletionService, times(1))
+                .deleteObjects(List.of("CONTENT/hash", "VARIANT/medium/hash", "VARIANT/thumbnail/hash"));
+    }
+}
@@ -0,0 +1,123 @@
+package org.deco.gachicoding.unit.file.application;
+
+import org.deco.gachicoding.file.application.FileDeletionService;
+import org.deco.gachicoding.file.domain.FileDeletion;
+import org.deco.gachicoding.file.domain.repository.FileDeletionRepository;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class FileDeletionServiceTest {
+
+    private static final int maxAttempts = 10;
+
+    @Mock
+    private FileDeletionRepository fileDeletionRepository;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FileDeletionService fileDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        fileDeletionService = new FileDeletionService(fileDeletionRepository, s3Service, transactionManager, maxAttempts, 60);
+    }
+
+    @Test
+    @DisplayName("모두 지우면 재시도할 키를 남기지 않는다.")
+    public void deleteObjects_allDeleted_NoRetry() {
+        // given
+        List<String> paths = List.of("TEMP/image0", "TEMP/image1");
+
+        given(s3Service.deleteObjects(paths))
+                .willReturn(Map.of());
+
+        // when
+        fileDeletionService.deleteObjects(paths);
+
+        // then
+        verify(fileDeletionRepository, never())
+                .save(any(FileDeletion.class));
+    }
+
+    @Test
+    @DisplayName("지우지 못한 키만 사유와 함께 재시도 대상으로 남긴다.")
+    public void deleteObjects_partialFailure_RecordForRetry() {
+        // given
+        List<String> paths = List.of("TEMP/image0", "TEMP/image1");
+
+        given(s3Service.deleteObjects(paths))
+                .willReturn(Map.of("TEMP/image1", "AccessDenied Access Denied"));
+
+        // when
+        fileDeletionService.deleteObjects(paths);
+
+        // then
+        ArgumentCaptor<FileDeletion> captor = ArgumentCaptor.forClass(FileDeletion.class);
+
+        verify(fileDeletionRepository, times(1))
+                .save(captor.capture());
+
+        assertThat(captor.getValue().getFilePath()).isEqualTo("TEMP/image1");
+        assertThat(captor.getValue().getLastError()).isEqualTo("AccessDenied Access Denied");
+    }
+
+    @Test
+    @DisplayName("재시도에서 지운 키는 기록을 지우고, 또 실패한 키는 시도 횟수를 올린다.")
+    public void retryFailedDeletions_mixedResult_Success() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        FileDeletion deleted = deletion(1L, "TEMP/image0", now);
+        FileDeletion failed = deletion(2L, "TEMP/image1", now);
+
+        given(fileDeletionRepository.findDueDeletions(anyInt(), any(), any()))
+                .willReturn(List.of(deleted, failed));
+        given(s3Service.deleteObjects(List.of("TEMP/image0", "TEMP/image1")))
+                .willReturn(Map.of("TEMP/image1", "SlowDown Please reduce your request rate."));
+
+        // when
+        fileDeletionService.retryFailedDeletions();
+
+        // then
+        verify(fileDeletionRepository, times(1))
+                .deleteById(1L);
+        verify(fileDeletionRepository, times(1))
+                .save(failed);
+
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        assertThat(failed.getNextAttemptAt()).isAfter(now);
+    }
+
+    private FileDeletion deletion(Long deletionIdx, String filePath, LocalDateTime nextAttemptAt) {
+        return FileDeletion.builder()
+                .deletionIdx(deletionIdx)
+                .filePath(filePath)
+                .lastError("InternalError")
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package org.deco.gachicoding.unit.file.application;
+
+import org.deco.gachicoding.exception.file.S3CopyException;
+import org.deco.gachicoding.file.application.ArticleContentStore;
+import org.deco.gachicoding.file.application.FileJobService;
+import org.deco.gachicoding.file.application.FilePromotionService;
+import org.deco.gachicoding.file.application.FileService;
+import org.deco.gachicoding.file.domain.FileJob;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class FilePromotionServiceTest {
+
+    private static final Long jobIdx = 1L;
+    private static final Long boardIdx = 10L;
+    private static final String contents = "<img src=\"TEMP/image.png\">";
+
+    @Mock
+    private FileJobService fileJobService;
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private ArticleContentStore boardContentStore;
+
+    private FileJob job;
+
+    @BeforeEach
+    void setUp() {
+        given(boardContentStore.getCategory())
+                .willReturn(ArticleCategory.BOARD);
+
+        job = FileJob.builder()
+                .jobIdx(jobIdx)
+                .articleIdx(boardIdx)
+                .articleCategory("BOARD")
+                .build();
+        job.start(LocalDateTime.now().plusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("작업이 커밋되면 이미지를 옮기고 본문 경로를 바꾼 뒤 완료로 기록한다.")
+    public void enqueue_promoteAfterCommit_Success() {
+        // given
+        given(fileJobService.registerJob(boardIdx, "BOARD"))
+                .willReturn(jobIdx);
+        given(fileJobService.claim(eq(jobIdx), any(), any()))
+                .willReturn(Optional.of(job));
+        given(boardContentStore.findContents(boardIdx))
+                .willReturn(Optional.of(contents));
+        given(fileService.promoteTempImages(boardIdx, "BOARD", contents))
+                .willReturn(Map.of("TEMP/image.png", "BOARD/10/image.png"));
+
+        // when
+        service(Runnable::run).enqueue(boardIdx, "BOARD");
+
+        // then
+        verify(boardContentStore, times(1))
+                .rewriteContents(eq(boardIdx), any());
+        verify(fileJobService, times(1))
+                .complete(jobIdx, 1);
+    }
+
+    @Test
+    @DisplayName("이미지를 옮기다 실패하면 이번 시도 번호로 실패를 기록한다.")
+    public void enqueue_copyFailure_RecordFailure() {
+        // given
+        given(fileJobService.registerJob(boardIdx, "BOARD"))
+                .willReturn(jobIdx);
+        given(fileJobService.claim(eq(jobIdx), any(), any()))
+                .willReturn(Optional.of(job));
+        given(boardContentStore.findContents(boardIdx))
+                .willReturn(Optional.of(contents));
+        given(fileService.promoteTempImages(boardIdx, "BOARD", contents))
+                .willThrow(new S3CopyException());
+
+        // when
+        service(Runnable::run).enqueue(boardIdx, "BOARD");
+
+        // then
+        verify(boardContentStore, never())
+                .rewriteContents(any(), any());
+        verify(fileJobService, times(1))
+                .fail(eq(jobIdx), eq(1), anyString(), anyInt(), any());
+        verify(fileJobService, never())
+                .complete(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 워커가 가져간 작업은 건너뛴다.")
+    public void pollDueJobs_alreadyClaimed_Skip() {
+        // given
+        given(fileJobService.findDueJobIdxs(any(), anyInt()))
+                .willReturn(List.of(jobIdx));
+        given(fileJobService.claim(eq(jobIdx), any(), any()))
+                .willReturn(Optional.empty());
+
+        // when
+        service(Runnable::run).pollDueJobs();
+
+        // then
+        verify(fileService, never())
+                .promoteTempImages(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("워커 대기열이 가득 차도 게시물 작성은 실패하지 않는다.")
+    public void enqueue_executorRejected_Success() {
+        // given
+        given(fileJobService.registerJob(boardIdx, "BOARD"))
+                .willReturn(jobIdx);
+
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException();
+        };
+
+        // when, then
+        assertThatCode(() -> service(rejecting).enqueue(boardIdx, "BOARD"))
+                .doesNotThrowAnyException();
+
+        verify(fileJobService, never())
+                .claim(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("멈춘 작업은 TEMP 정리 기간 안에 만든 것만 페이지 단위로 모두 다시 돌린다.")
+    public void redriveFailedJobs_allPages_Success() {
+        // given
+        given(fileJobService.redriveFailed(any(), any(), eq(50)))
+                .willReturn(50, 50, 3);
+
+        // when
+        service(Runnable::run).redriveFailedJobs();
+
+        // then
+        verify(fileJobService, times(3))
+                .redriveFailed(argThat(createdAfter -> createdAfter.isBefore(LocalDateTime.now().minusHours(71))), any(), eq(50));
+    }
+
+    private FilePromotionService service(Executor executor) {
+        return new FilePromotionService(fileJobService, fileService, List.of(boardContentStore), executor, 5, 60, 10, 50, 72);
+    }
+}
@@ -0,0 +1,261 @@
+package org.deco.gachicoding.unit.file.application;
+
+import org.deco.gachicoding.common.factory.file.FileFactory;
+import org.deco.gachicoding.common.factory.file.LocalS3;
+import org.deco.gachicoding.exception.file.S3CopyException;
+import org.deco.gachicoding.file.application.FileContentService;
+import org.deco.gachicoding.file.application.FileDeletionService;
+import org.deco.gachicoding.file.application.FileService;
+import org.deco.gachicoding.file.application.ImageDerivativeService;
+import org.deco.gachicoding.file.domain.File;
+import org.deco.gachicoding.file.domain.repository.FileDeletionRepository;
+import org.deco.gachicoding.file.domain.repository.FileRepository;
+import org.deco.gachicoding.file.infrastructure.S3FileStorage;
+import org.deco.gachicoding.file.infrastructure.S3MultipartUploader;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 게시물 하나의 TEMP 이미지 이동 <br>
+ * S3 대신 메모리 저장소(LocalS3)를 쓴다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class FileServiceTest {
+
+    private static final String s3Url = "https://gachicoding.s3/";
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileDeletionRepository fileDeletionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private FileContentService fileContentService;
+
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
+    private final ExecutorService s3Pool = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void tearDown() {
+        s3Pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("본문의 TEMP 이미지만 내용 주소 경로로 옮기고 TEMP 원본은 지운다.")
+    public void promoteTempImages_tempImagesOnly_Success() {
+        // given
+        LocalS3 s3 = new LocalS3(0);
+        String content = content(s3, 3) + "<img src=\"" + s3Url + "BOARD/1/old.png\">";
+
+        // when
+        Map<String, String> promotedPaths = fileService(s3, s3Pool).promoteTempImages(1L, "BOARD", content);
+
+        // then
+        assertThat(promotedPaths).containsOnlyKeys("TEMP/image0", "TEMP/image1", "TEMP/image2");
+        assertThat(promotedPaths).containsEntry("TEMP/image0", "CONTENT/image0");
+        assertThat(s3.keys()).containsExactlyInAnyOrder("CONTENT/image0", "CONTENT/image1", "CONTENT/image2");
+
+        verify(fileRepository, times(3))
+                .save(any(File.class));
+        verify(fileContentService, times(3))
+                .retain(any(File.class));
+        verify(imageDerivativeService, times(1))
+                .generate(List.of("image0", "image1", "image2"));
+    }
+
+    @Test
+    @DisplayName("같은 내용이 이미 저장되어 있으면 복사하지 않고 그 객체를 가리키며 참조 수만 늘린다.")
+    public void promoteTempImages_duplicateContent_NoCopy() {
+        // given
+        LocalS3 s3 = new LocalS3(0);
+        String content = content(s3, 2);
+
+        s3.storeObject("CONTENT/image0", "image0");
+
+        given(fileContentService.findContentPath(anyString()))
+                .willAnswer(invocation -> "image0".equals(invocation.getArgument(0))
+                        ? Optional.of("CONTENT/image0")
+                        : Optional.empty());
+
+        // when
+        Map<String, String> promotedPaths = fileService(s3, s3Pool).promoteTempImages(1L, "BOARD", content);
+
+        // then
+        assertThat(promotedPaths)
+                .containsEntry("TEMP/image0", "CONTENT/image0")
+                .containsEntry("TEMP/image1", "CONTENT/image1");
+        assertThat(s3.keys()).containsExactlyInAnyOrder("CONTENT/image0", "CONTENT/image1");
+        assertThat(s3.copies()).isEqualTo(1);
+
+        verify(fileContentService, times(2))
+                .retain(any(File.class));
+    }
+
+    @Test
+    @DisplayName("이미지 하나라도 복사에 실패하면 기록하지 않고 TEMP 원본을 남겨 다시 시도할 수 있게 한다.")
+    public void promoteTempImages_copyFailure_KeepTemp() {
+        // given
+        LocalS3 s3 = new LocalS3(0);
+        String content = content(s3, 3);
+
+        s3.failCopy("TEMP/image1");
+
+        // when, then
+        assertThatThrownBy(() -> fileService(s3, s3Pool).promoteTempImages(1L, "BOARD", content))
+                .isInstanceOf(S3CopyException.class);
+
+        assertThat(s3.keys()).contains("TEMP/image0", "TEMP/image1", "TEMP/image2");
+
+        verify(fileRepository, never())
+                .save(any(File.class));
+    }
+
+    @Test
+    @DisplayName("수정된 본문에서 빠진 파일은 한 번에 지우고 참조를 놓으며, 새 이미지만 옮긴다.")
+    public void compareFilePathAndOptimization_reconcile_Success() {
+        // given
+        LocalS3 s3 = new LocalS3(0);
+        String content = content(s3, 1) + "<img src=\"" + s3Url + "CONTENT/kept\">";
+
+        s3.storeObject("CONTENT/kept", "kept");
+        s3.storeObject("CONTENT/removed", "removed");
+
+        File removed = FileFactory.storedFile(2L, 1L, "BOARD", "removed");
+
+        given(fileRepository.findFileByCategoryAndIdx("BOARD", 1L))
+                .willReturn(List.of(
+                        FileFactory.storedFile(1L, 1L, "BOARD", "kept"),
+                        removed
+                ));
+
+        // when
+        String updatedContent = fileService(s3, s3Pool).compareFilePathAndOptimization(1L, "BOARD", content);
+
+        // then
+        assertThat(updatedContent)
+                .contains(s3Url + "CONTENT/image0")
+                .contains(s3Url + "CONTENT/kept")
+                .doesNotContain("TEMP/");
+
+        // 다른 게시물이 쓰고 있을 수 있으므로 객체는 참조 수를 보고 FileContentService 가 지운다.
+        assertThat(s3.keys()).containsExactlyInAnyOrder("CONTENT/kept", "CONTENT/removed", "CONTENT/image0");
+
+        verify(fileRepository, times(1))
+                .deleteAllByIdInBatch(List.of(2L));
+        verify(fileContentService, times(1))
+                .release(List.of(removed));
+        verify(fileRepository, times(1))
+                .save(any(File.class));
+    }
+
+    @Test
+    @DisplayName("게시물을 지우면 그 게시물의 파일 기록을 한 번에 지우고 참조를 놓는다.")
+    public void deleteArticleFiles_releaseAll_Success() {
+        // given
+        LocalS3 s3 = new LocalS3(0);
+        List<File> files = List.of(
+                FileFactory.storedFile(1L, 1L, "BOARD", "first"),
+                FileFactory.storedFile(2L, 1L, "BOARD", "second")
+        );
+
+        given(fileRepository.findFileByCategoryAndIdx("BOARD", 1L))
+                .willReturn(files);
+
+        // when
+        fileService(s3, s3Pool).deleteArticleFiles("BOARD", 1L);
+
+        // then
+        verify(fileRepository, times(1))
+                .deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(fileContentService, times(1))
+                .release(files);
+    }
+
+    @Test
+    @DisplayName("파일이 없는 게시물을 지우면 아무것도 지우지 않는다.")
+    public void deleteArticleFiles_noFile_Nothing() {
+        // given
+        given(fileRepository.findFileByCategoryAndIdx("NOTICE", 1L))
+                .willReturn(List.of());
+
+        // when
+        fileService(new LocalS3(0), s3Pool).deleteArticleFiles("NOTICE", 1L);
+
+        // then
+        verify(fileRepository, never())
+                .deleteAllByIdInBatch(any());
+        verify(fileContentService, never())
+                .release(any());
+    }
+
+    @Test
+    @DisplayName("이미지마다 메타데이터 조회와 복사를 s3Executor 에 넘기고, 모두 끝난 뒤에 기록한다.")
+    public void promoteTempImages_copiesOnExecutor_Success() {
+        // given
+        LocalS3 s3 = new LocalS3(0);
+        String content = content(s3, 4);
+        AtomicInteger submitted = new AtomicInteger();
+        Executor executor = task -> {
+            submitted.incrementAndGet();
+            s3Pool.execute(task);
+        };
+
+        // when
+        fileService(s3, executor).promoteTempImages(1L, "BOARD", content);
+
+        // then
+        assertThat(submitted.get()).isEqualTo(4);
+        assertThat(s3.copies()).isEqualTo(4);
+
+        verify(fileRepository, times(4))
+                .save(any(File.class));
+    }
+
+    private FileService fileService(LocalS3 s3, Executor executor) {
+        S3Service s3Service = new S3Service(new S3FileStorage(s3, new S3MultipartUploader(s3, executor, 8, 4, 500)));
+        FileDeletionService fileDeletionService = new FileDeletionService(fileDeletionRepository, s3Service, transactionManager, 10, 60);
+
+        return new FileService(fileRepository, s3Service, fileDeletionService, fileContentService, imageDerivativeService, executor, s3Url, 30);
+    }
+
+    // TEMP 에 이미지를 올려 두고, 그 이미지들을 가리키는 본문을 만든다.
+    private String content(LocalS3 s3, int imageCount) {
+        return IntStream.range(0, imageCount)
+                .mapToObj(i -> {
+                    s3.upload("image" + i);
+                    return "<p><img src=\"" + s3Url + "TEMP/image" + i + "\"></p>";
+                })
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,213 @@
+package org.deco.gachicoding.unit.file.application;
+
+import org.deco.gachicoding.common.factory.file.FileFactory;
+import org.deco.gachicoding.exception.file.UploadFailureException;
+import org.deco.gachicoding.file.application.FileContentService;
+import org.deco.gachicoding.file.application.FileDeletionService;
+import org.deco.gachicoding.file.application.FileUploadService;
+import org.deco.gachicoding.file.application.dto.response.FileResponseDto;
+import org.deco.gachicoding.file.infrastructure.FileNameSupport;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.deco.gachicoding.file.presentation.dto.request.FileSaveRequest;
+import org.deco.gachicoding.file.presentation.dto.request.FileStreamRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class FileUploadServiceTest {
+
+    private static final String s3Url = "https://gachicoding.s3/";
+
+    @InjectMocks
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private FileContentService fileContentService;
+
+    @Mock
+    private FileDeletionService fileDeletionService;
+
+    @Test
+    @DisplayName("멀티파트 파일이 이미 게시물에 쓰인 내용이면 올린 임시 객체를 지우고 그 객체의 URL 을 돌려준다.")
+    public void upload_duplicateContent_DeleteUpload() {
+        // given
+        MultipartFile file = FileFactory.getTestSuccessImage1();
+        String contentHash = FileNameSupport.sha256(file);
+
+        given(s3Service.uploadStream(any(), anyString(), eq(file.getOriginalFilename()), eq("image/png"), eq(file.getSize())))
+                .willReturn(contentHash);
+        given(fileContentService.findContentPath(contentHash))
+                .willReturn(Optional.of("CONTENT/" + contentHash));
+        given(s3Service.getS3Url("CONTENT/" + contentHash))
+                .willReturn(s3Url + "CONTENT/" + contentHash);
+
+        // when
+        List<FileResponseDto> responseDtos = fileUploadService.upload(saveRequest(List.of(file)));
+
+        // then
+        assertThat(responseDtos)
+                .extracting(FileResponseDto::getFilePath)
+                .containsExactly(s3Url + "CONTENT/" + contentHash);
+
+        verify(s3Service, never())
+                .renameTemp(anyString(), anyString());
+        verify(fileDeletionService, times(1))
+                .deleteObjects(argThat(paths -> paths.size() == 1 && paths.iterator().next().startsWith("TEMP/")));
+    }
+
+    @Test
+    @DisplayName("멀티파트 파일은 길이를 알려 한 번에 올리고, 처음 올리는 내용이면 TEMP/{해시} 로 옮긴 뒤 스트림을 닫는다.")
+    public void upload_newContent_SinglePass() {
+        // given
+        MultipartFile file = FileFactory.getTestSuccessImage1();
+        String contentHash = FileNameSupport.sha256(file);
+        CloseTrackingInputStream inputStream = new CloseTrackingInputStream(new byte[]{1, 2, 3});
+
+        given(s3Service.uploadStream(any(), anyString(), anyString(), any(), eq(3L)))
+                .willReturn(contentHash);
+        given(s3Service.renameTemp(anyString(), eq(contentHash)))
+                .willReturn("TEMP/" + contentHash);
+
+        // when
+        fileUploadService.upload(new FileSaveRequest(List.of(
+                new FileStreamRequest(file.getOriginalFilename(), file.getContentType(), inputStream, 3L)
+        )));
+
+        // then
+        assertThat(inputStream.closed).isTrue();
+
+        verify(s3Service, times(1))
+                .uploadStream(any(), anyString(), anyString(), any(), eq(3L));
+    }
+
+    @Test
+    @DisplayName("같은 내용이면 파일 이름이 달라도 같은 해시가 나온다.")
+    public void sha256_sameContentDifferentName_SameHash() {
+        // given
+        MultipartFile file = FileFactory.getTestSuccessImage1();
+        MultipartFile other = FileFactory.getTestSuccessImage2();
+
+        // when, then
+        assertThat(FileNameSupport.sha256(file)).isEqualTo(FileNameSupport.sha256(FileFactory.getTestSuccessImage1()));
+        assertThat(FileNameSupport.sha256(file)).isNotEqualTo(FileNameSupport.sha256(other));
+    }
+
+    @Test
+    @DisplayName("복수의 이미지 파일을 업로드 할 때 한 장이라도 실패하면 예외가 발생한다.")
+    public void upload_failure_Exception() {
+        // given
+        List<MultipartFile> files = List.of(
+                FileFactory.getTestSuccessImage1(),
+                FileFactory.getTestSuccessImage2()
+        );
+
+        given(s3Service.uploadStream(any(), anyString(), anyString(), any(), anyLong()))
+                .willThrow(new UploadFailureException());
+
+        // when, then
+        assertThatThrownBy(() -> fileUploadService.upload(saveRequest(files)))
+                .isInstanceOf(UploadFailureException.class);
+
+        verify(s3Service, times(1))
+                .uploadStream(any(), anyString(), anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드가 이미 있는 내용이면 올린 객체를 지우고 기존 객체의 URL 을 돌려준다.")
+    public void uploadStream_duplicateContent_DeleteUpload() {
+        // given
+        given(s3Service.uploadStream(any(), anyString(), eq("스크린샷.png"), eq("image/png"), eq(-1L)))
+                .willReturn("hash");
+        given(fileContentService.findContentPath("hash"))
+                .willReturn(Optional.of("CONTENT/hash"));
+        given(s3Service.getS3Url("CONTENT/hash"))
+                .willReturn(s3Url + "CONTENT/hash");
+
+        // when
+        FileResponseDto responseDto = fileUploadService.uploadStream(streamRequest());
+
+        // then
+        assertThat(responseDto.getFilePath()).isEqualTo(s3Url + "CONTENT/hash");
+
+        verify(s3Service, never())
+                .renameTemp(anyString(), anyString());
+        verify(fileDeletionService, times(1))
+                .deleteObjects(argThat(paths -> paths.size() == 1 && paths.iterator().next().startsWith("TEMP/")));
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드가 처음 올리는 내용이면 TEMP/{해시} 로 옮긴다.")
+    public void uploadStream_newContent_RenameToHash() {
+        // given
+        given(s3Service.uploadStream(any(), anyString(), eq("스크린샷.png"), eq("image/png"), eq(-1L)))
+                .willReturn("hash");
+        given(s3Service.renameTemp(anyString(), eq("hash")))
+                .willReturn("TEMP/hash");
+        given(s3Service.getS3Url("TEMP/hash"))
+                .willReturn(s3Url + "TEMP/hash");
+
+        // when
+        FileResponseDto responseDto = fileUploadService.uploadStream(streamRequest());
+
+        // then
+        assertThat(responseDto.getFilePath()).isEqualTo(s3Url + "TEMP/hash");
+        assertThat(responseDto.getSaveFileName()).isEqualTo("스크린샷.png");
+    }
+
+    private FileSaveRequest saveRequest(List<MultipartFile> files) {
+        return new FileSaveRequest(files.stream()
+                .map(file -> {
+                    try {
+                        return new FileStreamRequest(file.getOriginalFilename(), file.getContentType(), file.getInputStream(), file.getSize());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .collect(Collectors.toList()));
+    }
+
+    private FileStreamRequest streamRequest() {
+        return new FileStreamRequest("스크린샷.png", "image/png", new ByteArrayInputStream(new byte[]{1, 2, 3}));
+    }
+
+    private static class CloseTrackingInputStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        CloseTrackingInputStream(byte[] content) {
+            super(content);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.deco.gachicoding.unit.file.application;
+
+import org.deco.gachicoding.common.factory.file.FileFactory;
+import org.deco.gachicoding.common.factory.file.LocalS3;
+import org.deco.gachicoding.file.application.ImageDerivativeService;
+import org.deco.gachicoding.file.domain.ImageVariant;
+import org.deco.gachicoding.file.domain.repository.FileRepository;
+import org.deco.gachicoding.file.infrastructure.S3FileStorage;
+import org.deco.gachicoding.file.infrastructure.S3MultipartUploader;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 이미지 사본 생성 <br>
+ * S3 대신 메모리 저장소(LocalS3)를 쓰고, imageExecutor 대신 부른 스레드에서 바로 실행한다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class ImageDerivativeServiceTest {
+
+    private static final String s3Url = "https://local.s3/";
+
+    private static final Executor directExecutor = Runnable::run;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LocalS3 s3;
+
+    private ImageDerivativeService imageDerivativeService;
+
+    @BeforeEach
+    void setUp() {
+        s3 = new LocalS3(0);
+
+        S3Service s3Service = new S3Service(new S3FileStorage(s3, new S3MultipartUploader(s3, directExecutor, 8, 4, 500)));
+
+        imageDerivativeService = new ImageDerivativeService(s3Service, fileRepository, directExecutor, transactionManager, s3Url, 40_000_000L);
+    }
+
+    @Test
+    @DisplayName("큰 이미지는 긴 변을 맞춘 중간 크기와 썸네일을 만들고 File 에 기록한다.")
+    public void generate_largeImage_CreateVariants() throws IOException {
+        // given
+        s3.storeObject("CONTENT/hash", "hash", png(2000, 1500));
+
+        // when
+        imageDerivativeService.generate(List.of("hash"));
+
+        // then
+        BufferedImage medium = read(s3.content("VARIANT/medium/hash"));
+        BufferedImage thumbnail = read(s3.content("VARIANT/thumbnail/hash"));
+
+        assertThat(medium.getWidth()).isEqualTo(1024);
+        assertThat(medium.getHeight()).isEqualTo(768);
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(240);
+
+        verify(fileRepository, times(1))
+                .updateImageVariants("hash", "MEDIUM,THUMBNAIL");
+    }
+
+    @Test
+    @DisplayName("아주 큰 이미지는 건너뛰며 디코딩해도 사본은 정해진 크기로 만든다.")
+    public void generate_subsampledImage_CreateVariants() throws IOException {
+        // given
+        s3.storeObject("CONTENT/hash", "hash", png(4096, 1024));
+
+        // when
+        imageDerivativeService.generate(List.of("hash"));
+
+        // then
+        BufferedImage medium = read(s3.content("VARIANT/medium/hash"));
+
+        assertThat(medium.getWidth()).isEqualTo(1024);
+        assertThat(medium.getHeight()).isEqualTo(256);
+    }
+
+    @Test
+    @DisplayName("원본이 사본보다 작으면 그 크기의 사본은 만들지 않는다.")
+    public void generate_smallImage_SkipLargerVariants() throws IOException {
+        // given
+        s3.storeObject("CONTENT/hash", "hash", png(800, 400));
+
+        // when
+        imageDerivativeService.generate(List.of("hash"));
+
+        // then
+        assertThat(s3.keys()).containsExactlyInAnyOrder("CONTENT/hash", "VARIANT/thumbnail/hash");
+
+        verify(fileRepository, times(1))
+                .updateImageVariants("hash", "THUMBNAIL");
+    }
+
+    @Test
+    @DisplayName("같은 내용의 사본이 이미 있으면 원본을 읽지 않고 목록만 기록한다.")
+    public void generate_existingVariants_SkipDecode() {
+        // given
+        s3.storeObject("CONTENT/hash", "hash", new byte[]{0});
+        s3.storeObject("VARIANT/medium/hash", "hash");
+        s3.storeObject("VARIANT/thumbnail/hash", "hash");
+
+        // when
+        imageDerivativeService.generate(List.of("hash"));
+
+        // then
+        verify(fileRepository, times(1))
+                .updateImageVariants("hash", "MEDIUM,THUMBNAIL");
+    }
+
+    @Test
+    @DisplayName("ImageIO 가 읽지 못하는 파일은 사본 없이 넘어간다.")
+    public void generate_notImage_Skip() {
+        // given
+        s3.storeObject("CONTENT/hash", "hash", new byte[]{1, 2, 3});
+
+        // when
+        imageDerivativeService.generate(List.of("hash"));
+
+        // then
+        verify(fileRepository, never())
+                .updateImageVariants(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("요청한 크기의 사본이 있으면 사본 URL, 없으면 원본 URL 을 돌려준다.")
+    public void findImageUrl_variant_Success() {
+        // given
+        given(fileRepository.findFirstBySaveFileName_SaveFilename("hash"))
+                .willReturn(Optional.of(FileFactory.storedImage(1L, 1L, "BOARD", "hash", ImageVariant.THUMBNAIL)));
+
+        // when, then
+        assertThat(imageDerivativeService.findImageUrl(s3Url + "CONTENT/hash", ImageVariant.THUMBNAIL))
+                .isEqualTo(s3Url + "VARIANT/thumbnail/hash");
+        assertThat(imageDerivativeService.findImageUrl(s3Url + "CONTENT/hash", ImageVariant.MEDIUM))
+                .isEqualTo(s3Url + "CONTENT/hash");
+        assertThat(imageDerivativeService.findImageUrl(s3Url + "CONTENT/hash", null))
+                .isEqualTo(s3Url + "CONTENT/hash");
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] content) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+}
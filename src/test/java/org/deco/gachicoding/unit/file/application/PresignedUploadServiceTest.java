@@ -0,0 +1,250 @@
+package org.deco.gachicoding.unit.file.application;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.deco.gachicoding.common.factory.file.FileFactory;
+import org.deco.gachicoding.exception.file.FileExtensionException;
+import org.deco.gachicoding.exception.file.FileNotFoundException;
+import org.deco.gachicoding.exception.file.HashFailureException;
+import org.deco.gachicoding.file.application.FileContentService;
+import org.deco.gachicoding.file.application.FileDeletionService;
+import org.deco.gachicoding.file.application.PresignedUploadService;
+import org.deco.gachicoding.file.application.dto.response.FilePresignResponseDto;
+import org.deco.gachicoding.file.application.dto.response.FileResponseDto;
+import org.deco.gachicoding.file.infrastructure.FileNameSupport;
+import org.deco.gachicoding.file.infrastructure.PresignedUpload;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.deco.gachicoding.file.presentation.dto.request.FileConfirmRequest;
+import org.deco.gachicoding.file.presentation.dto.request.FilePresignRequest;
+import org.deco.gachicoding.file.presentation.dto.request.ImageFileValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class PresignedUploadServiceTest {
+
+    private static final String s3Url = "https://gachicoding.s3/";
+
+    private PresignedUploadService presignedUploadService;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private FileContentService fileContentService;
+
+    @Mock
+    private FileDeletionService fileDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        presignedUploadService = new PresignedUploadService(s3Service, fileContentService, fileDeletionService, 300, 1);
+    }
+
+    @Test
+    @DisplayName("처음 올리는 내용이면 TEMP/{해시} 에 올릴 주소와 헤더를 돌려준다.")
+    public void presign_newContent_UploadUrl() {
+        // given
+        String contentHash = FileNameSupport.sha256(FileFactory.getTestSuccessImage1());
+        PresignedUpload upload = new PresignedUpload(s3Url + "TEMP/" + contentHash + "?sig", Map.of("x-amz-checksum-sha256", "checksum"), LocalDateTime.now());
+
+        given(fileContentService.findContentPath(contentHash))
+                .willReturn(Optional.empty());
+        given(s3Service.presignTempUpload(eq(contentHash), eq("image.png"), eq("image/png"), eq(1024L), eq(Duration.ofSeconds(300))))
+                .willReturn(upload);
+
+        // when
+        FilePresignResponseDto responseDto = presignedUploadService.presign(new FilePresignRequest("image.png", "image/png", contentHash, 1024));
+
+        // then
+        assertThat(responseDto.getFilePath()).isNull();
+        assertThat(responseDto.getUploadUrl()).isEqualTo(upload.getUrl());
+        assertThat(responseDto.getUploadHeaders()).containsEntry("x-amz-checksum-sha256", "checksum");
+    }
+
+    @Test
+    @DisplayName("이미 게시물에 쓰인 내용이면 주소를 만들지 않고 그 객체의 URL 을 돌려준다.")
+    public void presign_duplicateContent_ExistingUrl() {
+        // given
+        String contentHash = FileNameSupport.sha256(FileFactory.getTestSuccessImage1());
+
+        given(fileContentService.findContentPath(contentHash))
+                .willReturn(Optional.of("CONTENT/" + contentHash));
+        given(s3Service.getS3Url("CONTENT/" + contentHash))
+                .willReturn(s3Url + "CONTENT/" + contentHash);
+
+        // when
+        FilePresignResponseDto responseDto = presignedUploadService.presign(new FilePresignRequest("image.png", "image/png", contentHash, 1024));
+
+        // then
+        assertThat(responseDto.getFilePath()).isEqualTo(s3Url + "CONTENT/" + contentHash);
+        assertThat(responseDto.getUploadUrl()).isNull();
+
+        verify(s3Service, never())
+                .presignTempUpload(anyString(), anyString(), anyString(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("SHA-256 형식이 아닌 해시와 이미지가 아닌 형식은 주소를 만들지 않는다.")
+    public void presign_invalidRequest_Exception() {
+        // given
+        String contentHash = FileNameSupport.sha256(FileFactory.getTestSuccessImage1());
+
+        // when, then
+        assertThatThrownBy(() -> presignedUploadService.presign(new FilePresignRequest("image.png", "image/png", "../CONTENT/a", 1024)))
+                .isInstanceOf(HashFailureException.class);
+        assertThatThrownBy(() -> presignedUploadService.presign(new FilePresignRequest("a.html", "text/html", contentHash, 1024)))
+                .isInstanceOf(FileExtensionException.class);
+    }
+
+    @Test
+    @DisplayName("올린 이미지를 확인하면 앞부분(64KB)만 읽고 TEMP 파일 URL 을 돌려준다.")
+    public void confirm_uploadedImage_TempUrl() throws IOException {
+        // given
+        MockMultipartFile file = FileFactory.getTestSuccessImage1();
+        String contentHash = FileNameSupport.sha256(file);
+        String tempPath = "TEMP/" + contentHash;
+
+        given(fileContentService.findContentPath(contentHash))
+                .willReturn(Optional.empty());
+        given(s3Service.exists(tempPath))
+                .willReturn(true);
+        given(s3Service.getObjectMetadata(tempPath))
+                .willReturn(metadata(file.getSize(), "image/png"));
+        given(s3Service.getObjectContent(eq(tempPath), eq(0L), anyLong()))
+                .willReturn(new ByteArrayInputStream(file.getBytes()));
+        given(s3Service.getS3Url(tempPath))
+                .willReturn(s3Url + tempPath);
+
+        // when
+        FileResponseDto responseDto = presignedUploadService.confirm(new FileConfirmRequest("image.png", contentHash));
+
+        // then
+        assertThat(responseDto.getFilePath()).isEqualTo(s3Url + tempPath);
+
+        verify(s3Service, times(1))
+                .getObjectContent(tempPath, 0L, ImageFileValidator.PREFIX_SIZE - 1L);
+        verify(fileDeletionService, never())
+                .deleteObjects(any());
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 내용을 올렸으면 지우고 예외가 발생한다.")
+    public void confirm_notImage_DeleteAndException() {
+        // given
+        byte[] content = "<html></html>".getBytes();
+        String contentHash = FileNameSupport.sha256(new MockMultipartFile("file", content));
+        String tempPath = "TEMP/" + contentHash;
+
+        given(fileContentService.findContentPath(contentHash))
+                .willReturn(Optional.empty());
+        given(s3Service.exists(tempPath))
+                .willReturn(true);
+        given(s3Service.getObjectMetadata(tempPath))
+                .willReturn(metadata(content.length, "image/png"));
+        given(s3Service.getObjectContent(tempPath, 0L, content.length - 1L))
+                .willReturn(new ByteArrayInputStream(content));
+
+        // when, then
+        assertThatThrownBy(() -> presignedUploadService.confirm(new FileConfirmRequest("a.html", contentHash)))
+                .isInstanceOf(FileExtensionException.class);
+
+        verify(fileDeletionService, times(1))
+                .deleteObjects(List.of(tempPath));
+    }
+
+    @Test
+    @DisplayName("확인할 때 같은 내용이 이미 저장돼 있으면 올린 객체를 읽지 않고 저장된 객체의 URL 을 돌려준다.")
+    public void confirm_storedContent_ExistingUrl() {
+        // given
+        String contentHash = FileNameSupport.sha256(FileFactory.getTestSuccessImage1());
+
+        given(fileContentService.findContentPath(contentHash))
+                .willReturn(Optional.of("CONTENT/" + contentHash));
+        given(s3Service.getS3Url("CONTENT/" + contentHash))
+                .willReturn(s3Url + "CONTENT/" + contentHash);
+
+        // when
+        FileResponseDto responseDto = presignedUploadService.confirm(new FileConfirmRequest("image.png", contentHash));
+
+        // then
+        assertThat(responseDto.getFilePath()).isEqualTo(s3Url + "CONTENT/" + contentHash);
+
+        verify(s3Service, never())
+                .getObjectContent(anyString(), anyLong(), anyLong());
+        verify(fileDeletionService, never())
+                .deleteObjects(any());
+    }
+
+    @Test
+    @DisplayName("주소를 받을 때 보낸 형식과 내용의 형식이 다르면 지우고 예외가 발생한다.")
+    public void confirm_contentTypeMismatch_DeleteAndException() throws IOException {
+        // given
+        MockMultipartFile file = FileFactory.getTestSuccessImage1();
+        String contentHash = FileNameSupport.sha256(file);
+        String tempPath = "TEMP/" + contentHash;
+
+        given(fileContentService.findContentPath(contentHash))
+                .willReturn(Optional.empty());
+        given(s3Service.exists(tempPath))
+                .willReturn(true);
+        given(s3Service.getObjectMetadata(tempPath))
+                .willReturn(metadata(file.getSize(), "image/gif"));
+        given(s3Service.getObjectContent(eq(tempPath), eq(0L), anyLong()))
+                .willReturn(new ByteArrayInputStream(file.getBytes()));
+
+        // when, then
+        assertThatThrownBy(() -> presignedUploadService.confirm(new FileConfirmRequest("image.gif", contentHash)))
+                .isInstanceOf(FileExtensionException.class);
+
+        verify(fileDeletionService, times(1))
+                .deleteObjects(List.of(tempPath));
+    }
+
+    @Test
+    @DisplayName("올리지 않은 파일을 확인하면 예외가 발생한다.")
+    public void confirm_notUploaded_Exception() {
+        // given
+        String contentHash = FileNameSupport.sha256(FileFactory.getTestSuccessImage1());
+
+        given(fileContentService.findContentPath(contentHash))
+                .willReturn(Optional.empty());
+        given(s3Service.exists("TEMP/" + contentHash))
+                .willReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> presignedUploadService.confirm(new FileConfirmRequest("image.png", contentHash)))
+                .isInstanceOf(FileNotFoundException.class);
+    }
+
+    private ObjectMetadata metadata(long contentLength, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(contentLength);
+        objectMetadata.setContentType(contentType);
+
+        return objectMetadata;
+    }
+}
@@ -0,0 +1,96 @@
+package org.deco.gachicoding.unit.file.application;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.deco.gachicoding.file.application.TempFileSweeper;
+import org.deco.gachicoding.file.infrastructure.LocalFileStorage;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 디스크 저장소(LocalFileStorage)에 TEMP 객체를 두고, 수정 시각을 바꿔 TTL 을 넘긴 것처럼 만든다.
+ */
+public class TempFileSweeperTest {
+
+    private static final String url = "http://localhost:8080/api/file/storage/";
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorage localFileStorage;
+
+    private SimpleMeterRegistry registry;
+
+    private TempFileSweeper tempFileSweeper;
+
+    @BeforeEach
+    void setUp() {
+        localFileStorage = new LocalFileStorage(root.toString(), url, 500);
+        registry = new SimpleMeterRegistry();
+
+        tempFileSweeper = new TempFileSweeper(new S3Service(localFileStorage), 24, 60, 2);
+        tempFileSweeper.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 TEMP 객체만 한 번에 한 페이지씩 지우고, 지운 수와 크기를 센다.")
+    public void sweep_expiredTempObjects_DeletePagePerRun() throws IOException {
+        // given
+        store("TEMP/a", 3, Duration.ofDays(2));
+        store("TEMP/b", 5, Duration.ZERO);
+        store("TEMP/c", 7, Duration.ofDays(2));
+        store("CONTENT/d", 11, Duration.ofDays(2));
+
+        // when
+        tempFileSweeper.sweep();
+
+        // then
+        assertThat(localFileStorage.exists("TEMP/a")).isFalse();
+        assertThat(localFileStorage.exists("TEMP/c")).isTrue();
+
+        // when
+        tempFileSweeper.sweep();
+
+        // then
+        assertThat(localFileStorage.exists("TEMP/b")).isTrue();
+        assertThat(localFileStorage.exists("TEMP/c")).isFalse();
+        assertThat(localFileStorage.exists("CONTENT/d")).isTrue();
+
+        assertThat(registry.get("file.temp.reclaimed.objects").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("file.temp.reclaimed.bytes").functionCounter().count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("끝까지 본 뒤에는 다음 바퀴까지 목록을 다시 보지 않는다.")
+    public void sweep_afterPass_WaitNextPass() throws IOException {
+        // given
+        tempFileSweeper.sweep();
+
+        store("TEMP/a", 3, Duration.ofDays(2));
+
+        // when
+        tempFileSweeper.sweep();
+
+        // then
+        assertThat(localFileStorage.exists("TEMP/a")).isTrue();
+    }
+
+    private void store(String path, int size, Duration age) throws IOException {
+        localFileStorage.put(path, new ByteArrayInputStream(new byte[size]), new ObjectMetadata());
+
+        Files.setLastModifiedTime(root.resolve("objects").resolve(path), FileTime.from(Instant.now().minus(age)));
+    }
+}
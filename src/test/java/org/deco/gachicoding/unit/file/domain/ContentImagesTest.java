@@ -0,0 +1,60 @@
+package org.deco.gachicoding.unit.file.domain;
+
+import org.deco.gachicoding.file.domain.ContentImages;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContentImagesTest {
+
+    private static final String s3Url = "https://gachicoding.s3/";
+
+    @Test
+    @DisplayName("img 태그의 src 만 읽고, S3 주소는 경로만 남긴다.")
+    public void scan_imgSrcOnly_Success() {
+        // given
+        String content = "<p>본문 <a href=\"" + s3Url + "TEMP/link\">링크</a></p>"
+                + "<IMG alt='a > b' SRC='" + s3Url + "TEMP/upper'>"
+                + "<img src=" + s3Url + "CONTENT/unquoted/>"
+                + "< img class=\"x\" src = \"https://other.com/external.png\">"
+                + "<imgx src=\"" + s3Url + "TEMP/notImg\">";
+
+        // when
+        ContentImages images = ContentImages.scan(content, s3Url);
+
+        // then
+        assertThat(images.getPaths())
+                .containsExactly("TEMP/upper", "CONTENT/unquoted/", "https://other.com/external.png");
+    }
+
+    @Test
+    @DisplayName("같은 이미지가 여러 번 나오면 모두 바꾸고, 나머지 본문은 그대로 둔다.")
+    public void replacePaths_repeatedImage_ReplaceAll() {
+        // given
+        String content = "<p>TEMP/a</p><img src=\"" + s3Url + "TEMP/a\"><img src=\"" + s3Url + "CONTENT/b\"><img src=\"" + s3Url + "TEMP/a\">";
+
+        // when
+        String replaced = ContentImages.scan(content, s3Url)
+                .replacePaths(Map.of("TEMP/a", "CONTENT/aaaa"));
+
+        // then
+        assertThat(replaced).isEqualTo("<p>TEMP/a</p><img src=\"" + s3Url + "CONTENT/aaaa\"><img src=\"" + s3Url + "CONTENT/b\"><img src=\"" + s3Url + "CONTENT/aaaa\">");
+    }
+
+    @Test
+    @DisplayName("바꿀 경로가 없으면 본문을 그대로 돌려준다.")
+    public void replacePaths_noMatch_SameContent() {
+        // given
+        String content = "<img src=\"" + s3Url + "CONTENT/b\">";
+
+        // when
+        String replaced = ContentImages.scan(content, s3Url)
+                .replacePaths(Map.of("TEMP/a", "CONTENT/a"));
+
+        // then
+        assertThat(replaced).isSameAs(content);
+    }
+}
@@ -0,0 +1,75 @@
+package org.deco.gachicoding.unit.file.domain;
+
+import org.deco.gachicoding.file.domain.FileContent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileContentTest {
+
+    private static final LocalDateTime now = LocalDateTime.of(2022, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("마지막 참조를 놓으면 그 시각을 남긴다.")
+    public void release_lastReference_Unreferenced() {
+        // given
+        FileContent content = content();
+
+        content.retain();
+        content.retain();
+
+        // when
+        content.release(now);
+
+        // then
+        assertThat(content.isUnreferenced()).isFalse();
+        assertThat(content.getReleasedAt()).isNull();
+
+        // when
+        content.release(now);
+
+        // then
+        assertThat(content.isUnreferenced()).isTrue();
+        assertThat(content.getReleasedAt()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("유예 기간 중에 다시 쓰이면 정리 대상에서 빠진다.")
+    public void retain_afterRelease_Referenced() {
+        // given
+        FileContent content = content();
+
+        content.retain();
+        content.release(now);
+
+        // when
+        content.retain();
+
+        // then
+        assertThat(content.getReferenceCount()).isEqualTo(1);
+        assertThat(content.getReleasedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("참조 수는 0 아래로 내려가지 않는다.")
+    public void release_noReference_StayZero() {
+        // given
+        FileContent content = content();
+
+        // when
+        content.release(now);
+
+        // then
+        assertThat(content.getReferenceCount()).isZero();
+    }
+
+    private FileContent content() {
+        return FileContent.builder()
+                .contentHash("hash")
+                .filePath("CONTENT/hash")
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package org.deco.gachicoding.unit.file.domain;
+
+import org.deco.gachicoding.file.domain.FileJob;
+import org.deco.gachicoding.file.domain.FileJobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileJobTest {
+
+    private static final LocalDateTime now = LocalDateTime.of(2022, 3, 1, 12, 0);
+
+    private static final Duration backoff = Duration.ofSeconds(10);
+
+    @Test
+    @DisplayName("임대 중인 작업은 임대가 끝나기 전까지 다시 가져갈 수 없다.")
+    public void isClaimable_leased_Fail() {
+        // given
+        FileJob job = job();
+
+        // when
+        job.start(now.plusSeconds(60));
+
+        // then
+        assertThat(job.isClaimable(now.plusSeconds(30))).isFalse();
+        assertThat(job.isClaimable(now.plusSeconds(60))).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패하면 시도 횟수에 따라 두 배씩 늦춰 다시 시도한다.")
+    public void fail_exponentialBackoff_Success() {
+        // given
+        FileJob job = job();
+
+        // when
+        job.start(now.plusSeconds(60));
+        job.fail("first", 5, backoff, now);
+
+        LocalDateTime firstRetry = job.getNextAttemptAt();
+
+        job.start(now.plusSeconds(60));
+        job.fail("second", 5, backoff, now);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(FileJobStatus.PENDING);
+        assertThat(firstRetry).isEqualTo(now.plusSeconds(10));
+        assertThat(job.getNextAttemptAt()).isEqualTo(now.plusSeconds(20));
+        assertThat(job.getLastError()).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 FAILED 로 멈춘다.")
+    public void fail_maxAttempts_Failed() {
+        // given
+        FileJob job = job();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            job.start(now);
+            job.fail("error", 3, backoff, now);
+        }
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(FileJobStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(3);
+        assertThat(job.isClaimable(now.plusDays(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("멈춘 작업을 다시 돌리면 시도 횟수를 처음부터 센다.")
+    public void redrive_failed_Pending() {
+        // given
+        FileJob job = job();
+
+        job.start(now);
+        job.fail("error", 1, backoff, now);
+
+        // when
+        job.redrive(now.plusHours(6));
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(FileJobStatus.PENDING);
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.isClaimable(now.plusHours(6))).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 워커가 다시 가져간 작업에는 이전 시도의 결과를 반영하지 않는다.")
+    public void isRunningAttempt_reclaimed_Fail() {
+        // given
+        FileJob job = job();
+
+        job.start(now);
+
+        // when
+        job.start(now.plusSeconds(60));
+
+        // then
+        assertThat(job.isRunningAttempt(1)).isFalse();
+        assertThat(job.isRunningAttempt(2)).isTrue();
+    }
+
+    private FileJob job() {
+        return FileJob.builder()
+                .jobIdx(1L)
+                .articleIdx(1L)
+                .articleCategory("BOARD")
+                .nextAttemptAt(now)
+                .build();
+    }
+}
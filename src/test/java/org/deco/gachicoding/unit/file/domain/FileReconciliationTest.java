@@ -0,0 +1,58 @@
+package org.deco.gachicoding.unit.file.domain;
+
+import org.deco.gachicoding.common.factory.file.FileFactory;
+import org.deco.gachicoding.file.domain.File;
+import org.deco.gachicoding.file.domain.FileReconciliation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileReconciliationTest {
+
+    private final File kept = FileFactory.storedFile(1L, 1L, "BOARD", "kept");
+    private final File removed = FileFactory.storedFile(2L, 1L, "BOARD", "removed");
+
+    @Test
+    @DisplayName("본문에만 있는 경로는 추가, DB 에만 있는 파일은 삭제, 둘 다 있으면 유지로 나눈다.")
+    public void of_addedRemovedKept_Success() {
+        // when
+        FileReconciliation reconciliation = FileReconciliation.of(
+                List.of("CONTENT/kept", "TEMP/added"),
+                List.of(kept, removed)
+        );
+
+        // then
+        assertThat(reconciliation.getAddedPaths()).containsExactly("TEMP/added");
+        assertThat(reconciliation.getKeptFiles()).containsExactly(kept);
+        assertThat(reconciliation.getRemovedFiles()).containsExactly(removed);
+    }
+
+    @Test
+    @DisplayName("본문에 같은 이미지가 여러 번 있어도 한 번만 추가하거나 유지한다.")
+    public void of_duplicatedPaths_CountOnce() {
+        // when
+        FileReconciliation reconciliation = FileReconciliation.of(
+                List.of("CONTENT/kept", "TEMP/added", "CONTENT/kept", "TEMP/added"),
+                List.of(kept)
+        );
+
+        // then
+        assertThat(reconciliation.getAddedPaths()).containsExactly("TEMP/added");
+        assertThat(reconciliation.getKeptFiles()).containsExactly(kept);
+        assertThat(reconciliation.getRemovedFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("본문에서 이미지를 모두 빼면 DB 의 파일을 모두 지운다.")
+    public void of_emptyArticle_RemoveAll() {
+        // when
+        FileReconciliation reconciliation = FileReconciliation.of(List.of(), List.of(kept, removed));
+
+        // then
+        assertThat(reconciliation.getAddedPaths()).isEmpty();
+        assertThat(reconciliation.getRemovedFiles()).containsExactly(kept, removed);
+    }
+}
@@ -0,0 +1,153 @@
+package org.deco.gachicoding.unit.file.infrastructure;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.deco.gachicoding.exception.file.FileNotFoundException;
+import org.deco.gachicoding.exception.file.FileSizeExceededException;
+import org.deco.gachicoding.exception.file.PresignedUploadUnsupportedException;
+import org.deco.gachicoding.file.infrastructure.LocalFileStorage;
+import org.deco.gachicoding.file.infrastructure.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LocalFileStorageTest {
+
+    private static final String url = "http://localhost:8080/api/file/storage/";
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorage localFileStorage;
+
+    @BeforeEach
+    void setUp() {
+        localFileStorage = new LocalFileStorage(root.toString(), url, 1);
+    }
+
+    @Test
+    @DisplayName("저장한 내용과 메타데이터를 그대로 읽는다.")
+    public void put_readBack_Success() throws IOException {
+        // given
+        byte[] content = {1, 2, 3};
+
+        // when
+        localFileStorage.put("TEMP/image", new ByteArrayInputStream(content), metadata("image/png", "image"));
+
+        // then
+        ObjectMetadata objectMetadata = localFileStorage.getMetadata("TEMP/image");
+
+        assertThat(objectMetadata.getContentType()).isEqualTo("image/png");
+        assertThat(objectMetadata.getContentLength()).isEqualTo(3);
+        assertThat(objectMetadata.getUserMetadata()).containsEntry("SaveFileName", "image");
+
+        try (InputStream inputStream = localFileStorage.read("TEMP/image")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(localFileStorage.getUrl("TEMP/image")).isEqualTo(url + "TEMP/image");
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 스트리밍 업로드는 예외가 발생하고 아무것도 남기지 않는다.")
+    public void putStream_exceedMaxSize_Exception() throws IOException {
+        // given
+        byte[] content = new byte[1024 * 1024 + 1];
+
+        // when, then
+        assertThatThrownBy(() -> localFileStorage.putStream("TEMP/large", new ByteArrayInputStream(content), metadata("image/png", "large")))
+                .isInstanceOf(FileSizeExceededException.class);
+
+        assertThat(localFileStorage.exists("TEMP/large")).isFalse();
+        assertThat(Files.list(root.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("복사한 객체는 새 메타데이터를 갖고, 원본을 지워도 내용이 남는다.")
+    public void copy_newMetadata_Success() throws IOException {
+        // given
+        localFileStorage.put("TEMP/upload", new ByteArrayInputStream(new byte[]{7}), metadata("image/png", "upload"));
+
+        // when
+        localFileStorage.copy("TEMP/upload", "TEMP/hash", metadata("image/png", "hash"));
+        localFileStorage.delete(List.of("TEMP/upload"));
+
+        // then
+        assertThat(localFileStorage.exists("TEMP/upload")).isFalse();
+        assertThat(localFileStorage.getMetadata("TEMP/hash").getUserMetadata()).containsEntry("SaveFileName", "hash");
+
+        try (InputStream inputStream = localFileStorage.read("TEMP/hash")) {
+            assertThat(inputStream.readAllBytes()).containsExactly(7);
+        }
+    }
+
+    @Test
+    @DisplayName("없는 키를 지워도 실패로 보지 않는다.")
+    public void delete_notExist_NoFailure() {
+        // when, then
+        assertThat(localFileStorage.delete(List.of("TEMP/none"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장소 밖을 가리키는 키는 찾을 수 없다.")
+    public void getFile_outsideRoot_Exception() {
+        // when, then
+        assertThatThrownBy(() -> localFileStorage.getFile("../metadata/TEMP/image.properties"))
+                .isInstanceOf(FileNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("범위를 주면 그 범위만 읽고, 직접 업로드 주소는 만들지 않는다.")
+    public void read_range_Success() throws IOException {
+        // given
+        localFileStorage.put("TEMP/image", new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), metadata("image/png", "image"));
+
+        // when, then
+        try (InputStream inputStream = localFileStorage.read("TEMP/image", 1, 3)) {
+            assertThat(inputStream.readAllBytes()).containsExactly(2, 3, 4);
+        }
+
+        assertThatThrownBy(() -> localFileStorage.presignPut("TEMP/image", new ObjectMetadata(), "hash", Duration.ofMinutes(5)))
+                .isInstanceOf(PresignedUploadUnsupportedException.class);
+    }
+
+    @Test
+    @DisplayName("S3Service 의 스트리밍 업로드부터 해시 경로 이름 바꾸기, 승격까지 S3 없이 돈다.")
+    public void s3Service_uploadStreamAndPromote_Success() {
+        // given
+        S3Service s3Service = new S3Service(localFileStorage);
+
+        // when
+        String contentHash = s3Service.uploadStream(new ByteArrayInputStream(new byte[]{1, 2}), "upload", "이미지.png", "image/png");
+        String tempPath = s3Service.renameTemp("upload", contentHash);
+        s3Service.copyS3(tempPath, S3Service.contentPath(contentHash));
+        s3Service.deleteObjects(List.of("TEMP/upload", tempPath));
+
+        // then
+        assertThat(localFileStorage.exists(S3Service.contentPath(contentHash))).isTrue();
+        assertThat(localFileStorage.exists(tempPath)).isFalse();
+        assertThat(s3Service.getObjectMetadata(S3Service.contentPath(contentHash)).getUserMetadata())
+                .containsEntry("SaveFileName", contentHash);
+        assertThat(s3Service.getS3Url(S3Service.contentPath(contentHash)))
+                .isEqualTo(url + "CONTENT/" + contentHash);
+    }
+
+    private ObjectMetadata metadata(String contentType, String saveFileName) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+
+        objectMetadata.setContentType(contentType);
+        objectMetadata.addUserMetadata("SaveFileName", saveFileName);
+
+        return objectMetadata;
+    }
+}
@@ -0,0 +1,259 @@
+package org.deco.gachicoding.unit.file.infrastructure;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.deco.gachicoding.exception.file.FileSizeExceededException;
+import org.deco.gachicoding.file.infrastructure.S3MultipartUploader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class S3MultipartUploaderTest {
+
+    private static final int MB = 1024 * 1024;
+
+    // S3 가 받는 최소 파트 크기
+    private static final int PART_SIZE_MB = 5;
+
+    private static final int CONCURRENCY = 2;
+
+    private static final String bucket = "gachicoding";
+    private static final String key = "TEMP/large";
+    private static final String uploadId = "upload-1";
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    private final ExecutorService s3Pool = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        s3Pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("한 파트보다 작은 파일은 멀티파트 없이 PutObject 한 번으로 올린다.")
+    void upload_smallFile_PutObject() {
+        // when
+        uploader(500).upload(bucket, key, new ObjectMetadata(), new ZeroInputStream(MB));
+
+        // then
+        verify(amazonS3, times(1))
+                .putObject(eq(bucket), eq(key), any(InputStream.class), any(ObjectMetadata.class));
+        verify(amazonS3, never())
+                .initiateMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("작은 파일은 버퍼를 늘려 가며 읽어도 내용과 크기를 그대로 올린다.")
+    void upload_smallFile_GrowingBuffer() {
+        // given
+        byte[] content = pattern(300 * 1024 + 7);
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        AtomicReference<byte[]> uploaded = new AtomicReference<>();
+
+        given(amazonS3.putObject(eq(bucket), eq(key), any(InputStream.class), any(ObjectMetadata.class)))
+                .willAnswer(invocation -> {
+                    uploaded.set(invocation.getArgument(2, InputStream.class).readAllBytes());
+                    return new PutObjectResult();
+                });
+
+        // when
+        uploader(500).upload(bucket, key, objectMetadata, new ByteArrayInputStream(content));
+
+        // then
+        assertThat(uploaded.get()).isEqualTo(content);
+        assertThat(objectMetadata.getContentLength()).isEqualTo(content.length);
+    }
+
+    @Test
+    @DisplayName("한 파트를 넘는 파일은 늘려 읽은 첫 버퍼를 그대로 첫 파트로 올린다.")
+    void upload_largeFile_FirstPartFromGrowingBuffer() {
+        // given
+        byte[] content = pattern(PART_SIZE_MB * MB + 1024);
+        Map<Integer, byte[]> parts = new ConcurrentHashMap<>();
+
+        givenMultipartUpload();
+        given(amazonS3.uploadPart(any(UploadPartRequest.class)))
+                .willAnswer(invocation -> {
+                    UploadPartRequest request = invocation.getArgument(0, UploadPartRequest.class);
+                    parts.put(request.getPartNumber(), request.getInputStream().readAllBytes());
+
+                    return partResult(request);
+                });
+
+        // when
+        uploader(500).upload(bucket, key, new ObjectMetadata(), new ByteArrayInputStream(content));
+
+        // then
+        assertThat(parts).containsOnlyKeys(1, 2);
+        assertThat(parts.get(1)).isEqualTo(Arrays.copyOfRange(content, 0, PART_SIZE_MB * MB));
+        assertThat(parts.get(2)).isEqualTo(Arrays.copyOfRange(content, PART_SIZE_MB * MB, content.length));
+    }
+
+    @Test
+    @DisplayName("큰 파일은 파트로 나눠 동시에 올리고, 동시에 메모리에 있는 파트는 concurrency 개를 넘지 않는다.")
+    void upload_largeFile_BoundedParallelParts() {
+        // given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        givenMultipartUpload();
+        given(amazonS3.uploadPart(any(UploadPartRequest.class)))
+                .willAnswer(invocation -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    inFlight.decrementAndGet();
+
+                    return partResult(invocation.getArgument(0, UploadPartRequest.class));
+                });
+
+        // 5MB 파트 4개 + 마지막 2MB
+        long size = 22L * MB;
+
+        // when
+        uploader(500).upload(bucket, key, new ObjectMetadata(), new ZeroInputStream(size));
+
+        // then
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+
+        verify(amazonS3, times(5))
+                .uploadPart(any(UploadPartRequest.class));
+        verify(amazonS3, times(1))
+                .completeMultipartUpload(captor.capture());
+
+        assertThat(captor.getValue().getPartETags().stream()
+                .map(PartETag::getPartNumber)
+                .collect(Collectors.toList()))
+                .containsExactly(1, 2, 3, 4, 5);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(CONCURRENCY);
+    }
+
+    @Test
+    @DisplayName("파트 하나라도 실패하면 업로드를 취소한다.")
+    void upload_partFailure_Abort() {
+        // given
+        givenMultipartUpload();
+        given(amazonS3.uploadPart(any(UploadPartRequest.class)))
+                .willAnswer(invocation -> {
+                    UploadPartRequest request = invocation.getArgument(0, UploadPartRequest.class);
+
+                    if (request.getPartNumber() == 2)
+                        throw new AmazonS3Exception("part failed");
+
+                    return partResult(request);
+                });
+
+        // when, then
+        assertThatThrownBy(() -> uploader(500).upload(bucket, key, new ObjectMetadata(), new ZeroInputStream(12L * MB)))
+                .isInstanceOf(AmazonS3Exception.class);
+
+        verify(amazonS3, times(1))
+                .abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(amazonS3, never())
+                .completeMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 더 읽지 않고 업로드를 취소한다.")
+    void upload_exceedMaxSize_Abort() {
+        // given
+        givenMultipartUpload();
+        given(amazonS3.uploadPart(any(UploadPartRequest.class)))
+                .willAnswer(invocation -> partResult(invocation.getArgument(0, UploadPartRequest.class)));
+
+        // when, then
+        assertThatThrownBy(() -> uploader(10).upload(bucket, key, new ObjectMetadata(), new ZeroInputStream(100L * MB)))
+                .isInstanceOf(FileSizeExceededException.class);
+
+        verify(amazonS3, times(2))
+                .uploadPart(any(UploadPartRequest.class));
+        verify(amazonS3, times(1))
+                .abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    private S3MultipartUploader uploader(long maxSizeMb) {
+        return new S3MultipartUploader(amazonS3, s3Pool, PART_SIZE_MB, CONCURRENCY, maxSizeMb);
+    }
+
+    private void givenMultipartUpload() {
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setUploadId(uploadId);
+
+        given(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class)))
+                .willReturn(result);
+    }
+
+    // 위치마다 다른 값이라 버퍼를 잘못 이어 붙이면 내용이 달라진다.
+    private static byte[] pattern(int size) {
+        byte[] content = new byte[size];
+
+        for (int i = 0; i < size; i++)
+            content[i] = (byte) (i * 31 + i / 251);
+
+        return content;
+    }
+
+    private UploadPartResult partResult(UploadPartRequest request) {
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag("etag-" + request.getPartNumber());
+
+        return result;
+    }
+
+    // 크기만 있는 본문. 파일 전체를 메모리에 만들지 않는다.
+    private static class ZeroInputStream extends InputStream {
+
+        private long remaining;
+
+        ZeroInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0)
+                return -1;
+
+            remaining--;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining <= 0)
+                return -1;
+
+            int read = (int) Math.min(length, remaining);
+            remaining -= read;
+
+            return read;
+        }
+    }
+}
@@ -1,93 +1,108 @@
 package org.deco.gachicoding.unit.file.infrastructure;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectResult;
+import org.apache.commons.codec.binary.Hex;
 import org.deco.gachicoding.common.factory.file.FileFactory;
 import org.deco.gachicoding.exception.file.UploadFailureException;
-import org.deco.gachicoding.file.application.dto.response.FileResponseDto;
+import org.deco.gachicoding.file.infrastructure.FileNameSupport;
+import org.deco.gachicoding.file.infrastructure.PresignedUpload;
+import org.deco.gachicoding.file.infrastructure.S3FileStorage;
+import org.deco.gachicoding.file.infrastructure.S3MultipartUploader;
 import org.deco.gachicoding.file.infrastructure.S3Service;
-import org.deco.gachicoding.file.presentation.dto.request.FileSaveRequest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class S3ServiceTest {
 
-    @InjectMocks
     private S3Service s3Service;
 
     @Mock
     private AmazonS3 amazonS3;
 
-    @Value("${cloud.aws.s3.url}")
-    private String filePath = "https://amazonaws.s3bucket/";
+    @Mock
+    private S3MultipartUploader multipartUploader;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = new S3Service(new S3FileStorage(amazonS3, multipartUploader));
+    }
 
     @Test
-    @DisplayName("파일 업로드 후 파일 이름과 URL을 반환한다.")
-    void s3_store_success() throws IOException {
+    @DisplayName("길이를 아는 파일은 파트로 나누지 않고 PutObject 한 번으로 올리면서 해시를 구한다.")
+    void s3_uploadStream_knownLength_SinglePut() throws IOException {
 
         // given
-        List<MultipartFile> files = List.of(
-                FileFactory.getTestSuccessImage1()
-        );
-
-        given(amazonS3.putObject(any(), any(), any(), any()))
-                .willReturn(new PutObjectResult());
-
-        given(amazonS3.getUrl(any(), any()))
-                .willReturn(new URL(filePath));
+        MultipartFile file = FileFactory.getTestSuccessImage1();
 
-        List<FileResponseDto> responseDtos = List.of(
-                FileFactory.getTestSuccessImage1Dto(filePath)
-        );
+        given(amazonS3.putObject(any(), eq("TEMP/upload"), any(), any()))
+                .willAnswer(invocation -> {
+                    invocation.getArgument(2, InputStream.class).readAllBytes();
+                    return new PutObjectResult();
+                });
 
         // when
-        List<FileResponseDto> fileResponseDtos = s3Service.uploadStorage(new FileSaveRequest(files));
+        String contentHash = s3Service.uploadStream(file.getInputStream(), "upload", file.getOriginalFilename(), file.getContentType(), file.getSize());
 
         // then
-        assertThat(fileResponseDtos)
-                .usingRecursiveComparison()
-                .isEqualTo(responseDtos);
-
-        verify(amazonS3, times(1))
-                .putObject(any(), any(), any(), any());
+        assertThat(contentHash).isEqualTo(FileNameSupport.sha256(file));
 
         verify(amazonS3, times(1))
-                .getUrl(any(), any());
+                .putObject(any(), eq("TEMP/upload"), any(), argThat((ObjectMetadata metadata) -> metadata.getContentLength() == file.getSize()));
+        verify(multipartUploader, never())
+                .upload(any(), any(), any(), any());
     }
 
     @Test
-    @DisplayName("복수의 이미지 파일을 업로드 할 때 한 장이라도 실패하면 예외가 발생한다.")
+    @DisplayName("S3 에 올리지 못하면 예외가 발생한다.")
     void s3_store_failure() {
 
         // given
-        List<MultipartFile> files = List.of(
-                FileFactory.getTestSuccessImage1(),
-                FileFactory.getTestSuccessImage2()
-        );
+        MultipartFile file = FileFactory.getTestSuccessImage1();
 
         given(amazonS3.putObject(any(), any(), any(), any()))
                 .willThrow(RuntimeException.class);
 
         // when, then
-        assertThatCode(() -> s3Service.uploadStorage(new FileSaveRequest(files)))
+        assertThatCode(() -> s3Service.uploadStream(file.getInputStream(), "upload", file.getOriginalFilename(), file.getContentType(), file.getSize()))
                 .isInstanceOf(UploadFailureException.class)
                 .extracting("message")
                 .isEqualTo("업로드 실패");
@@ -95,4 +110,122 @@ public class S3ServiceTest {
         verify(amazonS3, times(1))
                 .putObject(any(), any(), any(), any());
     }
+
+    @Test
+    @DisplayName("1000개가 넘는 키는 DeleteObjects 한 번에 1000개씩 나눠 지운다.")
+    void s3_deleteObjects_chunked() {
+
+        // given
+        List<String> keys = IntStream.range(0, 2500)
+                .mapToObj(i -> "TEMP/image" + i)
+                .collect(Collectors.toList());
+
+        // when
+        Map<String, String> failures = s3Service.deleteObjects(keys);
+
+        // then
+        assertThat(failures).isEmpty();
+
+        verify(amazonS3, times(3))
+                .deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    @DisplayName("일부 키만 지우지 못하면 그 키와 사유를 돌려준다.")
+    void s3_deleteObjects_partialFailure() {
+
+        // given
+        DeleteError error = new DeleteError();
+        error.setKey("TEMP/image1");
+        error.setCode("AccessDenied");
+        error.setMessage("Access Denied");
+
+        given(amazonS3.deleteObjects(any(DeleteObjectsRequest.class)))
+                .willThrow(new MultiObjectDeleteException(List.of(error), List.of()));
+
+        // when
+        Map<String, String> failures = s3Service.deleteObjects(List.of("TEMP/image0", "TEMP/image1", "TEMP/image2"));
+
+        // then
+        assertThat(failures)
+                .containsOnlyKeys("TEMP/image1");
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드는 본문을 TEMP 경로로 넘기면서 내용의 SHA-256 을 구한다.")
+    void s3_uploadStream_success() throws Exception {
+
+        // given
+        byte[] content = {1, 2, 3};
+
+        willAnswer(invocation -> invocation.getArgument(3, InputStream.class).readAllBytes())
+                .given(multipartUploader)
+                .upload(any(), any(), any(), any());
+
+        // when
+        String contentHash = s3Service.uploadStream(new ByteArrayInputStream(content), "upload", "스크린샷.png", "image/png");
+
+        // then
+        assertThat(contentHash)
+                .isEqualTo(Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(content)));
+
+        verify(multipartUploader, times(1))
+                .upload(any(), eq("TEMP/upload"), argThat((ObjectMetadata metadata) ->
+                        "image/png".equals(metadata.getContentType())
+                                && "upload".equals(metadata.getUserMetadata().get("SaveFileName"))), any());
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드는 TEMP/{해시} 로 복사하면서 저장 파일 이름을 해시로 바꾼다.")
+    void s3_renameTemp_success() {
+
+        // given
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.addUserMetadata("SaveFileName", "upload");
+
+        given(amazonS3.getObjectMetadata(any(GetObjectMetadataRequest.class)))
+                .willReturn(objectMetadata);
+
+        // when
+        String path = s3Service.renameTemp("upload", "hash");
+
+        // then
+        assertThat(path).isEqualTo("TEMP/hash");
+
+        verify(amazonS3, times(1))
+                .copyObject(argThat((CopyObjectRequest request) ->
+                        "TEMP/upload".equals(request.getSourceKey())
+                                && "TEMP/hash".equals(request.getDestinationKey())
+                                && "hash".equals(request.getNewObjectMetadata().getUserMetadata().get("SaveFileName"))));
+    }
+
+    @Test
+    @DisplayName("직접 업로드 주소는 TEMP/{해시} 에 대한 PUT 이고, 메타데이터와 체크섬, 크기 헤더가 서명에 들어간다.")
+    void s3_presignTempUpload_SignedHeaders() throws MalformedURLException {
+
+        // given
+        String contentHash = Hex.encodeHexString(new byte[32]);
+
+        given(amazonS3.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .willReturn(new URL("https://gachicoding.s3/TEMP/" + contentHash + "?X-Amz-Signature=sig"));
+
+        // when
+        PresignedUpload upload = s3Service.presignTempUpload(contentHash, "image.png", "image/png", 1024, Duration.ofMinutes(5));
+
+        // then
+        assertThat(upload.getUrl()).startsWith("https://gachicoding.s3/TEMP/" + contentHash);
+        assertThat(upload.getHeaders())
+                .containsEntry("Content-Type", "image/png")
+                .containsEntry("Content-Length", "1024")
+                .containsEntry("x-amz-meta-savefilename", contentHash)
+                .containsEntry("x-amz-checksum-sha256", Base64.getEncoder().encodeToString(new byte[32]));
+
+        verify(amazonS3, times(1))
+                .generatePresignedUrl(argThat((GeneratePresignedUrlRequest request) ->
+                        HttpMethod.PUT == request.getMethod()
+                                && ("TEMP/" + contentHash).equals(request.getKey())
+                                && "image/png".equals(request.getContentType())
+                                && request.getCustomRequestHeaders().containsKey("x-amz-checksum-sha256")
+                                && "1024".equals(request.getCustomRequestHeaders().get("Content-Length"))));
+    }
 }
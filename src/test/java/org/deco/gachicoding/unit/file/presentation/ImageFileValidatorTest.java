@@ -0,0 +1,60 @@
+package org.deco.gachicoding.unit.file.presentation;
+
+import org.deco.gachicoding.common.factory.file.FileFactory;
+import org.deco.gachicoding.exception.file.FileExtensionException;
+import org.deco.gachicoding.file.presentation.dto.request.ImageFileValidator;
+import org.deco.gachicoding.file.presentation.dto.request.ValidatedFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ImageFileValidatorTest {
+
+    private final ImageFileValidator imageFileValidator = new ImageFileValidator();
+
+    @Test
+    @DisplayName("검사를 통과한 스트림은 검사에 읽은 앞부분부터 파일 전체를 다시 읽고, 형식은 내용에서 읽는다.")
+    public void execute_image_ReplayPrefix() throws IOException {
+        // given
+        MockMultipartFile file = FileFactory.getTestSuccessImage1();
+
+        // when
+        ValidatedFile validatedFile = imageFileValidator.execute(file.getInputStream());
+
+        // then
+        assertThat(validatedFile.getInputStream().readAllBytes()).isEqualTo(file.getBytes());
+        assertThat(validatedFile.getContentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 예외가 발생한다.")
+    public void execute_notImage_Exception() {
+        // given
+        InputStream inputStream = new ByteArrayInputStream("<html></html>".getBytes(StandardCharsets.UTF_8));
+
+        // when, then
+        assertThatThrownBy(() -> imageFileValidator.execute(inputStream))
+                .isInstanceOf(FileExtensionException.class);
+    }
+
+    @Test
+    @DisplayName("스크립트를 담을 수 있는 SVG 는 이미지여도 받지 않는다.")
+    public void execute_svg_Exception() {
+        // given
+        InputStream inputStream = new ByteArrayInputStream(
+                "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // when, then
+        assertThatThrownBy(() -> imageFileValidator.execute(inputStream))
+                .isInstanceOf(FileExtensionException.class);
+    }
+}
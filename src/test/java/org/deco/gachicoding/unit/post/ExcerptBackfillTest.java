@@ -0,0 +1,91 @@
+package org.deco.gachicoding.unit.post;
+
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.ExcerptBackfill;
+import org.deco.gachicoding.post.ExcerptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ExcerptBackfillTest {
+
+    @Mock
+    private ExcerptRepository excerptRepository;
+
+    private ExcerptBackfill excerptBackfill;
+
+    @BeforeEach
+    void setUp() {
+        excerptBackfill = new ExcerptBackfill(excerptRepository);
+    }
+
+    @Test
+    @DisplayName("미리보기가 없는 게시물은 본문의 태그를 걷어낸 미리보기로 채우고, 마지막 번호 다음부터 이어 읽는다.")
+    public void backfill_withoutExcerpt_Fill() {
+        // given
+        Map<Long, String> firstPage = new LinkedHashMap<>();
+        for (long idx = 1; idx <= 500; idx++)
+            firstPage.put(idx, "<p>본문 " + idx + "</p>");
+
+        given(excerptRepository.findWithoutExcerpt(any(ArticleCategory.class), anyLong(), anyInt()))
+                .willReturn(Map.of());
+        given(excerptRepository.findWithoutExcerpt(ArticleCategory.BOARD, 0L, 500))
+                .willReturn(firstPage);
+        given(excerptRepository.findWithoutExcerpt(ArticleCategory.BOARD, 500L, 500))
+                .willReturn(Map.of(501L, "<p>마지막 <b>본문</b></p>"));
+
+        // when
+        excerptBackfill.backfill();
+
+        // then
+        verify(excerptRepository, times(1))
+                .saveExcerpts(eq(ArticleCategory.BOARD), eq(excerpts(firstPage)));
+        verify(excerptRepository, times(1))
+                .saveExcerpts(ArticleCategory.BOARD, Map.of(501L, "마지막 본문"));
+        verify(excerptRepository, never())
+                .saveExcerpts(eq(ArticleCategory.NOTICE), anyMap());
+    }
+
+    @Test
+    @DisplayName("한 종류를 채우다 실패해도 나머지 종류는 채운다.")
+    public void backfill_failure_ContinueOtherCategories() {
+        // given
+        given(excerptRepository.findWithoutExcerpt(any(ArticleCategory.class), anyLong(), anyInt()))
+                .willReturn(Map.of());
+        given(excerptRepository.findWithoutExcerpt(ArticleCategory.BOARD, 0L, 500))
+                .willThrow(new QueryTimeoutException("timeout"));
+        given(excerptRepository.findWithoutExcerpt(ArticleCategory.ANSWER, 0L, 500))
+                .willReturn(Map.of(1L, "<p>답변</p>"));
+
+        // when
+        excerptBackfill.backfill();
+
+        // then
+        verify(excerptRepository, times(1))
+                .saveExcerpts(ArticleCategory.ANSWER, Map.of(1L, "답변"));
+    }
+
+    private Map<Long, String> excerpts(Map<Long, String> contents) {
+        Map<Long, String> excerpts = new LinkedHashMap<>();
+        contents.forEach((idx, html) -> excerpts.put(idx, "본문 " + idx));
+        return excerpts;
+    }
+}
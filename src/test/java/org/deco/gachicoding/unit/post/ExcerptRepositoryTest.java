@@ -0,0 +1,81 @@
+package org.deco.gachicoding.unit.post;
+
+import org.deco.gachicoding.common.factory.user.UserFactory;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.ExcerptRepository;
+import org.deco.gachicoding.post.board.domain.Board;
+import org.deco.gachicoding.post.board.domain.repository.BoardRepository;
+import org.deco.gachicoding.user.domain.User;
+import org.deco.gachicoding.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ExcerptRepository.class)
+public class ExcerptRepositoryTest {
+
+    @Autowired
+    ExcerptRepository excerptRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("미리보기가 없는 게시물만 번호 순서로 읽고, 미리보기가 생긴 게시물은 덮어쓰지 않는다.")
+    public void saveExcerpts_onlyWithoutExcerpt_Success() {
+        // given
+        User author = userRepository.save(UserFactory.user());
+
+        Long legacyIdx = saveBoard(author, "<p>예전 글</p>");
+        Long modifiedIdx = saveBoard(author, "<p>수정된 글</p>");
+        saveBoard(author, "<p>새 글</p>");
+
+        // 미리보기 컬럼이 생기기 전에 저장된 게시물
+        jdbcTemplate.update("UPDATE board SET board_excerpt = NULL WHERE board_idx IN (?, ?)", legacyIdx, modifiedIdx);
+
+        // when
+        Map<Long, String> contents = excerptRepository.findWithoutExcerpt(ArticleCategory.BOARD, 0L, 10);
+
+        jdbcTemplate.update("UPDATE board SET board_excerpt = '수정된 글' WHERE board_idx = ?", modifiedIdx);
+        excerptRepository.saveExcerpts(ArticleCategory.BOARD, Map.of(legacyIdx, "예전 글", modifiedIdx, "덮어쓰면 안 됨"));
+
+        // then
+        assertThat(contents).containsOnlyKeys(legacyIdx, modifiedIdx);
+        assertThat(contents.get(legacyIdx)).isEqualTo("<p>예전 글</p>");
+        assertThat(excerptRepository.findWithoutExcerpt(ArticleCategory.BOARD, 0L, 10)).isEmpty();
+        assertThat(excerpt(modifiedIdx)).isEqualTo("수정된 글");
+        assertThat(excerpt(legacyIdx)).isEqualTo("예전 글");
+    }
+
+    private Long saveBoard(User author, String contents) {
+        return boardRepository.saveAndFlush(Board.builder()
+                .author(author)
+                .boardTitle("게시물 테스트 제목")
+                .boardContents(contents)
+                .boardCategory("자유")
+                .boardLocked(true)
+                .build()).getBoardIdx();
+    }
+
+    private String excerpt(Long boardIdx) {
+        return jdbcTemplate.queryForObject("SELECT board_excerpt FROM board WHERE board_idx = ?", String.class, boardIdx);
+    }
+}
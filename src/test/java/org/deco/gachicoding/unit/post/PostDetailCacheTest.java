@@ -0,0 +1,162 @@
+package org.deco.gachicoding.unit.post;
+
+import org.deco.gachicoding.exception.post.board.BoardNotFoundException;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostDetailCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PostDetailCacheTest {
+
+    private final PostDetailCache postDetailCache = new PostDetailCache(1024 * 1024, 60);
+
+    @Test
+    @DisplayName("같은 게시물을 다시 읽으면 DB를 거치지 않고 캐시에서 가져온다.")
+    public void get_readThrough_Success() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        String first = postDetailCache.get(ArticleCategory.BOARD, 1L, () -> "board-" + loads.incrementAndGet(), String::length);
+        String second = postDetailCache.get(ArticleCategory.BOARD, 1L, () -> "board-" + loads.incrementAndGet(), String::length);
+
+        // then
+        assertThat(first).isEqualTo("board-1");
+        assertThat(second).isEqualTo("board-1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(postDetailCache.stats().hitCount()).isEqualTo(1);
+        assertThat(postDetailCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시물 종류가 다르면 번호가 같아도 따로 캐시한다.")
+    public void get_keyedByCategory_Success() {
+        // when
+        postDetailCache.get(ArticleCategory.BOARD, 1L, () -> "board", String::length);
+        String notice = postDetailCache.get(ArticleCategory.NOTICE, 1L, () -> "notice", String::length);
+
+        // then
+        assertThat(notice).isEqualTo("notice");
+    }
+
+    @Test
+    @DisplayName("evict 한 게시물은 다음 조회에서 다시 읽는다.")
+    public void evict_reloadNextRead_Success() {
+        // given
+        postDetailCache.get(ArticleCategory.QUESTION, 1L, () -> "before", String::length);
+
+        // when
+        postDetailCache.evict(ArticleCategory.QUESTION, 1L);
+        String reloaded = postDetailCache.get(ArticleCategory.QUESTION, 1L, () -> "after", String::length);
+
+        // then
+        assertThat(reloaded).isEqualTo("after");
+    }
+
+    @Test
+    @DisplayName("읽다가 예외가 나면 캐시하지 않는다.")
+    public void get_loaderException_NotCached() {
+        // when
+        assertThatThrownBy(() -> postDetailCache.get(ArticleCategory.BOARD, 1L, () -> {
+            throw new BoardNotFoundException();
+        }, String::length))
+                .isInstanceOf(BoardNotFoundException.class);
+
+        String loaded = postDetailCache.get(ArticleCategory.BOARD, 1L, () -> "board", String::length);
+
+        // then
+        assertThat(loaded).isEqualTo("board");
+    }
+
+    @Test
+    @DisplayName("게시물 버전은 한 번 읽으면 evict 전까지 다시 읽지 않는다.")
+    public void version_cachedUntilEvict_Success() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        postDetailCache.version(ArticleCategory.BOARD, 1L, () -> "v" + loads.incrementAndGet());
+
+        // when
+        String cached = postDetailCache.version(ArticleCategory.BOARD, 1L, () -> "v" + loads.incrementAndGet());
+        postDetailCache.evict(ArticleCategory.BOARD, 1L);
+        String reloaded = postDetailCache.version(ArticleCategory.BOARD, 1L, () -> "v" + loads.incrementAndGet());
+
+        // then
+        assertThat(cached).isEqualTo("v1");
+        assertThat(reloaded).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("evict 가 오지 않아도 상세 캐시 유지 시간이 지나면 게시물 버전을 다시 읽는다.")
+    public void version_expireWithDetail_Reload() {
+        // given
+        PostDetailCache expiring = new PostDetailCache(1024 * 1024, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        expiring.version(ArticleCategory.BOARD, 1L, () -> "v" + loads.incrementAndGet());
+
+        // when
+        String reloaded = expiring.version(ArticleCategory.BOARD, 1L, () -> "v" + loads.incrementAndGet());
+
+        // then
+        assertThat(reloaded).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("없는 게시물의 버전은 기억하지 않는다.")
+    public void version_notExist_NotCached() {
+        // when
+        String missing = postDetailCache.version(ArticleCategory.NOTICE, 1L, () -> null);
+        String created = postDetailCache.version(ArticleCategory.NOTICE, 1L, () -> "v1");
+
+        // then
+        assertThat(missing).isNull();
+        assertThat(created).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("게시물이 바뀌거나 추가되면 그 종류의 목록 버전만 다시 읽는다.")
+    public void listVersion_reloadOnChange_Success() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        String board = postDetailCache.listVersion(ArticleCategory.BOARD, () -> "b" + loads.incrementAndGet());
+        String notice = postDetailCache.listVersion(ArticleCategory.NOTICE, () -> "n" + loads.incrementAndGet());
+
+        // when
+        String cached = postDetailCache.listVersion(ArticleCategory.BOARD, () -> "b" + loads.incrementAndGet());
+
+        postDetailCache.evict(ArticleCategory.BOARD, 1L);
+        String evicted = postDetailCache.listVersion(ArticleCategory.BOARD, () -> "b" + loads.incrementAndGet());
+
+        postDetailCache.evictList(ArticleCategory.BOARD);
+        String registered = postDetailCache.listVersion(ArticleCategory.BOARD, () -> "b" + loads.incrementAndGet());
+
+        // then
+        assertThat(cached).isEqualTo(board);
+        assertThat(evicted).isEqualTo("b3");
+        assertThat(registered).isEqualTo("b4");
+        assertThat(postDetailCache.listVersion(ArticleCategory.NOTICE, () -> "n" + loads.incrementAndGet())).isEqualTo(notice);
+    }
+
+    @Test
+    @DisplayName("evict 가 오지 않아도 상세 캐시 유지 시간이 지나면 목록 버전을 다시 읽는다.")
+    public void listVersion_expireWithDetail_Reload() {
+        // given
+        PostDetailCache expiring = new PostDetailCache(1024 * 1024, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        expiring.listVersion(ArticleCategory.BOARD, () -> "v" + loads.incrementAndGet());
+
+        // when
+        String reloaded = expiring.listVersion(ArticleCategory.BOARD, () -> "v" + loads.incrementAndGet());
+
+        // then
+        assertThat(reloaded).isEqualTo("v2");
+    }
+}
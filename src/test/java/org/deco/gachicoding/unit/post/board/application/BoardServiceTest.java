@@ -5,19 +5,31 @@ import org.deco.gachicoding.common.factory.user.UserFactory;
 import org.deco.gachicoding.exception.post.board.*;
 import org.deco.gachicoding.exception.user.UserNotFoundException;
 import org.deco.gachicoding.exception.user.UserUnAuthorizedException;
+import org.deco.gachicoding.file.application.FilePromotionService;
 import org.deco.gachicoding.file.application.FileService;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostDetailCache;
 import org.deco.gachicoding.post.board.application.BoardService;
 import org.deco.gachicoding.post.board.application.dto.request.*;
+import org.deco.gachicoding.post.board.application.dto.response.BoardListResponseDto;
 import org.deco.gachicoding.post.board.application.dto.response.BoardResponseDto;
 import org.deco.gachicoding.post.board.domain.Board;
+import org.deco.gachicoding.post.board.domain.BoardSummary;
 import org.deco.gachicoding.post.board.domain.repository.BoardRepository;
+import org.deco.gachicoding.search.application.SearchIndexService;
+import org.deco.gachicoding.trending.application.TrendingService;
+import org.deco.gachicoding.trending.domain.TrendingEvent;
+import org.deco.gachicoding.user.application.UserIdCache;
 import org.deco.gachicoding.user.domain.User;
 import org.deco.gachicoding.user.domain.repository.UserRepository;
+import org.deco.gachicoding.view.application.UniqueVisitorService;
+import org.deco.gachicoding.view.application.ViewCountService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,9 +40,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -49,11 +61,32 @@ public class BoardServiceTest {
     @Mock
     private FileService fileService;
 
+    @Mock
+    private FilePromotionService filePromotionService;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @Mock
+    private ViewCountService viewCountService;
+
+    @Mock
+    private UniqueVisitorService uniqueVisitorService;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Spy
+    private PostDetailCache postDetailCache = new PostDetailCache(1024 * 1024, 60);
+
+    @Spy
+    private UserIdCache userIdCache = new UserIdCache(1024, 60);
+
     @Test
     @DisplayName("사용자는 게시물을 작성할 수 있다.")
     void write_writeBoardWithUser_Success() {
         // given
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         String boardTitle = "테스트 게시물 제목 수정 전";
         String boardContents = "테스트 게시물 내용 수정 전";
@@ -65,10 +98,10 @@ public class BoardServiceTest {
 
         given(userRepository.findByUserEmail(anyString()))
                 .willReturn(Optional.of(user));
+        given(userRepository.getById(user.getUserIdx()))
+                .willReturn(user);
         given(boardRepository.save(any(Board.class)))
                 .willReturn(board);
-        given(fileService.extractPathAndS3Upload(anyLong(), anyString(), anyString()))
-                .willReturn(boardContents);
 
         // when
         Long boardIdx = boardService.registerBoard(requestDto);
@@ -79,10 +112,12 @@ public class BoardServiceTest {
         // userRepository의 findByUserEmail이 1번 실행되었는지 검사한다.
         verify(userRepository, times(1))
                 .findByUserEmail(requestDto.getUserEmail());
+        verify(userRepository, times(1))
+                .getById(user.getUserIdx());
         verify(boardRepository, times(1))
                 .save(any(Board.class));
-        verify(fileService, times(1))
-                .extractPathAndS3Upload(anyLong(), anyString(), anyString());
+        verify(filePromotionService, times(1))
+                .enqueue(board.getBoardIdx(), "BOARD");
     }
 
     @Test
@@ -116,7 +151,7 @@ public class BoardServiceTest {
     @DisplayName("제목의 길이가 100보다 크면 게시물을 등록할 수 없다.")
     public void write_writeMaximumLengthOverTitle_Exception() {
         // given
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         given(userRepository.findByUserEmail(anyString()))
                 .willReturn(Optional.of(user));
@@ -140,7 +175,7 @@ public class BoardServiceTest {
     @DisplayName("내용의 길이가 10000보다 크면 게시물을 등록할 수 없다.")
     public void write_writeMaximumLengthOverContents_Exception() {
         // given
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         given(userRepository.findByUserEmail(anyString()))
                 .willReturn(Optional.of(user));
@@ -164,7 +199,7 @@ public class BoardServiceTest {
     @DisplayName("제목이 널이면 게시물을 등록할 수 없다.")
     public void write_writeNullTitle_Exception() {
         // given
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         given(userRepository.findByUserEmail(anyString()))
                 .willReturn(Optional.of(user));
@@ -187,7 +222,7 @@ public class BoardServiceTest {
     @DisplayName("제목이 공백이면 게시물을 등록할 수 없다.")
     public void write_writeEmptyTitle_Exception() {
         // given
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         given(userRepository.findByUserEmail(anyString()))
                 .willReturn(Optional.of(user));
@@ -211,7 +246,7 @@ public class BoardServiceTest {
     @DisplayName("내용이 널이면 게시물을 등록할 수 없다.")
     public void write_writeNullContents_Exception() {
         // given
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         given(userRepository.findByUserEmail(anyString()))
                 .willReturn(Optional.of(user));
@@ -234,7 +269,7 @@ public class BoardServiceTest {
     @DisplayName("내용이 공백이면 게시물을 등록할 수 없다.")
     public void write_writeEmptyContents_Exception() {
         // given
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         given(userRepository.findByUserEmail(anyString()))
                 .willReturn(Optional.of(user));
@@ -258,23 +293,23 @@ public class BoardServiceTest {
     @DisplayName("활성화 된 게시물이 존재하는 경우 게시물의 목록을 가져온다.")
     public void read_readAllEnableList_Success() {
         // given
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
         String keyword = "";
         Pageable pageable = PageRequest.of(0, 10);
 
         BoardListRequestDto requestDto = BoardFactory.mockBoardListRequestDto(keyword, pageable);
 
-        List<Board> boards = List.of(
-                BoardFactory.mockBoard(1L, user, true),
-                BoardFactory.mockBoard(2L, user, true),
-                BoardFactory.mockBoard(3L, user, true)
+        List<BoardSummary> boards = List.of(
+                BoardFactory.mockBoardSummary(1L, user),
+                BoardFactory.mockBoardSummary(2L, user),
+                BoardFactory.mockBoardSummary(3L, user)
         );
 
         given(boardRepository.findAllBoardByKeyword(keyword, pageable))
                 .willReturn(boards);
 
         // when
-        List<BoardResponseDto> responseDtos = boardService.getBoardList(requestDto);
+        List<BoardListResponseDto> responseDtos = boardService.getBoardList(requestDto);
 
         // then
         assertThat(responseDtos).hasSize(3);
@@ -287,6 +322,43 @@ public class BoardServiceTest {
                 .findAllBoardByKeyword(keyword, pageable);
     }
 
+    @Test
+    @DisplayName("검색어가 있는 경우 검색 색인에서 찾은 게시물의 목록을 가져온다.")
+    public void read_readKeywordListFromIndex_Success() {
+        // given
+        User user = UserFactory.user(1L);
+        String keyword = "테스트";
+        Pageable pageable = PageRequest.of(0, 10);
+
+        BoardListRequestDto requestDto = BoardFactory.mockBoardListRequestDto(keyword, pageable);
+
+        List<Long> boardIdxs = List.of(3L, 1L);
+        List<BoardSummary> boards = List.of(
+                BoardFactory.mockBoardSummary(3L, user),
+                BoardFactory.mockBoardSummary(1L, user)
+        );
+
+        given(searchIndexService.isReady(ArticleCategory.BOARD))
+                .willReturn(true);
+        given(searchIndexService.search(ArticleCategory.BOARD, keyword, pageable))
+                .willReturn(boardIdxs);
+        given(boardRepository.findAllEnableBoardByIdxIn(boardIdxs))
+                .willReturn(boards);
+
+        // when
+        List<BoardListResponseDto> responseDtos = boardService.getBoardList(requestDto);
+
+        // then
+        assertThat(responseDtos)
+                .usingRecursiveComparison()
+                .isEqualTo(boards);
+
+        verify(boardRepository, times(1))
+                .findAllEnableBoardByIdxIn(boardIdxs);
+        verify(boardRepository, never())
+                .findAllBoardByKeyword(anyString(), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("활성화 된 게시물이 존재하지 않는 경우 빈배열을 가져온다.")
     public void read_readNotExistList_Success() {
@@ -296,13 +368,13 @@ public class BoardServiceTest {
 
         BoardListRequestDto requestDto = BoardFactory.mockBoardListRequestDto(keyword, pageable);
 
-        List<Board> boards = new ArrayList<>();
+        List<BoardSummary> boards = new ArrayList<>();
 
         given(boardRepository.findAllBoardByKeyword(keyword, pageable))
                 .willReturn(boards);
 
         // when
-        List<BoardResponseDto> responseDtos = boardService.getBoardList(requestDto);
+        List<BoardListResponseDto> responseDtos = boardService.getBoardList(requestDto);
 
         // then
         assertThat(responseDtos).isEmpty();
@@ -322,13 +394,15 @@ public class BoardServiceTest {
     public void read_readEnableDetail_Success() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
         BoardDetailRequestDto requestDto = BoardFactory.mockBoardDetailRequestDto(boardIdx);
 
         Board board = BoardFactory.mockBoard(boardIdx, user, true);
 
         given(boardRepository.findBoardByIdx(anyLong()))
                 .willReturn(Optional.of(board));
+        given(uniqueVisitorService.visit(ArticleCategory.BOARD, boardIdx, requestDto.getVisitorKey()))
+                .willReturn(3L);
 
         // when
         BoardResponseDto responseDto = boardService.getBoardDetail(requestDto);
@@ -336,10 +410,18 @@ public class BoardServiceTest {
         // then
         assertThat(responseDto)
                 .usingRecursiveComparison()
+                .ignoringFields("boardUniqueViews")
                 .isEqualTo(board);
+        assertThat(responseDto.getBoardUniqueViews()).isEqualTo(3L);
 
         verify(boardRepository, times(1))
                 .findBoardByIdx(anyLong());
+        verify(viewCountService, times(1))
+                .increment(ArticleCategory.BOARD, boardIdx);
+        verify(uniqueVisitorService, times(1))
+                .visit(ArticleCategory.BOARD, boardIdx, requestDto.getVisitorKey());
+        verify(trendingService, times(1))
+                .record(ArticleCategory.BOARD, boardIdx, board.getBoardTitle(), TrendingEvent.VIEW);
     }
 
     @Test
@@ -367,7 +449,7 @@ public class BoardServiceTest {
     public void read_readDisableDetail_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
         BoardDetailRequestDto requestDto = BoardFactory.mockBoardDetailRequestDto(boardIdx);
 
         Board board = BoardFactory.mockBoard(boardIdx, user, false);
@@ -390,7 +472,7 @@ public class BoardServiceTest {
     public void modify_modifyBoard_Success() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         String beforeBoardTitle = "테스트 게시물 제목 수정 전";
         String beforeBoardContents = "테스트 게시물 내용 수정 전";
@@ -418,6 +500,7 @@ public class BoardServiceTest {
         // then
         assertThat(responseDto)
                 .usingRecursiveComparison()
+                .ignoringFields("boardUniqueViews")
                 .isEqualTo(afterBoard);
 
         verify(boardRepository, times(1))
@@ -433,7 +516,7 @@ public class BoardServiceTest {
     public void modify_modifyNotExistBoard_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         String boardTitle = "테스트 게시물 제목";
         String boardContents = "테스트 게시물 내용";
@@ -458,7 +541,7 @@ public class BoardServiceTest {
     public void modify_modifyDisableBoard_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         String beforeBoardTitle = "테스트 게시물 제목 수정 전";
         String beforeBoardContents = "테스트 게시물 내용 수정 전";
@@ -494,7 +577,7 @@ public class BoardServiceTest {
     public void modify_modifyNotExistUser_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         String beforeBoardTitle = "테스트 게시물 제목 수정 전";
         String beforeBoardContents = "테스트 게시물 내용 수정 전";
@@ -575,7 +658,7 @@ public class BoardServiceTest {
     public void modify_modifyNotExistTitle_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         String beforeBoardTitle = "테스트 게시물 제목 수정 전";
         String beforeBoardContents = "테스트 게시물 내용 수정 전";
@@ -614,7 +697,7 @@ public class BoardServiceTest {
     public void modify_modifyEmptyTitle_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         String beforeBoardTitle = "테스트 게시물 제목 수정 전";
         String beforeBoardContents = "테스트 게시물 내용 수정 전";
@@ -653,7 +736,7 @@ public class BoardServiceTest {
     public void modify_modifyNotExistContents_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         String beforeBoardTitle = "테스트 게시물 제목 수정 전";
         String beforeBoardContents = "테스트 게시물 내용 수정 전";
@@ -688,7 +771,7 @@ public class BoardServiceTest {
     public void modify_modifyEmptyContents_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         String beforeBoardTitle = "테스트 게시물 제목 수정 전";
         String beforeBoardContents = "테스트 게시물 내용 수정 전";
@@ -728,7 +811,7 @@ public class BoardServiceTest {
     public void disable_disableAuthorMe_Success() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         Board board = BoardFactory.mockBoard(boardIdx, user, true);
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto(user.getUserEmail(), boardIdx);
@@ -750,12 +833,37 @@ public class BoardServiceTest {
                 .findByUserEmail(anyString());
     }
 
+    @Test
+    @DisplayName("로그인 때 저장된 작성자 번호가 있으면 사용자를 조회하지 않고 게시물을 비활성화한다.")
+    public void disable_disableCachedAuthor_Success() {
+        // given
+        Long boardIdx = 1L;
+        User user = UserFactory.user(1L);
+
+        Board board = BoardFactory.mockBoard(boardIdx, user, true);
+        BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto(user.getUserEmail(), boardIdx);
+
+        userIdCache.put(user.getUserEmail(), user.getUserIdx());
+
+        given(boardRepository.findBoardByIdx(anyLong()))
+                .willReturn(Optional.of(board));
+
+        // when
+        boardService.disableBoard(requestDto);
+
+        // then
+        assertThat(board.getBoardLocked()).isFalse();
+
+        verify(userRepository, never())
+                .findByUserEmail(anyString());
+    }
+
     @Test
     @DisplayName("존재하지 않는 게시물에 비활성화 요청할 경우 예외가 발생한다.")
     public void disable_disableNotExistBoard_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto(user.getUserEmail(), boardIdx);
 
@@ -777,7 +885,7 @@ public class BoardServiceTest {
     public void disable_disableNotExistUser_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         Board board = BoardFactory.mockBoard(boardIdx, user, true);
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto("okky@test.com", boardIdx);
@@ -832,7 +940,7 @@ public class BoardServiceTest {
     public void disable_disableAlreadyDisabled_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         Board board = BoardFactory.mockBoard(boardIdx, user, false);
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto(user.getUserEmail(), boardIdx);
@@ -859,7 +967,7 @@ public class BoardServiceTest {
     public void enable_enableAuthorMe_Success() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         Board board = BoardFactory.mockBoard(boardIdx, user, false);
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto(user.getUserEmail(), boardIdx);
@@ -886,7 +994,7 @@ public class BoardServiceTest {
     public void enable_enableNotExistBoard_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto(user.getUserEmail(), boardIdx);
 
@@ -908,7 +1016,7 @@ public class BoardServiceTest {
     public void enable_enableNotExistUser_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         Board board = BoardFactory.mockBoard(boardIdx, user, false);
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto("okky@test.com", boardIdx);
@@ -963,7 +1071,7 @@ public class BoardServiceTest {
     public void enable_enableAlreadyEnabled_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         Board board = BoardFactory.mockBoard(boardIdx, user, true);
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto(user.getUserEmail(), boardIdx);
@@ -990,7 +1098,7 @@ public class BoardServiceTest {
     public void delete_deleteAuthorMe_Success() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         Board board = BoardFactory.mockBoard(boardIdx, user, true);
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto(user.getUserEmail(), boardIdx);
@@ -1014,6 +1122,8 @@ public class BoardServiceTest {
                 .findByUserEmail(anyString());
         verify(boardRepository, times(1))
                 .delete(any(Board.class));
+        verify(fileService, times(1))
+                .deleteArticleFiles(eq("BOARD"), any());
     }
 
     @Test
@@ -1021,7 +1131,7 @@ public class BoardServiceTest {
     public void delete_deleteNotExistBoard_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto(user.getUserEmail(), boardIdx);
 
@@ -1043,7 +1153,7 @@ public class BoardServiceTest {
     public void delete_deleteNotExistUser_Exception() {
         // given
         Long boardIdx = 1L;
-        User user = UserFactory.user();
+        User user = UserFactory.user(1L);
 
         Board board = BoardFactory.mockBoard(boardIdx, user, true);
         BoardBasicRequestDto requestDto = BoardFactory.mockBoardBasicRequestDto("okky@test.com", boardIdx);
@@ -1,8 +1,12 @@
 package org.deco.gachicoding.unit.post.board.domain;
 
 import org.deco.gachicoding.common.factory.user.UserFactory;
+import org.deco.gachicoding.common.pagination.PageCursor;
 import org.deco.gachicoding.exception.post.board.BoardNotFoundException;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostVersion;
 import org.deco.gachicoding.post.board.domain.Board;
+import org.deco.gachicoding.post.board.domain.BoardSummary;
 import org.deco.gachicoding.post.board.domain.repository.BoardRepository;
 import org.deco.gachicoding.user.domain.User;
 import org.deco.gachicoding.user.domain.repository.UserRepository;
@@ -104,13 +108,76 @@ public class BoardRepositoryTest {
         }
 
         // when
-        List<Board> savedTestBoards = boardRepository.findAllBoardByKeyword("", PageRequest.of(0, 10));
+        List<BoardSummary> savedTestBoards = boardRepository.findAllBoardByKeyword("", PageRequest.of(0, 10));
 
         // then
         assertThat(savedTestBoards).isNotNull();
         assertThat(savedTestBoards.size()).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("게시물 리스트는 본문 전체 대신 태그를 걷어낸 미리보기를 가져온다.")
+    public void find_findAllBoardSummary_Success() {
+        // given
+        User savedTestUser = userRepository.save(
+                UserFactory.user()
+        );
+
+        Board board = Board.builder()
+                .author(savedTestUser)
+                .boardTitle(boardTitle)
+                .boardContents(("<p>" + boardContents + "</p><img src=\"https://test.s3/board/1.png\">").repeat(50))
+                .boardCategory(boardCategory)
+                .build();
+
+        boardRepository.save(board);
+
+        // when
+        List<BoardSummary> savedTestBoards = boardRepository.findAllBoardByKeyword("", PageRequest.of(0, 10));
+
+        // then
+        BoardSummary summary = savedTestBoards.get(0);
+
+        assertThat(summary.getBoardTitle()).isEqualTo(boardTitle);
+        assertThat(summary.getAuthorNick()).isEqualTo(savedTestUser.getUserNick());
+        assertThat(summary.getBoardExcerpt().length()).isEqualTo(100);
+        assertThat(summary.getBoardExcerpt()).startsWith(boardContents + " " + boardContents);
+        assertThat(summary.getBoardExcerpt()).doesNotContain("<");
+    }
+
+    @Test
+    @DisplayName("커서 이후의 게시물 리스트를 최신순으로 가져온다.")
+    public void find_findEnableBoardPageAfterCursor_Success() {
+        // given
+        User savedTestUser = userRepository.save(
+                UserFactory.user()
+        );
+
+        for (int i = 0; i < 5; i++) {
+            Board board = Board.builder()
+                    .author(savedTestUser)
+                    .boardTitle(boardTitle)
+                    .boardContents(boardContents)
+                    .boardCategory(boardCategory)
+                    .build();
+
+            boardRepository.save(board);
+        }
+
+        PageCursor first = PageCursor.first();
+
+        List<BoardSummary> firstPage = boardRepository.findEnableBoardPage(first.getCreatedAt(), first.getIdx(), PageRequest.of(0, 2));
+        BoardSummary last = firstPage.get(firstPage.size() - 1);
+
+        // when
+        List<BoardSummary> secondPage = boardRepository.findEnableBoardPage(last.getCreatedAt(), last.getBoardIdx(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(firstPage.size()).isEqualTo(2);
+        assertThat(secondPage.size()).isEqualTo(3);
+        assertThat(secondPage.get(0).getBoardIdx() < last.getBoardIdx()).isTrue();
+    }
+
     @Test
     @DisplayName("검색어로 게시물 리스트를 가져온다.")
     public void find_findAllBoardByKeyword_Success() {
@@ -140,7 +207,7 @@ public class BoardRepositoryTest {
         boardRepository.save(board);
 
         // when
-        List<Board> savedTestBoards = boardRepository.findAllBoardByKeyword(keyword, PageRequest.of(0, 10));
+        List<BoardSummary> savedTestBoards = boardRepository.findAllBoardByKeyword(keyword, PageRequest.of(0, 10));
 
         // then
         assertThat(savedTestBoards).isNotNull();
@@ -200,6 +267,30 @@ public class BoardRepositoryTest {
         ).isInstanceOf(BoardNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("목록 버전은 활성화 된 게시물이 추가되면 바뀌고, 비 활성화 된 게시물은 세지 않는다.")
+    public void find_findEnableBoardListVersion_Success() {
+        // given
+        User savedTestUser = userRepository.save(
+                UserFactory.user()
+        );
+
+        boardRepository.save(board(savedTestUser, true));
+        boardRepository.save(board(savedTestUser, false));
+
+        PostVersion before = boardRepository.findEnableBoardListVersion();
+
+        // when
+        boardRepository.save(board(savedTestUser, true));
+
+        PostVersion after = boardRepository.findEnableBoardListVersion();
+
+        // then
+        assertThat(before.getChildren()).isEqualTo(1L);
+        assertThat(after.getChildren()).isEqualTo(2L);
+        assertThat(after.listETag(ArticleCategory.BOARD)).isNotEqualTo(before.listETag(ArticleCategory.BOARD));
+    }
+
     @Test
     @DisplayName("활성화, 비 활성화 게시물 무엇이든 가져온다.")
     public void find_findBoardByDisabledAndEnable_Success() {
@@ -259,4 +350,13 @@ public class BoardRepositoryTest {
         ).isInstanceOf(BoardNotFoundException.class);
     }
 
+    private Board board(User author, boolean boardLocked) {
+        return Board.builder()
+                .author(author)
+                .boardTitle(boardTitle)
+                .boardContents(boardContents)
+                .boardCategory(boardCategory)
+                .boardLocked(boardLocked)
+                .build();
+    }
 }
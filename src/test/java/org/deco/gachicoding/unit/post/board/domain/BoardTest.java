@@ -138,12 +138,12 @@ public class BoardTest {
     @DisplayName("자신이 작성한 게시물인지 확인한다.")
     void create_BoardAuthorMe_Success() {
         // given
-        User author = UserFactory.user();
+        User author = UserFactory.user(1L);
 
         Board board = BoardFactory.mockBoard(1L, author, null);
 
         // when, then
-        assertThatCode(() -> board.hasSameAuthor(author))
+        assertThatCode(() -> board.hasSameAuthor(author.getUserIdx()))
                 .doesNotThrowAnyException();
     }
 
@@ -151,13 +151,13 @@ public class BoardTest {
     @DisplayName("자신이 작성한 게시물인지 확인한다. 아니라면 예외가 발생한다.")
     void create_BoardAuthorMe_Exception() {
         // given
-        User author = UserFactory.user();
-        User user = UserFactory.user();
+        User author = UserFactory.user(1L);
+        User user = UserFactory.user(2L);
 
         Board board = BoardFactory.mockBoard(1L, author, null);
 
         // when, then
-        assertThatCode(() -> board.hasSameAuthor(user))
+        assertThatCode(() -> board.hasSameAuthor(user.getUserIdx()))
                 .isInstanceOf(UserUnAuthorizedException.class)
                 .extracting("message")
                 .isEqualTo("권한이 없는 사용자입니다.");
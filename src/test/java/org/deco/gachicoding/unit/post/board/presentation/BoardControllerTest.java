@@ -9,10 +9,12 @@ import org.deco.gachicoding.exception.user.UserNotFoundException;
 import org.deco.gachicoding.exception.user.UserUnAuthorizedException;
 import org.deco.gachicoding.post.board.application.BoardService;
 import org.deco.gachicoding.post.board.application.dto.request.*;
+import org.deco.gachicoding.post.board.application.dto.response.BoardListResponseDto;
 import org.deco.gachicoding.post.board.application.dto.response.BoardResponseDto;
 import org.deco.gachicoding.post.board.presentation.BoardController;
 import org.deco.gachicoding.post.board.presentation.dto.request.BoardSaveRequest;
 import org.deco.gachicoding.post.board.presentation.dto.request.BoardUpdateRequest;
+import org.deco.gachicoding.post.board.presentation.dto.response.BoardListResponse;
 import org.deco.gachicoding.post.board.presentation.dto.response.BoardResponse;
 import org.deco.gachicoding.user.domain.User;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +25,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
@@ -35,6 +38,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -90,20 +94,20 @@ public class BoardControllerTest {
         // given
         User user = UserFactory.user();
 
-        BoardResponseDto boardResponseDto1 = BoardFactory.mockBoardResponseDto(1L, user, true);
-        BoardResponseDto boardResponseDto2 = BoardFactory.mockBoardResponseDto(2L, user, true);
-        BoardResponseDto boardResponseDto3 = BoardFactory.mockBoardResponseDto(3L, user, true);
+        BoardListResponseDto boardResponseDto1 = BoardFactory.mockBoardListResponseDto(1L, user);
+        BoardListResponseDto boardResponseDto2 = BoardFactory.mockBoardListResponseDto(2L, user);
+        BoardListResponseDto boardResponseDto3 = BoardFactory.mockBoardListResponseDto(3L, user);
 
-        List<BoardResponseDto> boardResponseDtos = List.of(
+        List<BoardListResponseDto> boardResponseDtos = List.of(
                 boardResponseDto1,
                 boardResponseDto2,
                 boardResponseDto3
         );
 
-        List<BoardResponse> boardResponses = List.of(
-                BoardFactory.mockBoardResponse(boardResponseDto1),
-                BoardFactory.mockBoardResponse(boardResponseDto2),
-                BoardFactory.mockBoardResponse(boardResponseDto3)
+        List<BoardListResponse> boardResponses = List.of(
+                BoardFactory.mockBoardListResponse(boardResponseDto1),
+                BoardFactory.mockBoardListResponse(boardResponseDto2),
+                BoardFactory.mockBoardListResponse(boardResponseDto3)
         );
 
         given(boardService.getBoardList(any(BoardListRequestDto.class)))
@@ -118,7 +122,7 @@ public class BoardControllerTest {
 
         // then
         perform.andExpect(status().isOk())
-                .andExpect(content().string(objectMapper.writeValueAsString(boardResponses)));
+                .andExpect(content().json(objectMapper.writeValueAsString(boardResponses), true));
 
         verify(boardService, times(1))
                 .getBoardList(any(BoardListRequestDto.class));
@@ -128,9 +132,9 @@ public class BoardControllerTest {
     @DisplayName("활성화 된 공지사항이 존재하지 않는 경우 빈배열을 가져온다.")
     void read_readNotExistList_Success() throws Exception {
         // given
-        List<BoardResponseDto> boardResponseDtos = new ArrayList<>();
+        List<BoardListResponseDto> boardResponseDtos = new ArrayList<>();
 
-        List<BoardResponse> boardResponses = new ArrayList<>();
+        List<BoardListResponse> boardResponses = new ArrayList<>();
 
         given(boardService.getBoardList(any(BoardListRequestDto.class)))
                 .willReturn(boardResponseDtos);
@@ -177,6 +181,53 @@ public class BoardControllerTest {
                 .getBoardDetail(any(BoardDetailRequestDto.class));
     }
 
+    @Test
+    @DisplayName("게시물이 바뀌지 않았으면 본문 없이 304를 반환한다.")
+    void read_readNotModifiedDetail_Success() throws Exception {
+        // given
+        Long boardIdx = 1L;
+        String eTag = "W/\"board-1-1000-0\"";
+
+        given(boardService.getBoardVersion(boardIdx))
+                .willReturn(eTag);
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/board/{boardIdx}", boardIdx)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .with(SecurityMockMvcRequestPostProcessors.csrf()));
+
+        // then
+        perform.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        verify(boardService, never())
+                .getBoardDetail(any(BoardDetailRequestDto.class));
+    }
+
+    @Test
+    @DisplayName("게시물이 바뀌었으면 새 ETag 와 함께 본문을 반환한다.")
+    void read_readModifiedDetail_Success() throws Exception {
+        // given
+        Long boardIdx = 1L;
+        User user = UserFactory.user();
+        String eTag = "W/\"board-1-2000-0\"";
+
+        given(boardService.getBoardVersion(boardIdx))
+                .willReturn(eTag);
+        given(boardService.getBoardDetail(any(BoardDetailRequestDto.class)))
+                .willReturn(BoardFactory.mockBoardResponseDto(boardIdx, user, true));
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/board/{boardIdx}", boardIdx)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"board-1-1000-0\"")
+                .with(SecurityMockMvcRequestPostProcessors.csrf()));
+
+        // then
+        perform.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
     @Test
     @DisplayName("존재하지 않는 게시물에 접근할 경우 예외가 발생한다.")
     void read_readNotExistDetail_Exception() throws Exception {
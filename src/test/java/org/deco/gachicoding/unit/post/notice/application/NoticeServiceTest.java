@@ -5,17 +5,29 @@ import org.deco.gachicoding.common.factory.user.UserFactory;
 import org.deco.gachicoding.exception.post.notice.*;
 import org.deco.gachicoding.exception.user.UserNotFoundException;
 import org.deco.gachicoding.exception.user.UserUnAuthorizedException;
+import org.deco.gachicoding.file.application.FilePromotionService;
+import org.deco.gachicoding.file.application.FileService;
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.post.PostDetailCache;
 import org.deco.gachicoding.post.notice.application.NoticeService;
 import org.deco.gachicoding.post.notice.application.dto.request.*;
+import org.deco.gachicoding.post.notice.application.dto.response.NoticeListResponseDto;
 import org.deco.gachicoding.post.notice.application.dto.response.NoticeResponseDto;
 import org.deco.gachicoding.post.notice.domain.Notice;
+import org.deco.gachicoding.post.notice.domain.NoticeSummary;
 import org.deco.gachicoding.post.notice.domain.repository.NoticeRepository;
+import org.deco.gachicoding.search.application.SearchIndexService;
+import org.deco.gachicoding.trending.application.TrendingService;
+import org.deco.gachicoding.user.application.UserIdCache;
 import org.deco.gachicoding.user.domain.User;
 import org.deco.gachicoding.user.domain.repository.UserRepository;
+import org.deco.gachicoding.view.application.UniqueVisitorService;
+import org.deco.gachicoding.view.application.ViewCountService;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -43,6 +55,30 @@ public class NoticeServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private FilePromotionService filePromotionService;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @Mock
+    private ViewCountService viewCountService;
+
+    @Mock
+    private UniqueVisitorService uniqueVisitorService;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Spy
+    private PostDetailCache postDetailCache = new PostDetailCache(1024 * 1024, 60);
+
+    @Spy
+    private UserIdCache userIdCache = new UserIdCache(1024, 60);
+
     private static final User author = UserFactory.user(1L, "gachicoding@test.com", "1234");
     private static final User user = UserFactory.user(2L, "okky@test.com", "1234");
 
@@ -63,6 +99,8 @@ public class NoticeServiceTest {
 
         given(userRepository.findByUserEmail(anyString()))
                 .willReturn(Optional.of(author));
+        given(userRepository.getById(author.getUserIdx()))
+                .willReturn(author);
         given(noticeRepository.save(any(Notice.class)))
                 .willReturn(notice);
 
@@ -75,6 +113,8 @@ public class NoticeServiceTest {
         // userRepository의 findByUserEmail이 1번 실행되었는지 검사한다.
         verify(userRepository, times(1))
                 .findByUserEmail(requestDto.getUserEmail());
+        verify(userRepository, times(1))
+                .getById(author.getUserIdx());
         verify(noticeRepository, times(1))
                 .save(any(Notice.class));
     }
@@ -240,17 +280,17 @@ public class NoticeServiceTest {
 
         NoticeListRequestDto requestDto = NoticeFactory.mockNoticeListRequestDto(keyword, pageable);
 
-        List<Notice> notices = List.of(
-                NoticeFactory.mockNotice(1L, author, true),
-                NoticeFactory.mockNotice(2L, author, true),
-                NoticeFactory.mockNotice(3L, author, true)
+        List<NoticeSummary> notices = List.of(
+                NoticeFactory.mockNoticeSummary(1L, author),
+                NoticeFactory.mockNoticeSummary(2L, author),
+                NoticeFactory.mockNoticeSummary(3L, author)
         );
 
         given(noticeRepository.findAllNoticeByKeyword(keyword, pageable))
                 .willReturn(notices);
 
         // when
-        List<NoticeResponseDto> responseDtos = noticeService.getNoticeList(requestDto);
+        List<NoticeListResponseDto> responseDtos = noticeService.getNoticeList(requestDto);
 
         // then
         assertThat(responseDtos).hasSize(3);
@@ -275,13 +315,13 @@ public class NoticeServiceTest {
 
         NoticeListRequestDto requestDto = NoticeFactory.mockNoticeListRequestDto(keyword, pageable);
 
-        List<Notice> notices = new ArrayList<>();
+        List<NoticeSummary> notices = new ArrayList<>();
 
         given(noticeRepository.findAllNoticeByKeyword(keyword, pageable))
                 .willReturn(notices);
 
         // when
-        List<NoticeResponseDto> responseDtos = noticeService.getNoticeList(requestDto);
+        List<NoticeListResponseDto> responseDtos = noticeService.getNoticeList(requestDto);
 
         // then
         assertThat(responseDtos).isEmpty();
@@ -306,6 +346,8 @@ public class NoticeServiceTest {
 
         given(noticeRepository.findNoticeByIdx(anyLong()))
                 .willReturn(Optional.of(notice));
+        given(uniqueVisitorService.visit(ArticleCategory.NOTICE, notIdx, requestDto.getVisitorKey()))
+                .willReturn(3L);
 
         // when
         NoticeResponseDto responseDto = noticeService.getNoticeDetail(requestDto);
@@ -315,10 +357,14 @@ public class NoticeServiceTest {
         // 동등성을 비교하기 때문에 값이 같아야 함
         assertThat(responseDto)
                 .usingRecursiveComparison()
+                .ignoringFields("notUniqueViews")
                 .isEqualTo(notice);
+        assertThat(responseDto.getNotUniqueViews()).isEqualTo(3L);
 
         verify(noticeRepository, times(1))
                 .findNoticeByIdx(anyLong());
+        verify(uniqueVisitorService, times(1))
+                .visit(ArticleCategory.NOTICE, notIdx, requestDto.getVisitorKey());
     }
 
     @Test
@@ -381,6 +427,7 @@ public class NoticeServiceTest {
         // then
         assertThat(responseDto)
                 .usingRecursiveComparison()
+                .ignoringFields("notUniqueViews")
                 .isEqualTo(updateNotice);
 
         verify(noticeRepository, times(1))
@@ -834,6 +881,8 @@ public class NoticeServiceTest {
                 .findByUserEmail(anyString());
         verify(noticeRepository, times(1))
                 .delete(any(Notice.class));
+        verify(fileService, times(1))
+                .deleteArticleFiles(eq("NOTICE"), any());
     }
 
     @Test
@@ -3,6 +3,7 @@ package org.deco.gachicoding.unit.post.notice.domain;
 import org.deco.gachicoding.common.factory.user.UserFactory;
 import org.deco.gachicoding.exception.post.notice.NoticeNotFoundException;
 import org.deco.gachicoding.post.notice.domain.Notice;
+import org.deco.gachicoding.post.notice.domain.NoticeSummary;
 import org.deco.gachicoding.post.notice.domain.repository.NoticeRepository;
 import org.deco.gachicoding.user.domain.User;
 import org.deco.gachicoding.user.domain.repository.UserRepository;
@@ -100,7 +101,7 @@ public class NoticeRepositoryTest {
         }
 
         // when
-        List<Notice> savedTestNotices = noticeRepository.findAllNoticeByKeyword("", PageRequest.of(0, 10));
+        List<NoticeSummary> savedTestNotices = noticeRepository.findAllNoticeByKeyword("", PageRequest.of(0, 10));
 
         // then
         assertThat(savedTestNotices).isNotNull();
@@ -134,7 +135,7 @@ public class NoticeRepositoryTest {
         noticeRepository.save(notice);
 
         // when
-        List<Notice> savedTestNotices = noticeRepository.findAllNoticeByKeyword(keyword, PageRequest.of(0, 10));
+        List<NoticeSummary> savedTestNotices = noticeRepository.findAllNoticeByKeyword(keyword, PageRequest.of(0, 10));
 
         // then
         assertThat(savedTestNotices).isNotNull();
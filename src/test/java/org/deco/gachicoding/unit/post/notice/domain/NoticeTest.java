@@ -130,12 +130,12 @@ public class NoticeTest {
     @DisplayName("자신이 작성한 공지사항인지 확인한다.")
     void create_NoticeAuthorMe_Success() {
         // given
-        User author = UserFactory.user();
+        User author = UserFactory.user(1L);
 
         Notice notice = NoticeFactory.mockNotice(1L, author, null);
 
         // when, then
-        assertThatCode(() -> notice.hasSameAuthor(author))
+        assertThatCode(() -> notice.hasSameAuthor(author.getUserIdx()))
                 .doesNotThrowAnyException();
     }
 
@@ -143,13 +143,13 @@ public class NoticeTest {
     @DisplayName("자신이 작성한 공지사항인지 확인한다. 아니라면 예외가 발생한다.")
     void create_NoticeAuthorMe_Exception() {
         // given
-        User author = UserFactory.user();
-        User user = UserFactory.user();
+        User author = UserFactory.user(1L);
+        User user = UserFactory.user(2L);
 
         Notice notice = NoticeFactory.mockNotice(1L, author, null);
 
         // when, then
-        assertThatCode(() -> notice.hasSameAuthor(user))
+        assertThatCode(() -> notice.hasSameAuthor(user.getUserIdx()))
                 .isInstanceOf(UserUnAuthorizedException.class)
                 .extracting("message")
                 .isEqualTo("권한이 없는 사용자입니다.");
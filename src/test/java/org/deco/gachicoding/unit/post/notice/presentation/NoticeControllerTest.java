@@ -9,10 +9,12 @@ import org.deco.gachicoding.exception.user.UserNotFoundException;
 import org.deco.gachicoding.exception.user.UserUnAuthorizedException;
 import org.deco.gachicoding.post.notice.application.NoticeService;
 import org.deco.gachicoding.post.notice.application.dto.request.*;
+import org.deco.gachicoding.post.notice.application.dto.response.NoticeListResponseDto;
 import org.deco.gachicoding.post.notice.application.dto.response.NoticeResponseDto;
 import org.deco.gachicoding.post.notice.presentation.NoticeController;
 import org.deco.gachicoding.post.notice.presentation.dto.request.NoticeSaveRequest;
 import org.deco.gachicoding.post.notice.presentation.dto.request.NoticeUpdateRequest;
+import org.deco.gachicoding.post.notice.presentation.dto.response.NoticeListResponse;
 import org.deco.gachicoding.post.notice.presentation.dto.response.NoticeResponse;
 import org.deco.gachicoding.user.domain.User;
 import org.junit.jupiter.api.DisplayName;
@@ -254,20 +256,20 @@ public class NoticeControllerTest {
     @DisplayName("활성화 된 공지사항이 존재하는 경우 공지사항의 목록을 가져온다.")
     void read_readAllEnableList_Success() throws Exception {
         // given
-        NoticeResponseDto noticeResponseDto1 = NoticeFactory.mockNoticeResponseDto(NoticeFactory.mockNotice(1L, author, true));
-        NoticeResponseDto noticeResponseDto2 = NoticeFactory.mockNoticeResponseDto(NoticeFactory.mockNotice(2L, author, true));
-        NoticeResponseDto noticeResponseDto3 = NoticeFactory.mockNoticeResponseDto(NoticeFactory.mockNotice(3L, author, true));
+        NoticeListResponseDto noticeResponseDto1 = NoticeFactory.mockNoticeListResponseDto(NoticeFactory.mockNoticeSummary(1L, author));
+        NoticeListResponseDto noticeResponseDto2 = NoticeFactory.mockNoticeListResponseDto(NoticeFactory.mockNoticeSummary(2L, author));
+        NoticeListResponseDto noticeResponseDto3 = NoticeFactory.mockNoticeListResponseDto(NoticeFactory.mockNoticeSummary(3L, author));
 
-        List<NoticeResponseDto> noticeResponseDtos = List.of(
+        List<NoticeListResponseDto> noticeResponseDtos = List.of(
                 noticeResponseDto1,
                 noticeResponseDto2,
                 noticeResponseDto3
         );
 
-        List<NoticeResponse> noticeResponses = List.of(
-                NoticeFactory.mockNoticeResponse(noticeResponseDto1),
-                NoticeFactory.mockNoticeResponse(noticeResponseDto2),
-                NoticeFactory.mockNoticeResponse(noticeResponseDto3)
+        List<NoticeListResponse> noticeResponses = List.of(
+                NoticeFactory.mockNoticeListResponse(noticeResponseDto1),
+                NoticeFactory.mockNoticeListResponse(noticeResponseDto2),
+                NoticeFactory.mockNoticeListResponse(noticeResponseDto3)
         );
 
         given(noticeService.getNoticeList(any(NoticeListRequestDto.class)))
@@ -282,7 +284,7 @@ public class NoticeControllerTest {
 
         // then
         perform.andExpect(status().isOk())
-                .andExpect(content().string(objectMapper.writeValueAsString(noticeResponses)));
+                .andExpect(content().json(objectMapper.writeValueAsString(noticeResponses), true));
 
         verify(noticeService, times(1))
                 .getNoticeList(any(NoticeListRequestDto.class));
@@ -292,7 +294,7 @@ public class NoticeControllerTest {
     @DisplayName("활성화 된 공지사항이 존재하지 않는 경우 빈배열을 가져온다.")
     void read_readNotExistList_Success() throws Exception {
         // given
-        List<NoticeResponseDto> noticeResponseDtos = new ArrayList<>();
+        List<NoticeListResponseDto> noticeResponseDtos = new ArrayList<>();
 
         given(noticeService.getNoticeList(any(NoticeListRequestDto.class)))
                 .willReturn(noticeResponseDtos);
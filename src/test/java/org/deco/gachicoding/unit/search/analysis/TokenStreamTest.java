@@ -0,0 +1,60 @@
+package org.deco.gachicoding.unit.search.analysis;
+
+import org.deco.gachicoding.search.analysis.Analyzer;
+import org.deco.gachicoding.search.analysis.TokenStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenStreamTest {
+
+    @Test
+    @DisplayName("한글은 2글자 단위로 나눈다.")
+    public void analyze_hangulBigram_Success() {
+        assertThat(tokens("스프링부트 질문 글"))
+                .containsExactly("스프", "프링", "링부", "부트", "질문", "글");
+    }
+
+    @Test
+    @DisplayName("식별자는 소문자로 바꾼 전체 단어와 camelCase, snake_case 조각으로 나눈다.")
+    public void analyze_identifier_Success() {
+        assertThat(tokens("userEmail"))
+                .containsExactly("useremail", "user", "email");
+        assertThat(tokens("user_email"))
+                .containsExactly("useremail", "user", "email");
+        assertThat(tokens("HTTPServer"))
+                .containsExactly("httpserver", "http", "server");
+        assertThat(tokens("Spring"))
+                .containsExactly("spring");
+    }
+
+    @Test
+    @DisplayName("HTML 태그와 엔티티는 단어로 나누지 않는다.")
+    public void analyze_skipMarkup_Success() {
+        assertThat(tokens("<p>JPA&nbsp;질문</p><img src=\"https://s3.test/a.png\">"))
+                .containsExactly("jpa", "질문");
+    }
+
+    @Test
+    @DisplayName("TokenStream을 재사용해도 이전 내용이 남지 않는다.")
+    public void analyze_reuseStream_Success() {
+        tokens("이전 내용 previousContents");
+
+        assertThat(tokens("jpa"))
+                .containsExactly("jpa");
+    }
+
+    private List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        TokenStream stream = Analyzer.tokenStream(text);
+
+        while (stream.incrementToken())
+            tokens.add(stream.term());
+
+        return tokens;
+    }
+}
@@ -0,0 +1,154 @@
+package org.deco.gachicoding.unit.search.application;
+
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.search.application.SearchBackend;
+import org.deco.gachicoding.search.application.SearchService;
+import org.deco.gachicoding.search.application.dto.request.SearchRequestDto;
+import org.deco.gachicoding.search.application.dto.response.SearchHitDto;
+import org.deco.gachicoding.search.application.dto.response.SearchResponseDto;
+import org.deco.gachicoding.search.application.dto.response.SearchSourceDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceTest {
+
+    @Mock
+    private SearchBackend boardBackend;
+
+    @Mock
+    private SearchBackend noticeBackend;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("모든 게시물 종류의 검색 결과를 점수순으로 합쳐 한 페이지를 가져온다.")
+    public void search_mergeByScore_Success() {
+        // given
+        SearchService searchService = new SearchService(List.of(boardBackend, noticeBackend), executor, 1000);
+
+        given(boardBackend.getCategory()).willReturn(ArticleCategory.BOARD);
+        given(noticeBackend.getCategory()).willReturn(ArticleCategory.NOTICE);
+        given(boardBackend.search(anyString(), anyInt()))
+                .willReturn(List.of(hit(ArticleCategory.BOARD, 1L, 3.0), hit(ArticleCategory.BOARD, 2L, 1.0)));
+        given(noticeBackend.search(anyString(), anyInt()))
+                .willReturn(List.of(hit(ArticleCategory.NOTICE, 1L, 2.0)));
+
+        SearchRequestDto requestDto = SearchRequestDto.builder()
+                .keyword("spring")
+                .pageable(PageRequest.of(0, 2))
+                .build();
+
+        // when
+        SearchResponseDto responseDto = searchService.search(requestDto);
+
+        // then
+        assertThat(responseDto.getHits().stream().map(SearchHitDto::getScore).collect(Collectors.toList()))
+                .containsExactly(3.0, 2.0);
+        assertThat(responseDto.getSources().stream().map(SearchSourceDto::getStatus).collect(Collectors.toList()))
+                .containsExactly("SUCCESS", "SUCCESS");
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 응답하지 않은 게시물 종류는 결과 없이 TIMEOUT으로 표시된다.")
+    public void search_slowBackend_Timeout() {
+        // given
+        SearchService searchService = new SearchService(List.of(boardBackend, noticeBackend), executor, 100);
+
+        given(boardBackend.getCategory()).willReturn(ArticleCategory.BOARD);
+        given(noticeBackend.getCategory()).willReturn(ArticleCategory.NOTICE);
+        given(boardBackend.search(anyString(), anyInt()))
+                .willReturn(List.of(hit(ArticleCategory.BOARD, 1L, 1.0)));
+        given(noticeBackend.search(anyString(), anyInt()))
+                .willAnswer(invocation -> {
+                    Thread.sleep(1000);
+                    return List.of(hit(ArticleCategory.NOTICE, 1L, 2.0));
+                });
+
+        SearchRequestDto requestDto = SearchRequestDto.builder()
+                .keyword("spring")
+                .pageable(PageRequest.of(0, 10))
+                .build();
+
+        // when
+        SearchResponseDto responseDto = searchService.search(requestDto);
+
+        // then
+        assertThat(responseDto.getHits()).hasSize(1);
+        assertThat(responseDto.getSources().get(1).getStatus()).isEqualTo("TIMEOUT");
+    }
+
+    @Test
+    @DisplayName("스레드 풀이 가득 차 거절된 게시물 종류는 요청 스레드에서 실행하지 않고 FAILURE로 표시된다.")
+    public void search_rejectedBackend_Failure() {
+        // given
+        // 첫 번째 검색만 받고 나머지는 거절하는 가득 찬 스레드 풀
+        AtomicInteger submitted = new AtomicInteger();
+        Executor saturated = command -> {
+            if (submitted.incrementAndGet() > 1)
+                throw new RejectedExecutionException();
+
+            executor.execute(command);
+        };
+        SearchService searchService = new SearchService(List.of(boardBackend, noticeBackend), saturated, 1000);
+
+        given(boardBackend.getCategory()).willReturn(ArticleCategory.BOARD);
+        given(noticeBackend.getCategory()).willReturn(ArticleCategory.NOTICE);
+        given(boardBackend.search(anyString(), anyInt()))
+                .willReturn(List.of(hit(ArticleCategory.BOARD, 1L, 1.0)));
+
+        SearchRequestDto requestDto = SearchRequestDto.builder()
+                .keyword("spring")
+                .pageable(PageRequest.of(0, 10))
+                .build();
+
+        // when
+        SearchResponseDto responseDto = searchService.search(requestDto);
+
+        // then
+        assertThat(responseDto.getHits()).hasSize(1);
+        assertThat(responseDto.getSources().stream().map(SearchSourceDto::getStatus).collect(Collectors.toList()))
+                .containsExactly("SUCCESS", "FAILURE");
+        verify(noticeBackend, never()).search(anyString(), anyInt());
+    }
+
+    private SearchHitDto hit(ArticleCategory category, Long articleIdx, double score) {
+        return SearchHitDto.builder()
+                .articleCategory(category)
+                .articleIdx(articleIdx)
+                .title("title")
+                .score(score)
+                .build();
+    }
+}
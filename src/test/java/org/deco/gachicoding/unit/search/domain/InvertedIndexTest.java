@@ -0,0 +1,109 @@
+package org.deco.gachicoding.unit.search.domain;
+
+import org.deco.gachicoding.search.analysis.Analyzer;
+import org.deco.gachicoding.search.domain.InvertedIndex;
+import org.deco.gachicoding.search.domain.ScoredArticle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvertedIndexTest {
+
+    @Test
+    @DisplayName("모든 검색어를 포함하는 게시물 번호를 최신순으로 가져온다.")
+    public void search_containsAllTerms_Success() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+
+        index.add(1L, termFrequencies("Spring JPA 질문"));
+        index.add(2L, termFrequencies("spring security"));
+        index.add(3L, termFrequencies("Spring, JPA N+1 문제"));
+
+        // when
+        List<Long> result = index.search(Analyzer.terms("spring jpa"), 0, 10);
+
+        // then
+        assertThat(result).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("offset과 limit 만큼 게시물 번호를 가져온다.")
+    public void search_offsetAndLimit_Success() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+
+        for (long i = 1; i <= 5; i++)
+            index.add(i, Map.of("spring", 1));
+
+        // when
+        List<Long> result = index.search(Set.of("spring"), 1, 2);
+
+        // then
+        assertThat(result).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("수정된 게시물은 이전 단어로 검색되지 않는다.")
+    public void add_reindexArticle_Success() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+
+        index.add(1L, termFrequencies("spring"));
+
+        // when
+        index.add(1L, termFrequencies("django"));
+
+        // then
+        assertThat(index.search(Set.of("spring"), 0, 10)).isEmpty();
+        assertThat(index.search(Set.of("django"), 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시물은 검색되지 않는다.")
+    public void remove_removeArticle_Success() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+
+        index.add(1L, termFrequencies("spring"));
+        index.add(2L, termFrequencies("spring"));
+
+        // when
+        index.remove(1L);
+
+        // then
+        assertThat(index.search(Set.of("spring"), 0, 10)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("BM25 점수가 높은 게시물부터 k개를 가져온다.")
+    public void topK_bm25Order_Success() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+
+        index.add(1L, termFrequencies("jpa 질문입니다. 스프링 설정과 빌드와 배포에 관해서 궁금한 점이 있습니다."));
+        index.add(2L, termFrequencies("jpa jpa 지연 로딩"));
+        index.add(3L, termFrequencies("spring security"));
+        index.add(4L, termFrequencies("jpa"));
+
+        // when
+        List<ScoredArticle> result = index.topK(Analyzer.terms("jpa"), 2);
+
+        // then
+        assertThat(result.stream().map(ScoredArticle::getArticleIdx).collect(Collectors.toList()))
+                .containsExactly(2L, 4L);
+    }
+
+    private Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        Analyzer.addTermFrequencies(termFrequencies, text, 1);
+        return termFrequencies;
+    }
+}
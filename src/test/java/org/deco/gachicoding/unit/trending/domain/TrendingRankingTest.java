@@ -0,0 +1,146 @@
+package org.deco.gachicoding.unit.trending.domain;
+
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.trending.domain.TrendingArticle;
+import org.deco.gachicoding.trending.domain.TrendingRanking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class TrendingRankingTest {
+
+    private static final long HALF_LIFE = TimeUnit.HOURS.toMillis(6);
+
+    @Test
+    @DisplayName("반감기가 지나면 점수가 절반이 된다.")
+    public void top_decayByHalfLife_Success() {
+        // given
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 10, 0);
+
+        ranking.record(ArticleCategory.BOARD, 1L, "제목", 4, 0);
+
+        // when
+        List<TrendingArticle> now = ranking.top(10, 0);
+        List<TrendingArticle> later = ranking.top(10, HALF_LIFE);
+
+        // then
+        assertThat(now.get(0).getScore()).isCloseTo(4.0, within(1e-9));
+        assertThat(later.get(0).getScore()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("오래전에 많이 본 글보다 최근에 본 글이 앞설 수 있다.")
+    public void top_recentEventsWin_Success() {
+        // given
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 10, 0);
+
+        for (int i = 0; i < 10; i++)
+            ranking.record(ArticleCategory.BOARD, 1L, "어제 글", 1, 0);
+
+        // 반감기 4번 뒤 10 -> 0.625
+        long now = HALF_LIFE * 4;
+
+        ranking.record(ArticleCategory.QUESTION, 2L, "방금 글", 1, now);
+
+        // when
+        List<TrendingArticle> top = ranking.top(10, now);
+
+        // then
+        assertThat(top).extracting(TrendingArticle::getArticleIdx).containsExactly(2L, 1L);
+        assertThat(top.get(1).getScore()).isCloseTo(0.625, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("상위 K개만 유지하고, 밀려난 글도 새 사건으로 다시 들어올 수 있다.")
+    public void record_boundedTopK_Success() {
+        // given
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 2, 0);
+
+        ranking.record(ArticleCategory.BOARD, 1L, "1", 3, 0);
+        ranking.record(ArticleCategory.BOARD, 2L, "2", 2, 0);
+        ranking.record(ArticleCategory.BOARD, 3L, "3", 1, 0);
+
+        // when
+        List<TrendingArticle> before = ranking.top(10, 0);
+        ranking.record(ArticleCategory.BOARD, 3L, null, 5, 0);
+        List<TrendingArticle> after = ranking.top(10, 0);
+
+        // then
+        assertThat(before).extracting(TrendingArticle::getArticleIdx).containsExactly(1L, 2L);
+        assertThat(after).extracting(TrendingArticle::getArticleIdx).containsExactly(3L, 1L);
+        assertThat(after.get(0).getTitle()).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("삭제된 글의 자리는 다음 순위 글로 채운다.")
+    public void remove_refillFromCandidates_Success() {
+        // given
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 2, 0);
+
+        ranking.record(ArticleCategory.BOARD, 1L, "1", 3, 0);
+        ranking.record(ArticleCategory.BOARD, 2L, "2", 2, 0);
+        ranking.record(ArticleCategory.BOARD, 3L, "3", 1, 0);
+
+        // when
+        ranking.remove(ArticleCategory.BOARD, 1L);
+
+        // then
+        assertThat(ranking.top(10, 0)).extracting(TrendingArticle::getArticleIdx).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("상위 K개 밖에서 점수가 거의 사라진 글은 지운다.")
+    public void prune_dropColdCandidates_Success() {
+        // given
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 1, 0);
+
+        ranking.record(ArticleCategory.BOARD, 1L, "1", 1, 0);
+        ranking.record(ArticleCategory.BOARD, 2L, "2", 1, 1);
+
+        // when
+        int pruned = ranking.prune(0.01, HALF_LIFE * 10);
+
+        // then
+        assertThat(pruned).isEqualTo(1);
+        assertThat(ranking.size()).isEqualTo(1);
+        assertThat(ranking.top(10, HALF_LIFE * 10)).extracting(TrendingArticle::getArticleIdx).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("기억할 수 있는 글이 가득 차면 상위 K개 밖에서 점수가 가장 낮은 글부터 지운다.")
+    public void record_maxEntries_EvictLowest() {
+        // given
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 1, 10, 0);
+
+        for (long idx = 1; idx <= 10; idx++)
+            ranking.record(ArticleCategory.BOARD, idx, String.valueOf(idx), idx, 0);
+
+        // when
+        ranking.record(ArticleCategory.BOARD, 11L, "11", 1, 1);
+        ranking.record(ArticleCategory.BOARD, 1L, null, 1, 1);
+
+        // then
+        assertThat(ranking.size()).isEqualTo(10);
+        assertThat(ranking.top(10, 1)).extracting(TrendingArticle::getArticleIdx).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("오랜 시간이 지나도 점수가 넘치지 않는다.")
+    public void record_noOverflow_Success() {
+        // given
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 10, 0);
+        long later = HALF_LIFE * 5_000;
+
+        // when
+        ranking.record(ArticleCategory.BOARD, 1L, "1", 1, later);
+        ranking.record(ArticleCategory.BOARD, 1L, "1", 1, later);
+
+        // then
+        assertThat(ranking.top(10, later).get(0).getScore()).isCloseTo(2.0, within(1e-6));
+    }
+}
@@ -0,0 +1,78 @@
+package org.deco.gachicoding.unit.user.application;
+
+import org.deco.gachicoding.exception.user.UserNotFoundException;
+import org.deco.gachicoding.user.application.UserIdCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class UserIdCacheTest {
+
+    private static final String userEmail = "gachicoding@test.com";
+
+    private final UserIdCache userIdCache = new UserIdCache(1024, 60);
+
+    @Test
+    @DisplayName("로그인 때 넣어둔 사용자 번호는 조회 없이 가져온다.")
+    public void getUserIdx_putAtLogin_Success() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        userIdCache.put(userEmail, 1L);
+
+        // when
+        Long userIdx = userIdCache.getUserIdx(userEmail, email -> {
+            loads.incrementAndGet();
+            return 2L;
+        });
+
+        // then
+        assertThat(userIdx).isEqualTo(1L);
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자는 한 번만 조회하고 이후에는 캐시에서 가져온다.")
+    public void getUserIdx_readThrough_Success() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        userIdCache.getUserIdx(userEmail, email -> (long) loads.incrementAndGet());
+        Long userIdx = userIdCache.getUserIdx(userEmail, email -> (long) loads.incrementAndGet());
+
+        // then
+        assertThat(userIdx).isEqualTo(1L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict 한 사용자는 다음 요청에서 다시 조회한다.")
+    public void evict_reloadNextRead_Success() {
+        // given
+        userIdCache.put(userEmail, 1L);
+
+        // when
+        userIdCache.evict(userEmail);
+        Long userIdx = userIdCache.getUserIdx(userEmail, email -> 3L);
+
+        // then
+        assertThat(userIdx).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않고 예외를 그대로 전달한다.")
+    public void getUserIdx_notExistUser_Exception() {
+        // when, then
+        assertThatThrownBy(() -> userIdCache.getUserIdx(userEmail, email -> {
+            throw new UserNotFoundException();
+        }))
+                .isInstanceOf(UserNotFoundException.class);
+
+        assertThat(userIdCache.getUserIdx(userEmail, email -> 1L)).isEqualTo(1L);
+    }
+}
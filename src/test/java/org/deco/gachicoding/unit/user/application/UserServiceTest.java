@@ -2,6 +2,8 @@ package org.deco.gachicoding.unit.user.application;
 
 import org.deco.gachicoding.common.factory.user.MockUser;
 import org.deco.gachicoding.exception.user.password.InvalidPasswordUpdateException;
+import org.deco.gachicoding.user.application.UserDetailsCache;
+import org.deco.gachicoding.user.application.UserIdCache;
 import org.deco.gachicoding.user.application.UserService;
 import org.deco.gachicoding.user.domain.User;
 import org.deco.gachicoding.user.domain.repository.UserRepository;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -35,6 +38,12 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private UserIdCache userIdCache = new UserIdCache(1024, 60);
+
+    @Spy
+    private UserDetailsCache userDetailsCache = new UserDetailsCache(1024, 60);
+
     private User user;
 
     @BeforeEach
@@ -139,6 +148,8 @@ public class UserServiceTest {
 
         // then
         assertThat(user.getUserPassword()).isEqualTo("changedPassword");
+        then(userIdCache).should().evict("1234@1234.com");
+        then(userDetailsCache).should().removeUserFromCache("1234@1234.com");
     }
 
     @DisplayName("유저가 변경하려하는 비밀번호가 이전의 비밀번호와 같을 수 없다.")
@@ -197,5 +208,7 @@ public class UserServiceTest {
 
         // then
         then(userRepository).should().deleteByUserEmail("1234@1234.com");
+        then(userIdCache).should().evict("1234@1234.com");
+        then(userDetailsCache).should().removeUserFromCache("1234@1234.com");
     }
 }
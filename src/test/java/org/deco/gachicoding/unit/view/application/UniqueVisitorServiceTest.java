@@ -0,0 +1,127 @@
+package org.deco.gachicoding.unit.view.application;
+
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.view.application.UniqueVisitorService;
+import org.deco.gachicoding.view.domain.HyperLogLog;
+import org.deco.gachicoding.view.domain.repository.ViewCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UniqueVisitorServiceTest {
+
+    @Mock
+    private ViewCountRepository viewCountRepository;
+
+    private UniqueVisitorService uniqueVisitorService;
+
+    @BeforeEach
+    void setUp() {
+        uniqueVisitorService = new UniqueVisitorService(viewCountRepository);
+    }
+
+    @Test
+    @DisplayName("질문은 조회수 없이 순 방문자만 센다.")
+    public void visit_question_Success() {
+        // when
+        uniqueVisitorService.visit(ArticleCategory.QUESTION, 1L, "ip:1");
+        long estimate = uniqueVisitorService.visit(ArticleCategory.QUESTION, 1L, "ip:2");
+
+        // then
+        assertThat(estimate).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("메모리에 스케치가 없을 때만 DB에 저장된 스케치를 읽는다.")
+    public void visit_loadPersistedOnce_Success() {
+        // given
+        HyperLogLog persisted = new HyperLogLog();
+        persisted.offer("ip:1");
+
+        given(viewCountRepository.findVisitors(ArticleCategory.BOARD, 1L))
+                .willReturn(persisted.toBytes());
+
+        // when
+        uniqueVisitorService.visit(ArticleCategory.BOARD, 1L, "ip:2");
+        long estimate = uniqueVisitorService.visit(ArticleCategory.BOARD, 1L, "ip:1");
+
+        // then
+        assertThat(estimate).isEqualTo(2L);
+        verify(viewCountRepository, times(1))
+                .findVisitors(ArticleCategory.BOARD, 1L);
+    }
+
+    @Test
+    @DisplayName("바뀐 스케치만 게시물 종류별로 저장한다.")
+    public void flush_saveDirtySketches_Success() {
+        // given
+        uniqueVisitorService.visit(ArticleCategory.BOARD, 1L, "ip:1");
+        uniqueVisitorService.visit(ArticleCategory.NOTICE, 7L, "ip:1");
+
+        // when
+        uniqueVisitorService.flush();
+        uniqueVisitorService.visit(ArticleCategory.BOARD, 1L, "ip:1");
+        uniqueVisitorService.flush();
+
+        // then
+        verify(viewCountRepository, times(1))
+                .mergeVisitors(eq(ArticleCategory.BOARD), argThat(sketches -> sketches.containsKey(1L)));
+        verify(viewCountRepository, times(1))
+                .mergeVisitors(eq(ArticleCategory.NOTICE), argThat(sketches -> sketches.containsKey(7L)));
+        verify(viewCountRepository, never())
+                .mergeVisitors(eq(ArticleCategory.QUESTION), anyMap());
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 스케치는 다음 주기에 다시 저장한다.")
+    public void flush_failure_RetryNextFlush() {
+        // given
+        uniqueVisitorService.visit(ArticleCategory.BOARD, 1L, "ip:1");
+
+        willThrow(new QueryTimeoutException("timeout"))
+                .given(viewCountRepository)
+                .mergeVisitors(eq(ArticleCategory.BOARD), anyMap());
+
+        // when
+        uniqueVisitorService.flush();
+
+        // then
+        assertThat(uniqueVisitorService.dirtyArticles()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장하면서 합친 다른 서버의 방문자도 다음 추정값에 들어간다.")
+    public void flush_absorbOtherInstances_Success() {
+        // given
+        uniqueVisitorService.visit(ArticleCategory.BOARD, 1L, "ip:1");
+
+        HyperLogLog merged = new HyperLogLog();
+        merged.offer("ip:1");
+        merged.offer("ip:2");
+
+        given(viewCountRepository.mergeVisitors(eq(ArticleCategory.BOARD), anyMap()))
+                .willReturn(Map.of(1L, merged.toBytes()));
+
+        // when
+        uniqueVisitorService.flush();
+        long estimate = uniqueVisitorService.visit(ArticleCategory.BOARD, 1L, "ip:1");
+
+        // then
+        assertThat(estimate).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,95 @@
+package org.deco.gachicoding.unit.view.application;
+
+import org.deco.gachicoding.post.ArticleCategory;
+import org.deco.gachicoding.view.application.ViewCountService;
+import org.deco.gachicoding.view.domain.repository.ViewCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ViewCountServiceTest {
+
+    @Mock
+    private ViewCountRepository viewCountRepository;
+
+    private ViewCountService viewCountService;
+
+    @BeforeEach
+    void setUp() {
+        viewCountService = new ViewCountService(viewCountRepository);
+    }
+
+    @Test
+    @DisplayName("누적된 조회수를 게시물 종류별로 한 번에 반영한다.")
+    public void flush_addViewsPerCategory_Success() {
+        // given
+        viewCountService.increment(ArticleCategory.BOARD, 1L);
+        viewCountService.increment(ArticleCategory.BOARD, 1L);
+        viewCountService.increment(ArticleCategory.NOTICE, 7L);
+
+        // when
+        viewCountService.flush();
+
+        // then
+        verify(viewCountRepository, times(1))
+                .addViews(ArticleCategory.BOARD, Map.of(1L, 2L));
+        verify(viewCountRepository, times(1))
+                .addViews(ArticleCategory.NOTICE, Map.of(7L, 1L));
+        assertThat(viewCountService.pendingViews()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영할 조회수가 없으면 DB에 접근하지 않는다.")
+    public void flush_nothingPending_Success() {
+        // when
+        viewCountService.flush();
+
+        // then
+        verify(viewCountRepository, never())
+                .addViews(any(ArticleCategory.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 조회수는 남아서 다음 주기에 다시 반영한다.")
+    public void flush_retryAfterFailure_Success() {
+        // given
+        viewCountService.increment(ArticleCategory.BOARD, 1L);
+
+        willThrow(new QueryTimeoutException("timeout"))
+                .willDoNothing()
+                .given(viewCountRepository).addViews(eq(ArticleCategory.BOARD), anyMap());
+
+        // when
+        viewCountService.flush();
+        long pendingAfterFailure = viewCountService.pendingViews();
+        viewCountService.flush();
+
+        // then
+        assertThat(pendingAfterFailure).isEqualTo(1L);
+        assertThat(viewCountService.pendingViews()).isZero();
+        verify(viewCountRepository, times(2))
+                .addViews(ArticleCategory.BOARD, Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("조회수를 저장하지 않는 게시물 종류는 예외가 발생한다.")
+    public void increment_unsupportedCategory_Exception() {
+        assertThatThrownBy(() -> viewCountService.increment(ArticleCategory.ANSWER, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package org.deco.gachicoding.unit.view.domain;
+
+import org.deco.gachicoding.view.domain.HyperLogLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 방문자는 여러 번 방문해도 한 명으로 센다.")
+    public void offer_duplicateVisitor_NotCounted() {
+        // given
+        HyperLogLog hyperLogLog = new HyperLogLog();
+
+        // when
+        boolean first = hyperLogLog.offer("user:gachicoding@test.com");
+        boolean second = hyperLogLog.offer("user:gachicoding@test.com");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(hyperLogLog.estimate()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("방문자가 적을 때는 거의 정확하게 센다.")
+    public void estimate_smallCardinality_Success() {
+        // given
+        HyperLogLog hyperLogLog = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            hyperLogLog.offer("ip:10.0.0." + i);
+            hyperLogLog.offer("ip:10.0.0." + i);
+        }
+
+        // then
+        assertThat(hyperLogLog.estimate()).isCloseTo(100L, within(3L));
+    }
+
+    @Test
+    @DisplayName("방문자가 많아도 표준 오차 범위 안으로 추정한다.")
+    public void estimate_largeCardinality_Success() {
+        // given
+        HyperLogLog hyperLogLog = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 100_000; i++)
+            hyperLogLog.offer("user:" + i + "@test.com");
+
+        // then
+        // 표준 오차 약 2.3%, 3배 여유
+        assertThat(hyperLogLog.estimate()).isCloseTo(100_000L, within(7_000L));
+    }
+
+    @Test
+    @DisplayName("저장한 스케치를 다시 읽으면 이어서 센다.")
+    public void fromBytes_restoreSketch_Success() {
+        // given
+        HyperLogLog hyperLogLog = new HyperLogLog();
+
+        for (int i = 0; i < 1_000; i++)
+            hyperLogLog.offer("ip:" + i);
+
+        // when
+        byte[] bytes = hyperLogLog.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        // then
+        assertThat(bytes).hasSize(HyperLogLog.REGISTER_COUNT);
+        assertThat(restored.estimate()).isEqualTo(hyperLogLog.estimate());
+        assertThat(restored.offer("ip:0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 스케치가 없거나 크기가 다르면 빈 스케치로 시작한다.")
+    public void fromBytes_invalidBytes_Empty() {
+        assertThat(HyperLogLog.fromBytes(null).estimate()).isZero();
+        assertThat(HyperLogLog.fromBytes(new byte[16]).estimate()).isZero();
+    }
+
+    @Test
+    @DisplayName("두 스케치를 합치면 합집합의 방문자 수를 추정한다.")
+    public void merge_union_Success() {
+        // given
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+
+        for (int i = 0; i < 6_000; i++)
+            left.offer("ip:" + i);
+
+        for (int i = 4_000; i < 10_000; i++)
+            right.offer("ip:" + i);
+
+        // when
+        left.merge(right);
+
+        // then
+        assertThat(left.estimate()).isCloseTo(10_000L, within(700L));
+    }
+}
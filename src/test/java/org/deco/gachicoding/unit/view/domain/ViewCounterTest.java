@@ -0,0 +1,93 @@
+package org.deco.gachicoding.unit.view.domain;
+
+import org.deco.gachicoding.view.domain.ViewCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewCounterTest {
+
+    @Test
+    @DisplayName("반영하지 않은 조회수를 게시물별로 가져온다.")
+    public void pending_pendingViews_Success() {
+        // given
+        ViewCounter viewCounter = new ViewCounter();
+
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        viewCounter.increment(2L);
+
+        // when
+        Map<Long, Long> deltas = viewCounter.pending();
+
+        // then
+        assertThat(deltas).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 1L));
+        assertThat(viewCounter.pendingViews()).isEqualTo(3L);
+        assertThat(viewCounter.pendingArticles()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("반영이 끝난 조회수는 다시 가져오지 않고, 반영 중에 들어온 조회수는 남는다.")
+    public void commit_keepViewsAfterSnapshot_Success() {
+        // given
+        ViewCounter viewCounter = new ViewCounter();
+
+        viewCounter.increment(1L);
+        Map<Long, Long> deltas = viewCounter.pending();
+
+        viewCounter.increment(1L);
+
+        // when
+        viewCounter.commit(deltas);
+
+        // then
+        assertThat(viewCounter.pending()).containsExactlyEntriesOf(Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("반영하지 못한 조회수는 다음 주기에 다시 가져온다.")
+    public void pending_notCommitted_Success() {
+        // given
+        ViewCounter viewCounter = new ViewCounter();
+
+        viewCounter.increment(1L);
+        viewCounter.pending();
+
+        // when
+        Map<Long, Long> deltas = viewCounter.pending();
+
+        // then
+        assertThat(deltas).containsExactlyEntriesOf(Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 조회해도 조회수를 잃지 않는다.")
+    public void increment_concurrent_Success() throws InterruptedException {
+        // given
+        ViewCounter viewCounter = new ViewCounter();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(8);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++)
+                    viewCounter.increment(1L);
+                latch.countDown();
+            });
+        }
+
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(viewCounter.pending()).containsExactlyEntriesOf(Map.of(1L, 8000L));
+    }
+}
@@ -0,0 +1,147 @@
+package org.deco.gachicoding.unit.view.domain;
+
+import org.deco.gachicoding.view.domain.HyperLogLog;
+import org.deco.gachicoding.view.domain.VisitorSketches;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VisitorSketchesTest {
+
+    @Test
+    @DisplayName("DB에 저장된 스케치에 이어서 방문자를 센다.")
+    public void visit_seedFromPersisted_Success() {
+        // given
+        HyperLogLog persisted = new HyperLogLog();
+        persisted.offer("ip:1");
+        persisted.offer("ip:2");
+
+        VisitorSketches visitorSketches = new VisitorSketches();
+
+        // when
+        long estimate = visitorSketches.visit(1L, persisted::toBytes, "ip:3");
+
+        // then
+        assertThat(estimate).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("이미 센 방문자의 재방문은 저장할 스케치로 잡히지 않는다.")
+    public void dirty_revisit_NotDirty() {
+        // given
+        VisitorSketches visitorSketches = new VisitorSketches();
+
+        visitorSketches.visit(1L, () -> null, "ip:1");
+        visitorSketches.dirty();
+
+        // when
+        visitorSketches.visit(1L, () -> null, "ip:1");
+        Map<Long, byte[]> dirty = visitorSketches.dirty();
+
+        // then
+        assertThat(dirty).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 방문이 없던 스케치는 메모리에서 지운다.")
+    public void dirty_evictIdleSketch_Success() {
+        // given
+        VisitorSketches visitorSketches = new VisitorSketches();
+
+        visitorSketches.visit(1L, () -> null, "ip:1");
+        visitorSketches.visit(2L, () -> null, "ip:1");
+
+        // when
+        Map<Long, byte[]> dirty = visitorSketches.dirty();
+        visitorSketches.visit(2L, () -> null, "ip:2");
+        visitorSketches.dirty();
+        visitorSketches.dirty();
+
+        // then
+        assertThat(dirty).containsOnlyKeys(1L, 2L);
+        assertThat(visitorSketches.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 스케치는 다음 주기에 다시 저장한다.")
+    public void rollback_retryNextFlush_Success() {
+        // given
+        VisitorSketches visitorSketches = new VisitorSketches();
+
+        visitorSketches.visit(1L, () -> null, "ip:1");
+        Map<Long, byte[]> dirty = visitorSketches.dirty();
+
+        // when
+        visitorSketches.rollback(dirty);
+
+        // then
+        assertThat(visitorSketches.dirtyArticles()).isEqualTo(1);
+        assertThat(visitorSketches.dirty()).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("방문과 저장 주기가 겹쳐도 방문자를 잃지 않는다.")
+    public void dirty_concurrentVisit_NoLostVisitor() throws Exception {
+        // given
+        VisitorSketches visitorSketches = new VisitorSketches();
+        Map<Long, HyperLogLog> database = new ConcurrentHashMap<>();
+        Map<Long, HyperLogLog> expected = new HashMap<>();
+        ExecutorService visitors = Executors.newFixedThreadPool(4);
+        AtomicBoolean visiting = new AtomicBoolean(true);
+
+        for (long articleIdx = 1; articleIdx <= 2; articleIdx++) {
+            database.put(articleIdx, new HyperLogLog());
+            expected.put(articleIdx, new HyperLogLog());
+        }
+
+        // 저장 주기 : DB 스케치와 합쳐 저장한다.
+        Thread flusher = new Thread(() -> {
+            while (visiting.get())
+                visitorSketches.dirty().forEach((articleIdx, bytes) -> database.get(articleIdx).merge(HyperLogLog.fromBytes(bytes)));
+        });
+
+        // when
+        flusher.start();
+
+        List<Future<?>> visits = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            visits.add(visitors.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    long articleIdx = 1 + (i % 2);
+                    visitorSketches.visit(articleIdx, database.get(articleIdx)::toBytes, "ip:" + thread + "-" + i);
+                }
+            }));
+        }
+
+        for (Future<?> visit : visits)
+            visit.get(10, TimeUnit.SECONDS);
+
+        visiting.set(false);
+        flusher.join();
+        visitors.shutdown();
+
+        visitorSketches.dirty().forEach((articleIdx, bytes) -> database.get(articleIdx).merge(HyperLogLog.fromBytes(bytes)));
+
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < 500; i++)
+                expected.get(1L + (i % 2)).offer("ip:" + t + "-" + i);
+        }
+
+        // then
+        assertThat(database.get(1L).toBytes()).isEqualTo(expected.get(1L).toBytes());
+        assertThat(database.get(2L).toBytes()).isEqualTo(expected.get(2L).toBytes());
+    }
+}